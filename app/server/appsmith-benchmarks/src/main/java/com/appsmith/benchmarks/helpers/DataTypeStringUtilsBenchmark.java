@@ -0,0 +1,109 @@
+package com.appsmith.benchmarks.helpers;
+
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.models.ParsedDataType;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks replacing a `?` in a JSON body with values of every data type, and finding the display data types of the
+ * results of actions. The values are those used in the smart substitution test of the REST API plugin.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class DataTypeStringUtilsBenchmark {
+
+    private static final String BODY = "{\n" +
+            "\t\"name\" : ?,\n" +
+            "\t\"email\" : ?,\n" +
+            "\t\"username\" : ?\n" +
+            "}";
+
+    private static final String TABLE_DATA = "[  {    \"id\": 2381224,    \"email\": \"michael.lawson@reqres.in\",    " +
+            "\"userName\": \"Michael Lawson\",    \"productName\": \"Chicken Sandwich\",    \"orderAmount\": 4.99  },  " +
+            "{    \"id\": 2736212,    \"email\": \"lindsay.ferguson@reqres.in\",    \"userName\": \"Lindsay Ferguson\",    " +
+            "\"productName\": \"Tuna Salad\",    \"orderAmount\": 9.99  },  {    \"id\": 6788734,    " +
+            "\"email\": \"tobias.funke@reqres.in\",    \"userName\": \"Tobias Funke\",    \"productName\": \"Beef steak\",    " +
+            "\"orderAmount\": 19.99  }]";
+
+    private static final Map<String, String> VALUES = Map.of(
+            "STRING", "this is a string! Yay :D",
+            "BOOLEAN", "true",
+            "INTEGER", "0",
+            "DATE", "12/01/2018",
+            "NULL", "null",
+            "JSON_OBJECT", "{  \"id\": 2381224,  \"email\": \"michael.lawson@reqres.in\",  \"userName\": \"Michael Lawson\",  " +
+                    "\"productName\": \"Chicken Sandwich\",  \"orderAmount\": 4.99}",
+            "ARRAY", TABLE_DATA
+    );
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @State(Scope.Benchmark)
+    public static class Replacement {
+        @Param({"STRING", "BOOLEAN", "INTEGER", "DATE", "NULL", "JSON_OBJECT", "ARRAY"})
+        public String dataType;
+
+        private String value;
+
+        @Setup
+        public void setup() {
+            value = VALUES.get(dataType);
+        }
+    }
+
+    private String tableAsString;
+
+    private JsonNode tableAsJsonNode;
+
+    private List<Map<String, Object>> tableAsList;
+
+    @Setup
+    public void setup() throws IOException {
+        tableAsString = TABLE_DATA;
+        tableAsJsonNode = objectMapper.readTree(TABLE_DATA);
+        tableAsList = objectMapper.convertValue(tableAsJsonNode, List.class);
+    }
+
+    @Benchmark
+    public String jsonSmartReplacementQuestionWithValue(Replacement replacement) {
+        return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue(BODY, replacement.value, new ArrayList<>());
+    }
+
+    @Benchmark
+    public List<ParsedDataType> getDisplayDataTypesOfString() {
+        return DataTypeStringUtils.getDisplayDataTypes(tableAsString);
+    }
+
+    @Benchmark
+    public List<ParsedDataType> getDisplayDataTypesOfJsonNode() {
+        return DataTypeStringUtils.getDisplayDataTypes(tableAsJsonNode);
+    }
+
+    @Benchmark
+    public List<ParsedDataType> getDisplayDataTypesOfList() {
+        return DataTypeStringUtils.getDisplayDataTypes(tableAsList);
+    }
+
+}
@@ -0,0 +1,86 @@
+package com.appsmith.benchmarks.helpers;
+
+import lombok.extern.slf4j.Slf4j;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.BeansException;
+import org.springframework.beans.PropertyAccessorFactory;
+
+import java.beans.PropertyDescriptor;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.BeanCopyUtils.isDomainModel;
+import static com.appsmith.external.helpers.MustacheHelper.tokenize;
+
+/**
+ * The implementation of `MustacheHelper.render` and `MustacheHelper.renderFieldValues` from before templates were
+ * compiled and cached, kept as the baseline that the current implementation is benchmarked against.
+ */
+@Slf4j
+public class LegacyMustacheHelper {
+
+    public static <T> T renderFieldValues(T object, Map<String, String> context) {
+        if (object == null) {
+            return object;
+        }
+
+        if (isDomainModel(object.getClass())) {
+            try {
+                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
+                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
+                    // For properties like `class` that don't have a set method, just ignore them.
+                    if (propertyDescriptor.getWriteMethod() == null) {
+                        continue;
+                    }
+
+                    String name = propertyDescriptor.getName();
+                    Object value = sourceBeanWrapper.getPropertyValue(name);
+                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
+                }
+            } catch (BeansException e) {
+                log.error("Exception caught while substituting values in mustache template.", e);
+            }
+        } else if (object instanceof List) {
+            List renderedList = new ArrayList();
+            for (Object childValue : (List) object) {
+                renderedList.add(renderFieldValues(childValue, context));
+            }
+
+            return (T) renderedList;
+
+        } else if (object instanceof Map) {
+            Map renderedMap = new HashMap();
+            for (Object entry : ((Map) object).entrySet()) {
+                renderedMap.put(
+                        ((Map.Entry) entry).getKey(), // key
+                        renderFieldValues(((Map.Entry) entry).getValue(), context) // value
+                );
+            }
+
+            return (T) renderedMap;
+
+        } else if (object instanceof String) {
+            return (T) render((String) object, context);
+        }
+
+        return object;
+    }
+
+    public static String render(String template, Map<String, String> keyValueMap) {
+        final StringBuilder rendered = new StringBuilder();
+
+        for (String token : tokenize(template)) {
+            if (token.startsWith("{{") && token.endsWith("}}")) {
+                rendered.append(keyValueMap.get(token.substring(2, token.length() - 2).trim()));
+            } else {
+                rendered.append(token);
+            }
+        }
+
+        return StringEscapeUtils.unescapeHtml4(rendered.toString());
+    }
+
+}
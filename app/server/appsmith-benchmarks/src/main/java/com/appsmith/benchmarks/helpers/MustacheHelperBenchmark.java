@@ -0,0 +1,124 @@
+package com.appsmith.benchmarks.helpers;
+
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks extracting the keys from action configurations with {@link MustacheHelper}, and rendering action and
+ * datasource configurations, against the implementation in {@link LegacyMustacheHelper}. The configurations are
+ * rebuilt in every invocation of the rendering benchmarks since rendering them is in place.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MustacheHelperBenchmark {
+
+    private static final String BODY_TEMPLATE = "{\n" +
+            "  \"name\": \"{{ Input1.text }}\",\n" +
+            "  \"email\": \"{{ Input2.text }}\",\n" +
+            "  \"orderId\": {{ Table1.selectedRow.id }},\n" +
+            "  \"status\": \"{{ Dropdown1.selectedOptionValue }}\",\n" +
+            "  \"note\": \"Placed by {{ appsmith.user.email }} &amp; approved\"\n" +
+            "}";
+
+    private final Map<String, String> context = new HashMap<>();
+
+    private final ActionConfiguration actionConfiguration = createActionConfiguration();
+
+    public MustacheHelperBenchmark() {
+        context.put("Input1.text", "Jane Doe");
+        context.put("Input2.text", "jane@example.com");
+        context.put("Table1.selectedRow.id", "42");
+        context.put("Dropdown1.selectedOptionValue", "SHIPPED");
+        context.put("appsmith.user.email", "admin@example.com");
+        context.put("Api1.data.next", "/orders?page=2");
+        context.put("appsmith.store.token", "secret-token");
+        context.put("Input3.text", "orders");
+        context.put("appsmith.URL.host", "api.example.com");
+    }
+
+    private static ActionConfiguration createActionConfiguration() {
+        ActionConfiguration configuration = new ActionConfiguration();
+        configuration.setBody(BODY_TEMPLATE);
+        configuration.setPath("/v1/{{ Input3.text }}/{{ Table1.selectedRow.id }}");
+        configuration.setNext("{{ Api1.data.next }}");
+        configuration.setHeaders(List.of(
+                new Property("Authorization", "Bearer {{ appsmith.store.token }}"),
+                new Property("Content-Type", "application/json")
+        ));
+        configuration.setQueryParameters(List.of(
+                new Property("status", "{{ Dropdown1.selectedOptionValue }}"),
+                new Property("limit", "20")
+        ));
+        configuration.setPluginSpecifiedTemplates(Arrays.asList(
+                null,
+                new Property("collection", "{{ Input3.text }}")
+        ));
+        return configuration;
+    }
+
+    private static DatasourceConfiguration createDatasourceConfiguration() {
+        DatasourceConfiguration configuration = new DatasourceConfiguration();
+        Connection connection = new Connection();
+        connection.setDefaultDatabaseName("{{ Input3.text }}");
+        configuration.setConnection(connection);
+        configuration.setUrl("https://{{ appsmith.URL.host }}");
+        configuration.setHeaders(List.of(
+                new Property("X-Api-Key", "{{ appsmith.store.token }}")
+        ));
+        configuration.setEndpoints(List.of(
+                new Endpoint("{{ appsmith.URL.host }}", 443L)
+        ));
+        return configuration;
+    }
+
+    @Benchmark
+    public String render() {
+        return MustacheHelper.render(BODY_TEMPLATE, context);
+    }
+
+    @Benchmark
+    public String renderLegacy() {
+        return LegacyMustacheHelper.render(BODY_TEMPLATE, context);
+    }
+
+    @Benchmark
+    public Object extractMustacheKeysFromFields() {
+        return MustacheHelper.extractMustacheKeysFromFields(actionConfiguration);
+    }
+
+    @Benchmark
+    public Object renderFieldValues() {
+        MustacheHelper.renderFieldValues(createDatasourceConfiguration(), context);
+        return MustacheHelper.renderFieldValues(createActionConfiguration(), context);
+    }
+
+    @Benchmark
+    public Object renderFieldValuesLegacy() {
+        LegacyMustacheHelper.renderFieldValues(createDatasourceConfiguration(), context);
+        return LegacyMustacheHelper.renderFieldValues(createActionConfiguration(), context);
+    }
+
+}
@@ -0,0 +1,74 @@
+package com.appsmith.benchmarks.plugins;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.bson.Document;
+import org.json.JSONArray;
+import org.json.JSONObject;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+
+/**
+ * The conversion of the results of find commands in the Mongo plugin from before replies were decoded straight into
+ * Jackson nodes, kept as the baseline that `JsonNodeDecoder` is benchmarked against. The reply went through its extended
+ * JSON, an `org.json` object, and back to a string, before being read into a tree.
+ */
+public class LegacyMongoResultConverter {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    public static JsonNode getFirstBatch(Document mongoOutput) throws IOException {
+        JSONObject outputJson = new JSONObject(mongoOutput.toJson());
+
+        JSONArray outputResult = (JSONArray) cleanUp(
+                outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
+        return objectMapper.readTree(outputResult.toString());
+    }
+
+    private static Object cleanUp(Object object) {
+        if (object instanceof JSONObject) {
+            JSONObject jsonObject = (JSONObject) object;
+            final boolean isSingleKey = jsonObject.keySet().size() == 1;
+
+            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
+                return jsonObject.getBigInteger("$numberLong");
+
+            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
+                return jsonObject.getString("$oid");
+
+            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
+                return DateTimeFormatter.ISO_INSTANT.format(
+                        Instant.ofEpochMilli(jsonObject.getLong("$date"))
+                );
+
+            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
+                return new BigDecimal(jsonObject.getString("$numberDecimal"));
+
+            } else {
+                for (String key : new HashSet<>(jsonObject.keySet())) {
+                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
+                }
+
+            }
+
+        } else if (object instanceof JSONArray) {
+            Collection<Object> cleaned = new ArrayList<>();
+
+            for (Object child : (JSONArray) object) {
+                cleaned.add(cleanUp(child));
+            }
+
+            return new JSONArray(cleaned);
+
+        }
+
+        return object;
+    }
+
+}
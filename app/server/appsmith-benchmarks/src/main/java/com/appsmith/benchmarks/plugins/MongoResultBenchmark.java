@@ -0,0 +1,87 @@
+package com.appsmith.benchmarks.plugins;
+
+import com.external.plugins.codecs.JsonNodeDecoder;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks converting the reply to a find command into the body of the result of a Mongo action, from the bytes of
+ * the reply, against the conversion in {@link LegacyMongoResultConverter}. The documents are those of the users
+ * collection of the Mongo plugin tests, with an ObjectId, a date, a decimal and a 64 bit integer each. With 10000
+ * documents, the reply is about 2 MB of BSON.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class MongoResultBenchmark {
+
+    @Param({"100", "10000"})
+    public int documentCount;
+
+    private RawBsonDocument reply;
+
+    private final JsonNodeDecoder jsonNodeDecoder = new JsonNodeDecoder();
+
+    private final DocumentCodec documentCodec = new DocumentCodec();
+
+    @Setup
+    public void setup() {
+        final List<Document> firstBatch = new ArrayList<>();
+        for (int i = 0; i < documentCount; i++) {
+            firstBatch.add(new Document("_id", new ObjectId())
+                    .append("name", "Cierra Vega " + i)
+                    .append("gender", i % 2 == 0 ? "F" : "M")
+                    .append("age", 20 + i % 50)
+                    .append("luckyNumber", 987654321L * i)
+                    .append("dob", Date.from(LocalDate.of(2018, 12, 31).minusDays(i)
+                            .atStartOfDay(ZoneOffset.UTC).toInstant()))
+                    .append("netWorth", Decimal128.parse("123456.789012"))
+                    .append("updatedByCommand", false)
+                    .append("address", new Document("city", "Lisbon").append("zip", "1000-001")));
+        }
+
+        final Document mongoOutput = new Document("cursor", new Document("firstBatch", firstBatch)
+                .append("id", 0L)
+                .append("ns", "test.users"))
+                .append("ok", 1.0);
+
+        reply = new RawBsonDocument(mongoOutput, documentCodec);
+    }
+
+    @Benchmark
+    public JsonNode decodeReply() {
+        return jsonNodeDecoder.decode(reply).get("cursor").get("firstBatch");
+    }
+
+    @Benchmark
+    public JsonNode decodeReplyLegacy() throws IOException {
+        return LegacyMongoResultConverter.getFirstBatch(reply.decode(documentCodec));
+    }
+
+}
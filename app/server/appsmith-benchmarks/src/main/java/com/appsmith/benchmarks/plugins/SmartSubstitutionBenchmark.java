@@ -0,0 +1,103 @@
+package com.appsmith.benchmarks.plugins;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.MustacheHelper;
+import com.appsmith.external.models.Param;
+import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmarks smart substitution of the bindings in a JSON body, the way the REST API and Mongo plugins do it. The body
+ * and the values of the bindings are those of the smart substitution test of the REST API plugin, repeated to get the
+ * given number of bindings.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SmartSubstitutionBenchmark {
+
+    private static final String[][] FIELDS = {
+            {"name", "{{Input1.text}}", "this is a string! Yay :D"},
+            {"email", "{{Input2.text}}", "true"},
+            {"username", "{{Input3.text}}", "0"},
+            {"password", "\"{{Input4.text}}\"", "12/01/2018"},
+            {"newField", "\"{{Input5.text}}\"", "null"},
+            {"tableRow", "{{Table1.selectedRow}}", "{  \"id\": 2381224,  \"email\": \"michael.lawson@reqres.in\",  " +
+                    "\"userName\": \"Michael Lawson\",  \"productName\": \"Chicken Sandwich\",  \"orderAmount\": 4.99}"},
+            {"table", "\"{{Table1.tableData}}\"", "[  {    \"id\": 2381224,    \"email\": \"michael.lawson@reqres.in\",    " +
+                    "\"userName\": \"Michael Lawson\",    \"productName\": \"Chicken Sandwich\",    \"orderAmount\": 4.99  },  " +
+                    "{    \"id\": 2736212,    \"email\": \"lindsay.ferguson@reqres.in\",    \"userName\": \"Lindsay Ferguson\",    " +
+                    "\"productName\": \"Tuna Salad\",    \"orderAmount\": 9.99  },  {    \"id\": 6788734,    " +
+                    "\"email\": \"tobias.funke@reqres.in\",    \"userName\": \"Tobias Funke\",    \"productName\": \"Beef steak\",    " +
+                    "\"orderAmount\": 19.99  }]"},
+    };
+
+    private static final SmartSubstitutionInterface jsonSubstitution = new SmartSubstitutionInterface() {
+        @Override
+        public Object substituteValueInInput(int index,
+                                             String binding,
+                                             String value,
+                                             Object input,
+                                             List<Map.Entry<String, String>> insertedParams,
+                                             Object... args) {
+            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue((String) input, value, insertedParams);
+        }
+    };
+
+    @org.openjdk.jmh.annotations.Param({"7", "70", "1000"})
+    public int bindingCount;
+
+    private String body;
+
+    private final List<Param> params = new ArrayList<>();
+
+    @Setup
+    public void setup() {
+        final StringBuilder bodyBuilder = new StringBuilder("{\n");
+
+        for (int i = 0; i < bindingCount; i++) {
+            final String[] field = FIELDS[i % FIELDS.length];
+            // Every repetition of the fields binds to a different set of widgets.
+            final String suffix = i < FIELDS.length ? "" : String.valueOf(i / FIELDS.length);
+            final String binding = field[1].replace(".", suffix + ".");
+
+            bodyBuilder.append("\t\"").append(field[0]).append(suffix).append("\" : ").append(binding)
+                    .append(i < bindingCount - 1 ? ",\n" : "\n");
+
+            final String key = binding.substring(binding.indexOf("{{") + 2, binding.indexOf("}}"));
+            final Param param = new Param();
+            param.setKey(key);
+            param.setValue(field[2]);
+            params.add(param);
+        }
+
+        body = bodyBuilder.append("}").toString();
+    }
+
+    @Benchmark
+    public Object smartSubstitutionOfBindings() throws AppsmithPluginException {
+        final List<String> mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(body);
+        final String updatedBody = MustacheHelper.replaceMustacheWithQuestionMark(body, mustacheKeysInOrder);
+
+        return jsonSubstitution.smartSubstitutionOfBindings(updatedBody, mustacheKeysInOrder, params, new ArrayList<>());
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.appsmith.benchmarks.solutions;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.server.domains.ActionDependencyEdge;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.PluginType;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.DslActionDTO;
+import com.appsmith.server.services.NewActionService;
+import com.appsmith.server.solutions.PageLoadActionsUtil;
+import org.mockito.Mockito;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.helpers.MustacheHelper.extractWordsAndAddToSet;
+
+/**
+ * Benchmarks finding the on page load actions of a page and scheduling them, with the actions served from memory. The
+ * page has the actions of the on page load test of `LayoutServiceTest`, and a given number of queries, each of which
+ * depends on the two queries before it, with the last one bound in the DSL.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PageLoadActionsUtilBenchmark {
+
+    private static final String PAGE_ID = "pageId";
+
+    @Param({"0", "20", "100"})
+    public int queryCount;
+
+    private final List<NewAction> actions = new ArrayList<>();
+
+    private final Set<String> bindings = new HashSet<>();
+
+    private PageLoadActionsUtil pageLoadActionsUtil;
+
+    private static void addAction(List<NewAction> actions, String name, Set<String> jsonPathKeys,
+                                  Boolean executeOnLoad, Boolean userSetOnLoad) {
+        ActionDTO action = new ActionDTO();
+        action.setId(name + "Id");
+        action.setName(name);
+        action.setPageId(PAGE_ID);
+        action.setPluginType(PluginType.DB);
+        action.setActionConfiguration(new ActionConfiguration());
+        action.setJsonPathKeys(jsonPathKeys);
+        action.setExecuteOnLoad(executeOnLoad);
+        action.setUserSetOnLoad(userSetOnLoad);
+
+        NewAction newAction = new NewAction();
+        newAction.setId(action.getId());
+        newAction.setUnpublishedAction(action);
+        actions.add(newAction);
+    }
+
+    @Setup
+    public void setup() {
+        addAction(actions, "aGetAction", null, null, null);
+        addAction(actions, "aPostAction", null, null, null);
+        addAction(actions, "aPostActionWithAutoExec",
+                Set.of("aPostSecondaryAction.data", "aPostTertiaryAction.data"), true, null);
+        addAction(actions, "aPostSecondaryAction", null, null, true);
+        addAction(actions, "aPostTertiaryAction", null, true, null);
+        addAction(actions, "aDeleteAction", null, null, null);
+        addAction(actions, "aDBAction", null, true, null);
+        addAction(actions, "anotherDBAction", null, true, null);
+        addAction(actions, "aTableAction", null, true, null);
+
+        final Set<String> mustacheKeys = new HashSet<>(Set.of(
+                "aGetAction.data",
+                "aPostActionWithAutoExec.data",
+                "aDBAction.irrelevant",
+                "anotherDBAction.optional",
+                "aTableAction.child",
+                "input1.text"
+        ));
+
+        for (int i = 0; i < queryCount; i++) {
+            final Set<String> jsonPathKeys = new HashSet<>();
+            if (i > 0) {
+                jsonPathKeys.add("Query" + (i - 1) + ".data.map(row => row.id)");
+            }
+            if (i > 1) {
+                jsonPathKeys.add("Query" + (i - 2) + ".data[0].name");
+            }
+            addAction(actions, "Query" + i, jsonPathKeys, null, null);
+        }
+        if (queryCount > 0) {
+            mustacheKeys.add("Query" + (queryCount - 1) + ".data");
+        }
+
+        for (String mustacheKey : mustacheKeys) {
+            extractWordsAndAddToSet(bindings, mustacheKey);
+        }
+
+        NewActionService newActionService = Mockito.mock(NewActionService.class);
+
+        Mockito.when(newActionService.findUnpublishedActionsInPageByNames(Mockito.any(), Mockito.anyString()))
+                .thenAnswer(invocation -> {
+                    final Set<String> names = invocation.getArgument(0);
+                    return Flux.fromIterable(actions)
+                            .filter(action -> names.contains(action.getUnpublishedAction().getName()));
+                });
+
+        Mockito.when(newActionService.findUnpublishedOnLoadActionsExplicitSetByUserInPage(Mockito.anyString()))
+                .thenAnswer(invocation -> Flux.fromIterable(actions)
+                        .filter(action -> Boolean.TRUE.equals(action.getUnpublishedAction().getUserSetOnLoad())
+                                && Boolean.TRUE.equals(action.getUnpublishedAction().getExecuteOnLoad())));
+
+        Mockito.when(newActionService.generateActionByViewMode(Mockito.any(), Mockito.anyBoolean()))
+                .thenAnswer(invocation -> Mono.just(((NewAction) invocation.getArgument(0)).getUnpublishedAction()));
+
+        pageLoadActionsUtil = new PageLoadActionsUtil(newActionService);
+    }
+
+    @Benchmark
+    public List<HashSet<DslActionDTO>> findAllOnLoadActions() {
+        return pageLoadActionsUtil.findAllOnLoadActions(
+                bindings,
+                new HashSet<>(),
+                PAGE_ID,
+                new HashSet<ActionDependencyEdge>(),
+                new HashSet<>(),
+                new ArrayList<>()
+        ).block();
+    }
+
+}
@@ -0,0 +1,114 @@
+package com.appsmith.external.annotations.encryption;
+
+import com.appsmith.external.models.AuthenticationResponse;
+import com.appsmith.external.models.Connection;
+import com.appsmith.external.models.DBAuth;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.OAuth2;
+import com.appsmith.external.models.Property;
+import com.appsmith.server.domains.Datasource;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Benchmarks the discovery of the encrypted fields of datasources, both with a new {@link EncryptionHandler} that has
+ * to scan every type, and with one that has already seen them, as is the case for every save and read of a datasource.
+ * This class is in the package of {@link EncryptionHandler} since the methods being benchmarked are package private.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class EncryptionHandlerBenchmark {
+
+    private static final Function<String, String> identityTransformer = value -> value;
+
+    private final EncryptionHandler warmEncryptionHandler = new EncryptionHandler();
+
+    private final Datasource dbDatasource = createDbDatasource();
+
+    private final Datasource oAuth2Datasource = createOAuth2Datasource();
+
+    public EncryptionHandlerBenchmark() {
+        warmEncryptionHandler.convertEncryption(dbDatasource, identityTransformer);
+        warmEncryptionHandler.convertEncryption(oAuth2Datasource, identityTransformer);
+    }
+
+    private static Datasource createDbDatasource() {
+        DBAuth authentication = new DBAuth();
+        authentication.setUsername("postgres");
+        authentication.setPassword("password");
+        authentication.setDatabaseName("postgres");
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setAuthentication(authentication);
+        datasourceConfiguration.setEndpoints(List.of(new Endpoint("localhost", 5432L)));
+        datasourceConfiguration.setConnection(new Connection());
+
+        Datasource datasource = new Datasource();
+        datasource.setName("Postgres DB");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        return datasource;
+    }
+
+    private static Datasource createOAuth2Datasource() {
+        AuthenticationResponse authenticationResponse = new AuthenticationResponse();
+        authenticationResponse.setToken("access-token");
+        authenticationResponse.setRefreshToken("refresh-token");
+
+        OAuth2 authentication = new OAuth2();
+        authentication.setGrantType(OAuth2.Type.CLIENT_CREDENTIALS);
+        authentication.setClientId("client-id");
+        authentication.setClientSecret("client-secret");
+        authentication.setAccessTokenUrl("https://auth.example.com/token");
+        authentication.setAuthenticationResponse(authenticationResponse);
+
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("https://api.example.com");
+        datasourceConfiguration.setAuthentication(authentication);
+        datasourceConfiguration.setHeaders(List.of(new Property("content-type", "application/json")));
+
+        Datasource datasource = new Datasource();
+        datasource.setName("OAuth2 API");
+        datasource.setDatasourceConfiguration(datasourceConfiguration);
+        return datasource;
+    }
+
+    @Benchmark
+    public List<CandidateField> findCandidateFieldsForNewType() {
+        return new EncryptionHandler().findCandidateFieldsForType(oAuth2Datasource);
+    }
+
+    @Benchmark
+    public List<CandidateField> findCandidateFieldsForKnownType() {
+        return warmEncryptionHandler.findCandidateFieldsForType(oAuth2Datasource);
+    }
+
+    @Benchmark
+    public boolean convertEncryptionOfNewTypes() {
+        final EncryptionHandler encryptionHandler = new EncryptionHandler();
+        return encryptionHandler.convertEncryption(dbDatasource, identityTransformer)
+                & encryptionHandler.convertEncryption(oAuth2Datasource, identityTransformer);
+    }
+
+    @Benchmark
+    public boolean convertEncryptionOfKnownTypes() {
+        return warmEncryptionHandler.convertEncryption(dbDatasource, identityTransformer)
+                & warmEncryptionHandler.convertEncryption(oAuth2Datasource, identityTransformer);
+    }
+
+}
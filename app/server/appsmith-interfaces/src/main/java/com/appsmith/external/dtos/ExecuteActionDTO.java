@@ -19,5 +19,8 @@ public class ExecuteActionDTO {
 
     PaginationField paginationField;
 
+    // Page of the result to return, starting at 1, for queries with pagination type PAGE_NO.
+    Integer pageNumber;
+
     Boolean viewMode = false;
 }
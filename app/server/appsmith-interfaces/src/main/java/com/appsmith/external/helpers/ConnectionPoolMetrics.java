@@ -0,0 +1,118 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Micrometer meters for the connection pool that a plugin keeps for a datasource. The meters are tagged with the
+ * plugin, the datasource and the pool, and are registered in the global registry, which the server exports along with
+ * its own metrics. They must be removed with {@link #close()} when the pool is closed.
+ */
+public class ConnectionPoolMetrics {
+
+    public static final String ACTIVE_CONNECTIONS_METRIC_NAME = "appsmith.datasource.pool.connections.active";
+    public static final String IDLE_CONNECTIONS_METRIC_NAME = "appsmith.datasource.pool.connections.idle";
+    public static final String PENDING_CONNECTIONS_METRIC_NAME = "appsmith.datasource.pool.connections.pending";
+    public static final String WAIT_TIME_METRIC_NAME = "appsmith.datasource.pool.connections.wait";
+    public static final String TIMEOUTS_METRIC_NAME = "appsmith.datasource.pool.connections.timeouts";
+
+    // Tag value for pools of datasources that haven't been saved yet, like the ones created to test a datasource.
+    private static final String UNNAMED_DATASOURCE = "none";
+
+    private final MeterRegistry meterRegistry;
+
+    private final Timer waitTimer;
+
+    private final Counter timeoutCounter;
+
+    private final List<Meter> meters;
+
+    /**
+     * @param meterRegistry           : Registry to register the meters in
+     * @param pluginName              : Name of the plugin that the pool belongs to
+     * @param poolName                : Name of the pool, unique among the live pools of the plugin
+     * @param datasourceConfiguration : Configuration that the pool was created from
+     * @param activeConnections       : Number of connections that are in use
+     * @param idleConnections         : Number of connections that are open, and not in use
+     * @param pendingThreads          : Number of threads waiting for a connection from the pool
+     */
+    public ConnectionPoolMetrics(MeterRegistry meterRegistry,
+                                 String pluginName,
+                                 String poolName,
+                                 DatasourceConfiguration datasourceConfiguration,
+                                 IntSupplier activeConnections,
+                                 IntSupplier idleConnections,
+                                 IntSupplier pendingThreads) {
+        this.meterRegistry = meterRegistry;
+
+        final ConnectionPoolConfiguration connectionPool = datasourceConfiguration.getConnectionPool();
+        final String datasourceName = connectionPool == null || connectionPool.getName() == null
+                ? UNNAMED_DATASOURCE
+                : connectionPool.getName();
+        final Tags tags = Tags.of("plugin", pluginName, "datasource", datasourceName, "pool", poolName);
+
+        this.waitTimer = Timer.builder(WAIT_TIME_METRIC_NAME)
+                .description("Time spent waiting for a connection from the datasource's pool")
+                .tags(tags)
+                .register(meterRegistry);
+
+        this.timeoutCounter = Counter.builder(TIMEOUTS_METRIC_NAME)
+                .description("Number of times no connection was available from the datasource's pool in time")
+                .tags(tags)
+                .register(meterRegistry);
+
+        // The gauges hold the only references to the suppliers, so they can't be weak.
+        this.meters = List.of(
+                Gauge.builder(ACTIVE_CONNECTIONS_METRIC_NAME, activeConnections, IntSupplier::getAsInt)
+                        .description("Number of connections of the datasource's pool that are in use")
+                        .tags(tags)
+                        .strongReference(true)
+                        .register(meterRegistry),
+                Gauge.builder(IDLE_CONNECTIONS_METRIC_NAME, idleConnections, IntSupplier::getAsInt)
+                        .description("Number of open connections of the datasource's pool that are not in use")
+                        .tags(tags)
+                        .strongReference(true)
+                        .register(meterRegistry),
+                Gauge.builder(PENDING_CONNECTIONS_METRIC_NAME, pendingThreads, IntSupplier::getAsInt)
+                        .description("Number of queries waiting for a connection from the datasource's pool")
+                        .tags(tags)
+                        .strongReference(true)
+                        .register(meterRegistry),
+                waitTimer,
+                timeoutCounter
+        );
+    }
+
+    public ConnectionPoolMetrics(String pluginName,
+                                 String poolName,
+                                 DatasourceConfiguration datasourceConfiguration,
+                                 IntSupplier activeConnections,
+                                 IntSupplier idleConnections,
+                                 IntSupplier pendingThreads) {
+        this(Metrics.globalRegistry, pluginName, poolName, datasourceConfiguration, activeConnections,
+                idleConnections, pendingThreads);
+    }
+
+    public void recordWaitTime(long waitTimeInNanos) {
+        waitTimer.record(waitTimeInNanos, TimeUnit.NANOSECONDS);
+    }
+
+    public void recordTimeout() {
+        timeoutCounter.increment();
+    }
+
+    public void close() {
+        meters.forEach(meterRegistry::remove);
+    }
+}
@@ -31,19 +31,16 @@ import java.text.ParseException;
 import java.text.SimpleDateFormat;
 import java.util.AbstractMap.SimpleEntry;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 
 import static org.apache.commons.lang3.ClassUtils.isPrimitiveOrWrapper;
 
 @Slf4j
 public class DataTypeStringUtils {
 
-    private static String regexForQuestionMark = "\\?";
-
-    private static Pattern questionPattern = Pattern.compile(regexForQuestionMark);
+    private static final char QUESTION_MARK = '?';
 
     private static ObjectMapper objectMapper = new ObjectMapper();
 
@@ -187,6 +184,46 @@ public class DataTypeStringUtils {
                                                                String replacement,
                                                                List<Map.Entry<String, String>> insertedParams) {
 
+        return jsonSmartReplacementQuestionWithValues(input, Collections.singletonList(replacement), insertedParams);
+    }
+
+    /**
+     * Replaces the `?` placeholders in the input with the replacements, in order, formatting every replacement as per
+     * its data type. All replacements are written into a single output buffer in one pass over the input, and the
+     * text of a replacement is never scanned for placeholders.
+     *
+     * @param input          JSON with `?` placeholders
+     * @param replacements   Values to replace the placeholders with, in the order of the placeholders
+     * @param insertedParams List that every replacement and its data type is added to, even if there's no placeholder
+     *                       left for the replacement
+     * @return The input with the placeholders replaced
+     */
+    public static String jsonSmartReplacementQuestionWithValues(String input,
+                                                                List<String> replacements,
+                                                                List<Map.Entry<String, String>> insertedParams) {
+
+        final StringBuilder output = new StringBuilder(input.length());
+        int position = 0;
+
+        for (String replacement : replacements) {
+            final String value = getJsonSmartReplacementValue(replacement, insertedParams);
+            final int placeholderIndex = input.indexOf(QUESTION_MARK, position);
+
+            if (placeholderIndex >= 0) {
+                output.append(input, position, placeholderIndex).append(value);
+                position = placeholderIndex + 1;
+            }
+        }
+
+        return output.append(input, position, input.length()).toString();
+    }
+
+    /**
+     * @return The text that a `?` placeholder in JSON is replaced with for the given replacement
+     */
+    private static String getJsonSmartReplacementValue(String replacement,
+                                                       List<Map.Entry<String, String>> insertedParams) {
+
         DataType dataType = DataTypeStringUtils.stringToKnownDataTypeConverter(replacement);
 
         Map.Entry<String, String> parameter = new SimpleEntry<>(replacement, dataType.toString());
@@ -199,12 +236,11 @@ public class DataTypeStringUtils {
             case DOUBLE:
             case NULL:
             case BOOLEAN:
-                input = questionPattern.matcher(input).replaceFirst(String.valueOf(replacement));
-                break;
+                return String.valueOf(replacement);
             case ARRAY:
                 try {
                     JSONArray jsonArray = (JSONArray) parser.parse(replacement);
-                    input = questionPattern.matcher(input).replaceFirst(String.valueOf(objectMapper.writeValueAsString(jsonArray)));
+                    return objectMapper.writeValueAsString(jsonArray);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -214,13 +250,10 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case JSON_OBJECT:
                 try {
                     JSONObject jsonObject = (JSONObject) parser.parse(replacement);
-                    String jsonString = String.valueOf(objectMapper.writeValueAsString(jsonObject));
-                    // Adding Matcher.quoteReplacement so that "/" and "$" in the string are escaped during replacement
-                    input = questionPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(jsonString));
+                    return objectMapper.writeValueAsString(jsonObject);
                 } catch (net.minidev.json.parser.ParseException | JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -230,10 +263,8 @@ public class DataTypeStringUtils {
                             )
                     );
                 }
-                break;
             case BSON:
-                input = questionPattern.matcher(input).replaceFirst(Matcher.quoteReplacement(replacement));
-                break;
+                return replacement;
             case DATE:
             case TIME:
             case ASCII:
@@ -244,7 +275,9 @@ public class DataTypeStringUtils {
                 try {
                     replacement = escapeSpecialCharacters(replacement);
                     String valueAsString = objectMapper.writeValueAsString(replacement);
-                    input = questionPattern.matcher(input).replaceFirst(valueAsString);
+                    // The special characters are escaped twice, once above and once when writing the value as a JSON
+                    // string. The extra escaping is removed here.
+                    return removeBackslashEscaping(valueAsString);
                 } catch (JsonProcessingException e) {
                     throw Exceptions.propagate(
                             new AppsmithPluginException(
@@ -255,8 +288,27 @@ public class DataTypeStringUtils {
                     );
                 }
         }
+    }
+
+    /**
+     * Replaces every backslash and the character following it with just the character following it.
+     */
+    private static String removeBackslashEscaping(String escaped) {
+        int backslashIndex = escaped.indexOf('\\');
+        if (backslashIndex < 0) {
+            return escaped;
+        }
+
+        final StringBuilder unescaped = new StringBuilder(escaped.length());
+        int position = 0;
+
+        while (backslashIndex >= 0 && backslashIndex + 1 < escaped.length()) {
+            unescaped.append(escaped, position, backslashIndex).append(escaped.charAt(backslashIndex + 1));
+            position = backslashIndex + 2;
+            backslashIndex = escaped.indexOf('\\', position);
+        }
 
-        return input;
+        return unescaped.append(escaped, position, escaped.length()).toString();
     }
 
     private static String escapeSpecialCharacters(String raw) {
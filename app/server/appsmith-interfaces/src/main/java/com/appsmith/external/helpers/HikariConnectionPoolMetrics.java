@@ -0,0 +1,46 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.MetricsTrackerFactory;
+
+/**
+ * Reports the stats of the Hikari connection pools of JDBC plugins as {@link ConnectionPoolMetrics}. Kept apart from
+ * {@link ConnectionPoolMetrics}, since only the plugins that declare HikariCP have it on their classpath.
+ */
+public class HikariConnectionPoolMetrics {
+
+    /**
+     * Records the stats of a Hikari connection pool in the meters of the datasource. The meters are removed when the
+     * pool is closed.
+     *
+     * @param pluginName              : Name of the plugin that the pool belongs to
+     * @param datasourceConfiguration : Configuration that the pool is created from
+     * @return factory of the tracker that Hikari reports the stats of the pool to
+     */
+    public static MetricsTrackerFactory trackerFactory(String pluginName,
+                                                       DatasourceConfiguration datasourceConfiguration) {
+        return (poolName, poolStats) -> {
+            final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(pluginName, poolName,
+                    datasourceConfiguration, poolStats::getActiveConnections, poolStats::getIdleConnections,
+                    poolStats::getPendingThreads);
+
+            return new IMetricsTracker() {
+                @Override
+                public void recordConnectionAcquiredNanos(long elapsedAcquiredNanos) {
+                    metrics.recordWaitTime(elapsedAcquiredNanos);
+                }
+
+                @Override
+                public void recordConnectionTimeout() {
+                    metrics.recordTimeout();
+                }
+
+                @Override
+                public void close() {
+                    metrics.close();
+                }
+            };
+        };
+    }
+}
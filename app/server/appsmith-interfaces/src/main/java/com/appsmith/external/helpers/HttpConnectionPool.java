@@ -0,0 +1,311 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.netty.bootstrap.Bootstrap;
+import io.netty.channel.Channel;
+import io.netty.util.AttributeKey;
+import org.springframework.http.client.reactive.ClientHttpConnector;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
+import reactor.core.publisher.Mono;
+import reactor.netty.Connection;
+import reactor.netty.ConnectionObserver;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.http.client.HttpClientState;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.net.SocketAddress;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getDatasourceConfigurationWithPoolDefaults;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+
+/**
+ * Pool of HTTP connections for the plugins that call HTTP APIs, to be used by a long-lived client instead of creating
+ * a client, and connections, for every request. The pool keeps at most as many connections to every host as the
+ * maximum pool size of the datasource, waits for a connection for at most the connection timeout, and closes
+ * connections that have been idle, or open, for longer than the idle timeout, or the max lifetime. Settings that the
+ * datasource doesn't configure follow Reactor Netty's defaults for HTTP clients, rather than the much smaller ones of
+ * database pools.
+ *
+ * Datasources that are saved get a pool of their own, which must be disposed along with their connection. The rest,
+ * like the ones embedded in actions, share a pool per plugin, since they're never disposed.
+ *
+ * Reactor Netty doesn't publish the usage of its pools, so the meters of {@link ConnectionPoolMetrics} are fed from
+ * the state changes of the connections, and from the calls to acquire one.
+ */
+public class HttpConnectionPool {
+
+    private static final String POOL_NAME_SEPARATOR = "-http-";
+
+    private static final String SHARED_POOL_SUFFIX = "shared";
+
+    // Marks the connections that are in use, so that a connection is counted once, however it's released.
+    private static final AttributeKey<Boolean> IN_USE = AttributeKey.valueOf("appsmithHttpConnectionInUse");
+
+    private static final AtomicLong poolSequence = new AtomicLong();
+
+    private static final Map<String, HttpConnectionPool> sharedPools = new ConcurrentHashMap<>();
+
+    private final boolean shared;
+
+    private final ConnectionProvider connectionProvider;
+
+    private final ConnectionPoolMetrics metrics;
+
+    private final HttpClient httpClient;
+
+    private final ClientHttpConnector connector;
+
+    private final AtomicInteger openConnections = new AtomicInteger();
+
+    private final AtomicInteger activeConnections = new AtomicInteger();
+
+    private final AtomicInteger pendingAcquires = new AtomicInteger();
+
+    HttpConnectionPool(MeterRegistry meterRegistry,
+                       String pluginName,
+                       String poolName,
+                       DatasourceConfiguration datasourceConfiguration,
+                       int maxConnections,
+                       boolean shared) {
+        this.shared = shared;
+
+        this.metrics = new ConnectionPoolMetrics(
+                meterRegistry,
+                pluginName,
+                poolName,
+                datasourceConfiguration,
+                activeConnections::get,
+                () -> Math.max(openConnections.get() - activeConnections.get(), 0),
+                pendingAcquires::get
+        );
+
+        this.connectionProvider = new InstrumentedConnectionProvider(ConnectionProvider.fixed(
+                poolName,
+                maxConnections,
+                getConnectionTimeout(datasourceConfiguration),
+                Duration.ofMillis(getIdleTimeout(datasourceConfiguration)),
+                Duration.ofMillis(getMaxLifetime(datasourceConfiguration))
+        ));
+
+        this.httpClient = HttpClient.create(connectionProvider).observe(this::onStateChange);
+        this.connector = new ReactorClientHttpConnector(httpClient);
+    }
+
+    /**
+     * @return The connection pool settings of datasources that don't configure them: Reactor Netty's default number of
+     * connections per host, and its default timeout to acquire one. Idle connections and their lifetime are bounded as
+     * for any other datasource.
+     */
+    public static ConnectionPoolConfiguration getDefaultConfiguration() {
+        final ConnectionPoolConfiguration defaults = new ConnectionPoolConfiguration();
+        defaults.setMaximumPoolSize(ConnectionProvider.DEFAULT_POOL_MAX_CONNECTIONS);
+        defaults.setConnectionTimeoutInMillisecond((int) ConnectionProvider.DEFAULT_POOL_ACQUIRE_TIMEOUT);
+        defaults.setIdleTimeoutInMillisecond(ConnectionPoolConfiguration.DEFAULT_IDLE_TIMEOUT_IN_MILLISECOND);
+        defaults.setMaxLifetimeInMillisecond(ConnectionPoolConfiguration.DEFAULT_MAX_LIFETIME_IN_MILLISECOND);
+        return defaults;
+    }
+
+    /**
+     * Creates a pool for a datasource, sized and timed out as configured in its connection pool settings, or as in
+     * {@link #getDefaultConfiguration()} for the settings that it doesn't configure.
+     *
+     * @param pluginName              : Name of the plugin that the pool belongs to
+     * @param datasourceConfiguration : Configuration of the datasource, already within the limits of the server
+     * @return A pool that belongs to the datasource alone
+     */
+    public static HttpConnectionPool create(String pluginName, DatasourceConfiguration datasourceConfiguration) {
+        datasourceConfiguration = getDatasourceConfigurationWithPoolDefaults(
+                datasourceConfiguration, getDefaultConfiguration());
+        return new HttpConnectionPool(
+                Metrics.globalRegistry,
+                pluginName,
+                pluginName + POOL_NAME_SEPARATOR + poolSequence.incrementAndGet(),
+                datasourceConfiguration,
+                getMaximumPoolSize(datasourceConfiguration),
+                false
+        );
+    }
+
+    /**
+     * @param pluginName : Name of the plugin that the pool belongs to
+     * @return The pool that the plugin uses for datasources that don't have one of their own. It's created the first
+     * time it's asked for, with the settings of {@link #getDefaultConfiguration()}.
+     */
+    public static HttpConnectionPool getShared(String pluginName) {
+        return sharedPools.computeIfAbsent(pluginName, name -> {
+            final DatasourceConfiguration datasourceConfiguration = getDatasourceConfigurationWithPoolDefaults(
+                    new DatasourceConfiguration(), getDefaultConfiguration());
+            return new HttpConnectionPool(
+                    Metrics.globalRegistry,
+                    name,
+                    name + POOL_NAME_SEPARATOR + SHARED_POOL_SUFFIX,
+                    datasourceConfiguration,
+                    getMaximumPoolSize(datasourceConfiguration),
+                    true
+            );
+        });
+    }
+
+    /**
+     * @param pluginName              : Name of the plugin that the pool belongs to
+     * @param datasourceConfiguration : Configuration of the datasource to connect to
+     * @return A pool of its own for a saved datasource, and the shared pool of the plugin for the rest
+     */
+    public static HttpConnectionPool forDatasource(String pluginName, DatasourceConfiguration datasourceConfiguration) {
+        final ConnectionPoolConfiguration connectionPool = datasourceConfiguration.getConnectionPool();
+        if (connectionPool == null || connectionPool.getName() == null) {
+            return getShared(pluginName);
+        }
+        return create(pluginName, datasourceConfiguration);
+    }
+
+    /**
+     * Closes the shared pool of the plugin, if it has one.
+     */
+    public static void disposeShared(String pluginName) {
+        final HttpConnectionPool pool = sharedPools.remove(pluginName);
+        if (pool != null) {
+            pool.dispose();
+        }
+    }
+
+    /**
+     * Connects Spring's `WebClient` to the pool. Clients built with it are meant to be reused for every request to the
+     * datasource.
+     */
+    public ClientHttpConnector getConnector() {
+        return connector;
+    }
+
+    public HttpClient getHttpClient() {
+        return httpClient;
+    }
+
+    /**
+     * @return Whether this is the shared pool of a plugin, which must not be disposed along with a datasource.
+     */
+    public boolean isShared() {
+        return shared;
+    }
+
+    public boolean isDisposed() {
+        return connectionProvider.isDisposed();
+    }
+
+    /**
+     * Closes all the connections of the pool and removes its meters.
+     */
+    public void dispose() {
+        metrics.close();
+        connectionProvider.dispose();
+    }
+
+    private void onStateChange(Connection connection, ConnectionObserver.State state) {
+        final Channel channel = connection.channel();
+
+        if (state == ConnectionObserver.State.CONNECTED) {
+            openConnections.incrementAndGet();
+            channel.closeFuture().addListener(future -> {
+                markReleased(channel);
+                openConnections.decrementAndGet();
+            });
+            markInUse(channel);
+        } else if (state == ConnectionObserver.State.ACQUIRED || state == HttpClientState.REQUEST_SENT) {
+            // A connection taken from the pool isn't always reported as acquired, but its request is always sent.
+            markInUse(channel);
+        } else if (state == ConnectionObserver.State.RELEASED || state == ConnectionObserver.State.DISCONNECTING) {
+            // Connections that are done with a response are reported as disconnecting, even when they go back to the
+            // pool instead of being closed.
+            markReleased(channel);
+        }
+    }
+
+    private void markInUse(Channel channel) {
+        if (channel.attr(IN_USE).getAndSet(Boolean.TRUE) == null) {
+            activeConnections.incrementAndGet();
+        }
+    }
+
+    private void markReleased(Channel channel) {
+        if (channel.attr(IN_USE).getAndSet(null) != null) {
+            activeConnections.decrementAndGet();
+        }
+    }
+
+    /**
+     * Counts the requests that are waiting for a connection, and how long they wait.
+     */
+    private class InstrumentedConnectionProvider implements ConnectionProvider {
+
+        private final ConnectionProvider delegate;
+
+        InstrumentedConnectionProvider(ConnectionProvider delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public Mono<? extends Connection> acquire(Bootstrap bootstrap) {
+            return Mono.defer(() -> {
+                final long requestedAt = System.nanoTime();
+                final AtomicBoolean done = new AtomicBoolean();
+                final Runnable leaveQueue = () -> {
+                    if (done.compareAndSet(false, true)) {
+                        pendingAcquires.decrementAndGet();
+                    }
+                };
+
+                pendingAcquires.incrementAndGet();
+                return delegate.acquire(bootstrap)
+                        .doOnSuccess(connection -> {
+                            leaveQueue.run();
+                            metrics.recordWaitTime(System.nanoTime() - requestedAt);
+                        })
+                        .doOnError(error -> {
+                            leaveQueue.run();
+                            if (error instanceof TimeoutException) {
+                                metrics.recordTimeout();
+                            }
+                        })
+                        .doOnCancel(leaveQueue);
+            });
+        }
+
+        @Override
+        public void disposeWhen(SocketAddress address) {
+            delegate.disposeWhen(address);
+        }
+
+        @Override
+        public Mono<Void> disposeLater() {
+            return delegate.disposeLater();
+        }
+
+        @Override
+        public void dispose() {
+            delegate.dispose();
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegate.isDisposed();
+        }
+
+        @Override
+        public int maxConnections() {
+            return delegate.maxConnections();
+        }
+    }
+}
@@ -3,12 +3,19 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.models.ActionConfiguration;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.text.StringEscapeUtils;
-import org.springframework.beans.BeanWrapper;
-import org.springframework.beans.BeansException;
+import org.springframework.beans.BeanUtils;
 import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ConcurrentReferenceHashMap;
+import org.springframework.util.ReflectionUtils;
 import org.springframework.util.StringUtils;
 
 import java.beans.PropertyDescriptor;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.UndeclaredThrowableException;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
@@ -47,6 +54,135 @@ public class MustacheHelper {
     private static String laxMustacheBindingRegex = "\\{\\{([\\s\\S]*?)\\}\\}";
     private static Pattern laxMustacheBindingPattern = Pattern.compile(laxMustacheBindingRegex);
 
+    // Templates longer than this are tokenized every time, instead of being held in the cache.
+    private static final int MAX_CACHED_TEMPLATE_LENGTH = 64 * 1024;
+
+    private static final CompiledTemplate EMPTY_TEMPLATE = new CompiledTemplate(Collections.emptyList());
+
+    // Compiled templates, by the template string. The entries are softly referenced, so they are dropped when the
+    // memory is needed elsewhere.
+    private static final Map<String, CompiledTemplate> compiledTemplateCache = new ConcurrentReferenceHashMap<>();
+
+    // The readable and writable properties of Appsmith's models, by the model class.
+    private static final ClassValue<List<BeanProperty>> beanProperties = new ClassValue<>() {
+        @Override
+        protected List<BeanProperty> computeValue(Class<?> type) {
+            return BeanProperty.forClass(type);
+        }
+    };
+
+    /**
+     * A Mustache template that has been tokenized. At every index, `keys` has the trimmed replacement key if the token
+     * is a Mustache interpolation, and null if the token is plain text, in which case `texts` has the text.
+     */
+    private static final class CompiledTemplate {
+        private final String[] texts;
+        private final String[] keys;
+        private final boolean hasKeys;
+
+        private CompiledTemplate(List<String> tokens) {
+            texts = new String[tokens.size()];
+            keys = new String[tokens.size()];
+            boolean hasKeys = false;
+
+            for (int i = 0; i < tokens.size(); i++) {
+                final String token = tokens.get(i);
+                if (token.startsWith("{{") && token.endsWith("}}")) {
+                    // Calling `.trim()` because Mustache compiler strips keys in the template before looking up a value.
+                    keys[i] = token.substring(2, token.length() - 2).trim();
+                    hasKeys = true;
+                } else {
+                    texts[i] = token;
+                }
+            }
+
+            this.hasKeys = hasKeys;
+        }
+    }
+
+    /**
+     * A property of a model class, with method handles to its getter and setter, so that the property can be read and
+     * written without going through a new `BeanWrapper` every time.
+     */
+    private static final class BeanProperty {
+        private final String name;
+        private final MethodHandle getter;
+        private final MethodHandle setter;
+        private final Class<?> setterType;
+
+        private BeanProperty(String name, Method readMethod, Method writeMethod) throws IllegalAccessException {
+            final MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+            ReflectionUtils.makeAccessible(readMethod);
+            ReflectionUtils.makeAccessible(writeMethod);
+
+            this.name = name;
+            this.getter = lookup.unreflect(readMethod)
+                    .asType(MethodType.methodType(Object.class, Object.class));
+            this.setter = lookup.unreflect(writeMethod)
+                    .asType(MethodType.methodType(void.class, Object.class, Object.class));
+            this.setterType = ClassUtils.resolvePrimitiveIfNecessary(writeMethod.getParameterTypes()[0]);
+        }
+
+        private static List<BeanProperty> forClass(Class<?> type) {
+            final List<BeanProperty> properties = new ArrayList<>();
+
+            for (PropertyDescriptor propertyDescriptor : BeanUtils.getPropertyDescriptors(type)) {
+                // For properties like `class` that don't have a set method, just ignore them.
+                if (propertyDescriptor.getReadMethod() == null || propertyDescriptor.getWriteMethod() == null) {
+                    continue;
+                }
+
+                try {
+                    properties.add(new BeanProperty(propertyDescriptor.getName(),
+                            propertyDescriptor.getReadMethod(),
+                            propertyDescriptor.getWriteMethod()));
+                } catch (IllegalAccessException e) {
+                    log.error("Unable to access property {} of {}.", propertyDescriptor.getName(), type.getName(), e);
+                }
+            }
+
+            return properties;
+        }
+
+        private Object get(Object object) {
+            try {
+                return (Object) getter.invokeExact(object);
+            } catch (RuntimeException | Error e) {
+                throw e;
+            } catch (Throwable e) {
+                // The getters of the model classes don't declare any checked exceptions.
+                throw new UndeclaredThrowableException(e);
+            }
+        }
+
+        private void set(Object object, Object value) {
+            if (value == null || setterType.isInstance(value)) {
+                try {
+                    setter.invokeExact(object, value);
+                } catch (RuntimeException | Error e) {
+                    throw e;
+                } catch (Throwable e) {
+                    throw new UndeclaredThrowableException(e);
+                }
+            } else {
+                // The setter takes a different type than the getter returns. Let Spring convert the value.
+                PropertyAccessorFactory.forBeanPropertyAccess(object).setPropertyValue(name, value);
+            }
+        }
+    }
+
+    private static CompiledTemplate compile(String template) {
+        if (StringUtils.isEmpty(template)) {
+            return EMPTY_TEMPLATE;
+        }
+
+        if (template.length() > MAX_CACHED_TEMPLATE_LENGTH) {
+            return new CompiledTemplate(tokenize(template));
+        }
+
+        return compiledTemplateCache.computeIfAbsent(template, key -> new CompiledTemplate(tokenize(key)));
+    }
+
 
     /**
      * Tokenize a Mustache template string into a list of plain text and Mustache interpolations.
@@ -165,12 +301,12 @@ public class MustacheHelper {
     public static Set<String> extractMustacheKeys(String template) {
         Set<String> keys = new HashSet<>();
 
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
-                // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
-                // up a value. Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
-                keys.add(token.substring(2, token.length() - 2).trim());
+        // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
+        // The keys are trimmed because Mustache compiler strips keys in the template before looking up a value.
+        // Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
+        for (String key : compile(template).keys) {
+            if (key != null) {
+                keys.add(key);
             }
         }
 
@@ -181,12 +317,9 @@ public class MustacheHelper {
     public static List<String> extractMustacheKeysInOrder(String template) {
         List<String> keys = new ArrayList<>();
 
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                // Allowing empty tokens to be added, to be compatible with the previous `extractMustacheKeys` method.
-                // Calling `.trim()` before adding because Mustache compiler strips keys in the template before looking
-                // up a value. Addresses https://www.notion.so/appsmith/Bindings-with-a-space-at-the-start-fail-to-execute-properly-in-the-API-pane-2eb65d5c6064466b9ef059fa01ef3261
-                keys.add(token.substring(2, token.length() - 2).trim());
+        for (String key : compile(template).keys) {
+            if (key != null) {
+                keys.add(key);
             }
         }
 
@@ -230,21 +363,18 @@ public class MustacheHelper {
     }
 
     private static List<Object> getBeanPropertyValues(Object object) {
-        final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
         final List<Object> values = new ArrayList<>();
 
-        for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-            // For properties like `class` that don't have a set method, just ignore them.
-            if (propertyDescriptor.getWriteMethod() == null) {
-                continue;
-            }
-
-            String name = propertyDescriptor.getName();
-            Object value = sourceBeanWrapper.getPropertyValue(name);
+        try {
+            for (BeanProperty property : beanProperties.get(object.getClass())) {
+                Object value = property.get(object);
 
-            if (value != null) {
-                values.add(value);
+                if (value != null) {
+                    values.add(value);
+                }
             }
+        } catch (RuntimeException e) {
+            log.error("Exception caught while reading the properties of {}.", object.getClass().getName(), e);
         }
 
         return values;
@@ -273,18 +403,15 @@ public class MustacheHelper {
 
         if (isDomainModel(object.getClass())) {
             try {
-                final BeanWrapper sourceBeanWrapper = PropertyAccessorFactory.forBeanPropertyAccess(object);
-                for (PropertyDescriptor propertyDescriptor : sourceBeanWrapper.getPropertyDescriptors()) {
-                    // For properties like `class` that don't have a set method, just ignore them.
-                    if (propertyDescriptor.getWriteMethod() == null) {
-                        continue;
+                for (BeanProperty property : beanProperties.get(object.getClass())) {
+                    Object value = property.get(object);
+                    Object renderedValue = renderFieldValues(value, context);
+                    // Values other than strings, lists and maps are either rendered in place, or not rendered at all.
+                    if (renderedValue != value) {
+                        property.set(object, renderedValue);
                     }
-
-                    String name = propertyDescriptor.getName();
-                    Object value = sourceBeanWrapper.getPropertyValue(name);
-                    sourceBeanWrapper.setPropertyValue(name, renderFieldValues(value, context));
                 }
-            } catch (BeansException e) {
+            } catch (RuntimeException e) {
                 log.error("Exception caught while substituting values in mustache template.", e);
             }
         } else if (object instanceof List) {
@@ -319,17 +446,26 @@ public class MustacheHelper {
      * @return It finally returns the string in which all the keys in template have been replaced with values.
      */
     public static String render(String template, Map<String, String> keyValueMap) {
-        final StringBuilder rendered = new StringBuilder();
-
-        for (String token : tokenize(template)) {
-            if (token.startsWith("{{") && token.endsWith("}}")) {
-                rendered.append(keyValueMap.get(token.substring(2, token.length() - 2).trim()));
-            } else {
-                rendered.append(token);
+        final CompiledTemplate compiledTemplate = compile(template);
+
+        final String rendered;
+        if (!compiledTemplate.hasKeys) {
+            // Joining the plain text tokens gives the template back.
+            rendered = template == null ? "" : template;
+        } else {
+            final StringBuilder renderedBuilder = new StringBuilder(template.length());
+            for (int i = 0; i < compiledTemplate.keys.length; i++) {
+                if (compiledTemplate.keys[i] != null) {
+                    renderedBuilder.append(keyValueMap.get(compiledTemplate.keys[i]));
+                } else {
+                    renderedBuilder.append(compiledTemplate.texts[i]);
+                }
             }
+            rendered = renderedBuilder.toString();
         }
 
-        return StringEscapeUtils.unescapeHtml4(rendered.toString());
+        // Only HTML entities, all of which start with an `&`, are changed by unescaping.
+        return rendered.indexOf('&') < 0 ? rendered : StringEscapeUtils.unescapeHtml4(rendered);
     }
 
     public static void extractWordsAndAddToSet(Set<String> bindingNames, String mustacheKey) {
@@ -1,15 +1,35 @@
 package com.appsmith.external.helpers;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.PaginationType;
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.util.StringUtils;
+
+import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
+import java.sql.Statement;
 import java.util.List;
 import java.util.Map;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 
+@Slf4j
 public class PluginUtils {
 
+    // Number of rows that JDBC drivers fetch from the database at a time, when reading the result of a query.
+    public static final int JDBC_FETCH_SIZE = 1000;
+
     public static List<String> getColumnsListForJdbcPlugin(ResultSetMetaData metaData) throws SQLException {
         List<String> columnsList = IntStream
                 .range(1, metaData.getColumnCount()+1) // JDBC column indexes start from 1
@@ -51,7 +71,309 @@ public class PluginUtils {
         return "actionConfiguration.pluginSpecifiedTemplates[" + index + "].value";
     }
 
+    /**
+     * @return The value of the plugin specified template at the index, trimmed, or null if it isn't set.
+     */
+    public static String getPropertyValue(List<Property> properties, int index) {
+        if (properties == null || properties.size() <= index || properties.get(index) == null
+                || properties.get(index).getValue() == null) {
+            return null;
+        }
+
+        return String.valueOf(properties.get(index).getValue()).trim();
+    }
+
+    public static String getPropertyValue(List<Property> properties, int index, String defaultValue) {
+        final String value = getPropertyValue(properties, index);
+        return value != null ? value : defaultValue;
+    }
+
+    /**
+     * @return The value of the environment variable, or the default value if the variable isn't set or isn't a
+     * positive integer.
+     */
+    public static int getPositiveIntegerEnv(String name, int defaultValue) {
+        return (int) getPositiveNumber(name, System.getenv(name), defaultValue, Integer.MAX_VALUE);
+    }
+
+    /**
+     * @return The value of the environment variable, or the default value if the variable isn't set or isn't a
+     * positive number.
+     */
+    public static long getPositiveLongEnv(String name, long defaultValue) {
+        return getPositiveNumber(name, System.getenv(name), defaultValue, Long.MAX_VALUE);
+    }
+
+    static long getPositiveNumber(String name, String value, long defaultValue, long maxValue) {
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+
+        try {
+            final long number = Long.parseLong(value.trim());
+            if (number > 0 && number <= maxValue) {
+                return number;
+            }
+        } catch (NumberFormatException e) {
+            // Fall back to the default below.
+        }
+
+        log.warn("Ignoring invalid value {} of {}, using {} instead.", value, name, defaultValue);
+        return defaultValue;
+    }
+
     public static String getPSParamLabel(int i) {
         return "$" + i;
     }
+
+    private static boolean isPaginated(ActionConfiguration actionConfiguration) {
+        return PaginationType.PAGE_NO.equals(actionConfiguration.getPaginationType())
+                && actionConfiguration.getPageSize() != null
+                && actionConfiguration.getPageSize() > 0;
+    }
+
+    /**
+     * @return The number of rows to return from the result of the query, which is the smaller of the page size of a
+     * paginated query and the row limit. Zero if there's no limit.
+     */
+    public static int getRowLimit(ActionConfiguration actionConfiguration) {
+        int rowLimit = isPaginated(actionConfiguration) ? actionConfiguration.getPageSize() : 0;
+
+        final Integer configuredRowLimit = actionConfiguration.getRowLimit();
+        if (configuredRowLimit != null && configuredRowLimit > 0 && (rowLimit == 0 || configuredRowLimit < rowLimit)) {
+            rowLimit = configuredRowLimit;
+        }
+
+        return rowLimit;
+    }
+
+    /**
+     * @return The number of rows to skip from the start of the result of the query, to get to the requested page.
+     * @throws AppsmithPluginException if the page starts too far into the result to be read
+     */
+    public static int getRowOffset(ActionConfiguration actionConfiguration, ExecuteActionDTO executeActionDTO) {
+        if (!isPaginated(actionConfiguration)
+                || executeActionDTO == null
+                || executeActionDTO.getPageNumber() == null
+                || executeActionDTO.getPageNumber() <= 1) {
+            return 0;
+        }
+
+        final long rowOffset = (executeActionDTO.getPageNumber() - 1L) * actionConfiguration.getPageSize();
+        if (rowOffset > Integer.MAX_VALUE) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Page number " + executeActionDTO.getPageNumber() + " is too large for a page size of "
+                            + actionConfiguration.getPageSize() + "."
+            );
+        }
+
+        return (int) rowOffset;
+    }
+
+    /**
+     * Limits the number of rows that the statement reads from the database to what's needed for the requested page,
+     * and the number of rows the driver holds in memory at a time to the fetch size. This should be called before
+     * executing the statement, and the rows before the page then skipped with {@link #skipRows}.
+     */
+    public static void setRowLimits(Statement statement,
+                                    ActionConfiguration actionConfiguration,
+                                    ExecuteActionDTO executeActionDTO) throws SQLException {
+        final int rowLimit = getRowLimit(actionConfiguration);
+        if (rowLimit > 0) {
+            final long maxRows = (long) getRowOffset(actionConfiguration, executeActionDTO) + rowLimit;
+            statement.setMaxRows((int) Math.min(maxRows, Integer.MAX_VALUE));
+            statement.setFetchSize(Math.min(rowLimit, JDBC_FETCH_SIZE));
+        } else {
+            statement.setFetchSize(JDBC_FETCH_SIZE);
+        }
+    }
+
+    /**
+     * Moves the result set forward to the first row of the requested page.
+     */
+    public static void skipRows(ResultSet resultSet,
+                                ActionConfiguration actionConfiguration,
+                                ExecuteActionDTO executeActionDTO) throws SQLException {
+        final int rowOffset = getRowOffset(actionConfiguration, executeActionDTO);
+        for (int i = 0; i < rowOffset && resultSet.next(); i++) {
+            // Skip the rows of the previous pages.
+        }
+    }
+
+    private static ConnectionPoolConfiguration getConnectionPool(DatasourceConfiguration datasourceConfiguration) {
+        final ConnectionPoolConfiguration connectionPool = datasourceConfiguration.getConnectionPool();
+        return connectionPool == null ? new ConnectionPoolConfiguration() : connectionPool;
+    }
+
+    private static int getPositiveOrDefault(Integer value, int defaultValue) {
+        return value == null || value <= 0 ? defaultValue : value;
+    }
+
+    /**
+     * @return The maximum size of the connection pool of the datasource, or the default if the datasource doesn't
+     * configure it.
+     */
+    public static int getMaximumPoolSize(DatasourceConfiguration datasourceConfiguration) {
+        return getPositiveOrDefault(getConnectionPool(datasourceConfiguration).getMaximumPoolSize(),
+                ConnectionPoolConfiguration.DEFAULT_MAXIMUM_POOL_SIZE);
+    }
+
+    /**
+     * @return The minimum size of the connection pool of the datasource, or the default if the datasource doesn't
+     * configure it. This is never more than the maximum size of the pool.
+     */
+    public static int getMinimumPoolSize(DatasourceConfiguration datasourceConfiguration) {
+        final Integer minimumPoolSize = getConnectionPool(datasourceConfiguration).getMinimumPoolSize();
+        final int size = minimumPoolSize == null || minimumPoolSize < 0
+                ? ConnectionPoolConfiguration.DEFAULT_MINIMUM_POOL_SIZE
+                : minimumPoolSize;
+
+        return Math.min(size, getMaximumPoolSize(datasourceConfiguration));
+    }
+
+    public static long getConnectionTimeout(DatasourceConfiguration datasourceConfiguration) {
+        return getPositiveOrDefault(getConnectionPool(datasourceConfiguration).getConnectionTimeoutInMillisecond(),
+                ConnectionPoolConfiguration.DEFAULT_CONNECTION_TIMEOUT_IN_MILLISECOND);
+    }
+
+    public static long getIdleTimeout(DatasourceConfiguration datasourceConfiguration) {
+        return getPositiveOrDefault(getConnectionPool(datasourceConfiguration).getIdleTimeoutInMillisecond(),
+                ConnectionPoolConfiguration.DEFAULT_IDLE_TIMEOUT_IN_MILLISECOND);
+    }
+
+    public static long getMaxLifetime(DatasourceConfiguration datasourceConfiguration) {
+        return getPositiveOrDefault(getConnectionPool(datasourceConfiguration).getMaxLifetimeInMillisecond(),
+                ConnectionPoolConfiguration.DEFAULT_MAX_LIFETIME_IN_MILLISECOND);
+    }
+
+    private static Integer cap(long value, Integer ceiling) {
+        return (int) (ceiling == null || ceiling <= 0 ? value : Math.min(value, ceiling));
+    }
+
+    private static Integer getSetOrDefault(Integer value, Integer defaultValue) {
+        return value == null || value <= 0 ? defaultValue : value;
+    }
+
+    /**
+     * Fills in the connection pool settings that a datasource doesn't configure with the defaults of its plugin,
+     * instead of the defaults of {@link ConnectionPoolConfiguration}, which are meant for database connections. The
+     * datasource configuration itself isn't changed.
+     *
+     * @param datasourceConfiguration : Configuration of the datasource to create a connection pool for
+     * @param defaults                : Default value of every setting. Settings without a default of the plugin are null
+     * @return A copy of the datasource configuration, with the connection pool settings that it doesn't configure set
+     * to the given defaults
+     */
+    public static DatasourceConfiguration getDatasourceConfigurationWithPoolDefaults(
+            DatasourceConfiguration datasourceConfiguration,
+            ConnectionPoolConfiguration defaults) {
+
+        if (datasourceConfiguration == null || defaults == null) {
+            return datasourceConfiguration;
+        }
+
+        final ConnectionPoolConfiguration configured = getConnectionPool(datasourceConfiguration);
+
+        final ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMaximumPoolSize(getSetOrDefault(configured.getMaximumPoolSize(), defaults.getMaximumPoolSize()));
+        connectionPool.setMinimumPoolSize(configured.getMinimumPoolSize() == null || configured.getMinimumPoolSize() < 0
+                ? defaults.getMinimumPoolSize()
+                : configured.getMinimumPoolSize());
+        connectionPool.setConnectionTimeoutInMillisecond(getSetOrDefault(
+                configured.getConnectionTimeoutInMillisecond(), defaults.getConnectionTimeoutInMillisecond()));
+        connectionPool.setIdleTimeoutInMillisecond(getSetOrDefault(
+                configured.getIdleTimeoutInMillisecond(), defaults.getIdleTimeoutInMillisecond()));
+        connectionPool.setMaxLifetimeInMillisecond(getSetOrDefault(
+                configured.getMaxLifetimeInMillisecond(), defaults.getMaxLifetimeInMillisecond()));
+        connectionPool.setName(configured.getName());
+
+        return datasourceConfiguration.toBuilder().connectionPool(connectionPool).build();
+    }
+
+    /**
+     * Same as {@link #getDatasourceConfigurationWithinPoolLimits(DatasourceConfiguration, ConnectionPoolConfiguration,
+     * ConnectionPoolConfiguration, String)}, for plugins whose pools use the defaults of
+     * {@link ConnectionPoolConfiguration}.
+     */
+    public static DatasourceConfiguration getDatasourceConfigurationWithinPoolLimits(
+            DatasourceConfiguration datasourceConfiguration,
+            ConnectionPoolConfiguration ceilings,
+            String name) {
+        return getDatasourceConfigurationWithinPoolLimits(datasourceConfiguration, ceilings, null, name);
+    }
+
+    /**
+     * Brings the connection pool settings of a datasource within the ceilings set by the admin. The datasource
+     * configuration itself isn't changed, so that the capped settings are never stored.
+     *
+     * @param datasourceConfiguration : Configuration of the datasource to create a connection pool for
+     * @param ceilings                : Highest allowed value of every setting. Settings without a ceiling are null
+     * @param defaults                : Defaults of the plugin for the settings that the datasource doesn't configure,
+     *                                  or null to use the defaults of {@link ConnectionPoolConfiguration}
+     * @param name                    : Identifies the datasource in the metrics of the pool
+     * @return A copy of the datasource configuration, with every connection pool setting set to a value within its
+     * ceiling, or null if there's no datasource configuration
+     */
+    public static DatasourceConfiguration getDatasourceConfigurationWithinPoolLimits(
+            DatasourceConfiguration datasourceConfiguration,
+            ConnectionPoolConfiguration ceilings,
+            ConnectionPoolConfiguration defaults,
+            String name) {
+
+        if (datasourceConfiguration == null) {
+            return null;
+        }
+
+        if (ceilings == null) {
+            ceilings = new ConnectionPoolConfiguration();
+        }
+
+        datasourceConfiguration = getDatasourceConfigurationWithPoolDefaults(datasourceConfiguration, defaults);
+
+        final ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMaximumPoolSize(cap(getMaximumPoolSize(datasourceConfiguration), ceilings.getMaximumPoolSize()));
+        connectionPool.setMinimumPoolSize(Math.min(
+                getMinimumPoolSize(datasourceConfiguration), connectionPool.getMaximumPoolSize()));
+        connectionPool.setConnectionTimeoutInMillisecond(cap(getConnectionTimeout(datasourceConfiguration),
+                ceilings.getConnectionTimeoutInMillisecond()));
+        connectionPool.setIdleTimeoutInMillisecond(cap(getIdleTimeout(datasourceConfiguration),
+                ceilings.getIdleTimeoutInMillisecond()));
+        connectionPool.setMaxLifetimeInMillisecond(cap(getMaxLifetime(datasourceConfiguration),
+                ceilings.getMaxLifetimeInMillisecond()));
+        connectionPool.setName(name);
+
+        return datasourceConfiguration.toBuilder().connectionPool(connectionPool).build();
+    }
+
+    /**
+     * Sets the value of a column in a row of a query result. Values of the common column types are set as is, and only
+     * the rest go through the object mapper, which is much slower when done for every cell of a large result.
+     *
+     * @param row          : The row to set the value in
+     * @param columnName   : Name of the column
+     * @param value        : Value of the column, as read from the driver
+     * @param objectMapper : Used to convert the values that aren't of a common type
+     */
+    public static void putColumnValue(ObjectNode row, String columnName, Object value, ObjectMapper objectMapper) {
+        if (value == null) {
+            row.putNull(columnName);
+        } else if (value instanceof String) {
+            row.put(columnName, (String) value);
+        } else if (value instanceof Integer) {
+            row.put(columnName, (Integer) value);
+        } else if (value instanceof Long) {
+            row.put(columnName, (Long) value);
+        } else if (value instanceof Double) {
+            row.put(columnName, (Double) value);
+        } else if (value instanceof Float) {
+            row.put(columnName, (Float) value);
+        } else if (value instanceof Boolean) {
+            row.put(columnName, (Boolean) value);
+        } else if (value instanceof JsonNode) {
+            row.set(columnName, (JsonNode) value);
+        } else {
+            row.set(columnName, objectMapper.valueToTree(value));
+        }
+    }
 }
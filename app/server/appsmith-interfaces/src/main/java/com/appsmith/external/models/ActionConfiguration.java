@@ -54,6 +54,10 @@ public class ActionConfiguration implements AppsmithDomain {
     String prev;
 
     // DB action fields
+    // Maximum number of rows returned by an execution of the query. No limit if not set.
+    Integer rowLimit;
+    // Number of rows in a page of the result, when the paginationType is PAGE_NO.
+    Integer pageSize;
 
     // JS action fields
     String jsFunction;
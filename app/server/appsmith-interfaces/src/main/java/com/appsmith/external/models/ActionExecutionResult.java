@@ -23,6 +23,9 @@ public class ActionExecutionResult {
     Object body;
     Boolean isExecutionSuccess = false;
 
+    // Size of the response body in bytes, as it was received, for the plugins that read one.
+    Long responseBodySize;
+
     /*
      * - To return useful hints to the user.
      * - E.g. if sql query result has identical columns
@@ -0,0 +1,58 @@
+package com.appsmith.external.models;
+
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+import org.springframework.data.annotation.Transient;
+import org.springframework.data.mongodb.core.mapping.Document;
+
+/**
+ * Settings of the connection pool that a plugin keeps for a datasource. Values that aren't set fall back to the
+ * defaults below, and are capped by the server to the ceilings set by the admin.
+ */
+@Getter
+@Setter
+@ToString
+@EqualsAndHashCode
+@NoArgsConstructor
+@AllArgsConstructor
+@Document
+public class ConnectionPoolConfiguration implements AppsmithDomain {
+
+    public static final int DEFAULT_MINIMUM_POOL_SIZE = 1;
+
+    public static final int DEFAULT_MAXIMUM_POOL_SIZE = 5;
+
+    // The default timeouts are the same as Hikari's.
+    public static final int DEFAULT_CONNECTION_TIMEOUT_IN_MILLISECOND = 30 * 1000;
+
+    public static final int DEFAULT_IDLE_TIMEOUT_IN_MILLISECOND = 10 * 60 * 1000;
+
+    public static final int DEFAULT_MAX_LIFETIME_IN_MILLISECOND = 30 * 60 * 1000;
+
+    // Number of idle connections the pool tries to keep open.
+    Integer minimumPoolSize;
+
+    // Number of connections the pool opens at most, which is the number of queries that can run at the same time.
+    Integer maximumPoolSize;
+
+    // How long a query waits for a connection from the pool before failing.
+    Integer connectionTimeoutInMillisecond;
+
+    // How long a connection can sit idle in the pool before it's closed, when there are more than the minimum.
+    Integer idleTimeoutInMillisecond;
+
+    // How long a connection is kept open at most. Connections in use are closed once they are returned to the pool.
+    Integer maxLifetimeInMillisecond;
+
+    // Identifies the datasource in the metrics of the pool. This is set by the server when creating the pool, and is
+    // never stored or sent to the client.
+    @Transient
+    @JsonIgnore
+    String name;
+
+}
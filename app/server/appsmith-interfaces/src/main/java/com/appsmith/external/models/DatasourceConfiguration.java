@@ -31,6 +31,8 @@ public class DatasourceConfiguration implements AppsmithDomain {
 
     Boolean sshProxyEnabled;
 
+    ConnectionPoolConfiguration connectionPool;
+
     List<Property> properties;
 
     // For REST API.
@@ -1,8 +1,10 @@
 package com.appsmith.external.plugins;
 
+import com.appsmith.external.helpers.HttpConnectionPool;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.pf4j.Plugin;
 import org.pf4j.PluginWrapper;
+import reactor.core.scheduler.Scheduler;
 
 public abstract class BasePlugin extends Plugin {
 
@@ -12,4 +14,21 @@ public abstract class BasePlugin extends Plugin {
         super(wrapper);
     }
 
+    /**
+     * Plugin executors run their blocking calls on this scheduler, instead of creating one of their own. The
+     * scheduler is bounded and shared by all the executors of the plugin.
+     *
+     * @param pluginId : Id of the plugin, as set in its manifest
+     * @return The scheduler of the plugin
+     */
+    protected static Scheduler getScheduler(String pluginId) {
+        return PluginSchedulers.getScheduler(pluginId);
+    }
+
+    @Override
+    public void stop() {
+        PluginSchedulers.dispose(getWrapper().getPluginId());
+        HttpConnectionPool.disposeShared(getWrapper().getPluginId());
+    }
+
 }
@@ -0,0 +1,224 @@
+package com.appsmith.external.plugins;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import reactor.core.Disposable;
+import reactor.core.scheduler.Scheduler;
+
+import java.util.List;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scheduler that runs the tasks of a plugin on a bounded scheduler, and publishes how busy it is as Micrometer meters
+ * tagged with the plugin. Only tasks that are scheduled to run right away are counted, which is how plugins use it.
+ */
+class InstrumentedScheduler implements Scheduler {
+
+    static final String ACTIVE_TASKS_METRIC_NAME = "appsmith.plugin.scheduler.tasks.active";
+    static final String QUEUED_TASKS_METRIC_NAME = "appsmith.plugin.scheduler.tasks.queued";
+    static final String WAIT_TIME_METRIC_NAME = "appsmith.plugin.scheduler.tasks.wait";
+    static final String REJECTED_TASKS_METRIC_NAME = "appsmith.plugin.scheduler.tasks.rejected";
+
+    private final Scheduler delegate;
+
+    private final String pluginName;
+
+    private final MeterRegistry meterRegistry;
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final Timer waitTimer;
+
+    private final Counter rejectedCounter;
+
+    private final List<Meter> meters;
+
+    InstrumentedScheduler(Scheduler delegate, String pluginName, MeterRegistry meterRegistry) {
+        this.delegate = delegate;
+        this.pluginName = pluginName;
+        this.meterRegistry = meterRegistry;
+
+        final Tags tags = Tags.of("plugin", pluginName);
+
+        this.waitTimer = Timer.builder(WAIT_TIME_METRIC_NAME)
+                .description("Time that tasks of the plugin spend waiting for a thread")
+                .tags(tags)
+                .register(meterRegistry);
+
+        this.rejectedCounter = Counter.builder(REJECTED_TASKS_METRIC_NAME)
+                .description("Number of tasks of the plugin that were rejected because its queue was full")
+                .tags(tags)
+                .register(meterRegistry);
+
+        this.meters = List.of(
+                Gauge.builder(ACTIVE_TASKS_METRIC_NAME, activeTasks, AtomicInteger::get)
+                        .description("Number of tasks of the plugin that are running")
+                        .tags(tags)
+                        .register(meterRegistry),
+                Gauge.builder(QUEUED_TASKS_METRIC_NAME, queuedTasks, AtomicInteger::get)
+                        .description("Number of tasks of the plugin that are waiting for a thread")
+                        .tags(tags)
+                        .register(meterRegistry),
+                waitTimer,
+                rejectedCounter
+        );
+    }
+
+    @Override
+    public Disposable schedule(Runnable task) {
+        return schedule(task, delegate::schedule, delegate);
+    }
+
+    @Override
+    public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+        return delegate.schedule(task, delay, unit);
+    }
+
+    @Override
+    public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+        return delegate.schedulePeriodically(task, initialDelay, period, unit);
+    }
+
+    @Override
+    public long now(TimeUnit unit) {
+        return delegate.now(unit);
+    }
+
+    @Override
+    public Worker createWorker() {
+        return new InstrumentedWorker(delegate.createWorker());
+    }
+
+    @Override
+    public void start() {
+        delegate.start();
+    }
+
+    @Override
+    public boolean isDisposed() {
+        return delegate.isDisposed();
+    }
+
+    @Override
+    public void dispose() {
+        delegate.dispose();
+        meters.forEach(meterRegistry::remove);
+    }
+
+    private interface TaskScheduler {
+        Disposable schedule(Runnable task);
+    }
+
+    private Disposable schedule(Runnable task, TaskScheduler taskScheduler, Disposable owner) {
+        final InstrumentedTask instrumentedTask = new InstrumentedTask(task);
+        queuedTasks.incrementAndGet();
+
+        try {
+            instrumentedTask.scheduled = taskScheduler.schedule(instrumentedTask);
+            return instrumentedTask;
+        } catch (RejectedExecutionException e) {
+            instrumentedTask.dequeue();
+            // Tasks are also rejected once the scheduler, or the worker, is disposed. Only a full queue is counted.
+            if (!owner.isDisposed()) {
+                rejectedCounter.increment();
+                throw new RejectedExecutionException("Too many requests are waiting to run on " + pluginName
+                        + ". Please try again later.", e);
+            }
+            throw e;
+        }
+    }
+
+    private class InstrumentedTask implements Runnable, Disposable {
+
+        private final Runnable task;
+
+        private final long queuedAt = System.nanoTime();
+
+        // Set once the task leaves the queue, either because it starts running or because it's cancelled.
+        private final AtomicBoolean dequeued = new AtomicBoolean();
+
+        private volatile Disposable scheduled;
+
+        InstrumentedTask(Runnable task) {
+            this.task = task;
+        }
+
+        private boolean dequeue() {
+            if (dequeued.compareAndSet(false, true)) {
+                queuedTasks.decrementAndGet();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        public void run() {
+            if (dequeue()) {
+                waitTimer.record(System.nanoTime() - queuedAt, TimeUnit.NANOSECONDS);
+            }
+
+            activeTasks.incrementAndGet();
+            try {
+                task.run();
+            } finally {
+                activeTasks.decrementAndGet();
+            }
+        }
+
+        @Override
+        public void dispose() {
+            dequeue();
+            if (scheduled != null) {
+                scheduled.dispose();
+            }
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return scheduled != null && scheduled.isDisposed();
+        }
+    }
+
+    private class InstrumentedWorker implements Worker {
+
+        private final Worker delegateWorker;
+
+        InstrumentedWorker(Worker delegateWorker) {
+            this.delegateWorker = delegateWorker;
+        }
+
+        @Override
+        public Disposable schedule(Runnable task) {
+            return InstrumentedScheduler.this.schedule(task, delegateWorker::schedule, delegateWorker);
+        }
+
+        @Override
+        public Disposable schedule(Runnable task, long delay, TimeUnit unit) {
+            return delegateWorker.schedule(task, delay, unit);
+        }
+
+        @Override
+        public Disposable schedulePeriodically(Runnable task, long initialDelay, long period, TimeUnit unit) {
+            return delegateWorker.schedulePeriodically(task, initialDelay, period, unit);
+        }
+
+        @Override
+        public boolean isDisposed() {
+            return delegateWorker.isDisposed();
+        }
+
+        @Override
+        public void dispose() {
+            delegateWorker.dispose();
+        }
+    }
+}
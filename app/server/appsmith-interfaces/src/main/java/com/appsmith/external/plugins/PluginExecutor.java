@@ -1,15 +1,20 @@
 package com.appsmith.external.plugins;
 
 import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Param;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.pf4j.ExtensionPoint;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
@@ -81,6 +86,17 @@ public interface PluginExecutor<C> extends ExtensionPoint {
      */
     Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration);
 
+    /**
+     * This function gives the connection pool settings that the plugin uses for datasources that don't configure them.
+     * Settings that are null fall back to the defaults of {@link ConnectionPoolConfiguration}, which are meant for
+     * database connections.
+     *
+     * @return ConnectionPoolConfiguration : The defaults of the plugin, or null to use the database defaults
+     */
+    default ConnectionPoolConfiguration getDefaultConnectionPoolConfiguration() {
+        return null;
+    }
+
     /**
      * This function fetches the structure of the tables/collections in the datasource. It's used to make query creation
      * easier for the user.
@@ -116,6 +132,42 @@ public interface PluginExecutor<C> extends ExtensionPoint {
         return this.execute(connection, datasourceConfiguration, actionConfiguration);
     }
 
+    /**
+     * Appsmith Server calls this function for executing the action in the streaming mode, where the rows of the result
+     * are written to the response as they are emitted, without holding the whole result in memory.
+     * <p>
+     * Plugins that can read the result of a query one row at a time should override this function, and release the
+     * underlying cursor when the returned Flux is cancelled. The default implementation executes the action with
+     * {@link #executeParameterized} and emits the elements of the result, if the result is an array.
+     *
+     * @param connection              : This is the connection that is established to the data source. This connection is according
+     *                                to the parameters in Datasource Configuration
+     * @param executeActionDTO        : This is the data structure sent by the client during execute. This contains the params
+     *                                which would be used for substitution
+     * @param datasourceConfiguration : These are the configurations which have been used to create a Datasource from a Plugin
+     * @param actionConfiguration     : These are the configurations which have been used to create an Action from a Datasource.
+     * @return Flux                   : The rows of the result of the execution.
+     */
+    default Flux<JsonNode> executeParameterizedStream(C connection,
+                                                      ExecuteActionDTO executeActionDTO,
+                                                      DatasourceConfiguration datasourceConfiguration,
+                                                      ActionConfiguration actionConfiguration) {
+        return executeParameterized(connection, executeActionDTO, datasourceConfiguration, actionConfiguration)
+                .flatMapMany(result -> {
+                    if (!Boolean.TRUE.equals(result.getIsExecutionSuccess())) {
+                        return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, result.getBody()));
+                    }
+
+                    if (!(result.getBody() instanceof JsonNode)) {
+                        return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                                "The result of this action can't be streamed."));
+                    }
+
+                    final JsonNode body = (JsonNode) result.getBody();
+                    return body.isArray() ? Flux.fromIterable(body) : Flux.just(body);
+                });
+    }
+
     /**
      * This function is responsible for preparing the action and datasource configurations to be ready for execution.
      *
@@ -0,0 +1,67 @@
+package com.appsmith.external.plugins;
+
+import io.micrometer.core.instrument.Metrics;
+import reactor.core.scheduler.Scheduler;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.appsmith.external.helpers.PluginUtils.getPositiveIntegerEnv;
+
+/**
+ * Schedulers that the plugins run their blocking calls on, one per plugin. Each scheduler has a bounded number of
+ * threads and a bounded queue, so that a burst of requests to one plugin can neither create an unbounded number of
+ * threads nor starve the other plugins. Requests that don't fit in the queue are rejected.
+ *
+ * The limits can be set with the `APPSMITH_PLUGIN_SCHEDULER_MAX_THREADS` and
+ * `APPSMITH_PLUGIN_SCHEDULER_MAX_QUEUED_TASKS_PER_THREAD` environment variables.
+ */
+public final class PluginSchedulers {
+
+    private static final String MAX_THREADS_VARIABLE = "APPSMITH_PLUGIN_SCHEDULER_MAX_THREADS";
+
+    private static final String MAX_QUEUED_TASKS_VARIABLE = "APPSMITH_PLUGIN_SCHEDULER_MAX_QUEUED_TASKS_PER_THREAD";
+
+    // Same as the number of threads of Reactor's bounded elastic scheduler, but for every plugin.
+    private static final int DEFAULT_MAX_THREADS = 10 * Runtime.getRuntime().availableProcessors();
+
+    private static final int DEFAULT_MAX_QUEUED_TASKS_PER_THREAD = 100;
+
+    // Threads that have been idle for this long are released.
+    private static final int THREAD_TTL_SECONDS = 60;
+
+    private static final Map<String, Scheduler> schedulers = new ConcurrentHashMap<>();
+
+    private PluginSchedulers() {
+    }
+
+    /**
+     * @param pluginName : Id of the plugin, as used to tag the metrics of its scheduler
+     * @return The scheduler of the plugin, which is created the first time it's asked for
+     */
+    public static Scheduler getScheduler(String pluginName) {
+        return schedulers.computeIfAbsent(pluginName, PluginSchedulers::createScheduler);
+    }
+
+    /**
+     * Shuts down the scheduler of the plugin, if it has one. Tasks that are still queued are dropped.
+     */
+    public static void dispose(String pluginName) {
+        final Scheduler scheduler = schedulers.remove(pluginName);
+        if (scheduler != null) {
+            scheduler.dispose();
+        }
+    }
+
+    private static Scheduler createScheduler(String pluginName) {
+        final int maxThreads = getPositiveIntegerEnv(MAX_THREADS_VARIABLE, DEFAULT_MAX_THREADS);
+        final int maxQueuedTasksPerThread = getPositiveIntegerEnv(MAX_QUEUED_TASKS_VARIABLE, DEFAULT_MAX_QUEUED_TASKS_PER_THREAD);
+
+        return new InstrumentedScheduler(
+                Schedulers.newBoundedElastic(maxThreads, maxQueuedTasksPerThread, pluginName, THREAD_TTL_SECONDS, true),
+                pluginName,
+                Metrics.globalRegistry
+        );
+    }
+}
@@ -4,15 +4,22 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.Param;
 
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
 
 public interface SmartSubstitutionInterface {
 
+    String PLACEHOLDER = "?";
+
     /**
      * !Warning! - This function changes the values of arraylist insertedParams which can then be returned
      * back to the caller with all the values that were finally put during substitution
+     *
+     * If the input is a String, every binding is substituted into the `?` placeholder at its position in the input,
+     * in a single pass over the input. For every other input, the input returned for a binding is passed on as the
+     * input for the next binding.
+     *
      * @param input
      * @param mustacheValuesInOrder
      * @param evaluatedParams
@@ -27,29 +34,85 @@ public interface SmartSubstitutionInterface {
                                                List<Map.Entry<String, String>> insertedParams,
                                                Object... args) throws AppsmithPluginException {
 
-        if (mustacheValuesInOrder != null && !mustacheValuesInOrder.isEmpty()) {
-
-            for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
-                String key = mustacheValuesInOrder.get(i);
-                Optional<Param> matchingParam = evaluatedParams.stream().filter(param -> param.getKey().trim().equals(key)).findFirst();
-
-                // If the evaluated value of the mustache binding is present, set it in the prepared statement
-                if (matchingParam.isPresent()) {
-                    String value = matchingParam.get().getValue();
-                    input = substituteValueInInput(i + 1, key,
-                            value, input, insertedParams, args);
-                } else {
-                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
-                            "Did not receive any information for the binding "
-                            + key + ". Please contact customer support at Appsmith.");
-                }
-            }
+        if (mustacheValuesInOrder == null || mustacheValuesInOrder.isEmpty()) {
+            return input;
+        }
+
+        final Map<String, String> paramValues = getParamValuesByKey(evaluatedParams);
+
+        if (input instanceof String) {
+            return substituteValuesInString((String) input, mustacheValuesInOrder, paramValues, insertedParams, args);
+        }
+
+        for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
+            String key = mustacheValuesInOrder.get(i);
+            String value = getParamValue(paramValues, key);
+            input = substituteValueInInput(i + 1, key, value, input, insertedParams, args);
         }
+
         return input;
     }
 
+    private String substituteValuesInString(String input,
+                                            List<String> mustacheValuesInOrder,
+                                            Map<String, String> paramValues,
+                                            List<Map.Entry<String, String>> insertedParams,
+                                            Object... args) throws AppsmithPluginException {
+
+        final StringBuilder output = new StringBuilder(input.length());
+        int position = 0;
+
+        for (int i = 0; i < mustacheValuesInOrder.size(); i++) {
+            String key = mustacheValuesInOrder.get(i);
+            String value = getParamValue(paramValues, key);
+            int placeholderIndex = input.indexOf(PLACEHOLDER, position);
+
+            if (placeholderIndex < 0) {
+                // There's no placeholder left for this binding. Substituting into an empty input still records the
+                // inserted parameter.
+                substituteValueInInput(i + 1, key, value, "", insertedParams, args);
+                continue;
+            }
+
+            // Only the placeholder is handed to the plugin, so that substituting a value doesn't copy the whole input.
+            output.append(input, position, placeholderIndex)
+                    .append(substituteValueInInput(i + 1, key, value, PLACEHOLDER, insertedParams, args));
+            position = placeholderIndex + PLACEHOLDER.length();
+        }
+
+        return output.append(input, position, input.length()).toString();
+    }
+
+    /**
+     * Indexes the evaluated params by their trimmed keys, so that every binding can be looked up in constant time. If
+     * there are multiple params with the same key, the first one is used.
+     */
+    private static Map<String, String> getParamValuesByKey(List<Param> evaluatedParams) {
+        final Map<String, String> paramValues = new HashMap<>();
+
+        if (evaluatedParams != null) {
+            for (Param param : evaluatedParams) {
+                paramValues.putIfAbsent(param.getKey().trim(), param.getValue());
+            }
+        }
+
+        return paramValues;
+    }
+
+    private static String getParamValue(Map<String, String> paramValues, String key) throws AppsmithPluginException {
+        final String value = paramValues.get(key);
+
+        if (value == null && !paramValues.containsKey(key)) {
+            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Uh oh! This is unexpected. " +
+                    "Did not receive any information for the binding "
+                    + key + ". Please contact customer support at Appsmith.");
+        }
+
+        return value;
+    }
+
     // Default implementation does not do any substitution. The plugin doing intelligent substitution is responsible
-    // for overriding this function.
+    // for overriding this function. For String inputs, the input is just the placeholder that the value replaces.
     default Object substituteValueInInput(int index, String binding, String value, Object input,
                                           List<Map.Entry<String, String>> insertedParams, Object... args) throws AppsmithPluginException {
         return input;
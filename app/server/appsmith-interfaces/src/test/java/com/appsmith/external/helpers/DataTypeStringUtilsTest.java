@@ -3,6 +3,13 @@ package com.appsmith.external.helpers;
 import com.appsmith.external.constants.DataType;
 import org.junit.Test;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static com.appsmith.external.helpers.DataTypeStringUtils.jsonSmartReplacementQuestionWithValue;
+import static com.appsmith.external.helpers.DataTypeStringUtils.jsonSmartReplacementQuestionWithValues;
 import static com.appsmith.external.helpers.DataTypeStringUtils.stringToKnownDataTypeConverter;
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -152,4 +159,48 @@ public class DataTypeStringUtilsTest {
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": \"\"}"));
         assertThat(DataType.JSON_OBJECT).isEqualByComparingTo(stringToKnownDataTypeConverter("{\"a\": []}"));
     }
+
+    @Test
+    public void testJsonSmartReplacementOfAllDataTypes() {
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+        String input = "{\"string\": ?, \"boolean\": ?, \"integer\": ?, \"null\": ?, \"date\": ?, " +
+                "\"object\": ?, \"array\": ?, \"escaped\": ?, \"question\": ?, \"dollar\": ?}";
+
+        String replaced = jsonSmartReplacementQuestionWithValues(input, Arrays.asList(
+                "this is a string! Yay :D",
+                "true",
+                "0",
+                "null",
+                "2021-03-24",
+                "{\"key\": \"value with $1 and \\\\\"}",
+                "[1, \"two\"]",
+                "line 1\n\"line 2\"\t\\",
+                "Why?",
+                "costs $5"
+        ), insertedParams);
+
+        assertThat(replaced).isEqualTo("{\"string\": \"this is a string! Yay :D\", \"boolean\": true, \"integer\": 0, " +
+                "\"null\": null, \"date\": \"2021-03-24\", \"object\": {\"key\":\"value with $1 and \\\\\"}, " +
+                "\"array\": [1,\"two\"], \"escaped\": \"line 1\\n\\\"line 2\\\"\\t\\\\\", " +
+                "\"question\": \"Why?\", \"dollar\": \"costs $5\"}");
+
+        assertThat(insertedParams).hasSize(10);
+        assertThat(insertedParams.get(0).getValue()).isEqualTo("STRING");
+        assertThat(insertedParams.get(1).getValue()).isEqualTo("BOOLEAN");
+        assertThat(insertedParams.get(5).getValue()).isEqualTo("JSON_OBJECT");
+        assertThat(insertedParams.get(6).getValue()).isEqualTo("ARRAY");
+    }
+
+    @Test
+    public void testJsonSmartReplacementOfFirstPlaceholder() {
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+
+        String replaced = jsonSmartReplacementQuestionWithValue("{\"a\": ?, \"b\": ?}", "1", insertedParams);
+        assertThat(replaced).isEqualTo("{\"a\": 1, \"b\": ?}");
+
+        // Values for which there's no placeholder are still recorded.
+        replaced = jsonSmartReplacementQuestionWithValue("{}", "1", insertedParams);
+        assertThat(replaced).isEqualTo("{}");
+        assertThat(insertedParams).hasSize(2);
+    }
 }
@@ -0,0 +1,100 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
+
+import java.time.Duration;
+import java.util.concurrent.TimeoutException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class HttpConnectionPoolTest {
+
+    private DisposableServer server;
+
+    private MeterRegistry meterRegistry;
+
+    private HttpConnectionPool pool;
+
+    @Before
+    public void setUp() {
+        server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/fast", (request, response) -> response.sendString(Mono.just("fast")))
+                        .get("/slow", (request, response) -> response.sendString(
+                                Mono.just("slow").delayElement(Duration.ofSeconds(2)))))
+                .bindNow();
+
+        meterRegistry = new SimpleMeterRegistry();
+
+        final ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMaximumPoolSize(1);
+        connectionPool.setConnectionTimeoutInMillisecond(200);
+        final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnectionPool(connectionPool);
+
+        pool = new HttpConnectionPool(meterRegistry, "test-plugin", "test-pool", datasourceConfiguration,
+                PluginUtils.getMaximumPoolSize(datasourceConfiguration), false);
+    }
+
+    @After
+    public void tearDown() {
+        pool.dispose();
+        server.disposeNow();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("pool", "test-pool").gauge().value();
+    }
+
+    private Mono<String> get(String path) {
+        return pool.getHttpClient()
+                .get()
+                .uri("http://localhost:" + server.port() + path)
+                .responseContent()
+                .aggregate()
+                .asString();
+    }
+
+    @Test
+    public void testConnectionsAreReusedAndCounted() {
+        assertThat(get("/fast").block()).isEqualTo("fast");
+        assertThat(get("/fast").block()).isEqualTo("fast");
+
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.WAIT_TIME_METRIC_NAME).timer().count()).isEqualTo(2);
+        assertThat(gauge(ConnectionPoolMetrics.PENDING_CONNECTIONS_METRIC_NAME)).isEqualTo(0);
+        assertThat(gauge(ConnectionPoolMetrics.ACTIVE_CONNECTIONS_METRIC_NAME)
+                + gauge(ConnectionPoolMetrics.IDLE_CONNECTIONS_METRIC_NAME)).isEqualTo(1);
+    }
+
+    @Test
+    public void testWaitingForAConnectionTimesOut() {
+        get("/slow").subscribe();
+
+        assertThatThrownBy(() -> get("/fast").block())
+                .hasCauseInstanceOf(TimeoutException.class);
+
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.TIMEOUTS_METRIC_NAME).counter().count()).isEqualTo(1);
+        assertThat(gauge(ConnectionPoolMetrics.PENDING_CONNECTIONS_METRIC_NAME)).isEqualTo(0);
+    }
+
+    @Test
+    public void testMetersAreRemovedOnDispose() {
+        assertThat(meterRegistry.getMeters()).hasSize(5);
+
+        pool.dispose();
+
+        assertThat(pool.isDisposed()).isTrue();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
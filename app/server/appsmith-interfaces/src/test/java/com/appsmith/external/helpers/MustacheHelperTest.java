@@ -628,4 +628,15 @@ public class MustacheHelperTest {
         assertThat(rendered).isEqualTo("leading value1 and then value2 tailing.");
     }
 
+    @Test
+    public void renderSameTemplateRepeatedly() {
+        final String template = "leading {{ key1 }} and then {{key2}} &amp; tailing.";
+
+        assertThat(render(template, Map.of("key1", "value1", "key2", "value2")))
+                .isEqualTo("leading value1 and then value2 & tailing.");
+        assertThat(render(template, Map.of("key1", "other1", "key2", "other2")))
+                .isEqualTo("leading other1 and then other2 & tailing.");
+        assertThat(extractMustacheKeys(template)).isEqualTo(Set.of("key1", "key2"));
+    }
+
 }
@@ -0,0 +1,334 @@
+package com.appsmith.external.helpers;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.PaginationType;
+import com.appsmith.external.models.Property;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.zaxxer.hikari.metrics.IMetricsTracker;
+import com.zaxxer.hikari.metrics.PoolStats;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Test;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getDatasourceConfigurationWithinPoolLimits;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
+import static com.appsmith.external.helpers.PluginUtils.getRowLimit;
+import static com.appsmith.external.helpers.PluginUtils.getRowOffset;
+import static com.appsmith.external.helpers.PluginUtils.putColumnValue;
+import static com.appsmith.external.helpers.PluginUtils.setRowLimits;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class PluginUtilsTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    public void checkPutColumnValueMatchesObjectMapper() {
+        Map<String, Object> rowMap = new LinkedHashMap<>();
+        rowMap.put("id", 1);
+        rowMap.put("big_id", 12345678901L);
+        rowMap.put("name", "Appsmith");
+        rowMap.put("rating", 4.5);
+        rowMap.put("score", 3.5f);
+        rowMap.put("active", true);
+        rowMap.put("deleted_at", null);
+        rowMap.put("price", new BigDecimal("10.50"));
+        rowMap.put("tags", new String[]{"a", "b"});
+        rowMap.put("meta", objectMapper.createObjectNode().put("key", "value"));
+        rowMap.put("items", List.of(1, 2));
+
+        ObjectNode row = objectMapper.createObjectNode();
+        rowMap.forEach((columnName, value) -> putColumnValue(row, columnName, value, objectMapper));
+
+        assertThat(row).isEqualTo(objectMapper.valueToTree(rowMap));
+        assertThat(row.toString()).isEqualTo(objectMapper.valueToTree(rowMap).toString());
+    }
+
+    @Test
+    public void checkRowLimitAndOffsetWithoutPagination() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPageNumber(3);
+
+        assertThat(getRowLimit(actionConfiguration)).isEqualTo(0);
+        assertThat(getRowOffset(actionConfiguration, executeActionDTO)).isEqualTo(0);
+
+        actionConfiguration.setRowLimit(100);
+        assertThat(getRowLimit(actionConfiguration)).isEqualTo(100);
+        assertThat(getRowOffset(actionConfiguration, executeActionDTO)).isEqualTo(0);
+    }
+
+    @Test
+    public void checkRowLimitAndOffsetWithPagination() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.PAGE_NO);
+        actionConfiguration.setPageSize(20);
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+
+        assertThat(getRowLimit(actionConfiguration)).isEqualTo(20);
+        assertThat(getRowOffset(actionConfiguration, executeActionDTO)).isEqualTo(0);
+        assertThat(getRowOffset(actionConfiguration, null)).isEqualTo(0);
+
+        executeActionDTO.setPageNumber(3);
+        assertThat(getRowOffset(actionConfiguration, executeActionDTO)).isEqualTo(40);
+
+        // The row limit set by the admin applies to the pages as well.
+        actionConfiguration.setRowLimit(10);
+        assertThat(getRowLimit(actionConfiguration)).isEqualTo(10);
+    }
+
+    @Test
+    public void checkRowOffsetOfLastPages() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.PAGE_NO);
+        actionConfiguration.setPageSize(1000);
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+
+        executeActionDTO.setPageNumber(Integer.MAX_VALUE / 1000 + 1);
+        assertThat(getRowOffset(actionConfiguration, executeActionDTO)).isEqualTo(Integer.MAX_VALUE / 1000 * 1000);
+
+        // The offset of the page doesn't fit in an int.
+        executeActionDTO.setPageNumber(Integer.MAX_VALUE / 1000 + 2);
+        assertThatThrownBy(() -> getRowOffset(actionConfiguration, executeActionDTO))
+                .isInstanceOf(AppsmithPluginException.class)
+                .matches(error -> ((AppsmithPluginException) error).getError()
+                        == AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR);
+
+        executeActionDTO.setPageNumber(Integer.MAX_VALUE);
+        assertThatThrownBy(() -> getRowOffset(actionConfiguration, executeActionDTO))
+                .isInstanceOf(AppsmithPluginException.class);
+    }
+
+    @Test
+    public void checkMaxRowsOfLastPage() throws SQLException {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPaginationType(PaginationType.PAGE_NO);
+        actionConfiguration.setPageSize(1000);
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPageNumber(Integer.MAX_VALUE / 1000 + 1);
+
+        final List<Object> maxRows = new ArrayList<>();
+        Statement statement = (Statement) Proxy.newProxyInstance(Statement.class.getClassLoader(),
+                new Class[]{Statement.class},
+                (proxy, method, args) -> {
+                    if ("setMaxRows".equals(method.getName())) {
+                        maxRows.add(args[0]);
+                    }
+                    return null;
+                });
+
+        // The page ends past the most rows that can be read.
+        setRowLimits(statement, actionConfiguration, executeActionDTO);
+        assertThat(maxRows).containsExactly(Integer.MAX_VALUE);
+    }
+
+    private static ConnectionPoolConfiguration connectionPool(Integer minimumPoolSize, Integer maximumPoolSize) {
+        ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMinimumPoolSize(minimumPoolSize);
+        connectionPool.setMaximumPoolSize(maximumPoolSize);
+        return connectionPool;
+    }
+
+    @Test
+    public void checkConnectionPoolSizes() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+
+        assertThat(getMaximumPoolSize(datasourceConfiguration)).isEqualTo(5);
+        assertThat(getMinimumPoolSize(datasourceConfiguration)).isEqualTo(1);
+        assertThat(getConnectionTimeout(datasourceConfiguration)).isEqualTo(30 * 1000);
+        assertThat(getIdleTimeout(datasourceConfiguration)).isEqualTo(10 * 60 * 1000);
+        assertThat(getMaxLifetime(datasourceConfiguration)).isEqualTo(30 * 60 * 1000);
+
+        datasourceConfiguration.setConnectionPool(connectionPool(2, 20));
+        datasourceConfiguration.getConnectionPool().setConnectionTimeoutInMillisecond(1000);
+        assertThat(getMaximumPoolSize(datasourceConfiguration)).isEqualTo(20);
+        assertThat(getMinimumPoolSize(datasourceConfiguration)).isEqualTo(2);
+        assertThat(getConnectionTimeout(datasourceConfiguration)).isEqualTo(1000);
+
+        // Sizes that the pool can't work with fall back to the defaults, and the minimum never exceeds the maximum.
+        datasourceConfiguration.setConnectionPool(connectionPool(10, 0));
+        assertThat(getMaximumPoolSize(datasourceConfiguration)).isEqualTo(5);
+        assertThat(getMinimumPoolSize(datasourceConfiguration)).isEqualTo(5);
+
+        datasourceConfiguration.setConnectionPool(connectionPool(-1, null));
+        assertThat(getMaximumPoolSize(datasourceConfiguration)).isEqualTo(5);
+        assertThat(getMinimumPoolSize(datasourceConfiguration)).isEqualTo(1);
+
+        datasourceConfiguration.setConnectionPool(connectionPool(0, 3));
+        assertThat(getMinimumPoolSize(datasourceConfiguration)).isEqualTo(0);
+    }
+
+    @Test
+    public void checkConnectionPoolWithinLimits() {
+        DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setUrl("jdbc:postgresql://localhost/test");
+        datasourceConfiguration.setConnectionPool(connectionPool(8, 50));
+        datasourceConfiguration.getConnectionPool().setMaxLifetimeInMillisecond(60 * 60 * 1000);
+
+        ConnectionPoolConfiguration ceilings = connectionPool(null, 10);
+        ceilings.setMaxLifetimeInMillisecond(15 * 60 * 1000);
+
+        DatasourceConfiguration limited = getDatasourceConfigurationWithinPoolLimits(
+                datasourceConfiguration, ceilings, "datasource-id");
+
+        assertThat(limited.getUrl()).isEqualTo("jdbc:postgresql://localhost/test");
+        assertThat(limited.getConnectionPool().getName()).isEqualTo("datasource-id");
+        assertThat(getMaximumPoolSize(limited)).isEqualTo(10);
+        assertThat(getMinimumPoolSize(limited)).isEqualTo(8);
+        assertThat(getMaxLifetime(limited)).isEqualTo(15 * 60 * 1000);
+        assertThat(getConnectionTimeout(limited)).isEqualTo(30 * 1000);
+
+        // The minimum follows the capped maximum.
+        limited = getDatasourceConfigurationWithinPoolLimits(datasourceConfiguration, connectionPool(null, 4), null);
+        assertThat(getMaximumPoolSize(limited)).isEqualTo(4);
+        assertThat(getMinimumPoolSize(limited)).isEqualTo(4);
+
+        // Without ceilings, only the defaults are filled in.
+        limited = getDatasourceConfigurationWithinPoolLimits(new DatasourceConfiguration(), null, null);
+        assertThat(limited.getConnectionPool().getMaximumPoolSize()).isEqualTo(5);
+        assertThat(limited.getConnectionPool().getMinimumPoolSize()).isEqualTo(1);
+
+        // The configuration of the datasource itself is left as it was.
+        assertThat(datasourceConfiguration.getConnectionPool().getMaximumPoolSize()).isEqualTo(50);
+        assertThat(datasourceConfiguration.getConnectionPool().getMaxLifetimeInMillisecond()).isEqualTo(60 * 60 * 1000);
+        assertThat(datasourceConfiguration.getConnectionPool().getName()).isNull();
+    }
+
+    @Test
+    public void checkConnectionPoolWithinLimitsWithPluginDefaults() {
+        final ConnectionPoolConfiguration defaults = HttpConnectionPool.getDefaultConfiguration();
+
+        // Settings that the datasource doesn't configure take the defaults of the plugin, still within the ceilings.
+        DatasourceConfiguration limited = getDatasourceConfigurationWithinPoolLimits(
+                new DatasourceConfiguration(), connectionPool(null, 100), defaults, "datasource-id");
+        assertThat(getMaximumPoolSize(limited)).isEqualTo(Math.min(100, defaults.getMaximumPoolSize()));
+        assertThat(getConnectionTimeout(limited)).isEqualTo(defaults.getConnectionTimeoutInMillisecond().longValue());
+        assertThat(getIdleTimeout(limited)).isEqualTo(10 * 60 * 1000);
+        assertThat(limited.getConnectionPool().getName()).isEqualTo("datasource-id");
+
+        // Settings that the datasource configures are kept.
+        final DatasourceConfiguration datasourceConfiguration = new DatasourceConfiguration();
+        datasourceConfiguration.setConnectionPool(connectionPool(null, 8));
+        datasourceConfiguration.getConnectionPool().setConnectionTimeoutInMillisecond(1000);
+        limited = getDatasourceConfigurationWithinPoolLimits(datasourceConfiguration, null, defaults, null);
+        assertThat(getMaximumPoolSize(limited)).isEqualTo(8);
+        assertThat(getConnectionTimeout(limited)).isEqualTo(1000);
+
+        // Without defaults of the plugin, the database defaults apply.
+        limited = getDatasourceConfigurationWithinPoolLimits(new DatasourceConfiguration(), null, null, null);
+        assertThat(getMaximumPoolSize(limited)).isEqualTo(5);
+        assertThat(getConnectionTimeout(limited)).isEqualTo(30 * 1000);
+    }
+
+    @Test
+    public void checkConnectionPoolMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DatasourceConfiguration datasourceConfiguration = getDatasourceConfigurationWithinPoolLimits(
+                new DatasourceConfiguration(), null, "datasource-id");
+
+        ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(meterRegistry, "postgres-plugin", "PostgresPool-1",
+                datasourceConfiguration, () -> 3, () -> 2, () -> 1);
+        metrics.recordWaitTime(TimeUnit.MILLISECONDS.toNanos(5));
+        metrics.recordTimeout();
+
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.ACTIVE_CONNECTIONS_METRIC_NAME)
+                .tag("plugin", "postgres-plugin")
+                .tag("datasource", "datasource-id")
+                .tag("pool", "PostgresPool-1")
+                .gauge().value()).isEqualTo(3);
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.IDLE_CONNECTIONS_METRIC_NAME).gauge().value()).isEqualTo(2);
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.PENDING_CONNECTIONS_METRIC_NAME).gauge().value()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.WAIT_TIME_METRIC_NAME).timer().count()).isEqualTo(1);
+        assertThat(meterRegistry.get(ConnectionPoolMetrics.TIMEOUTS_METRIC_NAME).counter().count()).isEqualTo(1);
+
+        metrics.close();
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+
+    @Test
+    public void checkHikariConnectionPoolMetrics() {
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        Metrics.addRegistry(meterRegistry);
+        try {
+            DatasourceConfiguration datasourceConfiguration = getDatasourceConfigurationWithinPoolLimits(
+                    new DatasourceConfiguration(), null, "datasource-id");
+            PoolStats poolStats = new PoolStats(0) {
+                @Override
+                protected void update() {
+                    activeConnections = 4;
+                    pendingThreads = 2;
+                }
+            };
+
+            IMetricsTracker tracker = HikariConnectionPoolMetrics.trackerFactory("postgres-plugin", datasourceConfiguration)
+                    .create("PostgresPool-1", poolStats);
+            tracker.recordConnectionAcquiredNanos(TimeUnit.MILLISECONDS.toNanos(5));
+            tracker.recordConnectionTimeout();
+
+            assertThat(meterRegistry.get(ConnectionPoolMetrics.ACTIVE_CONNECTIONS_METRIC_NAME)
+                    .tag("plugin", "postgres-plugin")
+                    .tag("datasource", "datasource-id")
+                    .tag("pool", "PostgresPool-1")
+                    .gauge().value()).isEqualTo(4);
+            assertThat(meterRegistry.get(ConnectionPoolMetrics.PENDING_CONNECTIONS_METRIC_NAME).gauge().value()).isEqualTo(2);
+            assertThat(meterRegistry.get(ConnectionPoolMetrics.WAIT_TIME_METRIC_NAME).timer().count()).isEqualTo(1);
+            assertThat(meterRegistry.get(ConnectionPoolMetrics.TIMEOUTS_METRIC_NAME).counter().count()).isEqualTo(1);
+
+            tracker.close();
+            assertThat(meterRegistry.getMeters()).isEmpty();
+        } finally {
+            Metrics.removeRegistry(meterRegistry);
+        }
+    }
+
+    @Test
+    public void checkGetPropertyValue() {
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("query", " SELECT 1 "));
+        properties.add(null);
+        properties.add(new Property("fetchAll", true));
+        properties.add(new Property("limit", null));
+
+        assertThat(getPropertyValue(properties, 0)).isEqualTo("SELECT 1");
+        assertThat(getPropertyValue(properties, 1)).isNull();
+        assertThat(getPropertyValue(properties, 2)).isEqualTo("true");
+        assertThat(getPropertyValue(properties, 3)).isNull();
+        assertThat(getPropertyValue(properties, 4)).isNull();
+        assertThat(getPropertyValue(null, 0)).isNull();
+        assertThat(getPropertyValue(properties, 3, "10")).isEqualTo("10");
+    }
+
+    @Test
+    public void checkGetPositiveNumber() {
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", null, 10, Integer.MAX_VALUE)).isEqualTo(10);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", " 25 ", 10, Integer.MAX_VALUE)).isEqualTo(25);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", "0", 10, Integer.MAX_VALUE)).isEqualTo(10);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", "-5", 10, Integer.MAX_VALUE)).isEqualTo(10);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", "ten", 10, Integer.MAX_VALUE)).isEqualTo(10);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", "3000000000", 10, Integer.MAX_VALUE)).isEqualTo(10);
+        assertThat(PluginUtils.getPositiveNumber("VARIABLE", "3000000000", 10, Long.MAX_VALUE)).isEqualTo(3000000000L);
+    }
+}
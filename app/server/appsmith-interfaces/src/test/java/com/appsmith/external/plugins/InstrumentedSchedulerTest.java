@@ -0,0 +1,94 @@
+package com.appsmith.external.plugins;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.After;
+import org.junit.Before;
+import org.junit.Test;
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class InstrumentedSchedulerTest {
+
+    private MeterRegistry meterRegistry;
+
+    private InstrumentedScheduler scheduler;
+
+    @Before
+    public void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        // A single thread, with room for a single queued task.
+        scheduler = new InstrumentedScheduler(Schedulers.newBoundedElastic(1, 1, "test-plugin"),
+                "test-plugin", meterRegistry);
+    }
+
+    @After
+    public void tearDown() {
+        scheduler.dispose();
+    }
+
+    private double gauge(String name) {
+        return meterRegistry.get(name).tag("plugin", "test-plugin").gauge().value();
+    }
+
+    @Test
+    public void testTasksAreRunAndTimed() {
+        String threadName = Mono.fromCallable(() -> Thread.currentThread().getName())
+                .subscribeOn(scheduler)
+                .block();
+
+        assertThat(threadName).startsWith("test-plugin");
+
+        assertThat(meterRegistry.get(InstrumentedScheduler.WAIT_TIME_METRIC_NAME).timer().count()).isEqualTo(1);
+        assertThat(gauge(InstrumentedScheduler.QUEUED_TASKS_METRIC_NAME)).isEqualTo(0);
+    }
+
+    @Test
+    public void testTasksBeyondTheQueueAreRejected() throws InterruptedException {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        scheduler.schedule(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        Disposable queuedTask = scheduler.schedule(() -> { });
+        assertThatThrownBy(() -> scheduler.schedule(() -> { }))
+                .isInstanceOf(RejectedExecutionException.class)
+                .hasMessageContaining("test-plugin");
+
+        assertThat(gauge(InstrumentedScheduler.ACTIVE_TASKS_METRIC_NAME)).isEqualTo(1);
+        assertThat(gauge(InstrumentedScheduler.QUEUED_TASKS_METRIC_NAME)).isEqualTo(1);
+        assertThat(meterRegistry.get(InstrumentedScheduler.REJECTED_TASKS_METRIC_NAME).counter().count())
+                .isEqualTo(1);
+
+        // A queued task that's cancelled leaves the queue.
+        queuedTask.dispose();
+        assertThat(gauge(InstrumentedScheduler.QUEUED_TASKS_METRIC_NAME)).isEqualTo(0);
+
+        release.countDown();
+    }
+
+    @Test
+    public void testMetersAreRemovedOnDispose() {
+        assertThat(meterRegistry.getMeters()).hasSize(4);
+
+        scheduler.dispose();
+
+        assertThat(meterRegistry.getMeters()).isEmpty();
+    }
+}
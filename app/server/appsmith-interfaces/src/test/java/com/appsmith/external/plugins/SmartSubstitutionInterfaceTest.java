@@ -0,0 +1,106 @@
+package com.appsmith.external.plugins;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.models.Param;
+import org.junit.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+public class SmartSubstitutionInterfaceTest {
+
+    private final SmartSubstitutionInterface jsonSubstitution = new SmartSubstitutionInterface() {
+        @Override
+        public Object substituteValueInInput(int index,
+                                             String binding,
+                                             String value,
+                                             Object input,
+                                             List<Map.Entry<String, String>> insertedParams,
+                                             Object... args) {
+            return DataTypeStringUtils.jsonSmartReplacementQuestionWithValue((String) input, value, insertedParams);
+        }
+    };
+
+    private static Param param(String key, String value) {
+        Param param = new Param();
+        param.setKey(key);
+        param.setValue(value);
+        return param;
+    }
+
+    @Test
+    public void substituteBindingsInString() throws AppsmithPluginException {
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+
+        Object substituted = jsonSubstitution.smartSubstitutionOfBindings(
+                "{\"question\": ?, \"count\": ?, \"active\": ?}",
+                List.of("Input1.text", "Input2.text", "Input1.text"),
+                List.of(param(" Input1.text ", "Why?"), param("Input2.text", "10"), param("Input1.text", "ignored")),
+                insertedParams
+        );
+
+        // The placeholder in the value of the first binding must not be substituted into.
+        assertThat(substituted).isEqualTo("{\"question\": \"Why?\", \"count\": 10, \"active\": \"Why?\"}");
+        assertThat(insertedParams).hasSize(3);
+        assertThat(insertedParams.get(0).getValue()).isEqualTo("STRING");
+        assertThat(insertedParams.get(1).getValue()).isEqualTo("INTEGER");
+    }
+
+    @Test
+    public void substituteBindingsWithoutPlaceholders() throws AppsmithPluginException {
+        List<Map.Entry<String, String>> insertedParams = new ArrayList<>();
+
+        Object substituted = jsonSubstitution.smartSubstitutionOfBindings(
+                "{\"key\": ?}",
+                List.of("Input1.text", "Input2.text"),
+                List.of(param("Input1.text", "true"), param("Input2.text", "false")),
+                insertedParams
+        );
+
+        assertThat(substituted).isEqualTo("{\"key\": true}");
+        assertThat(insertedParams).hasSize(2);
+    }
+
+    @Test
+    public void substituteBindingsInOtherInputs() throws AppsmithPluginException {
+        SmartSubstitutionInterface appendingSubstitution = new SmartSubstitutionInterface() {
+            @Override
+            public Object substituteValueInInput(int index,
+                                                 String binding,
+                                                 String value,
+                                                 Object input,
+                                                 List<Map.Entry<String, String>> insertedParams,
+                                                 Object... args) {
+                ((List<String>) input).add(index + ":" + value);
+                return input;
+            }
+        };
+
+        Object substituted = appendingSubstitution.smartSubstitutionOfBindings(
+                new ArrayList<String>(),
+                List.of("a", "b"),
+                List.of(param("b", "2"), param("a", "1")),
+                new ArrayList<>()
+        );
+
+        assertThat(substituted).isEqualTo(List.of("1:1", "2:2"));
+    }
+
+    @Test
+    public void missingBindingFails() {
+        assertThatThrownBy(() -> jsonSubstitution.smartSubstitutionOfBindings(
+                "{\"key\": ?}",
+                List.of("Input1.text"),
+                List.of(param("Input2.text", "1")),
+                new ArrayList<>()
+        ))
+                .isInstanceOf(AppsmithPluginException.class)
+                .hasMessageContaining("Input1.text");
+    }
+
+}
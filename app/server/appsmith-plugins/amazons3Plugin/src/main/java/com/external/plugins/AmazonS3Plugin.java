@@ -7,16 +7,19 @@ import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.regions.Regions;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
 import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
 import com.amazonaws.services.s3.model.ObjectListing;
 import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
-import com.amazonaws.services.s3.transfer.TransferManager;
-import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
-import com.amazonaws.util.IOUtils;
+import com.amazonaws.services.s3.model.UploadPartRequest;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -36,30 +39,36 @@ import org.apache.commons.lang.StringUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
-import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.URL;
+import java.nio.charset.StandardCharsets;
 import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.util.ArrayList;
-import java.util.Arrays;
 import java.util.Base64;
 import java.util.Calendar;
+import java.util.Comparator;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static com.appsmith.external.helpers.PluginUtils.getActionConfigurationPropertyPath;
+import static com.appsmith.external.helpers.PluginUtils.getPositiveLongEnv;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
 
 public class AmazonS3Plugin extends BasePlugin {
 
@@ -72,6 +81,8 @@ public class AmazonS3Plugin extends BasePlugin {
     private static final int READ_WITH_BASE64_ENCODING_PROPERTY_INDEX = 5;
     private static final int USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX = 6;
     private static final int URL_EXPIRY_DURATION_FOR_UPLOAD_PROPERTY_INDEX = 7;
+    private static final int BYTE_RANGE_PROPERTY_INDEX = 8;
+    private static final int MAX_LISTED_FILES_PROPERTY_INDEX = 9;
     private static final int AWS_S3_REGION_PROPERTY_INDEX = 0;
     private static final int S3_SERVICE_PROVIDER_PROPERTY_INDEX = 1;
     private static final int CUSTOM_ENDPOINT_REGION_PROPERTY_INDEX = 2;
@@ -81,6 +92,15 @@ public class AmazonS3Plugin extends BasePlugin {
     private static final String NO = "NO";
     private static final String BASE64_DELIMITER = ";base64,";
     private static final String AMAZON_S3_SERVICE_PROVIDER = "amazon-s3";
+    private static final String PLUGIN_NAME = "amazons3-plugin";
+    private static final int DEFAULT_MAX_LISTED_FILES = 10000;
+    // Parts of a multipart upload must be at least 5 MB, except for the last one.
+    private static final int UPLOAD_PART_SIZE = 8 * 1024 * 1024;
+    private static final int MAX_CONCURRENT_PART_UPLOADS = 4;
+    private static final int READ_BUFFER_SIZE = 64 * 1024;
+    private static final String MAX_READ_SIZE_VARIABLE = "APPSMITH_S3_MAX_READ_SIZE_IN_BYTES";
+    private static final long DEFAULT_MAX_READ_SIZE = 100L * 1024 * 1024;
+    private static final Pattern BYTE_RANGE_PATTERN = Pattern.compile("^\\s*(\\d+)\\s*-\\s*(\\d*)\\s*$");
 
     public AmazonS3Plugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -89,7 +109,9 @@ public class AmazonS3Plugin extends BasePlugin {
     @Slf4j
     @Extension
     public static class S3PluginExecutor implements PluginExecutor<AmazonS3> {
-        private final Scheduler scheduler = Schedulers.elastic();
+        private static final long MAX_READ_SIZE = getPositiveLongEnv(MAX_READ_SIZE_VARIABLE, DEFAULT_MAX_READ_SIZE);
+
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         /*
          * - Exception thrown by this method is expected to be handled by the caller.
@@ -117,7 +139,8 @@ public class AmazonS3Plugin extends BasePlugin {
          */
         ArrayList<String> listAllFilesInBucket(AmazonS3 connection,
                                                String bucketName,
-                                               String prefix) throws AppsmithPluginException {
+                                               String prefix,
+                                               int maxFiles) throws AppsmithPluginException {
             if (connection == null) {
                 throw new AppsmithPluginException(
                         AppsmithPluginError.PLUGIN_ERROR,
@@ -153,11 +176,16 @@ public class AmazonS3Plugin extends BasePlugin {
             ObjectListing result = connection.listObjects(bucketName, prefix);
             ArrayList<String> fileList = new ArrayList<>(getFilenamesFromObjectListing(result));
 
-            while (result.isTruncated()) {
+            // Listings are truncated at 1000 files, and continued with the next batch until the end, or the maximum.
+            while (result.isTruncated() && fileList.size() < maxFiles) {
                 result = connection.listNextBatchOfObjects(result);
                 fileList.addAll(getFilenamesFromObjectListing(result));
             }
 
+            if (fileList.size() > maxFiles) {
+                return new ArrayList<>(fileList.subList(0, maxFiles));
+            }
+
             return fileList;
         }
 
@@ -181,18 +209,19 @@ public class AmazonS3Plugin extends BasePlugin {
         }
 
         /*
-         * - Throws exception on upload failure.
-         * - Returns signed url of the created file on success.
+         * - The content is read from the body in parts as they are uploaded, so that only a few parts are held in memory
+         *   at a time, however large the file is. Content that fits in a single part is uploaded with a single request.
+         * - Emits an error on upload failure.
+         * - Emits the signed url of the created file on success.
          */
-        String uploadFileFromBody(AmazonS3 connection,
-                                  String bucketName,
-                                  String path,
-                                  String body,
-                                  Boolean usingFilePicker,
-                                  Date expiryDateTime)
-                throws InterruptedException, AppsmithPluginException {
-
-            byte[] payload;
+        Mono<String> uploadFileFromBody(AmazonS3 connection,
+                                        String bucketName,
+                                        String path,
+                                        String body,
+                                        Boolean usingFilePicker,
+                                        Date expiryDateTime) {
+
+            final UploadPayload payload;
             if (Boolean.TRUE.equals(usingFilePicker)) {
                 String encodedPayload = body;
                 /*
@@ -200,59 +229,214 @@ public class AmazonS3Plugin extends BasePlugin {
                  *   base64-encoded-payload>".
                  * - Strip off the redundant part in the beginning to get actual payload.
                  */
-                if (body.contains(BASE64_DELIMITER)) {
-                    List<String> bodyArrayList = Arrays.asList(body.split(BASE64_DELIMITER));
-                    encodedPayload = bodyArrayList.get(bodyArrayList.size() - 1);
+                final int delimiterIndex = body.lastIndexOf(BASE64_DELIMITER);
+                if (delimiterIndex >= 0) {
+                    encodedPayload = body.substring(delimiterIndex + BASE64_DELIMITER.length());
                 }
 
-                try {
-                    payload = Base64.getDecoder().decode(encodedPayload);
-                } catch (IllegalArgumentException e) {
-                    throw new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            "File content is not base64 encoded. File content needs to be base64 encoded when the " +
-                                    "'File Data Type: Base64/Text' field is selected 'Yes'."
-                    );
-                }
+                payload = UploadPayload.fromBase64(encodedPayload);
             } else {
-                payload = body.getBytes();
+                payload = UploadPayload.fromText(body);
             }
 
-            InputStream inputStream = new ByteArrayInputStream(payload);
-            TransferManager transferManager = TransferManagerBuilder.standard().withS3Client(connection).build();
-            transferManager.upload(bucketName, path, inputStream, new ObjectMetadata()).waitForUploadResult();
+            return Mono.fromCallable(() -> {
+                final byte[] firstPart = payload.nextPart(UPLOAD_PART_SIZE);
+                return firstPart == null ? new byte[0] : firstPart;
+            })
+                    .flatMap(firstPart -> {
+                        if (payload.hasRemaining()) {
+                            return uploadInParts(connection, bucketName, path, firstPart, payload);
+                        }
 
-            ArrayList<String> listOfFiles = new ArrayList<>();
-            listOfFiles.add(path);
-            ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
-            if (listOfUrls.size() != 1) {
-                throw new AppsmithPluginException(
-                        AppsmithPluginError.PLUGIN_ERROR,
-                        "Appsmith has encountered an unexpected error when fetching url from AmazonS3 after file " +
-                                "creation. Please reach out to Appsmith customer support to resolve this."
-                );
-            }
-            String signedUrl = listOfUrls.get(0);
+                        return Mono.fromCallable(() -> {
+                            ObjectMetadata metadata = new ObjectMetadata();
+                            metadata.setContentLength(firstPart.length);
+                            return connection.putObject(bucketName, path, new ByteArrayInputStream(firstPart), metadata);
+                        }).then();
+                    })
+                    .then(Mono.fromCallable(() -> {
+                        ArrayList<String> listOfFiles = new ArrayList<>();
+                        listOfFiles.add(path);
+                        ArrayList<String> listOfUrls = getSignedUrls(connection, bucketName, listOfFiles, expiryDateTime);
+                        if (listOfUrls.size() != 1) {
+                            throw new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_ERROR,
+                                    "Appsmith has encountered an unexpected error when fetching url from AmazonS3 after file " +
+                                            "creation. Please reach out to Appsmith customer support to resolve this."
+                            );
+                        }
+
+                        return listOfUrls.get(0);
+                    }));
+        }
 
-            return signedUrl;
+        /*
+         * - Uploads the parts of the payload in parallel, at most MAX_CONCURRENT_PART_UPLOADS at a time. The next parts
+         *   are only read from the payload as the uploads of the previous ones are done.
+         * - The multipart upload is aborted if any part fails, so that its parts aren't left stored, and billed, in the
+         *   bucket.
+         */
+        private Mono<Void> uploadInParts(AmazonS3 connection,
+                                         String bucketName,
+                                         String path,
+                                         byte[] firstPart,
+                                         UploadPayload payload) {
+
+            return Mono.fromCallable(() -> connection
+                    .initiateMultipartUpload(new InitiateMultipartUploadRequest(bucketName, path))
+                    .getUploadId())
+                    .flatMap(uploadId -> Flux.concat(
+                            Mono.just(firstPart),
+                            Flux.<byte[]>generate(sink -> {
+                                final byte[] part = payload.nextPart(UPLOAD_PART_SIZE);
+                                if (part == null) {
+                                    sink.complete();
+                                } else {
+                                    sink.next(part);
+                                }
+                            }))
+                            .index()
+                            .flatMap(part -> Mono.fromCallable(() -> connection
+                                            .uploadPart(new UploadPartRequest()
+                                                    .withBucketName(bucketName)
+                                                    .withKey(path)
+                                                    .withUploadId(uploadId)
+                                                    .withPartNumber(part.getT1().intValue() + 1)
+                                                    .withPartSize(part.getT2().length)
+                                                    .withInputStream(new ByteArrayInputStream(part.getT2())))
+                                            .getPartETag())
+                                            .subscribeOn(scheduler),
+                                    MAX_CONCURRENT_PART_UPLOADS,
+                                    1)
+                            .collectSortedList(Comparator.comparingInt(PartETag::getPartNumber))
+                            .flatMap(partETags -> Mono.fromCallable(() -> connection.completeMultipartUpload(
+                                    new CompleteMultipartUploadRequest(bucketName, path, uploadId, partETags))))
+                            .onErrorResume(error -> Mono.fromRunnable(() -> connection.abortMultipartUpload(
+                                    new AbortMultipartUploadRequest(bucketName, path, uploadId)))
+                                    .onErrorResume(abortError -> {
+                                        log.warn("Failed to abort the multipart upload of {} to bucket {}", path,
+                                                bucketName, abortError);
+                                        return Mono.empty();
+                                    })
+                                    .then(Mono.error(error))))
+                    .then();
         }
 
         /*
          * - Exception thrown here needs to be handled by the caller.
+         * - The content is streamed into the result, encoded as it's read if needed, and the read is stopped as soon as
+         *   it's found to be larger than MAX_READ_SIZE. Larger files can be read in parts with a byte range.
          */
-        String readFile(AmazonS3 connection, String bucketName, String path, Boolean encodeContent) throws IOException {
-            S3Object fullObject = connection.getObject(bucketName, path);
-            S3ObjectInputStream content = fullObject.getObjectContent();
-            byte[] bytes = IOUtils.toByteArray(content);
-
-            String result;
-            if (Boolean.TRUE.equals(encodeContent)) {
-                result = new String(Base64.getEncoder().encode(bytes));
+        String readFile(AmazonS3 connection,
+                        String bucketName,
+                        String path,
+                        Boolean encodeContent,
+                        long[] byteRange) throws IOException {
+            S3Object fullObject;
+            if (byteRange == null) {
+                fullObject = connection.getObject(bucketName, path);
+            } else if (byteRange.length == 1) {
+                fullObject = connection.getObject(new GetObjectRequest(bucketName, path).withRange(byteRange[0]));
             } else {
-                result = new String(bytes);
+                fullObject = connection.getObject(new GetObjectRequest(bucketName, path).withRange(byteRange[0], byteRange[1]));
             }
 
-            return result;
+            try (S3ObjectInputStream content = fullObject.getObjectContent()) {
+                final ObjectMetadata metadata = fullObject.getObjectMetadata();
+                if (metadata != null && metadata.getContentLength() > MAX_READ_SIZE) {
+                    // Closing the stream would read the rest of the file, to reuse the connection.
+                    content.abort();
+                    throw getFileTooLargeException();
+                }
+
+                ByteArrayOutputStream result = new ByteArrayOutputStream();
+                OutputStream output = Boolean.TRUE.equals(encodeContent) ? Base64.getEncoder().wrap(result) : result;
+
+                byte[] buffer = new byte[READ_BUFFER_SIZE];
+                long totalBytes = 0;
+                int bytesRead;
+                while ((bytesRead = content.read(buffer)) != -1) {
+                    totalBytes += bytesRead;
+                    if (totalBytes > MAX_READ_SIZE) {
+                        content.abort();
+                        throw getFileTooLargeException();
+                    }
+                    output.write(buffer, 0, bytesRead);
+                }
+
+                // Writes the padding of the base64 encoding, if any.
+                output.close();
+
+                return Boolean.TRUE.equals(encodeContent)
+                        ? result.toString(StandardCharsets.US_ASCII)
+                        : result.toString();
+            }
+        }
+
+        private AppsmithPluginException getFileTooLargeException() {
+            return new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "The file is larger than " + MAX_READ_SIZE + " bytes, which is the most that can be read at once. " +
+                            "Please use the 'Byte Range' field to read it in parts."
+            );
+        }
+
+        /*
+         * - Parses a byte range like "0-1023", or "1024-" for the rest of the file, into its first and last bytes.
+         * - Returns null if no range is given.
+         */
+        long[] getByteRange(List<Property> properties) throws AppsmithPluginException {
+            final String range = getPropertyValue(properties, BYTE_RANGE_PROPERTY_INDEX);
+            if (StringUtils.isEmpty(range)) {
+                return null;
+            }
+
+            final Matcher matcher = BYTE_RANGE_PATTERN.matcher(range);
+            if (!matcher.matches()) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Parameter 'Byte Range' is not a valid range: " + range + ". Please use the format " +
+                                "'<first byte>-<last byte>', like 0-1023, or '<first byte>-' to read till the end of the file."
+                );
+            }
+
+            final long start = Long.parseLong(matcher.group(1));
+            if (StringUtils.isEmpty(matcher.group(2))) {
+                return new long[]{start};
+            }
+
+            final long end = Long.parseLong(matcher.group(2));
+            if (end < start) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Parameter 'Byte Range' is not a valid range: " + range + ". The last byte can't be before " +
+                                "the first one."
+                );
+            }
+
+            return new long[]{start, end};
+        }
+
+        int getMaxListedFiles(List<Property> properties) throws AppsmithPluginException {
+            final String value = getPropertyValue(properties, MAX_LISTED_FILES_PROPERTY_INDEX);
+            if (StringUtils.isEmpty(value)) {
+                return DEFAULT_MAX_LISTED_FILES;
+            }
+
+            try {
+                final int maxFiles = Integer.parseInt(value);
+                if (maxFiles > 0) {
+                    return maxFiles;
+                }
+            } catch (NumberFormatException e) {
+                // Reported below.
+            }
+
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Parameter 'Maximum Number of Files' is NOT a valid number: " + value + ". Please ensure that it's " +
+                            "a positive integer."
+            );
         }
 
         @Override
@@ -392,7 +576,13 @@ public class AmazonS3Plugin extends BasePlugin {
                         requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(PREFIX_PROPERTY_INDEX),
                                 prefix, null, null, null));
 
-                        ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix);
+                        final int maxListedFiles = getMaxListedFiles(properties);
+                        if (maxListedFiles != DEFAULT_MAX_LISTED_FILES) {
+                            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(MAX_LISTED_FILES_PROPERTY_INDEX),
+                                    maxListedFiles, null, null, null));
+                        }
+
+                        ArrayList<String> listOfFiles = listAllFilesInBucket(connection, bucketName, prefix, maxListedFiles);
 
                         if (properties.size() > GET_SIGNED_URL_PROPERTY_INDEX
                                 && properties.get(GET_SIGNED_URL_PROPERTY_INDEX) != null
@@ -498,40 +688,49 @@ public class AmazonS3Plugin extends BasePlugin {
                         DateFormat dateTimeFormat = new SimpleDateFormat("dd MMM yyyy HH:mm:ss:SSS z");
                         String expiryDateTimeString = dateTimeFormat.format(expiryDateTime);
 
-                        String signedUrl;
+                        Mono<String> signedUrlMono;
                         if (properties.size() > USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX
                                 && properties.get(USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX) != null
                                 && properties.get(USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX).getValue().equals(YES)) {
                             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX), "Base64",
                                     null, null, null));
-                            signedUrl = uploadFileFromBody(connection, bucketName, path, body, true, expiryDateTime);
+                            signedUrlMono = uploadFileFromBody(connection, bucketName, path, body, true, expiryDateTime);
                         } else {
                             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(USING_FILEPICKER_FOR_UPLOAD_PROPERTY_INDEX),
                                     "Text / Binary", null, null, null));
-                            signedUrl = uploadFileFromBody(connection, bucketName, path, body, false, expiryDateTime);
+                            signedUrlMono = uploadFileFromBody(connection, bucketName, path, body, false, expiryDateTime);
                         }
-                        actionResult = new HashMap<String, Object>();
-                        ((HashMap<String, Object>) actionResult).put("signedUrl", signedUrl);
-                        ((HashMap<String, Object>) actionResult).put("urlExpiryDate", expiryDateTimeString);
 
-                        requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(URL_EXPIRY_DURATION_FOR_UPLOAD_PROPERTY_INDEX),
-                                expiryDateTimeString, null, null, null));
-                        requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  body, null, null, null));
-                        break;
+                        return signedUrlMono.map(signedUrl -> {
+                            HashMap<String, Object> uploadResult = new HashMap<>();
+                            uploadResult.put("signedUrl", signedUrl);
+                            uploadResult.put("urlExpiryDate", expiryDateTimeString);
+
+                            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(URL_EXPIRY_DURATION_FOR_UPLOAD_PROPERTY_INDEX),
+                                    expiryDateTimeString, null, null, null));
+                            requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  body, null, null, null));
+                            return uploadResult;
+                        });
                     case READ_FILE:
                         requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
 
+                        final long[] byteRange = getByteRange(properties);
+                        if (byteRange != null) {
+                            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(BYTE_RANGE_PROPERTY_INDEX),
+                                    properties.get(BYTE_RANGE_PROPERTY_INDEX).getValue(), null, null, null));
+                        }
+
                         String result;
                         if (properties.size() > READ_WITH_BASE64_ENCODING_PROPERTY_INDEX
                                 && properties.get(READ_WITH_BASE64_ENCODING_PROPERTY_INDEX) != null
                                 && properties.get(READ_WITH_BASE64_ENCODING_PROPERTY_INDEX).getValue().equals(YES)) {
                             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(READ_WITH_BASE64_ENCODING_PROPERTY_INDEX),
                                     YES, null, null, null));
-                            result = readFile(connection, bucketName, path, true);
+                            result = readFile(connection, bucketName, path, true, byteRange);
                         } else {
                             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(READ_WITH_BASE64_ENCODING_PROPERTY_INDEX),
                                     NO, null, null, null));
-                            result = readFile(connection, bucketName, path, false);
+                            result = readFile(connection, bucketName, path, false, byteRange);
                         }
                         actionResult = Map.of("fileData", result);
                         break;
@@ -0,0 +1,115 @@
+package com.external.plugins;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+
+import java.nio.ByteBuffer;
+import java.nio.CharBuffer;
+import java.nio.charset.Charset;
+import java.nio.charset.CharsetEncoder;
+import java.nio.charset.CodingErrorAction;
+import java.util.Arrays;
+import java.util.Base64;
+
+/**
+ * Content of a file to be uploaded, read in parts of a given size as they are needed, so that the whole content is
+ * never held in memory a second time, decoded or encoded, next to the body of the action.
+ */
+abstract class UploadPayload {
+
+    /**
+     * @param maxSize : Most bytes that the part can have
+     * @return The next part of the content, or null if all of it has been read
+     */
+    abstract byte[] nextPart(int maxSize);
+
+    abstract boolean hasRemaining();
+
+    /**
+     * The body is the content of the file, as bytes of the default charset.
+     */
+    static UploadPayload fromText(String body) {
+        return new TextPayload(body);
+    }
+
+    /**
+     * The body is the content of the file, encoded in base64.
+     */
+    static UploadPayload fromBase64(String encodedBody) {
+        return new Base64Payload(encodedBody);
+    }
+
+    private static class TextPayload extends UploadPayload {
+
+        private final CharBuffer content;
+
+        private final CharsetEncoder encoder = Charset.defaultCharset().newEncoder()
+                .onMalformedInput(CodingErrorAction.REPLACE)
+                .onUnmappableCharacter(CodingErrorAction.REPLACE);
+
+        TextPayload(String body) {
+            this.content = CharBuffer.wrap(body);
+        }
+
+        @Override
+        byte[] nextPart(int maxSize) {
+            if (!content.hasRemaining()) {
+                return null;
+            }
+
+            final ByteBuffer part = ByteBuffer.allocate(maxSize);
+            // Characters that don't fit whole in the part are left in the content, for the next one.
+            encoder.encode(content, part, true);
+            if (!content.hasRemaining()) {
+                encoder.flush(part);
+            }
+
+            return Arrays.copyOf(part.array(), part.position());
+        }
+
+        @Override
+        boolean hasRemaining() {
+            return content.hasRemaining();
+        }
+    }
+
+    private static class Base64Payload extends UploadPayload {
+
+        private final String encodedBody;
+
+        private int position = 0;
+
+        Base64Payload(String encodedBody) {
+            this.encodedBody = encodedBody;
+        }
+
+        @Override
+        byte[] nextPart(int maxSize) {
+            if (!hasRemaining()) {
+                return null;
+            }
+
+            // Every 4 characters of base64 are 3 bytes, so parts are cut at multiples of 4 characters to be decoded on
+            // their own.
+            final int maxCharacters = Math.max(maxSize / 3, 1) * 4;
+            final int end = Math.min(position + maxCharacters, encodedBody.length());
+            final String encodedPart = encodedBody.substring(position, end);
+            position = end;
+
+            try {
+                return Base64.getDecoder().decode(encodedPart);
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "File content is not base64 encoded. File content needs to be base64 encoded when the " +
+                                "'File Data Type: Base64/Text' field is selected 'Yes'."
+                );
+            }
+        }
+
+        @Override
+        boolean hasRemaining() {
+            return position < encodedBody.length();
+        }
+    }
+}
@@ -1,10 +1,20 @@
 package com.external.plugins;
 
 import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.AbortMultipartUploadRequest;
+import com.amazonaws.services.s3.model.AmazonS3Exception;
+import com.amazonaws.services.s3.model.CompleteMultipartUploadRequest;
+import com.amazonaws.services.s3.model.GetObjectRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadRequest;
+import com.amazonaws.services.s3.model.InitiateMultipartUploadResult;
 import com.amazonaws.services.s3.model.ObjectListing;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PartETag;
 import com.amazonaws.services.s3.model.S3Object;
 import com.amazonaws.services.s3.model.S3ObjectInputStream;
 import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.model.UploadPartRequest;
+import com.amazonaws.services.s3.model.UploadPartResult;
 import com.amazonaws.util.Base64;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
@@ -19,6 +29,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.BeforeClass;
 import org.junit.Test;
+import org.mockito.ArgumentCaptor;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -30,6 +41,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static com.appsmith.external.helpers.PluginUtils.getActionConfigurationPropertyPath;
@@ -41,8 +53,12 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 @Slf4j
@@ -814,4 +830,262 @@ public class AmazonS3PluginTest {
                 })
                 .verifyComplete();
     }
+
+    private List<Property> createUploadProperties(String usingFilePicker) {
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("action", "UPLOAD_FILE_FROM_BODY"));
+        properties.add(new Property("bucketName", "bucket_name"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("usingFilepicker", usingFilePicker));
+        properties.add(new Property("duration", "5"));
+        return properties;
+    }
+
+    private AmazonS3 mockMultipartConnection() throws MalformedURLException {
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+
+        InitiateMultipartUploadResult initiateResult = new InitiateMultipartUploadResult();
+        initiateResult.setUploadId("upload_id");
+        when(mockConnection.initiateMultipartUpload(any(InitiateMultipartUploadRequest.class))).thenReturn(initiateResult);
+        when(mockConnection.generatePresignedUrl(any())).thenReturn(new URL("https://bucket_name/path"));
+
+        return mockConnection;
+    }
+
+    @Test
+    public void testFileUploadFromBodyInParts() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        // 20 MB of content, in base64, is uploaded in parts of 8 MB.
+        byte[] content = new byte[20 * 1024 * 1024];
+        for (int i = 0; i < content.length; i++) {
+            content[i] = (byte) i;
+        }
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("data:application/octet-stream;base64," + java.util.Base64.getEncoder().encodeToString(content));
+        actionConfiguration.setPath("path");
+        actionConfiguration.setPluginSpecifiedTemplates(createUploadProperties("YES"));
+
+        AmazonS3 mockConnection = mockMultipartConnection();
+        List<byte[]> uploadedParts = new ArrayList<>();
+        when(mockConnection.uploadPart(any(UploadPartRequest.class))).thenAnswer(invocation -> {
+            UploadPartRequest request = invocation.getArgument(0);
+            synchronized (uploadedParts) {
+                uploadedParts.add(request.getInputStream().readAllBytes());
+            }
+            UploadPartResult result = new UploadPartResult();
+            result.setPartNumber(request.getPartNumber());
+            result.setETag("etag_" + request.getPartNumber());
+            return result;
+        });
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mockConnection,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("https://bucket_name/path", ((Map<String, Object>) result.getBody()).get("signedUrl"));
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<CompleteMultipartUploadRequest> completeRequest =
+                ArgumentCaptor.forClass(CompleteMultipartUploadRequest.class);
+        verify(mockConnection).completeMultipartUpload(completeRequest.capture());
+        assertEquals("upload_id", completeRequest.getValue().getUploadId());
+        assertEquals(
+                List.of(1, 2, 3),
+                completeRequest.getValue().getPartETags().stream().map(PartETag::getPartNumber).collect(Collectors.toList())
+        );
+
+        assertEquals(3, uploadedParts.size());
+        assertEquals(content.length, uploadedParts.stream().mapToInt(part -> part.length).sum());
+        verify(mockConnection, never()).putObject(anyString(), anyString(), any(InputStream.class), any(ObjectMetadata.class));
+    }
+
+    @Test
+    public void testFileUploadFromBodyInPartsIsAbortedOnFailure() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("a".repeat(10 * 1024 * 1024));
+        actionConfiguration.setPath("path");
+        actionConfiguration.setPluginSpecifiedTemplates(createUploadProperties("NO"));
+
+        AmazonS3 mockConnection = mockMultipartConnection();
+        when(mockConnection.uploadPart(any(UploadPartRequest.class))).thenThrow(new AmazonS3Exception("Part failed"));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mockConnection,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertTrue(((String) result.getBody()).contains("Part failed"));
+                })
+                .verifyComplete();
+
+        verify(mockConnection).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+        verify(mockConnection, never()).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void testSmallFileUploadFromBodyIsASingleRequest() throws MalformedURLException {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("Hello World !!!\n");
+        actionConfiguration.setPath("path");
+        actionConfiguration.setPluginSpecifiedTemplates(createUploadProperties("NO"));
+
+        AmazonS3 mockConnection = mockMultipartConnection();
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mockConnection,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> assertTrue(result.getIsExecutionSuccess()))
+                .verifyComplete();
+
+        ArgumentCaptor<ObjectMetadata> metadata = ArgumentCaptor.forClass(ObjectMetadata.class);
+        verify(mockConnection).putObject(eq("bucket_name"), eq("path"), any(InputStream.class), metadata.capture());
+        assertEquals("Hello World !!!\n".getBytes().length, metadata.getValue().getContentLength());
+        verify(mockConnection, never()).initiateMultipartUpload(any(InitiateMultipartUploadRequest.class));
+    }
+
+    @Test
+    public void testReadFileWithByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("path");
+
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("action", "READ_FILE"));
+        properties.add(new Property("bucketName", "bucket_name"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("encodeBase64", "NO"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("byteRange", "6-10"));
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        S3Object mockS3Object = mock(S3Object.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.getObject(any(GetObjectRequest.class))).thenReturn(mockS3Object);
+        InputStream dummyInputStream = new ByteArrayInputStream("World".getBytes());
+        when(mockS3Object.getObjectContent()).thenReturn(new S3ObjectInputStream(dummyInputStream, null));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mockConnection,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals("World", ((Map<String, Object>) result.getBody()).get("fileData"));
+                })
+                .verifyComplete();
+
+        ArgumentCaptor<GetObjectRequest> request = ArgumentCaptor.forClass(GetObjectRequest.class);
+        verify(mockConnection).getObject(request.capture());
+        assertArrayEquals(new long[]{6, 10}, request.getValue().getRange());
+    }
+
+    @Test
+    public void testReadFileWithInvalidByteRange() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("path");
+
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("action", "READ_FILE"));
+        properties.add(new Property("bucketName", "bucket_name"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("encodeBase64", "NO"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("byteRange", "10-6"));
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mock(AmazonS3.class),
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testListFilesStopsAtMaximum() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        AmazonS3Plugin.S3PluginExecutor pluginExecutor = new AmazonS3Plugin.S3PluginExecutor();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+
+        List<Property> properties = new ArrayList<>();
+        properties.add(new Property("action", "LIST"));
+        properties.add(new Property("bucketName", "bucket_name"));
+        properties.add(new Property(null, "NO"));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, ""));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property(null, null));
+        properties.add(new Property("maxFiles", "3"));
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        ObjectListing mockObjectListing = mock(ObjectListing.class);
+        AmazonS3 mockConnection = mock(AmazonS3.class);
+        when(mockConnection.listObjects(anyString(), anyString())).thenReturn(mockObjectListing);
+        when(mockConnection.listNextBatchOfObjects(mockObjectListing)).thenReturn(mockObjectListing);
+
+        S3ObjectSummary first = new S3ObjectSummary();
+        first.setKey("first");
+        S3ObjectSummary second = new S3ObjectSummary();
+        second.setKey("second");
+        when(mockObjectListing.getObjectSummaries()).thenReturn(List.of(first, second));
+        when(mockObjectListing.isTruncated()).thenReturn(true);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(
+                mockConnection,
+                datasourceConfiguration,
+                actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(3, ((List<?>) result.getBody()).size());
+                })
+                .verifyComplete();
+
+        verify(mockConnection, times(1)).listNextBatchOfObjects(mockObjectListing);
+    }
 }
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -11,6 +12,7 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
@@ -21,7 +23,10 @@ import com.arangodb.ArangoDBException;
 import com.arangodb.ArangoDatabase;
 import com.arangodb.Protocol;
 import com.arangodb.entity.CollectionEntity;
+import com.arangodb.model.AqlQueryOptions;
 import com.arangodb.model.CollectionsReadOptions;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -31,18 +36,21 @@ import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
+import java.io.IOException;
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.PluginUtils.getActionConfigurationPropertyPath;
+import static com.appsmith.external.helpers.PluginUtils.getPositiveIntegerEnv;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
 import static com.external.utils.SSLUtils.isCaCertificateAvailable;
 import static com.external.utils.SSLUtils.setSSLContext;
 import static com.external.utils.SSLUtils.setSSLParam;
@@ -53,6 +61,24 @@ public class ArangoDBPlugin extends BasePlugin {
 
     private static long DEFAULT_PORT = 8529L;
 
+    private static final String PLUGIN_NAME = "arangodb-plugin";
+
+    private static final int MAX_CONNECTIONS = 5;
+
+    private static final int BATCH_SIZE_PROPERTY_INDEX = 0;
+    private static final int TTL_PROPERTY_INDEX = 1;
+    private static final int STREAM_PROPERTY_INDEX = 2;
+    private static final int MAX_RESULT_COUNT_PROPERTY_INDEX = 3;
+
+    private static final String YES = "YES";
+
+    // Same as the default of the server.
+    private static final int DEFAULT_BATCH_SIZE = 1000;
+
+    private static final String MAX_RESULT_COUNT_VARIABLE = "APPSMITH_ARANGODB_MAX_RESULT_COUNT";
+
+    private static final int DEFAULT_MAX_RESULT_COUNT = 10000;
+
     public ArangoDBPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -61,7 +87,11 @@ public class ArangoDBPlugin extends BasePlugin {
     @Extension
     public static class ArangoDBPluginExecutor implements PluginExecutor<ArangoDatabase> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
+
+        // The most documents that are read from a cursor in an execution, since they are all held in memory, unless the
+        // result is streamed.
+        private static final int MAX_RESULT_COUNT = getPositiveIntegerEnv(MAX_RESULT_COUNT_VARIABLE, DEFAULT_MAX_RESULT_COUNT);
 
         @Override
         public Mono<ActionExecutionResult> execute(ArangoDatabase db,
@@ -73,8 +103,8 @@ public class ArangoDBPlugin extends BasePlugin {
             }
 
             String query = actionConfiguration.getBody();
-            List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,
-                    query, null, null, null));
+            List<RequestParamDTO> requestParams = new ArrayList<>();
+            requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null, null, null));
             if (StringUtils.isNullOrEmpty(query)) {
                 return Mono.error(
                         new AppsmithPluginException(
@@ -84,16 +114,30 @@ public class ArangoDBPlugin extends BasePlugin {
                 );
             }
 
-            return Mono.fromCallable(() -> {
-                ArangoCursor<Map> cursor = db.query(query, null, null, Map.class);
-                List<Map> docList = new ArrayList<>();
-                docList.addAll(cursor.asListRemaining());
-                ActionExecutionResult result = new ActionExecutionResult();
-                result.setBody(objectMapper.valueToTree(docList));
-                result.setIsExecutionSuccess(true);
-                System.out.println(Thread.currentThread().getName() + ": In the ArangoDBPlugin, got action execution result");
-                return result;
-            })
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            final AqlQueryOptions options;
+            final int maxResultCount;
+            try {
+                options = getQueryOptions(properties, requestParams);
+                maxResultCount = getMaxResultCount(properties, requestParams, MAX_RESULT_COUNT);
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            final AtomicBoolean isTruncated = new AtomicBoolean();
+            return readBatches(db, query, options, maxResultCount, () -> isTruncated.set(true))
+                    .collect(objectMapper::createArrayNode, ArrayNode::addAll)
+                    .map(documents -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(documents);
+                        result.setIsExecutionSuccess(true);
+                        if (isTruncated.get()) {
+                            result.setMessages(Set.of("Only the first " + maxResultCount + " documents of the result "
+                                    + "were read. Use 'Max Result Count', or stream the result, to read more of them."));
+                        }
+                        System.out.println(Thread.currentThread().getName() + ": In the ArangoDBPlugin, got action execution result");
+                        return result;
+                    })
                     .onErrorResume(error -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -111,6 +155,180 @@ public class ArangoDBPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Streams the documents of the result of the query as they're read from the cursor, one batch at a time. The
+         * cursor is closed, and deleted on the server, when the stream is cancelled.
+         */
+        @Override
+        public Flux<JsonNode> executeParameterizedStream(ArangoDatabase db,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+
+            if (!isConnectionValid(db)) {
+                return Flux.error(new StaleConnectionException());
+            }
+
+            String query = actionConfiguration.getBody();
+            if (StringUtils.isNullOrEmpty(query)) {
+                return Flux.error(
+                        new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                "Missing required parameter: Query."
+                        )
+                );
+            }
+
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            final List<RequestParamDTO> requestParams = new ArrayList<>();
+            final AqlQueryOptions options;
+            final int maxResultCount;
+            try {
+                options = getQueryOptions(properties, requestParams);
+                // The server limits the number of documents that are streamed, so only the cap of the action applies.
+                maxResultCount = getMaxResultCount(properties, requestParams, 0);
+            } catch (AppsmithPluginException e) {
+                return Flux.error(e);
+            }
+
+            return readBatches(db, query, options, maxResultCount, null)
+                    .concatMapIterable(batch -> batch)
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Reads the documents of the result of the query from its cursor, in lists of the size of the batches that the
+         * cursor fetches from the server. The next batch is only fetched when the previous one has been consumed, and no
+         * more than maxResultCount documents are read.
+         *
+         * @param maxResultCount : The most documents to read. No limit if zero.
+         * @param onTruncated    : Run if the result has more documents than were read. Null to not check, since that
+         *                       fetches the next batch from the server.
+         */
+        private Flux<List<JsonNode>> readBatches(ArangoDatabase db,
+                                                 String query,
+                                                 AqlQueryOptions options,
+                                                 int maxResultCount,
+                                                 Runnable onTruncated) {
+
+            if (maxResultCount > 0 && options.getBatchSize() > maxResultCount) {
+                // No need for the server to send more documents than will be read.
+                options.batchSize(maxResultCount);
+            }
+            final int batchSize = options.getBatchSize();
+
+            return Flux.using(
+                    () -> db.query(query, null, options, Map.class),
+                    cursor -> Flux.<List<JsonNode>, Integer>generate(() -> 0, (readCount, sink) -> {
+                        final List<JsonNode> batch = new ArrayList<>();
+                        while (batch.size() < batchSize
+                                && (maxResultCount == 0 || readCount + batch.size() < maxResultCount)
+                                && cursor.hasNext()) {
+                            batch.add(objectMapper.valueToTree(cursor.next()));
+                        }
+
+                        if (batch.isEmpty()) {
+                            sink.complete();
+                            return readCount;
+                        }
+
+                        final int newReadCount = readCount + batch.size();
+                        if (onTruncated != null && maxResultCount > 0 && newReadCount >= maxResultCount
+                                && cursor.hasNext()) {
+                            onTruncated.run();
+                        }
+
+                        sink.next(batch);
+                        return newReadCount;
+                    }),
+                    this::closeCursor
+            );
+        }
+
+        private void closeCursor(ArangoCursor<Map> cursor) {
+            try {
+                cursor.close();
+            } catch (IOException | ArangoDBException e) {
+                log.warn("Error closing ArangoDB cursor.", e);
+            }
+        }
+
+        /**
+         * - AqlQueryOptions are explained here:
+         * https://www.arangodb.com/docs/stable/drivers/java-reference-database-queries.html
+         * - The batch size is always set, so that the documents are read in batches of a known size.
+         */
+        private AqlQueryOptions getQueryOptions(List<Property> properties,
+                                                List<RequestParamDTO> requestParams) throws AppsmithPluginException {
+
+            final AqlQueryOptions options = new AqlQueryOptions();
+
+            final Integer batchSize = getPositiveInteger(properties, BATCH_SIZE_PROPERTY_INDEX, "Batch Size",
+                    requestParams);
+            options.batchSize(batchSize == null ? DEFAULT_BATCH_SIZE : batchSize);
+
+            final Integer ttl = getPositiveInteger(properties, TTL_PROPERTY_INDEX, "Cursor TTL", requestParams);
+            if (ttl != null) {
+                options.ttl(ttl);
+            }
+
+            final String stream = getPropertyValue(properties, STREAM_PROPERTY_INDEX);
+            if (YES.equals(stream)) {
+                options.stream(true);
+                requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(STREAM_PROPERTY_INDEX),
+                        stream, null, null, null));
+            }
+
+            return options;
+        }
+
+        /**
+         * @param serverMaxResultCount : The most documents that the server allows to read. No limit if zero.
+         * @return The most documents to read, within the limits of both the action and the server. No limit if zero.
+         */
+        private int getMaxResultCount(List<Property> properties,
+                                      List<RequestParamDTO> requestParams,
+                                      int serverMaxResultCount) throws AppsmithPluginException {
+
+            final Integer maxResultCount = getPositiveInteger(properties, MAX_RESULT_COUNT_PROPERTY_INDEX,
+                    "Max Result Count", requestParams);
+            if (maxResultCount == null) {
+                return serverMaxResultCount;
+            }
+
+            return serverMaxResultCount > 0 ? Math.min(maxResultCount, serverMaxResultCount) : maxResultCount;
+        }
+
+        private Integer getPositiveInteger(List<Property> properties,
+                                           int index,
+                                           String label,
+                                           List<RequestParamDTO> requestParams) throws AppsmithPluginException {
+
+            final String value = getPropertyValue(properties, index);
+            if (StringUtils.isNullOrEmpty(value)) {
+                return null;
+            }
+
+            int number;
+            try {
+                number = Integer.parseInt(value);
+            } catch (NumberFormatException e) {
+                number = 0;
+            }
+
+            if (number <= 0) {
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "'" + label + "' must be a positive number, but is " + value + "."
+                );
+            }
+
+            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(index), value, null, null, null));
+            return number;
+        }
+
         /**
          * - ArangoDatabase object does not seem to provide any API to check if connection object is valid, hence
          * adding only null check for now.
@@ -179,7 +397,7 @@ public class ArangoDBPlugin extends BasePlugin {
             String username = auth.getUsername();
             String password = auth.getPassword();
             Builder dbBuilder = new Builder()
-                    .maxConnections(5)
+                    .maxConnections(MAX_CONNECTIONS)
                     .user(username)
                     .password(password)
                     .useProtocol(Protocol.HTTP_VPACK);
@@ -283,71 +501,60 @@ public class ArangoDBPlugin extends BasePlugin {
 
         @Override
         public Mono<DatasourceStructure> getStructure(ArangoDatabase db, DatasourceConfiguration datasourceConfiguration) {
-            final DatasourceStructure structure = new DatasourceStructure();
-            List<DatasourceStructure.Table> tables = new ArrayList<>();
-            structure.setTables(tables);
-
             CollectionsReadOptions options = new CollectionsReadOptions();
             options.excludeSystem(true);
-            Collection<CollectionEntity> collections;
-            try {
-                collections = db.getCollections(options);
-            } catch (ArangoDBException e) {
-                return Mono.error(
-                        new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
-                                "Appsmith server has failed to fetch list of collections from database. Please check " +
-                                        "if the database credentials are valid and/or you have the required " +
-                                        "permissions."
-                        )
-                );
-            }
 
-            return Flux.fromIterable(collections)
+            return Mono.fromCallable(() -> db.getCollections(options))
+                    .onErrorMap(
+                            ArangoDBException.class,
+                            e -> new AppsmithPluginException(
+                                    AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR,
+                                    "Appsmith server has failed to fetch list of collections from database. Please " +
+                                            "check if the database credentials are valid and/or you have the required " +
+                                            "permissions."
+                            )
+                    )
+                    .flatMapMany(Flux::fromIterable)
                     .filter(collectionEntity -> !collectionEntity.getIsSystem())
-                    .flatMap(collectionEntity -> {
-                        final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
-                        final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
-                        final String collectionName = collectionEntity.getName();
-                        tables.add(
-                                new DatasourceStructure.Table(
-                                        DatasourceStructure.TableType.COLLECTION,
-                                        null,
-                                        collectionName,
-                                        columns,
-                                        new ArrayList<>(),
-                                        templates
-                                )
-                        );
-
-                        ArangoCursor<Map> cursor = db.query(getOneDocumentQuery(collectionName), null, null, Map.class);
-                        Map document = new HashMap();
-                        List<Map> docList = cursor.asListRemaining();
-                        if (!CollectionUtils.isEmpty(docList)) {
-                            document = docList.get(0);
-                        }
-
-                        return Mono.zip(
-                                Mono.just(columns),
-                                Mono.just(templates),
-                                Mono.just(collectionName),
-                                Mono.just(document)
-                        );
+                    /*
+                     * A document is read from every collection at the same time, over as many connections as the
+                     * driver keeps, while the tables are kept in the order of the collections.
+                     */
+                    .flatMapSequential(
+                            collectionEntity -> Mono.fromCallable(() -> getTable(db, collectionEntity.getName()))
+                                    .subscribeOn(scheduler),
+                            MAX_CONNECTIONS
+                    )
+                    .collectList()
+                    .map(tables -> {
+                        final DatasourceStructure structure = new DatasourceStructure();
+                        structure.setTables(tables);
+                        return structure;
                     })
-                    .flatMap(tuple -> {
-                        final ArrayList<DatasourceStructure.Column> columns = tuple.getT1();
-                        final ArrayList<DatasourceStructure.Template> templates = tuple.getT2();
-                        String collectionName = tuple.getT3();
-                        Map document = tuple.getT4();
+                    .subscribeOn(scheduler);
+        }
 
-                        generateTemplatesAndStructureForACollection(collectionName, document, columns,
-                                templates);
+        private DatasourceStructure.Table getTable(ArangoDatabase db, String collectionName) {
+            final ArrayList<DatasourceStructure.Column> columns = new ArrayList<>();
+            final ArrayList<DatasourceStructure.Template> templates = new ArrayList<>();
 
-                        return Mono.just(structure);
-                    })
-                    .collectList()
-                    .thenReturn(structure)
-                    .subscribeOn(scheduler);
+            ArangoCursor<Map> cursor = db.query(getOneDocumentQuery(collectionName), null, null, Map.class);
+            Map document = new HashMap();
+            List<Map> docList = cursor.asListRemaining();
+            if (!CollectionUtils.isEmpty(docList)) {
+                document = docList.get(0);
+            }
+
+            generateTemplatesAndStructureForACollection(collectionName, document, columns, templates);
+
+            return new DatasourceStructure.Table(
+                    DatasourceStructure.TableType.COLLECTION,
+                    null,
+                    collectionName,
+                    columns,
+                    new ArrayList<>(),
+                    templates
+            );
         }
     }
 }
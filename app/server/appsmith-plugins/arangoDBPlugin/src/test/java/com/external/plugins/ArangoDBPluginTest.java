@@ -1,5 +1,8 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.Connection;
@@ -8,6 +11,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.SSLDetails;
 import com.arangodb.ArangoCollection;
 import com.arangodb.ArangoDB;
@@ -36,6 +40,7 @@ import java.util.Map;
 import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
 import static org.junit.Assert.assertTrue;
 
 /**
@@ -263,6 +268,103 @@ public class ArangoDBPluginTest {
                 .verifyComplete();
     }
 
+    private ActionConfiguration createRangeQueryConfiguration(String batchSize, String stream, String maxResultCount) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("FOR i IN 1..25 RETURN { number: i }");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(
+                new Property("batchSize", batchSize),
+                new Property("ttl", ""),
+                new Property("stream", stream),
+                new Property("maxResultCount", maxResultCount)
+        ));
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testExecuteReadQueryWithMaxResultCount() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        // Documents are read in batches of 10, and the third batch is cut short.
+        ActionConfiguration actionConfiguration = createRangeQueryConfiguration("10", "NO", "15");
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+
+                    final ArrayNode body = (ArrayNode) result.getBody();
+                    assertEquals(15, body.size());
+                    assertEquals(1, body.get(0).get("number").asInt());
+                    assertEquals(15, body.get(14).get("number").asInt());
+
+                    // The result has more documents than were read.
+                    assertNotNull(result.getMessages());
+                    assertEquals(1, result.getMessages().size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQueryWithMaxResultCountOfWholeResult() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createRangeQueryConfiguration("10", "NO", "25");
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(25, ((ArrayNode) result.getBody()).size());
+                    assertNull(result.getMessages());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteReadQueryWithInvalidBatchSize() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createRangeQueryConfiguration("0", "NO", "");
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.execute(conn, dsConfig, actionConfiguration));
+
+        StepVerifier.create(executeMono)
+                .expectErrorMatches(error -> error instanceof AppsmithPluginException
+                        && ((AppsmithPluginException) error).getError() == AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR)
+                .verify();
+    }
+
+    @Test
+    public void testStreamReadQueryInBatches() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<ArangoDatabase> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createRangeQueryConfiguration("4", "YES", "");
+
+        Mono<List<JsonNode>> documentsMono = dsConnectionMono.flatMap(conn ->
+                pluginExecutor.executeParameterizedStream(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration)
+                        .collectList());
+
+        StepVerifier.create(documentsMono)
+                .assertNext(documents -> {
+                    assertEquals(25, documents.size());
+                    for (int i = 0; i < documents.size(); i++) {
+                        assertEquals(i + 1, documents.get(i).get("number").asInt());
+                    }
+                })
+                .verifyComplete();
+    }
+
     @Test
     public void testStructure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
@@ -20,9 +20,10 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
+import reactor.util.function.Tuples;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.core.SdkBytes;
@@ -31,8 +32,22 @@ import software.amazon.awssdk.core.SdkPojo;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
 import software.amazon.awssdk.services.dynamodb.DynamoDbClientBuilder;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.ConsumedCapacity;
+import software.amazon.awssdk.services.dynamodb.model.DynamoDbRequest;
 import software.amazon.awssdk.services.dynamodb.model.DynamoDbResponse;
+import software.amazon.awssdk.services.dynamodb.model.ItemCollectionMetrics;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
 import software.amazon.awssdk.services.dynamodb.model.ListTablesResponse;
+import software.amazon.awssdk.services.dynamodb.model.QueryRequest;
+import software.amazon.awssdk.services.dynamodb.model.QueryResponse;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
 
 import java.io.IOException;
 import java.lang.reflect.InvocationTargetException;
@@ -50,11 +65,14 @@ import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
 
 public class DynamoPlugin extends BasePlugin {
 
@@ -79,6 +97,19 @@ public class DynamoPlugin extends BasePlugin {
     private static final String DYNAMO_TYPE_BINARY_SET_LABEL = "BS";
     private static final String DYNAMO_TYPE_MAP_LABEL = "M";
     private static final String DYNAMO_TYPE_LIST_LABEL = "L";
+    private static final String PLUGIN_NAME = "dynamo-plugin";
+    private static final String QUERY_ACTION_VALUE = "Query";
+    private static final String BATCH_WRITE_ITEM_ACTION_VALUE = "BatchWriteItem";
+    private static final int FETCH_ALL_PAGES_INDEX = 0;
+    private static final int MAX_ITEMS_INDEX = 1;
+    private static final int SCAN_SEGMENTS_INDEX = 2;
+    private static final int DEFAULT_MAX_ITEMS = 10000;
+    private static final int MAX_SCAN_SEGMENTS = 16;
+    // Most keys and puts or deletes that DynamoDB accepts in a single BatchGetItem and BatchWriteItem request.
+    private static final int BATCH_GET_ITEM_MAX_KEYS = 100;
+    private static final int BATCH_WRITE_ITEM_MAX_REQUESTS = 25;
+    private static final int MAX_BATCH_ATTEMPTS = 5;
+    private static final long BATCH_RETRY_BASE_DELAY_MILLIS = 50;
 
     public DynamoPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -99,7 +130,7 @@ public class DynamoPlugin extends BasePlugin {
     @Extension
     public static class DynamoPluginExecutor implements PluginExecutor<DynamoDbClient> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         public Object extractValue(Object rawItem) {
 
@@ -284,12 +315,10 @@ public class DynamoPlugin extends BasePlugin {
 
             final Map<String, Object> requestData = new HashMap<>();
             final String body = actionConfiguration.getBody();
+            final String action = actionConfiguration.getPath();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
             return Mono.fromCallable(() -> {
-                ActionExecutionResult result = new ActionExecutionResult();
-
-                final String action = actionConfiguration.getPath();
                 if (StringUtils.isEmpty(action)) {
                     throw new AppsmithPluginException(
                             AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
@@ -322,27 +351,37 @@ public class DynamoPlugin extends BasePlugin {
                     );
                 }
 
+                final Method actionExecuteMethod;
+                final DynamoDbRequest request;
                 try {
-                    final Method actionExecuteMethod = DynamoDbClient.class.getMethod(
+                    actionExecuteMethod = DynamoDbClient.class.getMethod(
                             // Convert `ListTables` to `listTables`, which is the name of the method to execute this action.
                             toLowerCamelCase(action),
                             requestClass
                     );
-                    final Object sdkValue = plainToSdk(parameters, requestClass);
-                    final DynamoDbResponse response = (DynamoDbResponse) actionExecuteMethod.invoke(ddb, sdkValue);
-                    Object rawResponse = sdkToPlain(response);
-                    Object transformedResponse = getTransformedResponse((Map<String, Object>)rawResponse, action);
-                    result.setBody(transformedResponse);
+                    request = (DynamoDbRequest) plainToSdk(parameters, requestClass);
                 } catch (AppsmithPluginException | InvocationTargetException | IllegalAccessException | NoSuchMethodException | ClassNotFoundException e) {
-                    final String message = "Error executing the DynamoDB Action: " + (e.getCause() == null ? e : e.getCause()).getMessage();
-                    log.warn(message, e);
-                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                    throw getExecutionError(e);
                 }
 
-                result.setIsExecutionSuccess(true);
-                System.out.println(Thread.currentThread().getName() + ": In the DynamoPlugin, got action execution result");
-                return result;
+                return Tuples.of(actionExecuteMethod, request);
             })
+                    .flatMap(tuple -> executeRequest(ddb, action, tuple.getT1(), tuple.getT2(), actionConfiguration)
+                            .onErrorMap(error -> !(error instanceof AppsmithPluginException), this::getExecutionError))
+                    .map(response -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        try {
+                            Object rawResponse = sdkToPlain(response);
+                            Object transformedResponse = getTransformedResponse((Map<String, Object>) rawResponse, action);
+                            result.setBody(transformedResponse);
+                        } catch (AppsmithPluginException e) {
+                            throw getExecutionError(e);
+                        }
+
+                        result.setIsExecutionSuccess(true);
+                        System.out.println(Thread.currentThread().getName() + ": In the DynamoPlugin, got action execution result");
+                        return result;
+                    })
                     .onErrorResume(error  -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -361,6 +400,260 @@ public class DynamoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /**
+         * Runs the request of the action with the client. Scans and queries that are asked to fetch all pages follow
+         * their `LastEvaluatedKey` here, up to the maximum number of items, and scans can be split into segments that
+         * are read in parallel. Batch reads and writes are split into as many requests as DynamoDB accepts, and their
+         * unprocessed keys or items are retried. Any other action is a single call to the client.
+         */
+        private Mono<DynamoDbResponse> executeRequest(DynamoDbClient ddb,
+                                                      String action,
+                                                      Method actionExecuteMethod,
+                                                      DynamoDbRequest request,
+                                                      ActionConfiguration actionConfiguration) {
+            switch (action) {
+                case SCAN_ACTION_VALUE:
+                    final ScanRequest scanRequest = (ScanRequest) request;
+                    final int scanSegments = getScanSegments(actionConfiguration);
+                    // Scans that are already a segment of a parallel scan are read as they are.
+                    if (scanSegments > 1 && scanRequest.totalSegments() == null) {
+                        return scanInParallel(ddb, scanRequest, scanSegments, getMaxItems(actionConfiguration));
+                    }
+                    if (isFetchAllPages(actionConfiguration)) {
+                        return Mono.fromCallable(() -> (DynamoDbResponse) scanAllPages(ddb, scanRequest,
+                                new AtomicInteger(getMaxItems(actionConfiguration))))
+                                .subscribeOn(scheduler);
+                    }
+                    break;
+
+                case QUERY_ACTION_VALUE:
+                    if (isFetchAllPages(actionConfiguration)) {
+                        return Mono.fromCallable(() -> (DynamoDbResponse) queryAllPages(ddb, (QueryRequest) request,
+                                getMaxItems(actionConfiguration)))
+                                .subscribeOn(scheduler);
+                    }
+                    break;
+
+                case BATCH_GET_ITEM_ACTION_VALUE:
+                    return Mono.fromCallable(() -> (DynamoDbResponse) batchGetItem(ddb, (BatchGetItemRequest) request))
+                            .subscribeOn(scheduler);
+
+                case BATCH_WRITE_ITEM_ACTION_VALUE:
+                    return Mono.fromCallable(() -> (DynamoDbResponse) batchWriteItem(ddb, (BatchWriteItemRequest) request))
+                            .subscribeOn(scheduler);
+
+                default:
+                    break;
+            }
+
+            return Mono.fromCallable(() -> {
+                try {
+                    return (DynamoDbResponse) actionExecuteMethod.invoke(ddb, request);
+                } catch (InvocationTargetException | IllegalAccessException e) {
+                    throw getExecutionError(e);
+                }
+            })
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * Reads the pages of a scan, one after the other, until there are no more of them or the maximum number of
+         * items has been read. The limit of the request, if any, is the size of every page.
+         *
+         * @param remainingItems : Number of items that can still be read, which is shared by the segments of a parallel
+         *                       scan
+         * @return The response of the last page, with the items of all the pages. Its `LastEvaluatedKey` is set only if
+         * there are items left to read.
+         */
+        private ScanResponse scanAllPages(DynamoDbClient ddb, ScanRequest request, AtomicInteger remainingItems) {
+            final List<Map<String, AttributeValue>> items = new ArrayList<>();
+            int scannedCount = 0;
+            Map<String, AttributeValue> startKey = request.hasExclusiveStartKey() ? request.exclusiveStartKey() : null;
+            ScanResponse response;
+
+            do {
+                response = ddb.scan(request.toBuilder()
+                        .exclusiveStartKey(startKey)
+                        .limit(getPageLimit(request.limit(), remainingItems.get()))
+                        .build());
+
+                items.addAll(response.items());
+                scannedCount += response.scannedCount();
+                remainingItems.addAndGet(-response.count());
+                startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (startKey != null && remainingItems.get() > 0);
+
+            return response.toBuilder()
+                    .items(items)
+                    .count(items.size())
+                    .scannedCount(scannedCount)
+                    .build();
+        }
+
+        /**
+         * Splits a scan into segments that are read in parallel, each following its pages, and joins their items.
+         * Since the segments can't be resumed together, the response has no `LastEvaluatedKey`, even if the maximum
+         * number of items was read before the end of the table.
+         */
+        private Mono<DynamoDbResponse> scanInParallel(DynamoDbClient ddb,
+                                                      ScanRequest request,
+                                                      int totalSegments,
+                                                      int maxItems) {
+            final AtomicInteger remainingItems = new AtomicInteger(maxItems);
+
+            return Flux.range(0, totalSegments)
+                    .flatMap(segment -> Mono.fromCallable(() -> scanAllPages(
+                            ddb,
+                            request.toBuilder().segment(segment).totalSegments(totalSegments).build(),
+                            remainingItems
+                    )).subscribeOn(scheduler), totalSegments)
+                    .collectList()
+                    .map(responses -> {
+                        final List<Map<String, AttributeValue>> items = new ArrayList<>();
+                        int scannedCount = 0;
+                        for (ScanResponse response : responses) {
+                            items.addAll(response.items());
+                            scannedCount += response.scannedCount();
+                        }
+
+                        // Segments that read their last pages at the same time can go past the maximum together.
+                        final List<Map<String, AttributeValue>> cappedItems =
+                                items.size() > maxItems ? items.subList(0, maxItems) : items;
+
+                        return ScanResponse.builder()
+                                .items(cappedItems)
+                                .count(cappedItems.size())
+                                .scannedCount(scannedCount)
+                                .build();
+                    });
+        }
+
+        /**
+         * Reads the pages of a query, one after the other, in the same way as {@link #scanAllPages}.
+         */
+        private QueryResponse queryAllPages(DynamoDbClient ddb, QueryRequest request, int maxItems) {
+            final List<Map<String, AttributeValue>> items = new ArrayList<>();
+            int scannedCount = 0;
+            Map<String, AttributeValue> startKey = request.hasExclusiveStartKey() ? request.exclusiveStartKey() : null;
+            QueryResponse response;
+
+            do {
+                response = ddb.query(request.toBuilder()
+                        .exclusiveStartKey(startKey)
+                        .limit(getPageLimit(request.limit(), maxItems - items.size()))
+                        .build());
+
+                items.addAll(response.items());
+                scannedCount += response.scannedCount();
+                startKey = response.hasLastEvaluatedKey() && !response.lastEvaluatedKey().isEmpty()
+                        ? response.lastEvaluatedKey()
+                        : null;
+            } while (startKey != null && items.size() < maxItems);
+
+            return response.toBuilder()
+                    .items(items)
+                    .count(items.size())
+                    .scannedCount(scannedCount)
+                    .build();
+        }
+
+        /**
+         * Gets the items in requests of at most {@link #BATCH_GET_ITEM_MAX_KEYS} keys each, retrying the keys that
+         * DynamoDB leaves unprocessed, with a backoff. Keys that are still unprocessed after the last attempt are
+         * returned as `UnprocessedKeys`, as DynamoDB would.
+         */
+        private BatchGetItemResponse batchGetItem(DynamoDbClient ddb, BatchGetItemRequest request) {
+            final Map<String, List<Map<String, AttributeValue>>> responses = new HashMap<>();
+            final Map<String, KeysAndAttributes> unprocessedKeys = new HashMap<>();
+            final List<ConsumedCapacity> consumedCapacity = new ArrayList<>();
+
+            for (Map<String, KeysAndAttributes> chunk : chunkKeys(request.requestItems())) {
+                Map<String, KeysAndAttributes> pendingKeys = chunk;
+                for (int attempt = 1; !pendingKeys.isEmpty() && attempt <= MAX_BATCH_ATTEMPTS; attempt++) {
+                    if (attempt > 1) {
+                        backOff(attempt);
+                    }
+
+                    final BatchGetItemResponse response = ddb.batchGetItem(request.toBuilder()
+                            .requestItems(pendingKeys)
+                            .build());
+
+                    response.responses().forEach((table, items) ->
+                            responses.computeIfAbsent(table, key -> new ArrayList<>()).addAll(items));
+                    consumedCapacity.addAll(response.consumedCapacity());
+                    pendingKeys = response.unprocessedKeys();
+                }
+
+                pendingKeys.forEach((table, keysAndAttributes) -> unprocessedKeys.merge(table, keysAndAttributes,
+                        (previous, next) -> previous.toBuilder().keys(concat(previous.keys(), next.keys())).build()));
+            }
+
+            return BatchGetItemResponse.builder()
+                    .responses(responses)
+                    .unprocessedKeys(unprocessedKeys)
+                    .consumedCapacity(request.returnConsumedCapacity() == null ? null : consumedCapacity)
+                    .build();
+        }
+
+        /**
+         * Writes the items in requests of at most {@link #BATCH_WRITE_ITEM_MAX_REQUESTS} puts or deletes each, retrying
+         * the ones that DynamoDB leaves unprocessed, in the same way as {@link #batchGetItem}.
+         */
+        private BatchWriteItemResponse batchWriteItem(DynamoDbClient ddb, BatchWriteItemRequest request) {
+            final Map<String, List<WriteRequest>> unprocessedItems = new HashMap<>();
+            final Map<String, List<ItemCollectionMetrics>> itemCollectionMetrics = new HashMap<>();
+            final List<ConsumedCapacity> consumedCapacity = new ArrayList<>();
+
+            for (Map<String, List<WriteRequest>> chunk : chunk(request.requestItems(), BATCH_WRITE_ITEM_MAX_REQUESTS)) {
+                Map<String, List<WriteRequest>> pendingItems = chunk;
+                for (int attempt = 1; !pendingItems.isEmpty() && attempt <= MAX_BATCH_ATTEMPTS; attempt++) {
+                    if (attempt > 1) {
+                        backOff(attempt);
+                    }
+
+                    final BatchWriteItemResponse response = ddb.batchWriteItem(request.toBuilder()
+                            .requestItems(pendingItems)
+                            .build());
+
+                    response.itemCollectionMetrics().forEach((table, metrics) ->
+                            itemCollectionMetrics.computeIfAbsent(table, key -> new ArrayList<>()).addAll(metrics));
+                    consumedCapacity.addAll(response.consumedCapacity());
+                    pendingItems = response.unprocessedItems();
+                }
+
+                pendingItems.forEach((table, writeRequests) ->
+                        unprocessedItems.computeIfAbsent(table, key -> new ArrayList<>()).addAll(writeRequests));
+            }
+
+            return BatchWriteItemResponse.builder()
+                    .unprocessedItems(unprocessedItems)
+                    .itemCollectionMetrics(request.returnItemCollectionMetrics() == null ? null : itemCollectionMetrics)
+                    .consumedCapacity(request.returnConsumedCapacity() == null ? null : consumedCapacity)
+                    .build();
+        }
+
+        private AppsmithPluginException getExecutionError(Throwable e) {
+            final String message = "Error executing the DynamoDB Action: " + (e.getCause() == null ? e : e.getCause()).getMessage();
+            log.warn(message, e);
+            return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+        }
+
+        private void backOff(int attempt) {
+            // Exponential backoff with full jitter, as recommended for the unprocessed items of batch operations.
+            final long maxDelay = BATCH_RETRY_BASE_DELAY_MILLIS << (attempt - 2);
+            try {
+                Thread.sleep(ThreadLocalRandom.current().nextLong(maxDelay + 1));
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Interrupted while retrying the unprocessed items of the DynamoDB batch action."
+                );
+            }
+        }
+
         @Override
         public Mono<DynamoDbClient> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
 
@@ -475,6 +768,105 @@ public class DynamoPlugin extends BasePlugin {
 
     }
 
+    private static boolean isFetchAllPages(ActionConfiguration actionConfiguration) {
+        return Boolean.parseBoolean(getPropertyValue(actionConfiguration.getPluginSpecifiedTemplates(),
+                FETCH_ALL_PAGES_INDEX));
+    }
+
+    private static int getMaxItems(ActionConfiguration actionConfiguration) {
+        return getPositiveInteger(actionConfiguration, MAX_ITEMS_INDEX, "Maximum items", DEFAULT_MAX_ITEMS);
+    }
+
+    private static int getScanSegments(ActionConfiguration actionConfiguration) {
+        return Math.min(getPositiveInteger(actionConfiguration, SCAN_SEGMENTS_INDEX, "Parallel scan segments", 1),
+                MAX_SCAN_SEGMENTS);
+    }
+
+    private static int getPositiveInteger(ActionConfiguration actionConfiguration,
+                                          int index,
+                                          String label,
+                                          int defaultValue) {
+        final String value = getPropertyValue(actionConfiguration.getPluginSpecifiedTemplates(), index);
+        if (StringUtils.isEmpty(value)) {
+            return defaultValue;
+        }
+
+        int number;
+        try {
+            number = Integer.parseInt(value);
+        } catch (NumberFormatException e) {
+            number = 0;
+        }
+
+        if (number <= 0) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    label + " must be a positive number, but is `" + value + "`."
+            );
+        }
+
+        return number;
+    }
+
+    /**
+     * @return Size of the next page to read, which is the limit of the request, if it has one, but no more than the
+     * number of items left to read.
+     */
+    private static int getPageLimit(Integer requestLimit, int remainingItems) {
+        final int pageLimit = requestLimit == null ? remainingItems : Math.min(requestLimit, remainingItems);
+        return Math.max(pageLimit, 1);
+    }
+
+    /**
+     * Splits the items of a batch request, grouped by table, into groups that have at most the given number of items in
+     * all.
+     */
+    private static <T> List<Map<String, List<T>>> chunk(Map<String, List<T>> requestItems, int maxItems) {
+        final List<Map<String, List<T>>> chunks = new ArrayList<>();
+        Map<String, List<T>> chunk = new HashMap<>();
+        int chunkSize = 0;
+
+        for (Map.Entry<String, List<T>> entry : requestItems.entrySet()) {
+            for (T item : entry.getValue()) {
+                if (chunkSize == maxItems) {
+                    chunks.add(chunk);
+                    chunk = new HashMap<>();
+                    chunkSize = 0;
+                }
+
+                chunk.computeIfAbsent(entry.getKey(), key -> new ArrayList<>()).add(item);
+                chunkSize++;
+            }
+        }
+
+        if (chunkSize > 0) {
+            chunks.add(chunk);
+        }
+
+        return chunks;
+    }
+
+    private static List<Map<String, KeysAndAttributes>> chunkKeys(Map<String, KeysAndAttributes> requestItems) {
+        final Map<String, List<Map<String, AttributeValue>>> keys = new HashMap<>();
+        requestItems.forEach((table, keysAndAttributes) -> keys.put(table, keysAndAttributes.keys()));
+
+        return chunk(keys, BATCH_GET_ITEM_MAX_KEYS)
+                .stream()
+                .map(chunk -> chunk.entrySet()
+                        .stream()
+                        .collect(Collectors.toMap(
+                                Map.Entry::getKey,
+                                entry -> requestItems.get(entry.getKey()).toBuilder().keys(entry.getValue()).build()
+                        )))
+                .collect(Collectors.toList());
+    }
+
+    private static <T> List<T> concat(List<T> first, List<T> second) {
+        final List<T> joined = new ArrayList<>(first);
+        joined.addAll(second);
+        return joined;
+    }
+
     private static String toLowerCamelCase(String action) {
         return action.substring(0, 1).toLowerCase() + action.substring(1);
     }
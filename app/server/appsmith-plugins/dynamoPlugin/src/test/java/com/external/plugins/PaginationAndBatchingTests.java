@@ -0,0 +1,195 @@
+package com.external.plugins;
+
+import com.appsmith.external.models.ActionConfiguration;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.Property;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import software.amazon.awssdk.services.dynamodb.DynamoDbClient;
+import software.amazon.awssdk.services.dynamodb.model.AttributeValue;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchGetItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemRequest;
+import software.amazon.awssdk.services.dynamodb.model.BatchWriteItemResponse;
+import software.amazon.awssdk.services.dynamodb.model.KeysAndAttributes;
+import software.amazon.awssdk.services.dynamodb.model.PutRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanRequest;
+import software.amazon.awssdk.services.dynamodb.model.ScanResponse;
+import software.amazon.awssdk.services.dynamodb.model.WriteRequest;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+public class PaginationAndBatchingTests {
+
+    private final DynamoPlugin.DynamoPluginExecutor pluginExecutor = new DynamoPlugin.DynamoPluginExecutor();
+
+    private static Map<String, AttributeValue> item(int id) {
+        return Map.of("Id", AttributeValue.builder().s(String.valueOf(id)).build());
+    }
+
+    private static List<Map<String, AttributeValue>> items(int from, int to) {
+        return IntStream.range(from, to).mapToObj(PaginationAndBatchingTests::item).collect(Collectors.toList());
+    }
+
+    private static ScanResponse page(int from, int to, Integer lastEvaluatedId) {
+        return ScanResponse.builder()
+                .items(items(from, to))
+                .count(to - from)
+                .scannedCount(to - from)
+                .lastEvaluatedKey(lastEvaluatedId == null ? null : item(lastEvaluatedId))
+                .build();
+    }
+
+    private ActionExecutionResult execute(DynamoDbClient ddb, String action, String body, Object... templates) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath(action);
+        actionConfiguration.setBody(body);
+
+        List<Property> properties = new ArrayList<>();
+        for (Object value : templates) {
+            Property property = new Property();
+            property.setValue(value);
+            properties.add(property);
+        }
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        return pluginExecutor.execute(ddb, new DatasourceConfiguration(), actionConfiguration).block();
+    }
+
+    @Test
+    public void testScanFollowsPagesUpToMaxItems() {
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.scan(any(ScanRequest.class))).thenReturn(page(0, 2, 1), page(2, 4, 3), page(4, 5, 4));
+
+        final ActionExecutionResult result = execute(ddb, "Scan", "{\"TableName\": \"cities\", \"Limit\": 2}",
+                true, "5");
+
+        assertTrue(result.getIsExecutionSuccess());
+        final Map<String, Object> body = (Map<String, Object>) result.getBody();
+        assertEquals(5, ((List<?>) body.get("Items")).size());
+        assertEquals(5, body.get("Count"));
+        // The maximum was reached before the end of the table, so the scan can be resumed from the last key.
+        final Map<String, Map<String, Object>> lastEvaluatedKey = (Map<String, Map<String, Object>>) body.get("LastEvaluatedKey");
+        assertEquals("4", lastEvaluatedKey.get("Id").get("S"));
+
+        final ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(ddb, times(3)).scan(requests.capture());
+        assertFalse(requests.getAllValues().get(0).hasExclusiveStartKey());
+        assertEquals(item(1), requests.getAllValues().get(1).exclusiveStartKey());
+        assertEquals(Integer.valueOf(1), requests.getAllValues().get(2).limit());
+    }
+
+    @Test
+    public void testScanReadsSinglePageByDefault() {
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.scan(any(ScanRequest.class))).thenReturn(page(0, 2, 1));
+
+        final ActionExecutionResult result = execute(ddb, "Scan", "{\"TableName\": \"cities\"}");
+
+        assertTrue(result.getIsExecutionSuccess());
+        assertEquals(2, ((List<?>) ((Map<String, Object>) result.getBody()).get("Items")).size());
+        verify(ddb, times(1)).scan(any(ScanRequest.class));
+    }
+
+    @Test
+    public void testParallelScanReadsAllSegments() {
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.scan(any(ScanRequest.class))).thenAnswer(invocation -> {
+            final int segment = ((ScanRequest) invocation.getArgument(0)).segment();
+            return page(segment * 10, segment * 10 + 3, null);
+        });
+
+        final ActionExecutionResult result = execute(ddb, "Scan", "{\"TableName\": \"cities\"}", false, null, "4");
+
+        assertTrue(result.getIsExecutionSuccess());
+        final Map<String, Object> body = (Map<String, Object>) result.getBody();
+        assertEquals(12, ((List<?>) body.get("Items")).size());
+
+        final ArgumentCaptor<ScanRequest> requests = ArgumentCaptor.forClass(ScanRequest.class);
+        verify(ddb, times(4)).scan(requests.capture());
+        assertEquals(
+                List.of(0, 1, 2, 3),
+                requests.getAllValues().stream().map(ScanRequest::segment).sorted().collect(Collectors.toList())
+        );
+        assertTrue(requests.getAllValues().stream().allMatch(request -> request.totalSegments() == 4));
+    }
+
+    @Test
+    public void testBatchGetItemIsChunked() {
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.batchGetItem(any(BatchGetItemRequest.class))).thenAnswer(invocation -> {
+            final BatchGetItemRequest request = invocation.getArgument(0);
+            return BatchGetItemResponse.builder()
+                    .responses(Map.of("cities", request.requestItems().get("cities").keys()))
+                    .build();
+        });
+
+        final String keys = IntStream.range(0, 150)
+                .mapToObj(id -> "{\"Id\": {\"S\": \"" + id + "\"}}")
+                .collect(Collectors.joining(","));
+        final ActionExecutionResult result = execute(ddb, "BatchGetItem",
+                "{\"RequestItems\": {\"cities\": {\"Keys\": [" + keys + "]}}}");
+
+        assertTrue(result.getIsExecutionSuccess());
+        final Map<String, Object> responses = (Map<String, Object>) ((Map<String, Object>) result.getBody()).get("Responses");
+        assertEquals(150, ((List<?>) responses.get("cities")).size());
+
+        final ArgumentCaptor<BatchGetItemRequest> requests = ArgumentCaptor.forClass(BatchGetItemRequest.class);
+        verify(ddb, times(2)).batchGetItem(requests.capture());
+        assertEquals(100, requests.getAllValues().get(0).requestItems().get("cities").keys().size());
+        assertEquals(50, requests.getAllValues().get(1).requestItems().get("cities").keys().size());
+    }
+
+    @Test
+    public void testBatchWriteItemIsChunkedAndUnprocessedItemsAreRetried() {
+        final WriteRequest unprocessed = WriteRequest.builder()
+                .putRequest(PutRequest.builder().item(item(0)).build())
+                .build();
+
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+        when(ddb.batchWriteItem(any(BatchWriteItemRequest.class))).thenReturn(
+                BatchWriteItemResponse.builder().unprocessedItems(Map.of("cities", List.of(unprocessed))).build(),
+                BatchWriteItemResponse.builder().build(),
+                BatchWriteItemResponse.builder().build()
+        );
+
+        final String puts = IntStream.range(0, 30)
+                .mapToObj(id -> "{\"PutRequest\": {\"Item\": {\"Id\": {\"S\": \"" + id + "\"}}}}")
+                .collect(Collectors.joining(","));
+        final ActionExecutionResult result = execute(ddb, "BatchWriteItem",
+                "{\"RequestItems\": {\"cities\": [" + puts + "]}}");
+
+        assertTrue(result.getIsExecutionSuccess());
+        assertTrue(((Map<?, ?>) ((Map<String, Object>) result.getBody()).get("UnprocessedItems")).isEmpty());
+
+        final ArgumentCaptor<BatchWriteItemRequest> requests = ArgumentCaptor.forClass(BatchWriteItemRequest.class);
+        verify(ddb, times(3)).batchWriteItem(requests.capture());
+        assertEquals(25, requests.getAllValues().get(0).requestItems().get("cities").size());
+        assertEquals(List.of(unprocessed), requests.getAllValues().get(1).requestItems().get("cities"));
+        assertEquals(5, requests.getAllValues().get(2).requestItems().get("cities").size());
+    }
+
+    @Test
+    public void testInvalidMaxItems() {
+        final DynamoDbClient ddb = mock(DynamoDbClient.class);
+
+        final ActionExecutionResult result = execute(ddb, "Scan", "{\"TableName\": \"cities\"}", true, "none");
+
+        assertFalse(result.getIsExecutionSuccess());
+    }
+
+}
@@ -1,5 +1,6 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.ActionConfiguration;
@@ -9,11 +10,18 @@ import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.external.utils.BulkRequestUtils;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.Header;
+import org.apache.http.HttpEntity;
 import org.apache.http.HttpHost;
 import org.apache.http.StatusLine;
 import org.apache.http.auth.AuthScope;
@@ -23,8 +31,10 @@ import org.apache.http.entity.ContentType;
 import org.apache.http.impl.client.BasicCredentialsProvider;
 import org.apache.http.message.BasicHeader;
 import org.apache.http.nio.entity.NStringEntity;
+import org.elasticsearch.client.Cancellable;
 import org.elasticsearch.client.Request;
 import org.elasticsearch.client.Response;
+import org.elasticsearch.client.ResponseListener;
 import org.elasticsearch.client.RestClient;
 import org.elasticsearch.client.RestClientBuilder;
 import org.pf4j.Extension;
@@ -32,11 +42,12 @@ import org.pf4j.PluginWrapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.io.InputStream;
 import java.net.MalformedURLException;
 import java.net.URL;
 import java.util.ArrayList;
@@ -48,9 +59,23 @@ import java.util.Set;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
+import static com.appsmith.external.helpers.PluginUtils.getActionConfigurationPropertyPath;
+import static com.appsmith.external.helpers.PluginUtils.getPositiveLongEnv;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
 
 public class ElasticSearchPlugin extends BasePlugin {
 
+    private static final String PLUGIN_NAME = "elasticsearch-plugin";
+
+    private static final int SEARCH_AFTER_PROPERTY_INDEX = 0;
+    private static final int SCROLL_PROPERTY_INDEX = 1;
+    private static final int SCROLL_ID_PROPERTY_INDEX = 2;
+
+    private static final String SCROLL_PATH = "/_search/scroll";
+
+    private static final String MAX_BULK_SIZE_VARIABLE = "APPSMITH_ELASTICSEARCH_MAX_BULK_SIZE_IN_BYTES";
+    private static final long DEFAULT_MAX_BULK_SIZE = 5 * 1024 * 1024;
+
     public ElasticSearchPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -59,21 +84,45 @@ public class ElasticSearchPlugin extends BasePlugin {
     @Extension
     public static class ElasticSearchPluginExecutor implements PluginExecutor<RestClient> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
+
+        private static final long MAX_BULK_SIZE = getPositiveLongEnv(MAX_BULK_SIZE_VARIABLE, DEFAULT_MAX_BULK_SIZE);
+
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(RestClient client,
+                                                                ExecuteActionDTO executeActionDTO,
+                                                                DatasourceConfiguration datasourceConfiguration,
+                                                                ActionConfiguration actionConfiguration) {
+
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+
+            final PaginationField paginationField = executeActionDTO == null ? null : executeActionDTO.getPaginationField();
+            return execute(client, actionConfiguration, paginationField);
+        }
 
         @Override
         public Mono<ActionExecutionResult> execute(RestClient client,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
+            return execute(client, actionConfiguration, null);
+        }
+
+        /*
+         * - The request is sent without blocking a thread while it's in flight, and the response is parsed from the
+         *   content of its entity, as it's read.
+         * - Searches can be walked page by page with the `search_after` values of the last hit of a page, or with the
+         *   id of a scroll. Neither can go back a page, so a request for the previous page gets the first one.
+         */
+        private Mono<ActionExecutionResult> execute(RestClient client,
+                                                    ActionConfiguration actionConfiguration,
+                                                    PaginationField paginationField) {
 
             final Map<String, Object> requestData = new HashMap<>();
 
             String query = actionConfiguration.getBody();
             List<RequestParamDTO> requestParams = new ArrayList<>();
 
-            return Mono.fromCallable(() -> {
-                final ActionExecutionResult result = new ActionExecutionResult();
-
+            return Mono.defer(() -> {
                 String body = query;
 
                 final String path = actionConfiguration.getPath();
@@ -86,12 +135,7 @@ public class ElasticSearchPlugin extends BasePlugin {
                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_PATH, path, null, null, null));
                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
 
-                final Request request = new Request(httpMethod.toString(), path);
-                ContentType contentType = ContentType.APPLICATION_JSON;
-
                 if (isBulkQuery(path)) {
-                    contentType = ContentType.create("application/x-ndjson");
-
                     // If body is a JSON Array, convert it to an ND-JSON string.
                     if (body != null && body.trim().startsWith("[")) {
                         final StringBuilder ndJsonBuilder = new StringBuilder();
@@ -107,28 +151,67 @@ public class ElasticSearchPlugin extends BasePlugin {
                         }
                         body = ndJsonBuilder.toString();
                     }
+
+                    return performBulkRequest(client, httpMethod.toString(), path, body);
                 }
 
-                if (body != null) {
-                    request.setEntity(new NStringEntity(body, contentType));
+                final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+                final boolean isPreviousPage = PaginationField.PREV.equals(paginationField);
+                final String scroll = getPropertyValue(properties, SCROLL_PROPERTY_INDEX);
+                final String scrollId = isPreviousPage ? null : getPropertyValue(properties, SCROLL_ID_PROPERTY_INDEX);
+                final String searchAfter = isPreviousPage ? null : getPropertyValue(properties, SEARCH_AFTER_PROPERTY_INDEX);
+
+                final Request request;
+                if (!StringUtils.isEmpty(scrollId)) {
+                    // The next page of a scroll, instead of the search that started it.
+                    request = new Request(HttpMethod.POST.toString(), SCROLL_PATH);
+                    final ObjectNode scrollBody = objectMapper.createObjectNode().put("scroll_id", scrollId);
+                    if (!StringUtils.isEmpty(scroll)) {
+                        scrollBody.put("scroll", scroll);
+                        requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(SCROLL_PROPERTY_INDEX),
+                                scroll, null, null, null));
+                    }
+                    requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(SCROLL_ID_PROPERTY_INDEX),
+                            scrollId, null, null, null));
+                    body = scrollBody.toString();
+                } else {
+                    request = new Request(httpMethod.toString(), path);
+                    if (isSearchQuery(path)) {
+                        if (!StringUtils.isEmpty(scroll)) {
+                            request.addParameter("scroll", scroll);
+                            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(SCROLL_PROPERTY_INDEX),
+                                    scroll, null, null, null));
+                        }
+
+                        if (!StringUtils.isEmpty(searchAfter)) {
+                            try {
+                                body = addSearchAfter(body, searchAfter);
+                            } catch (IOException e) {
+                                return Mono.error(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                                        "Error adding 'Search After' values " + searchAfter + " to the body of the " +
+                                                "search: " + e.getMessage()
+                                ));
+                            }
+                            requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(SEARCH_AFTER_PROPERTY_INDEX),
+                                    searchAfter, null, null, null));
+                        }
+                    }
                 }
 
-                try {
-                    final String responseBody = new String(
-                            client.performRequest(request).getEntity().getContent().readAllBytes());
-                    result.setBody(objectMapper.readValue(responseBody, HashMap.class));
-                } catch (IOException e) {
-                    final String message = "Error performing request: " + e.getMessage();
-                    log.warn(message, e);
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message));
+                if (body != null) {
+                    request.setEntity(new NStringEntity(body, ContentType.APPLICATION_JSON));
                 }
 
-                result.setIsExecutionSuccess(true);
-                System.out.println(Thread.currentThread().getName() + ": In the Elastic Search Plugin, got action execution result");
-                return Mono.just(result);
+                return performRequest(client, request);
             })
-                    .flatMap(obj -> obj)
-                    .map(obj -> (ActionExecutionResult) obj)
+                    .map(responseBody -> {
+                        final ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(responseBody);
+                        result.setIsExecutionSuccess(true);
+                        System.out.println(Thread.currentThread().getName() + ": In the Elastic Search Plugin, got action execution result");
+                        return result;
+                    })
                     .onErrorResume(error  -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         result.setIsExecutionSuccess(false);
@@ -148,8 +231,108 @@ public class ElasticSearchPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /*
+         * - Sends the request with the async client. The response is published on the scheduler of the plugin,
+         *   instead of the I/O threads of the client, which must not be kept busy.
+         * - Cancelling the subscription cancels the request.
+         */
+        private Mono<Response> sendRequest(RestClient client, Request request) {
+            return Mono.<Response>create(sink -> {
+                final Cancellable cancellable = client.performRequestAsync(request, new ResponseListener() {
+                    @Override
+                    public void onSuccess(Response response) {
+                        sink.success(response);
+                    }
+
+                    @Override
+                    public void onFailure(Exception exception) {
+                        sink.error(exception);
+                    }
+                });
+                sink.onCancel(cancellable::cancel);
+            })
+                    .publishOn(scheduler);
+        }
+
+        private Mono<Map<String, Object>> performRequest(RestClient client, Request request) {
+            return sendRequest(client, request)
+                    .handle((response, sink) -> {
+                        final HttpEntity entity = response.getEntity();
+                        if (entity == null) {
+                            sink.next(new HashMap<String, Object>());
+                            return;
+                        }
+
+                        try (InputStream content = entity.getContent()) {
+                            sink.next(objectMapper.readValue(content, new TypeReference<HashMap<String, Object>>() {}));
+                        } catch (IOException e) {
+                            sink.error(e);
+                        }
+                    })
+                    .map(responseBody -> (Map<String, Object>) responseBody)
+                    .onErrorMap(IOException.class, e -> {
+                        final String message = "Error performing request: " + e.getMessage();
+                        log.warn(message, e);
+                        return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, message);
+                    });
+        }
+
+        /*
+         * - Bulk bodies larger than MAX_BULK_SIZE bytes are sent as separate `_bulk` requests of at most that size,
+         *   one after the other, so that the actions are still applied in order. The responses to all of them are
+         *   merged into one, as if the body had been sent whole.
+         * - If a request fails, the ones after it are not sent, and the actions of the ones before it stay applied.
+         */
+        private Mono<Map<String, Object>> performBulkRequest(RestClient client,
+                                                             String httpMethod,
+                                                             String path,
+                                                             String body) {
+            final ContentType contentType = ContentType.create("application/x-ndjson");
+
+            if (body == null) {
+                return performRequest(client, new Request(httpMethod, path));
+            }
+
+            final List<String> chunks;
+            try {
+                chunks = BulkRequestUtils.splitIntoChunks(body, MAX_BULK_SIZE);
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            if (chunks.size() <= 1) {
+                final Request request = new Request(httpMethod, path);
+                request.setEntity(new NStringEntity(body, contentType));
+                return performRequest(client, request);
+            }
+
+            return Flux.fromIterable(chunks)
+                    .concatMap(chunk -> {
+                        final Request request = new Request(httpMethod, path);
+                        request.setEntity(new NStringEntity(chunk, contentType));
+                        return performRequest(client, request);
+                    })
+                    .collectList()
+                    .map(BulkRequestUtils::mergeResponses);
+        }
+
+        private static String addSearchAfter(String body, String searchAfter) throws IOException {
+            final JsonNode searchAfterValues = objectMapper.readTree(searchAfter);
+            final JsonNode search = StringUtils.isEmpty(body) ? objectMapper.createObjectNode() : objectMapper.readTree(body);
+            if (!(search instanceof ObjectNode)) {
+                throw new IOException("The body of the search is not a JSON object.");
+            }
+
+            ((ObjectNode) search).set("search_after", searchAfterValues);
+            return search.toString();
+        }
+
         private static boolean isBulkQuery(String path) {
-            return path.split("\\?", 1)[0].matches(".*\\b_bulk$");
+            return path.split("\\?", 2)[0].matches(".*\\b_bulk$");
+        }
+
+        private static boolean isSearchQuery(String path) {
+            return path.split("\\?", 2)[0].matches(".*\\b_search$");
         }
 
         @Override
@@ -247,9 +430,9 @@ public class ElasticSearchPlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .map(client -> {
+                    .flatMap(client -> {
                         if (client == null) {
-                            return new DatasourceTestResult("Null client object to ElasticSearch.");
+                            return Mono.just(new DatasourceTestResult("Null client object to ElasticSearch."));
                         }
 
                         // This HEAD request is to check if an index exists. It response with 200 if the index exists,
@@ -257,27 +440,26 @@ public class ElasticSearchPlugin extends BasePlugin {
                         // Ref: https://www.elastic.co/guide/en/elasticsearch/reference/current/indices-exists.html
                         Request request = new Request("HEAD", "/potentially-missing-index?local=true");
 
-                        final Response response;
-                        try {
-                            response = client.performRequest(request);
-                        } catch (IOException e) {
-                            return new DatasourceTestResult("Error running HEAD request: " + e.getMessage());
-                        }
-
-                        final StatusLine statusLine = response.getStatusLine();
-
-                        try {
-                            client.close();
-                        } catch (IOException e) {
-                            log.warn("Error closing ElasticSearch client that was made for testing.", e);
-                        }
-
-                        if (statusLine.getStatusCode() != 404 && statusLine.getStatusCode() != 200) {
-                            return new DatasourceTestResult(
-                                    "Unexpected response from ElasticSearch: " + statusLine);
-                        }
-
-                        return new DatasourceTestResult();
+                        return sendRequest(client, request)
+                                .map(response -> {
+                                    final StatusLine statusLine = response.getStatusLine();
+
+                                    if (statusLine.getStatusCode() != 404 && statusLine.getStatusCode() != 200) {
+                                        return new DatasourceTestResult(
+                                                "Unexpected response from ElasticSearch: " + statusLine);
+                                    }
+
+                                    return new DatasourceTestResult();
+                                })
+                                .onErrorResume(IOException.class, e -> Mono.just(
+                                        new DatasourceTestResult("Error running HEAD request: " + e.getMessage())))
+                                .doFinally(signalType -> {
+                                    try {
+                                        client.close();
+                                    } catch (IOException e) {
+                                        log.warn("Error closing ElasticSearch client that was made for testing.", e);
+                                    }
+                                });
                     })
                     .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())))
                     .subscribeOn(scheduler);
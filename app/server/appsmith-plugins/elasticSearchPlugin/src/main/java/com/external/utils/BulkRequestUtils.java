@@ -0,0 +1,108 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class BulkRequestUtils {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    // The only bulk action that isn't followed by a line with the source of the document.
+    private static final String DELETE_ACTION = "delete";
+
+    /**
+     * Splits the ND-JSON body of a `_bulk` request into bodies of at most maxChunkSize bytes each, without separating
+     * an action from the source of its document. An action that is larger than maxChunkSize on its own is sent alone.
+     *
+     * @param ndJson       : Body of the request, with an action, or the source of a document, per line
+     * @param maxChunkSize : Most bytes that a body can have
+     * @return The bodies to send, in order, as separate `_bulk` requests
+     */
+    public static List<String> splitIntoChunks(String ndJson, long maxChunkSize) throws AppsmithPluginException {
+        final List<String> chunks = new ArrayList<>();
+        final StringBuilder chunk = new StringBuilder();
+        long chunkSize = 0;
+
+        final String[] lines = ndJson.split("\n");
+        int i = 0;
+        while (i < lines.length) {
+            if (lines[i].isBlank()) {
+                i++;
+                continue;
+            }
+
+            final StringBuilder action = new StringBuilder(lines[i]).append("\n");
+            if (!isDeleteAction(lines[i]) && i + 1 < lines.length) {
+                action.append(lines[i + 1]).append("\n");
+                i++;
+            }
+            i++;
+
+            final long actionSize = action.toString().getBytes(StandardCharsets.UTF_8).length;
+            if (chunkSize > 0 && chunkSize + actionSize > maxChunkSize) {
+                chunks.add(chunk.toString());
+                chunk.setLength(0);
+                chunkSize = 0;
+            }
+
+            chunk.append(action);
+            chunkSize += actionSize;
+        }
+
+        if (chunkSize > 0) {
+            chunks.add(chunk.toString());
+        }
+
+        return chunks;
+    }
+
+    /**
+     * Merges the responses to the `_bulk` requests of the chunks of a body into the response that Elasticsearch would
+     * have sent for the whole body: the time taken is the sum of the chunks, there are errors if any chunk has them,
+     * and the items of the chunks are listed in order.
+     */
+    public static Map<String, Object> mergeResponses(List<Map<String, Object>> responses) {
+        long took = 0;
+        boolean errors = false;
+        final List<Object> items = new ArrayList<>();
+
+        for (Map<String, Object> response : responses) {
+            if (response.get("took") instanceof Number) {
+                took += ((Number) response.get("took")).longValue();
+            }
+            errors |= Boolean.TRUE.equals(response.get("errors"));
+            if (response.get("items") instanceof List) {
+                items.addAll((List<Object>) response.get("items"));
+            }
+        }
+
+        final Map<String, Object> merged = new HashMap<>();
+        merged.put("took", took);
+        merged.put("errors", errors);
+        merged.put("items", items);
+        return merged;
+    }
+
+    private static boolean isDeleteAction(String line) throws AppsmithPluginException {
+        final JsonNode action;
+        try {
+            action = objectMapper.readTree(line);
+        } catch (IOException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                    "Error parsing bulk action " + line + ": " + e.getMessage()
+            );
+        }
+
+        return action != null && action.isObject() && action.has(DELETE_ACTION);
+    }
+}
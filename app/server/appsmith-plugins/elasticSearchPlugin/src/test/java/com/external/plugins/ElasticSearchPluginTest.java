@@ -1,9 +1,12 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.http.HttpHost;
@@ -25,6 +28,7 @@ import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
@@ -68,11 +72,43 @@ public class ElasticSearchPluginTest {
         request.setJsonEntity("{\"name\": \"Earth\"}");
         client.performRequest(request);
 
+        for (int n = 1; n <= 5; n++) {
+            request = new Request("PUT", "/moons/_doc/moon" + n);
+            request.addParameter("refresh", "true");
+            request.setJsonEntity("{\"n\": " + n + "}");
+            client.performRequest(request);
+        }
+
         client.close();
 
         dsConfig.setEndpoints(List.of(new Endpoint(host, port.longValue())));
     }
 
+    private Mono<ActionExecutionResult> search(String path,
+                                               String body,
+                                               List<Property> properties,
+                                               PaginationField paginationField) {
+        final ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setHttpMethod(HttpMethod.POST);
+        actionConfiguration.setPath(path);
+        actionConfiguration.setBody(body);
+        actionConfiguration.setPluginSpecifiedTemplates(properties);
+
+        final ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPaginationField(paginationField);
+
+        return pluginExecutor
+                .datasourceCreate(dsConfig)
+                .flatMap(conn -> pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+    }
+
+    private static List<Object> getHitValues(ActionExecutionResult result) {
+        final Map<String, Object> hits = (Map<String, Object>) ((Map<String, Object>) result.getBody()).get("hits");
+        return ((List<Map<String, Object>>) hits.get("hits")).stream()
+                .map(hit -> ((Map<String, Object>) hit.get("_source")).get("n"))
+                .collect(Collectors.toList());
+    }
+
     private Mono<ActionExecutionResult> execute(HttpMethod method, String path, String body) {
         final ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setHttpMethod(method);
@@ -304,4 +340,51 @@ public class ElasticSearchPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testSearchAfter() {
+        final String body = "{\"size\": 2, \"sort\": [{\"n\": \"asc\"}]}";
+
+        StepVerifier.create(search("/moons/_search", body, List.of(new Property("searchAfter", "[2]")), PaginationField.NEXT))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(List.of(3, 4), getHitValues(result));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSearchAfterIsNotAppliedForPreviousPage() {
+        final String body = "{\"size\": 2, \"sort\": [{\"n\": \"asc\"}]}";
+
+        StepVerifier.create(search("/moons/_search", body, List.of(new Property("searchAfter", "[2]")), PaginationField.PREV))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(List.of(1, 2), getHitValues(result));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testScroll() {
+        final String body = "{\"size\": 2, \"sort\": [{\"n\": \"asc\"}]}";
+
+        final ActionExecutionResult firstPage = search("/moons/_search", body,
+                List.of(new Property("searchAfter", null), new Property("scroll", "1m")), null).block();
+        assertTrue(firstPage.getIsExecutionSuccess());
+        assertEquals(List.of(1, 2), getHitValues(firstPage));
+        final String scrollId = (String) ((Map<String, Object>) firstPage.getBody()).get("_scroll_id");
+        assertNotNull(scrollId);
+
+        StepVerifier.create(search("/moons/_search", body, List.of(
+                new Property("searchAfter", null),
+                new Property("scroll", "1m"),
+                new Property("scrollId", scrollId)
+        ), PaginationField.NEXT))
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    assertEquals(List.of(3, 4), getHitValues(result));
+                })
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,70 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import org.junit.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+public class BulkRequestUtilsTest {
+
+    private static final String INDEX_ONE = "{\"index\":{\"_index\":\"test\",\"_id\":\"1\"}}\n{\"field1\":\"value1\"}\n";
+    private static final String DELETE_TWO = "{\"delete\":{\"_index\":\"test\",\"_id\":\"2\"}}\n";
+    private static final String CREATE_THREE = "{\"create\":{\"_index\":\"test\",\"_id\":\"3\"}}\n{\"field1\":\"value3\"}\n";
+
+    @Test
+    public void testBodyWithinLimitIsKeptWhole() {
+        final String body = INDEX_ONE + DELETE_TWO + CREATE_THREE;
+
+        assertEquals(List.of(body), BulkRequestUtils.splitIntoChunks(body, 1024));
+    }
+
+    @Test
+    public void testActionsAreNotSeparatedFromTheirSource() {
+        final String body = INDEX_ONE + DELETE_TWO + CREATE_THREE;
+
+        // Room for the index action and its source, but not for the delete action after them.
+        final List<String> chunks = BulkRequestUtils.splitIntoChunks(body, INDEX_ONE.length() + 1);
+
+        assertEquals(List.of(INDEX_ONE, DELETE_TWO, CREATE_THREE), chunks);
+    }
+
+    @Test
+    public void testActionsFillChunksUpToLimit() {
+        final String body = DELETE_TWO + DELETE_TWO + DELETE_TWO + "\n";
+
+        final List<String> chunks = BulkRequestUtils.splitIntoChunks(body, DELETE_TWO.length() * 2);
+
+        assertEquals(List.of(DELETE_TWO + DELETE_TWO, DELETE_TWO), chunks);
+    }
+
+    @Test
+    public void testInvalidActionIsAnArgumentError() {
+        try {
+            BulkRequestUtils.splitIntoChunks("{\"index\":\n{}\n", 1024);
+            fail("Expected an exception for the invalid action.");
+        } catch (AppsmithPluginException e) {
+            assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getError());
+        }
+    }
+
+    @Test
+    public void testResponsesAreMergedInOrder() {
+        final Map<String, Object> merged = BulkRequestUtils.mergeResponses(List.of(
+                Map.of("took", 3, "errors", false, "items", List.of(Map.of("index", Map.of("_id", "1")))),
+                Map.of("took", 4, "errors", true, "items", List.of(Map.of("delete", Map.of("_id", "2"))))
+        ));
+
+        assertEquals(7L, merged.get("took"));
+        assertTrue((Boolean) merged.get("errors"));
+        assertEquals(
+                List.of(Map.of("index", Map.of("_id", "1")), Map.of("delete", Map.of("_id", "2"))),
+                merged.get("items")
+        );
+    }
+}
@@ -25,6 +25,7 @@ import com.google.cloud.firestore.FieldValue;
 import com.google.cloud.firestore.Firestore;
 import com.google.cloud.firestore.Query;
 import com.google.cloud.firestore.QuerySnapshot;
+import com.google.cloud.firestore.WriteBatch;
 import com.google.cloud.firestore.WriteResult;
 import com.google.firebase.FirebaseApp;
 import com.google.firebase.FirebaseOptions;
@@ -35,9 +36,9 @@ import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
@@ -47,16 +48,18 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
-import java.util.concurrent.ExecutionException;
 import java.util.stream.Collectors;
 import java.util.stream.StreamSupport;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_PATH;
 import static com.appsmith.external.helpers.PluginUtils.getActionConfigurationPropertyPath;
+import static com.appsmith.external.helpers.PluginUtils.getPropertyValue;
+import static com.external.utils.ApiFutureUtils.toMono;
 import static com.external.utils.WhereConditionUtils.applyWhereConditional;
 
 /**
@@ -78,6 +81,8 @@ public class FirestorePlugin extends BasePlugin {
     private static final int FIELDVALUE_TIMESTAMP_PROPERTY_INDEX = 8;
     private static final int FIELDVALUE_DELETE_PROPERTY_INDEX = 9;
     private static final String FIELDVALUE_TIMESTAMP_METHOD_NAME = "serverTimestamp";
+    private static final String PLUGIN_NAME = "firestore-plugin";
+    private static final int MAX_BATCH_SIZE = 500;
 
     public FirestorePlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -87,7 +92,7 @@ public class FirestorePlugin extends BasePlugin {
     @Extension
     public static class FirestorePluginExecutor implements PluginExecutor<Firestore> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         @Override
         @Deprecated
@@ -171,12 +176,18 @@ public class FirestorePlugin extends BasePlugin {
                         }
 
                         try {
+                            if (method.isBatch()) {
+                                return Mono.just(parseBatchBody(strBody, method));
+                            }
+
                             return Mono.just(objectMapper.readValue(strBody, HashMap.class));
                         } catch (IOException e) {
                             return Mono.error(new AppsmithPluginException(
                                     AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                                     e.getMessage()
                             ));
+                        } catch (AppsmithPluginException e) {
+                            return Mono.error(e);
                         }
                     })
                     .flatMap(mapBody -> {
@@ -247,6 +258,55 @@ public class FirestorePlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        /*
+         * - The body of the batch methods has the documents to write, by their ids in the collection:
+         *   - SET_DOCUMENTS and UPDATE_DOCUMENTS: {"id1": {...fields}, "id2": {...fields}}
+         *   - DELETE_DOCUMENTS: ["id1", "id2"]
+         * - The documents are returned by their ids, in the order of the body, with an empty body for the ones to
+         *   delete.
+         */
+        private Map<String, Object> parseBatchBody(String strBody, Method method) throws IOException,
+                AppsmithPluginException {
+
+            final Map<String, Object> documents = new LinkedHashMap<>();
+
+            if (Method.DELETE_DOCUMENTS.equals(method)) {
+                final List<String> documentIds = objectMapper.readValue(strBody, new TypeReference<List<String>>(){});
+                documentIds.forEach(documentId -> documents.put(documentId, new HashMap<String, Object>()));
+                return documents;
+            }
+
+            final Map<String, Object> body = objectMapper.readValue(strBody, new TypeReference<LinkedHashMap<String,
+                    Object>>(){});
+            for (Map.Entry<String, Object> entry : body.entrySet()) {
+                if (!(entry.getValue() instanceof Map)) {
+                    throw new AppsmithPluginException(
+                            AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                            "The method " + method.toString() + " needs the body to map the id of every document " +
+                                    "to a JSON object of its fields, but the value for the id '" + entry.getKey() +
+                                    "' is not an object."
+                    );
+                }
+                documents.put(entry.getKey(), entry.getValue());
+            }
+
+            return documents;
+        }
+
+        /*
+         * - The bodies of the documents that the FieldValue.xyz() values go into: the bodies of each document for the
+         *   batch methods, and the whole body for the rest.
+         */
+        private List<Map<String, Object>> getDocumentBodies(Map<String, Object> mapBody, Method method) {
+            if (!method.isBatch()) {
+                return List.of(mapBody);
+            }
+
+            return mapBody.values().stream()
+                    .map(documentBody -> (Map<String, Object>) documentBody)
+                    .collect(Collectors.toList());
+        }
+
         /*
          * - Update mapBody with FieldValue.xyz() values if the FieldValue paths are provided.
          */
@@ -259,6 +319,7 @@ public class FirestorePlugin extends BasePlugin {
              * - Check that FieldValue.delete() option is only available for UPDATE operation.
              */
             if(!Method.UPDATE_DOCUMENT.equals(method)
+                    && !Method.UPDATE_DOCUMENTS.equals(method)
                     && properties.size() > FIELDVALUE_DELETE_PROPERTY_INDEX
                     && properties.get(FIELDVALUE_DELETE_PROPERTY_INDEX) != null
                     && !StringUtils.isEmpty((String) properties.get(FIELDVALUE_DELETE_PROPERTY_INDEX).getValue())) {
@@ -298,8 +359,8 @@ public class FirestorePlugin extends BasePlugin {
                  * - dot notation is safe to use with delete FieldValue because this FieldValue only works with update
                  *   operation.
                  */
-                deletePathsList.stream()
-                        .forEach(path -> mapBody.put(path, FieldValue.delete()));
+                getDocumentBodies(mapBody, method).forEach(documentBody -> deletePathsList.stream()
+                        .forEach(path -> documentBody.put(path, FieldValue.delete())));
             }
 
             /*
@@ -307,7 +368,8 @@ public class FirestorePlugin extends BasePlugin {
              */
             if((Method.GET_DOCUMENT.equals(method)
                     || Method.GET_COLLECTION.equals(method)
-                    || Method.DELETE_DOCUMENT.equals(method))
+                    || Method.DELETE_DOCUMENT.equals(method)
+                    || Method.DELETE_DOCUMENTS.equals(method))
                     && properties.size() > FIELDVALUE_TIMESTAMP_PROPERTY_INDEX
                     && properties.get(FIELDVALUE_TIMESTAMP_PROPERTY_INDEX) != null
                     && !StringUtils.isEmpty((String) properties.get(FIELDVALUE_TIMESTAMP_PROPERTY_INDEX).getValue())) {
@@ -350,7 +412,8 @@ public class FirestorePlugin extends BasePlugin {
                 List<List<String>> timestampPathsArrayList = new ArrayList<>();
                 timestampPathsStringList.stream()
                         .forEach(dottedPath -> timestampPathsArrayList.add(List.of(dottedPath.split("\\."))));
-                insertFieldValueByMethodName(mapBody, timestampPathsArrayList, FIELDVALUE_TIMESTAMP_METHOD_NAME);
+                getDocumentBodies(mapBody, method).forEach(documentBody ->
+                        insertFieldValueByMethodName(documentBody, timestampPathsArrayList, FIELDVALUE_TIMESTAMP_METHOD_NAME));
             }
         }
 
@@ -448,7 +511,7 @@ public class FirestorePlugin extends BasePlugin {
 
                         }
                     })
-                    // Call that method and get a Future of the result.
+                    // Call that method and consume the Future of the result, as it completes.
                     .flatMap(operationMethod -> {
                         DocumentReference document = connection.document(path);
                         Object objFuture;
@@ -469,16 +532,7 @@ public class FirestorePlugin extends BasePlugin {
 
                         }
 
-                        return Mono.just((ApiFuture<Object>) objFuture);
-                    })
-                    // Consume the Future to get the actual result object.
-                    .flatMap(resultFuture -> {
-                        try {
-
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
+                        return toMono(() -> (ApiFuture<Object>) objFuture);
                     })
                     // Build a response object with the result.
                     .flatMap(objResult1 -> {
@@ -515,6 +569,10 @@ public class FirestorePlugin extends BasePlugin {
                 requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
                 return methodAddToCollection(collection, mapBody);
 
+            } else if (method.isBatch()) {
+                requestParams.add(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null, null, null));
+                return methodWriteInBatches(connection, collection, method, mapBody);
+
             }
 
             return Mono.error(new AppsmithPluginException(
@@ -523,26 +581,12 @@ public class FirestorePlugin extends BasePlugin {
             ));
         }
 
-        private String getPropertyAt(List<Property> properties, int index, String defaultValue) {
-            if (properties.size() <= index) {
-                return defaultValue;
-            }
-
-            final Property property = properties.get(index);
-            if (property == null) {
-                return defaultValue;
-            }
-
-            final String value = (String) property.getValue();
-            return value != null ? value : defaultValue;
-        }
-
         private Mono<ActionExecutionResult> methodGetCollection(CollectionReference query, List<Property> properties,
                                                                 PaginationField paginationField,
                                                                 List<RequestParamDTO> requestParams) {
-            final String limitString = getPropertyAt(properties, LIMIT_PROPERTY_INDEX, "10");
+            final String limitString = getPropertyValue(properties, LIMIT_PROPERTY_INDEX, "10");
             final int limit = StringUtils.isEmpty(limitString) ? 10 : Integer.parseInt(limitString);
-            final String orderByString = getPropertyAt(properties, ORDER_PROPERTY_INDEX, "");
+            final String orderByString = getPropertyValue(properties, ORDER_PROPERTY_INDEX, "");
             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(ORDER_PROPERTY_INDEX),
                     orderByString, null, null, null));
 
@@ -555,7 +599,7 @@ public class FirestorePlugin extends BasePlugin {
             }
 
             Map<String, Object> startAfterTemp = null;
-            final String startAfterJson = getPropertyAt(properties, START_AFTER_PROPERTY_INDEX, "{}");
+            final String startAfterJson = getPropertyValue(properties, START_AFTER_PROPERTY_INDEX, "{}");
             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(START_AFTER_PROPERTY_INDEX),
                     startAfterJson, null, null, null));
             if (PaginationField.NEXT.equals(paginationField)) {
@@ -567,7 +611,7 @@ public class FirestorePlugin extends BasePlugin {
             }
 
             Map<String, Object> endBeforeTemp = null;
-            final String endBeforeJson = getPropertyAt(properties, END_BEFORE_PROPERTY_INDEX, "{}");
+            final String endBeforeJson = getPropertyValue(properties, END_BEFORE_PROPERTY_INDEX, "{}");
             requestParams.add(new RequestParamDTO(getActionConfigurationPropertyPath(END_BEFORE_PROPERTY_INDEX),
                     endBeforeJson, null, null, null));
             if (PaginationField.PREV.equals(paginationField)) {
@@ -657,16 +701,8 @@ public class FirestorePlugin extends BasePlugin {
                     })
                     // Apply limit, always provided, since without it we can inadvertently end up processing too much data.
                     .map(query1 -> query1.limit(limit))
-                    // Run the Firestore query to get a Future of the results.
-                    .map(Query::get)
-                    // Consume the future to get the actual results.
-                    .flatMap(resultFuture -> {
-                        try {
-                            return Mono.just(resultFuture.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
-                        }
-                    })
+                    // Run the Firestore query and consume the Future of the results, as it completes.
+                    .flatMap(query1 -> toMono(query1::get))
                     // Build response object with the results from the Future.
                     .flatMap(objResult1 -> {
                         ActionExecutionResult result = new ActionExecutionResult();
@@ -704,17 +740,7 @@ public class FirestorePlugin extends BasePlugin {
         }
 
         private Mono<ActionExecutionResult> methodAddToCollection(CollectionReference collection, Map<String, Object> mapBody) {
-            return Mono.justOrEmpty(collection.add(mapBody))
-                    .flatMap(future -> {
-                        try {
-                            return Mono.just(future.get());
-                        } catch (InterruptedException | ExecutionException e) {
-                            return Mono.error(new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_ERROR,
-                                    e.getMessage()
-                            ));
-                        }
-                    })
+            return toMono(() -> collection.add(mapBody))
                     .flatMap(opResult -> {
                         ActionExecutionResult result = new ActionExecutionResult();
                         try {
@@ -731,6 +757,71 @@ public class FirestorePlugin extends BasePlugin {
                     });
         }
 
+        /*
+         * - Writes the documents in batches of at most MAX_BATCH_SIZE operations, the most that Firestore allows in a
+         *   batch, so that a write of many documents takes one round trip per batch instead of one per document.
+         * - Every batch is committed atomically, one after the other. If a batch fails, the ones before it stay
+         *   committed, and the ones after it aren't sent.
+         */
+        private Mono<ActionExecutionResult> methodWriteInBatches(Firestore connection,
+                                                                 CollectionReference collection,
+                                                                 Method method,
+                                                                 Map<String, Object> documents) {
+
+            return Flux.fromIterable(documents.entrySet())
+                    .buffer(MAX_BATCH_SIZE)
+                    .index()
+                    .concatMap(indexedBatch -> {
+                        final List<Map.Entry<String, Object>> batchDocuments = indexedBatch.getT2();
+                        final WriteBatch batch = connection.batch();
+                        for (Map.Entry<String, Object> document : batchDocuments) {
+                            final DocumentReference documentReference = collection.document(document.getKey());
+                            final Map<String, Object> documentBody = (Map<String, Object>) document.getValue();
+                            switch (method) {
+                                case SET_DOCUMENTS:
+                                    batch.set(documentReference, documentBody);
+                                    break;
+                                case UPDATE_DOCUMENTS:
+                                    batch.update(documentReference, documentBody);
+                                    break;
+                                case DELETE_DOCUMENTS:
+                                    batch.delete(documentReference);
+                                    break;
+                                default:
+                                    return Mono.error(new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_ERROR,
+                                            "Invalid batch method " + method.toString()
+                                    ));
+                            }
+                        }
+
+                        return toMono(batch::commit)
+                                .onErrorMap(error -> new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_ERROR,
+                                        "Failed to write the documents from position " +
+                                                (indexedBatch.getT1() * MAX_BATCH_SIZE + 1) + " onwards, the " +
+                                                "documents before it have been written. " + error.getMessage()
+                                ))
+                                .flatMapIterable(writeResults -> {
+                                    final List<Map<String, Object>> results = new ArrayList<>();
+                                    for (int i = 0; i < writeResults.size(); i++) {
+                                        final Map<String, Object> resultMap = new HashMap<>();
+                                        resultMap.put("id", batchDocuments.get(i).getKey());
+                                        resultMap.put("lastUpdateTime", writeResults.get(i).getUpdateTime());
+                                        results.add(resultMap);
+                                    }
+                                    return results;
+                                });
+                    })
+                    .collectList()
+                    .map(results -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        result.setBody(results);
+                        result.setIsExecutionSuccess(true);
+                        return result;
+                    });
+        }
+
         private Object resultToMap(Object objResult) throws AppsmithPluginException {
             return resultToMap(objResult, true);
         }
@@ -8,14 +8,23 @@ public enum Method {
     ADD_TO_COLLECTION(false, false),
     UPDATE_DOCUMENT(true, false),
     DELETE_DOCUMENT(true, false),
+    SET_DOCUMENTS(false, true, true),
+    UPDATE_DOCUMENTS(false, true, true),
+    DELETE_DOCUMENTS(false, true, true),
     ;
 
     private final boolean isDocumentLevel;
     private final boolean isBodyNeeded;
+    private final boolean isBatch;
 
     Method(boolean isDocumentLevel, boolean isBodyNeeded) {
+        this(isDocumentLevel, isBodyNeeded, false);
+    }
+
+    Method(boolean isDocumentLevel, boolean isBodyNeeded, boolean isBatch) {
         this.isDocumentLevel = isDocumentLevel;
         this.isBodyNeeded = isBodyNeeded;
+        this.isBatch = isBatch;
     }
 
     public boolean isDocumentLevel() {
@@ -25,4 +34,11 @@ public enum Method {
     public boolean isBodyNeeded() {
         return isBodyNeeded;
     }
+
+    /**
+     * @return Whether the method writes many documents of a collection, in batches, instead of a single one.
+     */
+    public boolean isBatch() {
+        return isBatch;
+    }
 }
@@ -0,0 +1,46 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.google.api.core.ApiFuture;
+import com.google.api.core.ApiFutureCallback;
+import com.google.api.core.ApiFutures;
+import com.google.common.util.concurrent.MoreExecutors;
+import reactor.core.publisher.Mono;
+
+import java.util.function.Supplier;
+
+public class ApiFutureUtils {
+
+    /**
+     * Bridges a future of the Firestore SDK to a Mono, without blocking a thread while the call is in flight. The
+     * result is published from the thread that completes the future, which is one of the SDK's own.
+     *
+     * The call is only made when the Mono is subscribed to, and the future is cancelled if the subscription is.
+     *
+     * @param futureSupplier : Makes the call to Firestore and returns the future of its result
+     * @return A Mono of the result, or of an AppsmithPluginException if the call fails
+     */
+    public static <T> Mono<T> toMono(Supplier<ApiFuture<T>> futureSupplier) {
+        return Mono.<T>create(sink -> {
+            final ApiFuture<T> future = futureSupplier.get();
+            sink.onCancel(() -> future.cancel(false));
+
+            ApiFutures.addCallback(future, new ApiFutureCallback<T>() {
+                @Override
+                public void onSuccess(T result) {
+                    sink.success(result);
+                }
+
+                @Override
+                public void onFailure(Throwable error) {
+                    sink.error(error);
+                }
+            }, MoreExecutors.directExecutor());
+        })
+                .onErrorMap(
+                        error -> !(error instanceof AppsmithPluginException),
+                        error -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, error.getMessage())
+                );
+    }
+}
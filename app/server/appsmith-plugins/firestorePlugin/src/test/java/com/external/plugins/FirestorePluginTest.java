@@ -1086,4 +1086,125 @@ public class FirestorePluginTest {
                 ((Map)((List)actionConfiguration.getPluginSpecifiedTemplates().get(3).getValue()).get(0)).get(
                         "value"));
     }
+
+    @Test
+    public void testSetDocumentsInBatches() throws JsonProcessingException {
+        // More documents than fit in a single batch.
+        final Map<String, Object> documents = new HashMap<>();
+        for (int i = 1; i <= 501; i++) {
+            documents.put("doc" + i, Map.of("n", i));
+        }
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch-set");
+        actionConfiguration.setBody(new ObjectMapper().writeValueAsString(documents));
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "SET_DOCUMENTS")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final List<Map<String, Object>> results = (List<Map<String, Object>>) result.getBody();
+                    assertEquals(501, results.size());
+                    assertNotNull(results.get(0).get("lastUpdateTime"));
+
+                    try {
+                        assertEquals(501, firestoreConnection.collection("batch-set").get().get().size());
+                        final DocumentSnapshot documentSnapshot = firestoreConnection.document("batch-set/doc501").get().get();
+                        assertEquals(501L, documentSnapshot.getLong("n").longValue());
+                    } catch (InterruptedException | ExecutionException e) {
+                        e.printStackTrace();
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testUpdateDocumentsWithTimestampValuePath() throws ExecutionException, InterruptedException {
+        firestoreConnection.document("batch-update/one").set(Map.of("value", 1)).get();
+        firestoreConnection.document("batch-update/two").set(Map.of("value", 2)).get();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch-update");
+        actionConfiguration.setBody("{\"one\": {\"value\": 10}, \"two\": {\"value\": 20}}");
+
+        List<Property> pluginSpecifiedTemplates = new ArrayList<>();
+        pluginSpecifiedTemplates.add(new Property("method", "UPDATE_DOCUMENTS"));
+        for (int i = 1; i < 8; i++) {
+            pluginSpecifiedTemplates.add(null);
+        }
+        pluginSpecifiedTemplates.add(new Property("timestampValuePath", "[\"updatedAt\"]"));
+        actionConfiguration.setPluginSpecifiedTemplates(pluginSpecifiedTemplates);
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    final List<Map<String, Object>> results = (List<Map<String, Object>>) result.getBody();
+                    assertEquals(List.of("one", "two"),
+                            results.stream().map(item -> item.get("id")).collect(Collectors.toList()));
+
+                    try {
+                        final DocumentSnapshot one = firestoreConnection.document("batch-update/one").get().get();
+                        assertEquals(10L, one.getLong("value").longValue());
+                        assertNotNull(one.getTimestamp("updatedAt"));
+                        final DocumentSnapshot two = firestoreConnection.document("batch-update/two").get().get();
+                        assertEquals(20L, two.getLong("value").longValue());
+                        assertNotNull(two.getTimestamp("updatedAt"));
+                    } catch (InterruptedException | ExecutionException e) {
+                        e.printStackTrace();
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testDeleteDocuments() throws ExecutionException, InterruptedException {
+        firestoreConnection.document("batch-delete/one").set(Map.of("value", 1)).get();
+        firestoreConnection.document("batch-delete/two").set(Map.of("value", 2)).get();
+        firestoreConnection.document("batch-delete/three").set(Map.of("value", 3)).get();
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch-delete");
+        actionConfiguration.setBody("[\"one\", \"two\"]");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "DELETE_DOCUMENTS")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertTrue(result.getIsExecutionSuccess());
+                    try {
+                        assertFalse(firestoreConnection.document("batch-delete/one").get().get().exists());
+                        assertFalse(firestoreConnection.document("batch-delete/two").get().get().exists());
+                        assertTrue(firestoreConnection.document("batch-delete/three").get().get().exists());
+                    } catch (InterruptedException | ExecutionException e) {
+                        e.printStackTrace();
+                    }
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSetDocumentsWithInvalidBody() {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPath("batch-invalid");
+        actionConfiguration.setBody("{\"one\": 1}");
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("method", "SET_DOCUMENTS")));
+
+        Mono<ActionExecutionResult> resultMono = pluginExecutor
+                .executeParameterized(firestoreConnection, null, dsConfig, actionConfiguration);
+
+        StepVerifier.create(resultMono)
+                .assertNext(result -> {
+                    assertFalse(result.getIsExecutionSuccess());
+                    assertEquals(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR.getTitle(), result.getTitle());
+                })
+                .verifyComplete();
+    }
 }
@@ -0,0 +1,63 @@
+package com.external.utils;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.google.api.core.SettableApiFuture;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.external.utils.ApiFutureUtils.toMono;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class ApiFutureUtilsTest {
+
+    @Test
+    public void testResultIsPublishedWhenFutureCompletes() {
+        final SettableApiFuture<String> future = SettableApiFuture.create();
+        final AtomicInteger calls = new AtomicInteger();
+
+        final Mono<String> resultMono = toMono(() -> {
+            calls.incrementAndGet();
+            return future;
+        });
+
+        // The call is only made on subscription.
+        assertEquals(0, calls.get());
+
+        StepVerifier.create(resultMono)
+                .then(() -> future.set("done"))
+                .expectNext("done")
+                .verifyComplete();
+
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void testFailureIsMappedToPluginError() {
+        final SettableApiFuture<String> future = SettableApiFuture.create();
+
+        StepVerifier.create(toMono(() -> future))
+                .then(() -> future.setException(new IllegalStateException("Deadline exceeded")))
+                .expectErrorSatisfies(error -> {
+                    assertTrue(error instanceof AppsmithPluginException);
+                    assertEquals(AppsmithPluginError.PLUGIN_ERROR, ((AppsmithPluginException) error).getError());
+                    assertEquals("Deadline exceeded", error.getMessage());
+                })
+                .verify();
+    }
+
+    @Test
+    public void testFutureIsCancelledWithSubscription() {
+        final SettableApiFuture<String> future = SettableApiFuture.create();
+
+        StepVerifier.create(toMono(() -> future))
+                .thenCancel()
+                .verify();
+
+        assertTrue(future.isCancelled());
+    }
+}
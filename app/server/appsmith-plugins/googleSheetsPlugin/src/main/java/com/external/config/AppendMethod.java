@@ -7,7 +7,6 @@ import com.external.domains.RowObject;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import com.fasterxml.jackson.databind.type.TypeFactory;
 import com.google.api.services.sheets.v4.model.ValueRange;
 import org.springframework.http.HttpMethod;
@@ -17,7 +16,6 @@ import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
@@ -70,12 +68,7 @@ public class AppendMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
-        final GetValuesMethod getValuesMethod = new GetValuesMethod(this.objectMapper);
-
+    public Mono<Object> executePrerequisites(WebClient client, MethodConfig methodConfig, OAuth2 oauth2) {
         RowObject rowObjectFromBody = null;
         try {
             rowObjectFromBody = this.getRowObjectFromBody(this.objectMapper.readTree(methodConfig.getRowObject()));
@@ -83,86 +76,40 @@ public class AppendMethod implements Method {
             // Should never enter here
         }
         assert rowObjectFromBody != null;
-        final MethodConfig newMethodConfig = methodConfig
-                .toBuilder()
-                .queryFormat("ROWS")
-                .rowOffset(String.valueOf(Integer.parseInt(methodConfig.getTableHeaderIndex()) - 1))
-                .rowLimit("1")
-                .build();
-
-        getValuesMethod.validateMethodRequest(newMethodConfig);
 
         RowObject finalRowObjectFromBody = rowObjectFromBody;
-        return getValuesMethod
-                .getClient(client, newMethodConfig)
-                .headers(headers -> headers.set(
-                        "Authorization",
-                        "Bearer " + oauth2.getAuthenticationResponse().getToken()))
-                .exchange()
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(response -> {
-                    // Choose body depending on response status
-                    byte[] responseBody = response.getBody();
-
-                    if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Could not map request back to existing data"));
-                    }
-                    String jsonBody = new String(responseBody);
-                    JsonNode jsonNodeBody;
-                    try {
-                        jsonNodeBody = objectMapper.readTree(jsonBody);
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                new String(responseBody),
-                                e.getMessage()
-                        ));
+        return SheetMetadata.getHeaders(client, methodConfig, oauth2, this.objectMapper)
+                .map(headers -> {
+                    // We replace these original values with new ones
+                    final Map<String, String> valueMap = new LinkedHashMap<>();
+                    boolean validValues = false;
+                    final Map<String, String> inputValueMap = finalRowObjectFromBody.getValueMap();
+
+                    for (JsonNode header : headers) {
+                        final String value = inputValueMap.getOrDefault(header.asText(), null);
+                        if (value != null) {
+                            validValues = true;
+                        }
+                        valueMap.put(header.asText(), value);
                     }
-                    if (jsonNodeBody == null) {
+                    if (Boolean.TRUE.equals(validValues)) {
+                        finalRowObjectFromBody.setValueMap(valueMap);
+                    } else {
                         throw Exceptions.propagate(new AppsmithPluginException(
                                 AppsmithPluginError.PLUGIN_ERROR,
-                                "Expected to receive a response of existing headers."));
+                                "Could not map values to existing data."));
                     }
-
-                    ArrayNode valueRanges = (ArrayNode) jsonNodeBody.get("valueRanges");
-                    ArrayNode values = (ArrayNode) valueRanges.get(0).get("values");
-
-                    // We replace these original values with new ones
-                    if (values != null && !values.isEmpty()) {
-                        ArrayNode headers = (ArrayNode) values.get(0);
-                        if (headers != null && !headers.isEmpty()) {
-                            final Map<String, String> valueMap = new LinkedHashMap<>();
-                            boolean validValues = false;
-                            final Map<String, String> inputValueMap = finalRowObjectFromBody.getValueMap();
-
-                            for (JsonNode header : headers) {
-                                final String value = inputValueMap.getOrDefault(header.asText(), null);
-                                if (value != null) {
-                                    validValues = true;
-                                }
-                                valueMap.put(header.asText(), value);
-                            }
-                            if (Boolean.TRUE.equals(validValues)) {
-                                finalRowObjectFromBody.setValueMap(valueMap);
-                            } else {
-                                throw Exceptions.propagate(new AppsmithPluginException(
-                                        AppsmithPluginError.PLUGIN_ERROR,
-                                        "Could not map values to existing data."));
-                            }
-                            methodConfig.setBody(finalRowObjectFromBody);
-                            return methodConfig;
-                        }
-                    }
-
+                    methodConfig.setBody(finalRowObjectFromBody);
+                    return (Object) methodConfig;
+                })
+                .switchIfEmpty(Mono.fromSupplier(() -> {
+                    // The sheet has no headers yet, so they're appended from the keys of the row
                     final LinkedHashMap<String, String> headerMap = new LinkedHashMap<>(finalRowObjectFromBody.getValueMap());
                     headerMap.replaceAll((k, v) -> k);
                     methodConfig.setBody(List.of(new RowObject(headerMap), finalRowObjectFromBody));
 
                     return methodConfig;
-
-                });
+                }));
     }
 
     @Override
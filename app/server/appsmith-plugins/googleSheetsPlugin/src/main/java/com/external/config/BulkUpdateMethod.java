@@ -71,10 +71,7 @@ public class BulkUpdateMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
+    public Mono<Object> executePrerequisites(WebClient client, MethodConfig methodConfig, OAuth2 oauth2) {
         final GetValuesMethod getValuesMethod = new GetValuesMethod(this.objectMapper);
 
         Map<Integer, RowObject> rowObjectMapFromBody = null;
@@ -125,6 +122,9 @@ public class BulkUpdateMethod implements Method {
                         ));
                     }
 
+                    // The header row is read along with the rows, so it's kept for the writes that follow
+                    SheetMetadata.putHeaders(methodConfig, oauth2, jsonNodeBody);
+
                     // This is the object with the original values in the referred row
                     final JsonNode jsonNode = getValuesMethod
                             .transformResponse(jsonNodeBody, methodConfig);
@@ -2,6 +2,8 @@ package com.external.config;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.utils.SheetMetadataCache;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -47,4 +49,18 @@ public class ClearMethod implements Method {
                 .body(BodyInserters.empty());
     }
 
+    @Override
+    public JsonNode transformResponse(JsonNode response, MethodConfig methodConfig) {
+        if (response == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Missing a valid response object.");
+        }
+
+        // The range may have held header rows
+        SheetMetadataCache.getShared().invalidate(methodConfig.getSpreadsheetId());
+
+        return response;
+    }
+
 }
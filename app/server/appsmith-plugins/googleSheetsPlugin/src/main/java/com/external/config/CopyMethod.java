@@ -2,6 +2,9 @@ package com.external.config;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.external.utils.SheetMetadataCache;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
@@ -45,4 +48,28 @@ public class CopyMethod implements Method {
                 .body(BodyInserters.fromObject(methodConfig.getRowObjects()));
     }
 
+    @Override
+    public JsonNode transformResponse(JsonNode response, MethodConfig methodConfig) {
+        if (response == null) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Missing a valid response object.");
+        }
+
+        // The copy is a new sheet in the destination spreadsheet
+        SheetMetadataCache.getShared().invalidate(methodConfig.getSpreadsheetId());
+        try {
+            final JsonNode destinationSpreadsheetId = this.objectMapper
+                    .readTree(methodConfig.getRowObjects())
+                    .get("destinationSpreadsheetId");
+            if (destinationSpreadsheetId != null) {
+                SheetMetadataCache.getShared().invalidate(destinationSpreadsheetId.asText());
+            }
+        } catch (JsonProcessingException e) {
+            // The request would have failed with a body that isn't JSON
+        }
+
+        return response;
+    }
+
 }
@@ -9,10 +9,8 @@ import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -64,56 +62,10 @@ public class DeleteRowMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
-        UriComponentsBuilder uriBuilder = getBaseUriBuilder(this.BASE_SHEETS_API_URL,
-                methodConfig.getSpreadsheetId());
-        uriBuilder.queryParam("fields", "sheets/properties");
-        return client.method(HttpMethod.GET)
-                .uri(uriBuilder.build(false).toUri())
-                .body(BodyInserters.empty())
-                .headers(headers -> headers.set(
-                        "Authorization",
-                        "Bearer " + oauth2.getAuthenticationResponse().getToken()))
-                .exchange()
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(response -> {// Choose body depending on response status
-                    byte[] responseBody = response.getBody();
-
-                    if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Could not map request back to existing data"));
-                    }
-                    String jsonBody = new String(responseBody);
-                    JsonNode sheets = null;
-                    try {
-                        sheets = objectMapper.readTree(jsonBody).get("sheets");
-                    } catch (IOException e) {
-                        Mono.error(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                new String(responseBody),
-                                e.getMessage()
-                        ));
-                    }
-
-                    assert sheets != null;
-                    String sheetId = null;
-                    for (JsonNode sheet : sheets) {
-                        final JsonNode properties = sheet.get("properties");
-                        if (methodConfig.getSheetName().equals(properties.get("title").asText())) {
-                            sheetId = properties.get("sheetId").asText();
-                        }
-                    }
-
-                    if (sheetId == null) {
-                        throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unknown Sheet Name"));
-                    } else {
-                        methodConfig.setSheetId(sheetId);
-                    }
-
+    public Mono<Object> executePrerequisites(WebClient client, MethodConfig methodConfig, OAuth2 oauth2) {
+        return SheetMetadata.getSheetId(client, methodConfig, oauth2, this.objectMapper)
+                .map(sheetId -> {
+                    methodConfig.setSheetId(sheetId);
                     return methodConfig;
                 });
     }
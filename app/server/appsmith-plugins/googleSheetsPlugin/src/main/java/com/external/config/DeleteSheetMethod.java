@@ -4,17 +4,15 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
 import com.external.constants.GoogleSheets;
+import com.external.utils.SheetMetadataCache;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.databind.node.ArrayNode;
 import org.springframework.http.HttpMethod;
 import org.springframework.web.reactive.function.BodyInserters;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
-import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
 
-import java.io.IOException;
 import java.util.List;
 import java.util.Map;
 
@@ -43,62 +41,14 @@ public class DeleteSheetMethod implements Method {
     }
 
     @Override
-    public Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
+    public Mono<Object> executePrerequisites(WebClient client, MethodConfig methodConfig, OAuth2 oauth2) {
         if (GoogleSheets.SPREADSHEET.equalsIgnoreCase(methodConfig.getDeleteFormat())) {
             return Mono.just(true);
         }
 
-        WebClient client = WebClient.builder()
-                .exchangeStrategies(EXCHANGE_STRATEGIES)
-                .build();
-        UriComponentsBuilder uriBuilder = getBaseUriBuilder(this.BASE_SHEETS_API_URL,
-                methodConfig.getSpreadsheetId())
-                .queryParam("includeGridData", false);
-
-        return client.method(HttpMethod.GET)
-                .uri(uriBuilder.build(false).toUri())
-                .body(BodyInserters.empty())
-                .headers(headers -> headers.set(
-                        "Authorization",
-                        "Bearer " + oauth2.getAuthenticationResponse().getToken()))
-                .exchange()
-                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                .map(response -> {// Choose body depending on response status
-                    byte[] responseBody = response.getBody();
-
-                    if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_ERROR,
-                                "Could not map request back to existing data"));
-                    }
-                    String jsonBody = new String(responseBody);
-                    JsonNode jsonNodeBody;
-                    try {
-                        jsonNodeBody = objectMapper.readTree(jsonBody);
-                    } catch (IOException e) {
-                        throw Exceptions.propagate(new AppsmithPluginException(
-                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                new String(responseBody),
-                                e.getMessage()
-                        ));
-                    }
-
-                    final ArrayNode sheets = (ArrayNode) jsonNodeBody.get("sheets");
-
-                    String sheetId = null;
-                    for (JsonNode sheet : sheets) {
-                        final JsonNode properties = sheet.get("properties");
-                        if (methodConfig.getSheetName().equals(properties.get("title").asText())) {
-                            sheetId = properties.get("sheetId").asText();
-                        }
-                    }
-
-                    if (sheetId == null) {
-                        throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unknown Sheet Name"));
-                    } else {
-                        methodConfig.setSheetId(sheetId);
-                    }
-
+        return SheetMetadata.getSheetId(client, methodConfig, oauth2, this.objectMapper)
+                .map(sheetId -> {
+                    methodConfig.setSheetId(sheetId);
                     return methodConfig;
                 });
     }
@@ -138,6 +88,9 @@ public class DeleteSheetMethod implements Method {
                     "Missing a valid response object.");
         }
 
+        // The ids of the sheets, or the whole spreadsheet, are gone
+        SheetMetadataCache.getShared().invalidate(methodConfig.getSpreadsheetId());
+
         return this.objectMapper.valueToTree(Map.of("message", "Deleted sheet successfully!"));
     }
 
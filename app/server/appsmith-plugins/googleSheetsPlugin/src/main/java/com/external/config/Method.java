@@ -4,7 +4,6 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.models.OAuth2;
 import com.fasterxml.jackson.databind.JsonNode;
-import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.Exceptions;
@@ -23,11 +22,6 @@ public interface Method {
 
     String BASE_DRIVE_API_URL = "https://www.googleapis.com/drive/v3/files/";
 
-    ExchangeStrategies EXCHANGE_STRATEGIES = ExchangeStrategies
-            .builder()
-            .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(/* 10MB */ 10 * 1024 * 1024))
-            .build();
-
     default UriComponentsBuilder getBaseUriBuilder(String baseUri, String path) {
         return getBaseUriBuilder(baseUri, path, false);
     }
@@ -55,7 +49,12 @@ public interface Method {
 
     boolean validateMethodRequest(MethodConfig methodConfig);
 
-    default Mono<Object> executePrerequisites(MethodConfig methodConfig, OAuth2 oauth2) {
+    /**
+     * Runs the requests that the method needs before its own, like finding the header row of the sheet.
+     *
+     * @param client : Long-lived client of the plugin, to send the requests with
+     */
+    default Mono<Object> executePrerequisites(WebClient client, MethodConfig methodConfig, OAuth2 oauth2) {
         return Mono.just(true);
     }
 
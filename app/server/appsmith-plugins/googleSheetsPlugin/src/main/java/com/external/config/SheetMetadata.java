@@ -0,0 +1,186 @@
+package com.external.config;
+
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
+import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.models.OAuth2;
+import com.external.utils.SheetMetadataCache;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.reactive.function.BodyInserters;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.util.UriComponentsBuilder;
+import reactor.core.Exceptions;
+import reactor.core.publisher.Mono;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Reads the header rows and the sheet ids that the write methods need before their own request, through the
+ * {@link SheetMetadataCache}.
+ */
+public class SheetMetadata {
+
+    private static final String SHEET_IDS_ITEM = "sheetIds";
+
+    private SheetMetadata() {
+    }
+
+    /**
+     * @return The header row of the sheet, or nothing if the sheet doesn't have one yet
+     */
+    static Mono<ArrayNode> getHeaders(WebClient client,
+                                      MethodConfig methodConfig,
+                                      OAuth2 oauth2,
+                                      ObjectMapper objectMapper) {
+
+        final GetValuesMethod getValuesMethod = new GetValuesMethod(objectMapper);
+        final MethodConfig newMethodConfig = methodConfig
+                .toBuilder()
+                .queryFormat("ROWS")
+                .rowOffset(String.valueOf(Integer.parseInt(methodConfig.getTableHeaderIndex()) - 1))
+                .rowLimit("1")
+                .build();
+
+        getValuesMethod.validateMethodRequest(newMethodConfig);
+
+        return SheetMetadataCache.getShared().get(
+                methodConfig.getSpreadsheetId(),
+                getHeadersItem(methodConfig),
+                getToken(oauth2),
+                () -> getValuesMethod
+                        .getClient(client, newMethodConfig)
+                        .headers(headers -> headers.set("Authorization", "Bearer " + getToken(oauth2)))
+                        .exchange()
+                        .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                        .flatMap(response -> {
+                            final JsonNode jsonNodeBody = readBody(response, objectMapper);
+                            if (jsonNodeBody == null) {
+                                throw Exceptions.propagate(new AppsmithPluginException(
+                                        AppsmithPluginError.PLUGIN_ERROR,
+                                        "Expected to receive a response of existing headers."));
+                            }
+
+                            return Mono.justOrEmpty(findHeaders(jsonNodeBody));
+                        })
+        );
+    }
+
+    /**
+     * Caches the header row of the sheet from the response of a `values:batchGet` request whose first range is the
+     * header row, as sent by {@link GetValuesMethod} for the ROWS query format.
+     */
+    static void putHeaders(MethodConfig methodConfig, OAuth2 oauth2, JsonNode batchGetResponse) {
+        SheetMetadataCache.getShared().put(
+                methodConfig.getSpreadsheetId(),
+                getHeadersItem(methodConfig),
+                getToken(oauth2),
+                findHeaders(batchGetResponse)
+        );
+    }
+
+    /**
+     * @return The id of the sheet named in the config. A sheet that isn't found in the cached ids is looked up again,
+     * in case it was added since.
+     */
+    static Mono<String> getSheetId(WebClient client,
+                                   MethodConfig methodConfig,
+                                   OAuth2 oauth2,
+                                   ObjectMapper objectMapper) {
+
+        final String sheetName = methodConfig.getSheetName();
+        return getSheetIds(client, methodConfig, oauth2, objectMapper)
+                .flatMap(sheetIds -> Mono.justOrEmpty(sheetIds.get(sheetName)))
+                .switchIfEmpty(Mono.defer(() -> {
+                    SheetMetadataCache.getShared().invalidate(methodConfig.getSpreadsheetId());
+                    return getSheetIds(client, methodConfig, oauth2, objectMapper)
+                            .flatMap(sheetIds -> Mono.justOrEmpty(sheetIds.get(sheetName)));
+                }))
+                .switchIfEmpty(Mono.error(() -> Exceptions.propagate(
+                        new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unknown Sheet Name"))));
+    }
+
+    private static Mono<Map<String, String>> getSheetIds(WebClient client,
+                                                         MethodConfig methodConfig,
+                                                         OAuth2 oauth2,
+                                                         ObjectMapper objectMapper) {
+
+        return SheetMetadataCache.getShared().get(
+                methodConfig.getSpreadsheetId(),
+                SHEET_IDS_ITEM,
+                getToken(oauth2),
+                () -> {
+                    final UriComponentsBuilder uriBuilder = UriComponentsBuilder
+                            .fromHttpUrl(Method.BASE_SHEETS_API_URL + methodConfig.getSpreadsheetId())
+                            .queryParam("fields", "sheets/properties");
+
+                    return client.method(HttpMethod.GET)
+                            .uri(uriBuilder.build(false).toUri())
+                            .body(BodyInserters.empty())
+                            .headers(headers -> headers.set("Authorization", "Bearer " + getToken(oauth2)))
+                            .exchange()
+                            .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                            .map(response -> {
+                                final JsonNode sheets = readBody(response, objectMapper).get("sheets");
+
+                                final Map<String, String> sheetIds = new HashMap<>();
+                                if (sheets != null) {
+                                    for (JsonNode sheet : sheets) {
+                                        final JsonNode properties = sheet.get("properties");
+                                        sheetIds.put(properties.get("title").asText(), properties.get("sheetId").asText());
+                                    }
+                                }
+
+                                return sheetIds;
+                            });
+                }
+        );
+    }
+
+    private static ArrayNode findHeaders(JsonNode batchGetResponse) {
+        final JsonNode valueRanges = batchGetResponse.get("valueRanges");
+        if (valueRanges == null || valueRanges.isEmpty()) {
+            return null;
+        }
+
+        final JsonNode values = valueRanges.get(0).get("values");
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+
+        final ArrayNode headers = (ArrayNode) values.get(0);
+        return headers == null || headers.isEmpty() ? null : headers;
+    }
+
+    private static JsonNode readBody(ResponseEntity<byte[]> response, ObjectMapper objectMapper) {
+        byte[] responseBody = response.getBody();
+
+        if (responseBody == null || !response.getStatusCode().is2xxSuccessful()) {
+            throw Exceptions.propagate(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_ERROR,
+                    "Could not map request back to existing data"));
+        }
+
+        try {
+            return objectMapper.readTree(new String(responseBody));
+        } catch (IOException e) {
+            throw Exceptions.propagate(new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
+                    new String(responseBody),
+                    e.getMessage()
+            ));
+        }
+    }
+
+    private static String getHeadersItem(MethodConfig methodConfig) {
+        return "headers:" + methodConfig.getTableHeaderIndex() + ":" + methodConfig.getSheetName();
+    }
+
+    private static String getToken(OAuth2 oauth2) {
+        return oauth2.getAuthenticationResponse().getToken();
+    }
+}
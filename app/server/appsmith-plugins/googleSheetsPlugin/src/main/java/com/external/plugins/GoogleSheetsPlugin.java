@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.HttpConnectionPool;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
@@ -10,27 +11,38 @@ import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.Property;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.external.config.AppendMethod;
 import com.external.config.GoogleSheetsMethodStrategy;
 import com.external.config.Method;
 import com.external.config.MethodConfig;
+import com.external.domains.RowObject;
+import com.external.utils.RateLimitRetry;
+import com.external.utils.WriteCoalescer;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
 import org.springframework.util.CollectionUtils;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import reactor.core.Exceptions;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
+import java.time.Duration;
 import java.util.List;
 import java.util.Set;
 
+import static com.appsmith.external.helpers.PluginUtils.getPositiveIntegerEnv;
+
 public class GoogleSheetsPlugin extends BasePlugin {
 
+    private static final String PLUGIN_NAME = "google-sheets-plugin";
+
     // Setting max content length. This would've been coming from `spring.codec.max-in-memory-size` property if the
     // `WebClient` instance was loaded as an auto-wired bean.
     public static final ExchangeStrategies EXCHANGE_STRATEGIES = ExchangeStrategies
@@ -38,6 +50,12 @@ public class GoogleSheetsPlugin extends BasePlugin {
             .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(/* 10MB */ 10 * 1024 * 1024))
             .build();
 
+    private static final String APPEND_COALESCING_WINDOW_VARIABLE = "APPSMITH_GOOGLE_SHEETS_APPEND_COALESCING_WINDOW_MS";
+
+    private static final String APPEND_COALESCING_MAX_ROWS_VARIABLE = "APPSMITH_GOOGLE_SHEETS_APPEND_COALESCING_MAX_ROWS";
+
+    private static final int DEFAULT_APPEND_COALESCING_MAX_ROWS = 100;
+
     public GoogleSheetsPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -46,6 +64,17 @@ public class GoogleSheetsPlugin extends BasePlugin {
     @Extension
     public static class GoogleSheetsPluginExecutor implements PluginExecutor<Void> {
 
+        // All the datasources call the same Google APIs, so they share a long-lived client on the plugin's connection
+        // pool. The token of the datasource is set on every request.
+        private final WebClient client = WebClient.builder()
+                .clientConnector(HttpConnectionPool.getShared(PLUGIN_NAME).getConnector())
+                .exchangeStrategies(EXCHANGE_STRATEGIES)
+                .build();
+
+        // Appends of single rows to the same sheet, that come within a few milliseconds of each other, are sent as one
+        // request, so that bursts of them don't use up the quota of requests to Google. Off unless a window is set.
+        private static final WriteCoalescer<RowObject, ResponseEntity<byte[]>> appendCoalescer = createAppendCoalescer();
+
         @Override
         public Mono<ActionExecutionResult> execute(Void connection,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -72,29 +101,17 @@ public class GoogleSheetsPlugin extends BasePlugin {
             // Convert unreadable map to a DTO
             MethodConfig methodConfig = new MethodConfig(properties);
 
-            // Initializing webClient to be used for http call
-            WebClient.Builder webClientBuilder = WebClient.builder();
-
             method.validateMethodRequest(methodConfig);
 
-            WebClient client = webClientBuilder
-                    .exchangeStrategies(EXCHANGE_STRATEGIES)
-                    .build();
-
             // Authentication will already be valid at this point
             final OAuth2 oauth2 = (OAuth2) datasourceConfiguration.getAuthentication();
             assert (oauth2.getAuthenticationResponse() != null);
 
             // Triggering the actual REST API call
-            return method.executePrerequisites(methodConfig, oauth2)
+            return method.executePrerequisites(client, methodConfig, oauth2)
                     // This method call will populate the request with all the configurations it needs for a particular method
                     .flatMap(res -> {
-                        return method.getClient(client, methodConfig)
-                                .headers(headers -> headers.set(
-                                        "Authorization",
-                                        "Bearer " + oauth2.getAuthenticationResponse().getToken()))
-                                .exchange()
-                                .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
+                        return sendRequest(method, methodConfig, oauth2)
                                 .map(response -> {
                                     // Populate result object
                                     ActionExecutionResult result = new ActionExecutionResult();
@@ -163,6 +180,47 @@ public class GoogleSheetsPlugin extends BasePlugin {
                     });
         }
 
+        private Mono<ResponseEntity<byte[]>> sendRequest(Method method, MethodConfig methodConfig, OAuth2 oauth2) {
+            // Appends of rows to sheets that already have headers can be sent together with others to the same sheet
+            if (appendCoalescer != null
+                    && method instanceof AppendMethod
+                    && methodConfig.getBody() instanceof RowObject) {
+
+                final List<String> key = List.of(
+                        methodConfig.getSpreadsheetId(),
+                        methodConfig.getSheetName(),
+                        methodConfig.getTableHeaderIndex(),
+                        oauth2.getAuthenticationResponse().getToken()
+                );
+
+                return appendCoalescer.submit(key, (RowObject) methodConfig.getBody(), rows -> {
+                    final MethodConfig batchMethodConfig = methodConfig.toBuilder().body(rows).build();
+                    return RateLimitRetry.withRetries(() -> exchange(method, batchMethodConfig, oauth2));
+                });
+            }
+
+            return exchange(method, methodConfig, oauth2);
+        }
+
+        private Mono<ResponseEntity<byte[]>> exchange(Method method, MethodConfig methodConfig, OAuth2 oauth2) {
+            return method.getClient(client, methodConfig)
+                    .headers(headers -> headers.set(
+                            "Authorization",
+                            "Bearer " + oauth2.getAuthenticationResponse().getToken()))
+                    .exchange()
+                    .flatMap(clientResponse -> clientResponse.toEntity(byte[].class));
+        }
+
+        private static WriteCoalescer<RowObject, ResponseEntity<byte[]>> createAppendCoalescer() {
+            final int windowMillis = getPositiveIntegerEnv(APPEND_COALESCING_WINDOW_VARIABLE, 0);
+            if (windowMillis == 0) {
+                return null;
+            }
+
+            final int maxRows = getPositiveIntegerEnv(APPEND_COALESCING_MAX_ROWS_VARIABLE, DEFAULT_APPEND_COALESCING_MAX_ROWS);
+            return new WriteCoalescer<>(Duration.ofMillis(windowMillis), Math.max(maxRows, 1), Schedulers.parallel());
+        }
+
         @Override
         public Mono<Void> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             return Mono.empty();
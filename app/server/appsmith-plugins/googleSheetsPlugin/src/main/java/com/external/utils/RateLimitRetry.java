@@ -0,0 +1,68 @@
+package com.external.utils;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+
+/**
+ * Sends a request again while Google answers that the quota of the project has been used up, as described in
+ * https://developers.google.com/sheets/api/limits#exponential
+ */
+public class RateLimitRetry {
+
+    private static final int MAX_RETRIES = 5;
+
+    private static final Duration INITIAL_BACKOFF = Duration.ofSeconds(1);
+
+    private static final Duration MAX_BACKOFF = Duration.ofSeconds(32);
+
+    private static final long MAX_JITTER_MILLIS = 1000;
+
+    /**
+     * @param request : Sends the request, every time that it is subscribed to
+     * @return The first response that isn't rate limited, or the last one if all the retries were rate limited
+     */
+    public static Mono<ResponseEntity<byte[]>> withRetries(Supplier<Mono<ResponseEntity<byte[]>>> request) {
+        return withRetries(request, 0);
+    }
+
+    private static Mono<ResponseEntity<byte[]>> withRetries(Supplier<Mono<ResponseEntity<byte[]>>> request,
+                                                            int attempt) {
+        return Mono.defer(request)
+                .flatMap(response -> {
+                    if (response.getStatusCode() != HttpStatus.TOO_MANY_REQUESTS || attempt >= MAX_RETRIES) {
+                        return Mono.just(response);
+                    }
+
+                    final long jitterMillis = ThreadLocalRandom.current().nextLong(MAX_JITTER_MILLIS);
+                    return Mono.delay(getRetryDelay(response.getHeaders(), attempt).plusMillis(jitterMillis))
+                            .then(withRetries(request, attempt + 1));
+                });
+    }
+
+    /**
+     * @return The delay that the `Retry-After` header asks for, in seconds, or else one that doubles with every
+     * attempt, up to MAX_BACKOFF. Jitter is not included.
+     */
+    static Duration getRetryDelay(HttpHeaders headers, int attempt) {
+        final String retryAfter = headers.getFirst(HttpHeaders.RETRY_AFTER);
+        if (retryAfter != null) {
+            try {
+                final long seconds = Long.parseLong(retryAfter.trim());
+                if (seconds >= 0) {
+                    return Duration.ofSeconds(seconds);
+                }
+            } catch (NumberFormatException e) {
+                // An HTTP date isn't expected from Google, fall back to the backoff below.
+            }
+        }
+
+        final Duration backoff = INITIAL_BACKOFF.multipliedBy(1L << Math.min(attempt, 30));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+}
@@ -0,0 +1,130 @@
+package com.external.utils;
+
+import lombok.AllArgsConstructor;
+import lombok.EqualsAndHashCode;
+import reactor.core.publisher.Mono;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Keeps what the write methods need to know about a spreadsheet before their own request, like the header row of a
+ * sheet or the ids of its sheets, for a short while, so that consecutive writes don't each read them again.
+ *
+ * Writes that need the same item at the same time share a single request for it. Entries are kept per OAuth token, so
+ * that a datasource is only ever given what its own account was allowed to read.
+ */
+public class SheetMetadataCache {
+
+    private static final Duration DEFAULT_TTL = Duration.ofSeconds(30);
+
+    private static final SheetMetadataCache SHARED = new SheetMetadataCache(DEFAULT_TTL);
+
+    private final long ttlNanos;
+
+    private final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+
+    public SheetMetadataCache(Duration ttl) {
+        this.ttlNanos = ttl.toNanos();
+    }
+
+    /**
+     * @return The cache that all the executions of the plugin share
+     */
+    public static SheetMetadataCache getShared() {
+        return SHARED;
+    }
+
+    /**
+     * Gives the cached value of the item, or fetches it if it isn't cached, or its entry has expired. The fetch is
+     * only made once for all the callers that ask for the item while it's in flight. Errors and empty results are not
+     * kept, so that the next caller fetches the item again.
+     *
+     * @param spreadsheetId : Spreadsheet that the item is about, by which it is invalidated
+     * @param item          : Name of the item, unique in the spreadsheet
+     * @param token         : OAuth token that the item is fetched with
+     * @param fetch         : Makes the request for the item
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Mono<T> get(String spreadsheetId, String item, String token, Supplier<Mono<T>> fetch) {
+        final Key key = new Key(spreadsheetId, item, token);
+        final long now = System.nanoTime();
+
+        final Entry cached = entries.get(key);
+        if (cached != null && !cached.isExpired(now)) {
+            return (Mono<T>) cached.value;
+        }
+
+        removeExpired(now);
+        final Entry entry = entries.compute(key, (k, current) -> current != null && !current.isExpired(now)
+                ? current
+                : new Entry(k, Mono.defer(fetch), now + ttlNanos));
+
+        return (Mono<T>) entry.value;
+    }
+
+    /**
+     * Caches a value of the item that was read along with another request.
+     */
+    public void put(String spreadsheetId, String item, String token, Object value) {
+        if (value == null) {
+            return;
+        }
+
+        final Key key = new Key(spreadsheetId, item, token);
+        entries.put(key, new Entry(key, Mono.just(value), System.nanoTime() + ttlNanos));
+    }
+
+    /**
+     * Drops all the cached items of the spreadsheet, for all tokens, after a change to its structure.
+     */
+    public void invalidate(String spreadsheetId) {
+        if (spreadsheetId == null) {
+            return;
+        }
+
+        entries.keySet().removeIf(key -> spreadsheetId.equals(key.spreadsheetId));
+    }
+
+    int size() {
+        return entries.size();
+    }
+
+    private void removeExpired(long now) {
+        entries.values().removeIf(entry -> entry.isExpired(now));
+    }
+
+    @AllArgsConstructor
+    @EqualsAndHashCode
+    private static class Key {
+        private final String spreadsheetId;
+        private final String item;
+        private final String token;
+    }
+
+    private class Entry {
+
+        private final Mono<Object> value;
+
+        private final long expiresAt;
+
+        Entry(Key key, Mono<?> source, long expiresAt) {
+            this.value = source
+                    .cast(Object.class)
+                    .doOnSuccess(result -> {
+                        if (result == null) {
+                            entries.remove(key, this);
+                        }
+                    })
+                    .doOnError(error -> entries.remove(key, this))
+                    .cache();
+            this.expiresAt = expiresAt;
+        }
+
+        boolean isExpired(long now) {
+            return now - expiresAt >= 0;
+        }
+    }
+}
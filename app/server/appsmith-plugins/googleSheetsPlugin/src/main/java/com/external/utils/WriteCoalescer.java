@@ -0,0 +1,110 @@
+package com.external.utils;
+
+import reactor.core.Disposable;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoSink;
+import reactor.core.scheduler.Scheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Gathers writes that go to the same place into batches, so that they're sent as a single request. A batch is sent
+ * once it has been open for the window, or once it has maxItems writes, whichever comes first. Every write of a batch
+ * is given the result of its request.
+ *
+ * A write is part of the request of its batch even if its caller cancels the subscription before the batch is sent.
+ *
+ * @param <T> : Type of the writes
+ * @param <R> : Type of the result of the request of a batch
+ */
+public class WriteCoalescer<T, R> {
+
+    private final long windowMillis;
+
+    private final int maxItems;
+
+    private final Scheduler scheduler;
+
+    private final Map<Object, Batch> batches = new HashMap<>();
+
+    public WriteCoalescer(Duration window, int maxItems, Scheduler scheduler) {
+        this.windowMillis = window.toMillis();
+        this.maxItems = maxItems;
+        this.scheduler = scheduler;
+    }
+
+    /**
+     * @param key  : Where the write goes. Writes with equal keys are sent together.
+     * @param item : The write
+     * @param send : Sends the request of the batch, if this write opens it
+     * @return The result of the request that the write was sent with
+     */
+    public Mono<R> submit(Object key, T item, Function<List<T>, Mono<R>> send) {
+        return Mono.create(sink -> {
+            Batch full = null;
+            synchronized (batches) {
+                Batch batch = batches.get(key);
+                if (batch == null) {
+                    final Batch newBatch = new Batch(send);
+                    newBatch.timer = scheduler.schedule(() -> flush(key, newBatch), windowMillis, TimeUnit.MILLISECONDS);
+                    batches.put(key, newBatch);
+                    batch = newBatch;
+                }
+
+                batch.items.add(item);
+                batch.sinks.add(sink);
+
+                if (batch.items.size() >= maxItems) {
+                    batches.remove(key);
+                    batch.timer.dispose();
+                    full = batch;
+                }
+            }
+
+            if (full != null) {
+                full.send();
+            }
+        });
+    }
+
+    private void flush(Object key, Batch batch) {
+        synchronized (batches) {
+            if (batches.get(key) != batch) {
+                // The batch was sent when it filled up
+                return;
+            }
+            batches.remove(key);
+        }
+
+        batch.send();
+    }
+
+    private class Batch {
+
+        private final Function<List<T>, Mono<R>> send;
+
+        private final List<T> items = new ArrayList<>();
+
+        private final List<MonoSink<R>> sinks = new ArrayList<>();
+
+        private Disposable timer;
+
+        Batch(Function<List<T>, Mono<R>> send) {
+            this.send = send;
+        }
+
+        void send() {
+            Mono.defer(() -> send.apply(items)).subscribe(
+                    result -> sinks.forEach(sink -> sink.success(result)),
+                    error -> sinks.forEach(sink -> sink.error(error)),
+                    () -> sinks.forEach(MonoSink::success)
+            );
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.external.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import reactor.core.publisher.Mono;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class RateLimitRetryTest {
+
+    @Test
+    public void testGetRetryDelay_retryAfterHeader_followed() {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(HttpHeaders.RETRY_AFTER, "7");
+
+        Assert.assertEquals(Duration.ofSeconds(7), RateLimitRetry.getRetryDelay(headers, 3));
+    }
+
+    @Test
+    public void testGetRetryDelay_noHeader_exponentialBackoff() {
+        HttpHeaders headers = new HttpHeaders();
+
+        Assert.assertEquals(Duration.ofSeconds(1), RateLimitRetry.getRetryDelay(headers, 0));
+        Assert.assertEquals(Duration.ofSeconds(4), RateLimitRetry.getRetryDelay(headers, 2));
+        Assert.assertEquals(Duration.ofSeconds(32), RateLimitRetry.getRetryDelay(headers, 10));
+    }
+
+    @Test
+    public void testWithRetries_rateLimited_retriedUntilSuccess() {
+        AtomicInteger requests = new AtomicInteger();
+
+        StepVerifier.withVirtualTime(() -> RateLimitRetry.withRetries(() -> Mono.fromSupplier(() ->
+                requests.incrementAndGet() < 3
+                        ? new ResponseEntity<byte[]>(HttpStatus.TOO_MANY_REQUESTS)
+                        : new ResponseEntity<>(new byte[0], HttpStatus.OK))))
+                .thenAwait(Duration.ofMinutes(1))
+                .assertNext(response -> Assert.assertEquals(HttpStatus.OK, response.getStatusCode()))
+                .verifyComplete();
+
+        Assert.assertEquals(3, requests.get());
+    }
+
+    @Test
+    public void testWithRetries_otherErrors_notRetried() {
+        AtomicInteger requests = new AtomicInteger();
+
+        StepVerifier.create(RateLimitRetry.withRetries(() -> Mono.fromSupplier(() -> {
+            requests.incrementAndGet();
+            return new ResponseEntity<byte[]>(HttpStatus.BAD_REQUEST);
+        })))
+                .assertNext(response -> Assert.assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode()))
+                .verifyComplete();
+
+        Assert.assertEquals(1, requests.get());
+    }
+}
@@ -0,0 +1,118 @@
+package com.external.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Mono;
+import reactor.core.publisher.MonoProcessor;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class SheetMetadataCacheTest {
+
+    @Test
+    public void testGet_cachedValue_fetchesOnce() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ofMinutes(1));
+        AtomicInteger fetches = new AtomicInteger();
+
+        for (int i = 0; i < 3; i++) {
+            StepVerifier.create(cache.get("spreadsheet", "headers", "token", () -> {
+                fetches.incrementAndGet();
+                return Mono.just("value");
+            }))
+                    .expectNext("value")
+                    .verifyComplete();
+        }
+
+        Assert.assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void testGet_concurrentCallers_shareFetch() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ofMinutes(1));
+        AtomicInteger fetches = new AtomicInteger();
+        MonoProcessor<String> response = MonoProcessor.create();
+
+        Mono<String> first = cache.get("spreadsheet", "headers", "token", () -> {
+            fetches.incrementAndGet();
+            return response;
+        });
+        Mono<String> second = cache.get("spreadsheet", "headers", "token", () -> {
+            fetches.incrementAndGet();
+            return Mono.just("other");
+        });
+
+        StepVerifier.create(Mono.zip(first, second))
+                .then(() -> response.onNext("value"))
+                .assertNext(tuple -> {
+                    Assert.assertEquals("value", tuple.getT1());
+                    Assert.assertEquals("value", tuple.getT2());
+                })
+                .verifyComplete();
+
+        Assert.assertEquals(1, fetches.get());
+    }
+
+    @Test
+    public void testGet_differentTokens_fetchSeparately() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ofMinutes(1));
+
+        cache.put("spreadsheet", "headers", "token1", "value1");
+
+        StepVerifier.create(cache.get("spreadsheet", "headers", "token2", () -> Mono.just("value2")))
+                .expectNext("value2")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testGet_expiredEntry_fetchesAgain() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ZERO);
+        AtomicInteger fetches = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            StepVerifier.create(cache.get("spreadsheet", "headers", "token", () -> Mono.just(fetches.incrementAndGet())))
+                    .expectNext(i + 1)
+                    .verifyComplete();
+        }
+
+        // Expired entries are removed when a new one is added
+        Assert.assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testGet_errorOrEmpty_notCached() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ofMinutes(1));
+
+        StepVerifier.create(cache.get("spreadsheet", "headers", "token",
+                () -> Mono.error(new IllegalStateException("Quota exceeded"))))
+                .expectError(IllegalStateException.class)
+                .verify();
+
+        StepVerifier.create(cache.get("spreadsheet", "headers", "token", Mono::empty))
+                .verifyComplete();
+
+        StepVerifier.create(cache.get("spreadsheet", "headers", "token", () -> Mono.just("value")))
+                .expectNext("value")
+                .verifyComplete();
+    }
+
+    @Test
+    public void testInvalidate_dropsOnlyThatSpreadsheet() {
+        SheetMetadataCache cache = new SheetMetadataCache(Duration.ofMinutes(1));
+
+        cache.put("spreadsheet1", "headers", "token", "value1");
+        cache.put("spreadsheet1", "sheetIds", "token", "value1");
+        cache.put("spreadsheet2", "headers", "token", "value2");
+
+        cache.invalidate("spreadsheet1");
+
+        Assert.assertEquals(1, cache.size());
+        StepVerifier.create(cache.get("spreadsheet2", "headers", "token", () -> Mono.just("fetched")))
+                .expectNext("value2")
+                .verifyComplete();
+        StepVerifier.create(cache.get("spreadsheet1", "headers", "token", () -> Mono.just("fetched")))
+                .expectNext("fetched")
+                .verifyComplete();
+    }
+}
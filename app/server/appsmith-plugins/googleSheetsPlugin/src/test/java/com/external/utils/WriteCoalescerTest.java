@@ -0,0 +1,82 @@
+package com.external.utils;
+
+import org.junit.Assert;
+import org.junit.Test;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+import reactor.test.scheduler.VirtualTimeScheduler;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+public class WriteCoalescerTest {
+
+    @Test
+    public void testSubmit_withinWindow_sentAsOneBatch() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        WriteCoalescer<String, String> coalescer = new WriteCoalescer<>(Duration.ofMillis(50), 10, scheduler);
+        List<List<String>> sentBatches = new ArrayList<>();
+
+        Mono<List<String>> results = Flux.just("row1", "row2", "row3")
+                .flatMap(row -> coalescer.submit("sheet", row, batch -> {
+                    sentBatches.add(new ArrayList<>(batch));
+                    return Mono.just("sent " + batch.size());
+                }))
+                .collectList();
+
+        StepVerifier.create(results)
+                .then(() -> Assert.assertTrue(sentBatches.isEmpty()))
+                .then(() -> scheduler.advanceTimeBy(Duration.ofMillis(50)))
+                .assertNext(list -> Assert.assertEquals(List.of("sent 3", "sent 3", "sent 3"), list))
+                .verifyComplete();
+
+        Assert.assertEquals(List.of(List.of("row1", "row2", "row3")), sentBatches);
+    }
+
+    @Test
+    public void testSubmit_maxItems_sentWithoutWaiting() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        WriteCoalescer<String, Integer> coalescer = new WriteCoalescer<>(Duration.ofMinutes(1), 2, scheduler);
+
+        // The window never ends here, so the batch is only sent because it's full
+        StepVerifier.create(Flux.just("row1", "row2")
+                .flatMap(row -> coalescer.submit("sheet", row, batch -> Mono.just(batch.size())))
+                .collectList())
+                .assertNext(list -> Assert.assertEquals(List.of(2, 2), list))
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSubmit_differentKeys_sentSeparately() {
+        VirtualTimeScheduler scheduler = VirtualTimeScheduler.create();
+        WriteCoalescer<String, List<String>> coalescer = new WriteCoalescer<>(Duration.ofMillis(50), 10, scheduler);
+
+        Mono<List<List<String>>> results = Flux.just("sheet1", "sheet2")
+                .flatMap(sheet -> coalescer.submit(sheet, sheet + "-row", batch -> Mono.just(new ArrayList<>(batch))))
+                .collectList();
+
+        StepVerifier.create(results)
+                .then(() -> scheduler.advanceTimeBy(Duration.ofMillis(50)))
+                .assertNext(list -> {
+                    Assert.assertEquals(2, list.size());
+                    Assert.assertTrue(list.contains(List.of("sheet1-row")));
+                    Assert.assertTrue(list.contains(List.of("sheet2-row")));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testSubmit_failedBatch_errorGivenToEveryWrite() {
+        WriteCoalescer<String, String> coalescer = new WriteCoalescer<>(Duration.ofMillis(10), 10, Schedulers.parallel());
+
+        Mono<String> first = coalescer.submit("sheet", "row1", batch -> Mono.error(new IllegalStateException("Quota exceeded")));
+        Mono<String> second = coalescer.submit("sheet", "row2", batch -> Mono.just("unused"));
+
+        StepVerifier.create(Flux.merge(first.onErrorReturn("failed"), second.onErrorReturn("failed")).collectList())
+                .assertNext(list -> Assert.assertEquals(List.of("failed", "failed"), list))
+                .verifyComplete();
+    }
+}
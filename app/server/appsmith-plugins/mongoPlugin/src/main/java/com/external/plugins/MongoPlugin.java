@@ -16,6 +16,7 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
@@ -24,6 +25,13 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.external.plugins.codecs.JsonNodeDecoder;
+import com.external.plugins.commands.Aggregate;
+import com.external.plugins.commands.CursorPage;
+import com.external.plugins.commands.Find;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.mongodb.MongoCommandException;
 import com.mongodb.MongoSocketWriteException;
 import com.mongodb.MongoTimeoutException;
@@ -32,26 +40,21 @@ import com.mongodb.reactivestreams.client.MongoClients;
 import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.extern.slf4j.Slf4j;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.bson.conversions.Bson;
-import org.json.JSONArray;
-import org.json.JSONObject;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
+import org.reactivestreams.Publisher;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
-import java.math.BigDecimal;
 import java.math.BigInteger;
 import java.time.Duration;
-import java.time.Instant;
-import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.Collection;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
@@ -63,10 +66,14 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.PluginUtils.getPositiveIntegerEnv;
+import static com.appsmith.external.helpers.PluginUtils.getRowLimit;
+import static com.appsmith.external.helpers.PluginUtils.getRowOffset;
 import static com.external.plugins.MongoPluginUtils.convertMongoFormInputToRawCommand;
 import static com.external.plugins.MongoPluginUtils.generateTemplatesAndStructureForACollection;
 import static com.external.plugins.MongoPluginUtils.getDatabaseName;
 import static com.external.plugins.MongoPluginUtils.isRawCommand;
+import static com.external.plugins.MongoPluginUtils.parseSafely;
 import static com.external.plugins.MongoPluginUtils.urlEncode;
 import static com.external.plugins.MongoPluginUtils.validConfigurationPresent;
 import static com.external.plugins.constants.ConfigurationIndex.AGGREGATE_PIPELINE;
@@ -77,6 +84,7 @@ import static com.external.plugins.constants.ConfigurationIndex.FIND_PROJECTION;
 import static com.external.plugins.constants.ConfigurationIndex.FIND_QUERY;
 import static com.external.plugins.constants.ConfigurationIndex.FIND_SORT;
 import static com.external.plugins.constants.ConfigurationIndex.INSERT_DOCUMENT;
+import static com.external.plugins.constants.ConfigurationIndex.READ_WITH_CURSOR;
 import static com.external.plugins.constants.ConfigurationIndex.SMART_BSON_SUBSTITUTION;
 import static com.external.plugins.constants.ConfigurationIndex.UPDATE_ONE_QUERY;
 import static com.external.plugins.constants.ConfigurationIndex.UPDATE_ONE_SORT;
@@ -158,6 +166,16 @@ public class MongoPlugin extends BasePlugin {
             UPDATE_ONE_UPDATE
     ));
 
+    private static final String PLUGIN_NAME = "mongo-plugin";
+
+    private static final String FIND = "find";
+
+    private static final String AGGREGATE = "aggregate";
+
+    private static final String MAX_CURSOR_DOCUMENTS_VARIABLE = "APPSMITH_MONGO_MAX_CURSOR_DOCUMENTS";
+
+    private static final int DEFAULT_MAX_CURSOR_DOCUMENTS = 10000;
+
     public MongoPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -166,7 +184,14 @@ public class MongoPlugin extends BasePlugin {
     @Extension
     public static class MongoPluginExecutor implements PluginExecutor<MongoClient>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
+
+        private final JsonNodeDecoder jsonNodeDecoder = new JsonNodeDecoder();
+
+        // The most documents that are read from a cursor in an execution, since they are all held in memory, unless the
+        // result is streamed.
+        private static final int MAX_CURSOR_DOCUMENTS = getPositiveIntegerEnv(MAX_CURSOR_DOCUMENTS_VARIABLE,
+                DEFAULT_MAX_CURSOR_DOCUMENTS);
 
         /**
          * Instead of using the default executeParametrized provided by pluginExecutor, this implementation affords an opportunity
@@ -186,9 +211,39 @@ public class MongoPlugin extends BasePlugin {
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
 
+            List<Map.Entry<String, String>> parameters = new ArrayList<>();
+
+            try {
+                prepareCommand(executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
+            } catch (AppsmithPluginException e) {
+                ActionExecutionResult errorResult = new ActionExecutionResult();
+                errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+                errorResult.setIsExecutionSuccess(false);
+                errorResult.setBody(e.getMessage());
+                return Mono.just(errorResult);
+            }
+
+            if (isReadWithCursor(actionConfiguration)) {
+                return this.executeWithCursor(mongoClient, executeActionDTO, datasourceConfiguration,
+                        actionConfiguration, parameters);
+            }
+
+            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+        }
+
+        /**
+         * Substitutes the bindings in the command, and converts a command from the form into a raw one, in the body of the
+         * action configuration.
+         *
+         * @param parameters : The values of the bindings are added to it, as they're substituted
+         */
+        private void prepareCommand(ExecuteActionDTO executeActionDTO,
+                                    DatasourceConfiguration datasourceConfiguration,
+                                    ActionConfiguration actionConfiguration,
+                                    List<Map.Entry<String, String>> parameters) throws AppsmithPluginException {
+
             Boolean smartBsonSubstitution;
             final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            List<Map.Entry<String, String>> parameters = new ArrayList<>();
 
             if (CollectionUtils.isEmpty(properties)) {
                 /**
@@ -223,17 +278,9 @@ public class MongoPlugin extends BasePlugin {
                 } else {
                     // For raw queries do smart replacements in BSON body
                     if (actionConfiguration.getBody() != null) {
-                        try {
-                            String updatedRawQuery = smartSubstituteBSON(actionConfiguration.getBody(),
-                                    executeActionDTO.getParams(), parameters);
-                            actionConfiguration.setBody(updatedRawQuery);
-                        } catch (AppsmithPluginException e) {
-                            ActionExecutionResult errorResult = new ActionExecutionResult();
-                            errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
-                            errorResult.setIsExecutionSuccess(false);
-                            errorResult.setBody(e.getMessage());
-                            return Mono.just(errorResult);
-                        }
+                        String updatedRawQuery = smartSubstituteBSON(actionConfiguration.getBody(),
+                                executeActionDTO.getParams(), parameters);
+                        actionConfiguration.setBody(updatedRawQuery);
                     }
                 }
             }
@@ -245,8 +292,6 @@ public class MongoPlugin extends BasePlugin {
             if (parsedRawCommand != null) {
                 actionConfiguration.setBody(parsedRawCommand);
             }
-
-            return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
         }
 
         /**
@@ -274,39 +319,19 @@ public class MongoPlugin extends BasePlugin {
             String query = actionConfiguration.getBody();
             Bson command = Document.parse(query);
 
-            Mono<Document> mongoOutputMono = Mono.from(database.runCommand(command));
+            // The reply is decoded from its bytes by the JSON node decoder, instead of into a `Document` first.
+            Mono<RawBsonDocument> mongoOutputMono = Mono.from(database.runCommand(command, RawBsonDocument.class));
             ActionExecutionResult result = new ActionExecutionResult();
-            List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
-                    , null, null));
 
-            return mongoOutputMono
-                    .onErrorMap(
-                            MongoTimeoutException.class,
-                            error -> new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
-                                    error.getMessage()
-                            )
-                    )
-                    .onErrorMap(
-                            MongoCommandException.class,
-                            error -> new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                                    error.getErrorMessage()
-                            )
-                    )
-                    // This is an experimental fix to handle the scenario where after a period of inactivity, the mongo
-                    // database drops the connection which makes the client throw the following exception.
-                    .onErrorMap(
-                            MongoSocketWriteException.class,
-                            error -> new StaleConnectionException()
-                    )
+            Mono<ActionExecutionResult> resultMono = mongoOutputMono
+                    .onErrorMap(MongoPluginExecutor::toPluginError)
                     .flatMap(mongoOutput -> {
                         try {
-                            JSONObject outputJson = new JSONObject(mongoOutput.toJson());
+                            ObjectNode outputJson = jsonNodeDecoder.decode(mongoOutput);
 
                             //The output json contains the key "ok". This is the status of the command
-                            BigInteger status = outputJson.getBigInteger("ok");
-                            JSONArray headerArray = new JSONArray();
+                            BigInteger status = outputJson.path("ok").bigIntegerValue();
+                            ArrayNode headerArray = objectMapper.createArrayNode();
 
                             if (BigInteger.ONE.equals(status)) {
                                 result.setIsExecutionSuccess(true);
@@ -321,9 +346,7 @@ public class MongoPlugin extends BasePlugin {
                                  * `new` field in the command. Let's return that value to the user.
                                  */
                                 if (outputJson.has(VALUE)) {
-                                    result.setBody(objectMapper.readTree(
-                                            cleanUp(new JSONObject().put(VALUE, outputJson.get(VALUE))).toString()
-                                    ));
+                                    result.setBody(objectMapper.createObjectNode().set(VALUE, outputJson.get(VALUE)));
                                 }
 
                                 /**
@@ -331,9 +354,7 @@ public class MongoPlugin extends BasePlugin {
                                  * results. In case there are no results for find, this key is not present in the result json.
                                  */
                                 if (outputJson.has("cursor")) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONObject("cursor").getJSONArray("firstBatch"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                    result.setBody(outputJson.get("cursor").get("firstBatch"));
                                 }
 
                                 /**
@@ -342,9 +363,10 @@ public class MongoPlugin extends BasePlugin {
                                  * number of documents inserted.
                                  */
                                 if (outputJson.has("n")) {
-                                    JSONObject body = new JSONObject().put("n", outputJson.getBigInteger("n"));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                    ObjectNode body = objectMapper.createObjectNode()
+                                            .put("n", outputJson.get("n").bigIntegerValue());
+                                    result.setBody(body);
+                                    headerArray.add(body);
                                 }
 
                                 /**
@@ -352,18 +374,17 @@ public class MongoPlugin extends BasePlugin {
                                  * documents updated.
                                  */
                                 if (outputJson.has(N_MODIFIED)) {
-                                    JSONObject body = new JSONObject().put(N_MODIFIED, outputJson.getBigInteger(N_MODIFIED));
-                                    result.setBody(objectMapper.readTree(body.toString()));
-                                    headerArray.put(body);
+                                    ObjectNode body = objectMapper.createObjectNode()
+                                            .put(N_MODIFIED, outputJson.get(N_MODIFIED).bigIntegerValue());
+                                    result.setBody(body);
+                                    headerArray.add(body);
                                 }
 
                                 /**
                                  * The json contains key "values" when distinct command is used.
                                  */
                                 if (outputJson.has(VALUES)) {
-                                    JSONArray outputResult = (JSONArray) cleanUp(
-                                            outputJson.getJSONArray("values"));
-                                    result.setBody(objectMapper.readTree(outputResult.toString()));
+                                    result.setBody(outputJson.get(VALUES));
                                 }
 
                                 /** TODO
@@ -372,15 +393,187 @@ public class MongoPlugin extends BasePlugin {
                                  */
                             }
 
-                            JSONObject statusJson = new JSONObject().put("ok", status);
-                            headerArray.put(statusJson);
-                            result.setHeaders(objectMapper.readTree(headerArray.toString()));
+                            headerArray.add(objectMapper.createObjectNode().put("ok", status));
+                            result.setHeaders(headerArray);
                         } catch (Exception e) {
                             return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                         }
 
                         return Mono.just(result);
-                    })
+                    });
+
+            return completeExecution(resultMono, query, parameters);
+        }
+
+        /**
+         * Executes find and aggregate commands by reading the documents of their result from a cursor, in batches, up to
+         * the row limit of the action, or the most documents that are read for an execution. Other commands are run as
+         * they would be otherwise.
+         */
+        private Mono<ActionExecutionResult> executeWithCursor(MongoClient mongoClient,
+                                                              ExecuteActionDTO executeActionDTO,
+                                                              DatasourceConfiguration datasourceConfiguration,
+                                                              ActionConfiguration actionConfiguration,
+                                                              List<Map.Entry<String, String>> parameters) {
+
+            if (mongoClient == null) {
+                log.info("Encountered null connection in MongoDB plugin. Reporting back.");
+                throw new StaleConnectionException();
+            }
+
+            String query = actionConfiguration.getBody();
+            Document command = parseSafely("Query", query);
+
+            if (!isCursorCommand(command)) {
+                return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters);
+            }
+
+            CursorPage page;
+            try {
+                page = getCursorPage(executeActionDTO, actionConfiguration, MAX_CURSOR_DOCUMENTS);
+            } catch (AppsmithPluginException e) {
+                return completeExecution(Mono.error(e), query, parameters);
+            }
+
+            // When the most documents that are read for an execution, rather than the row limit of the action, limits the
+            // page, one more document is read to tell whether the result is truncated.
+            final int rowLimit = getRowLimit(actionConfiguration);
+            final boolean isCapped = rowLimit == 0 || rowLimit > MAX_CURSOR_DOCUMENTS;
+            if (isCapped) {
+                page = new CursorPage(page.getOffset(), MAX_CURSOR_DOCUMENTS + 1, page.getDirection(), page.getKey());
+            }
+
+            // A previous page is read backwards from its key, so the extra document is the first one.
+            final boolean isReadBackwards = FIND.equals(getCommandName(command))
+                    && PaginationField.PREV.equals(page.getDirection())
+                    && !StringUtils.isEmpty(page.getKey());
+
+            Mono<ActionExecutionResult> resultMono = readDocuments(mongoClient, datasourceConfiguration, command, page)
+                    .collect(objectMapper::createArrayNode, ArrayNode::add)
+                    .map(documents -> {
+                        ActionExecutionResult result = new ActionExecutionResult();
+                        if (isCapped && documents.size() > MAX_CURSOR_DOCUMENTS) {
+                            documents.remove(isReadBackwards ? 0 : documents.size() - 1);
+                            result.setMessages(Set.of("Only the first " + MAX_CURSOR_DOCUMENTS + " documents of the "
+                                    + "result were read. Use pagination, or stream the result, to read more of them."));
+                        }
+
+                        result.setIsExecutionSuccess(true);
+                        result.setDataTypes(List.of(
+                                new ParsedDataType(DisplayDataType.JSON),
+                                new ParsedDataType(DisplayDataType.RAW)
+                        ));
+                        result.setBody(documents);
+                        result.setHeaders(objectMapper.createArrayNode()
+                                .add(objectMapper.createObjectNode().put("ok", BigInteger.ONE)));
+                        return result;
+                    });
+
+            return completeExecution(resultMono, query, parameters);
+        }
+
+        /**
+         * Streams the documents of the result of find and aggregate commands from a cursor, which reads further batches
+         * only as the documents are requested, and is closed when the stream is cancelled. The results of other commands
+         * are emitted once they're returned.
+         */
+        @Override
+        public Flux<JsonNode> executeParameterizedStream(MongoClient mongoClient,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            if (mongoClient == null) {
+                log.info("Encountered null connection in MongoDB plugin. Reporting back.");
+                return Flux.error(new StaleConnectionException());
+            }
+
+            List<Map.Entry<String, String>> parameters = new ArrayList<>();
+            Document command;
+            try {
+                prepareCommand(executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
+                command = parseSafely("Query", actionConfiguration.getBody());
+            } catch (AppsmithPluginException e) {
+                return Flux.error(e);
+            }
+
+            if (!isCursorCommand(command)) {
+                return this.executeCommon(mongoClient, datasourceConfiguration, actionConfiguration, parameters)
+                        .flatMapMany(result -> {
+                            if (!TRUE.equals(result.getIsExecutionSuccess())) {
+                                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                                        result.getBody()));
+                            }
+
+                            final JsonNode body = (JsonNode) result.getBody();
+                            if (body == null) {
+                                return Flux.empty();
+                            }
+
+                            return body.isArray() ? Flux.fromIterable(body) : Flux.just(body);
+                        });
+            }
+
+            // The server limits the number of documents that are streamed, so only the row limit of the action applies.
+            final CursorPage page;
+            try {
+                page = getCursorPage(executeActionDTO, actionConfiguration, 0);
+            } catch (AppsmithPluginException e) {
+                return Flux.error(e);
+            }
+
+            return readDocuments(mongoClient, datasourceConfiguration, command, page)
+                    .subscribeOn(scheduler);
+        }
+
+        private Flux<JsonNode> readDocuments(MongoClient mongoClient,
+                                             DatasourceConfiguration datasourceConfiguration,
+                                             Document command,
+                                             CursorPage page) {
+
+            MongoDatabase database = mongoClient.getDatabase(getDatabaseName(datasourceConfiguration));
+
+            Publisher<RawBsonDocument> cursor = FIND.equals(getCommandName(command))
+                    ? Find.openCursor(database, command, page)
+                    : Aggregate.openCursor(database, command, page);
+
+            return Flux.from(cursor)
+                    .map(document -> (JsonNode) jsonNodeDecoder.decode(document))
+                    .onErrorMap(MongoPluginExecutor::toPluginError);
+        }
+
+        /**
+         * @param maxDocuments : The most documents to read, whatever the row limit of the action. No limit if zero.
+         * @return The part of the result of the command to read, as requested in the pagination of the action
+         */
+        private CursorPage getCursorPage(ExecuteActionDTO executeActionDTO,
+                                         ActionConfiguration actionConfiguration,
+                                         int maxDocuments) {
+
+            int limit = getRowLimit(actionConfiguration);
+            if (maxDocuments > 0 && (limit == 0 || limit > maxDocuments)) {
+                limit = maxDocuments;
+            }
+
+            PaginationField direction = executeActionDTO == null ? null : executeActionDTO.getPaginationField();
+            String key = null;
+            if (PaginationField.NEXT.equals(direction)) {
+                key = actionConfiguration.getNext();
+            } else if (PaginationField.PREV.equals(direction)) {
+                key = actionConfiguration.getPrev();
+            }
+
+            return new CursorPage(getRowOffset(actionConfiguration, executeActionDTO), limit, direction, key);
+        }
+
+        private Mono<ActionExecutionResult> completeExecution(Mono<ActionExecutionResult> resultMono,
+                                                              String query,
+                                                              List<Map.Entry<String, String>> parameters) {
+
+            List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY, query, null
+                    , null, null));
+
+            return resultMono
                     .onErrorResume(error -> {
                         if (error instanceof StaleConnectionException) {
                             log.debug("The mongo connection seems to have been invalidated or doesn't exist anymore");
@@ -407,6 +600,44 @@ public class MongoPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
 
+        private static Throwable toPluginError(Throwable error) {
+            if (error instanceof MongoTimeoutException) {
+                return new AppsmithPluginException(AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR, error.getMessage());
+            }
+
+            if (error instanceof MongoCommandException) {
+                return new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        ((MongoCommandException) error).getErrorMessage());
+            }
+
+            // This is an experimental fix to handle the scenario where after a period of inactivity, the mongo
+            // database drops the connection which makes the client throw the following exception.
+            if (error instanceof MongoSocketWriteException) {
+                return new StaleConnectionException();
+            }
+
+            return error;
+        }
+
+        private static String getCommandName(Document command) {
+            return command.isEmpty() ? null : command.keySet().iterator().next();
+        }
+
+        private static boolean isCursorCommand(Document command) {
+            final String commandName = getCommandName(command);
+            return FIND.equals(commandName) || AGGREGATE.equals(commandName);
+        }
+
+        private static boolean isReadWithCursor(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (!validConfigurationPresent(properties, READ_WITH_CURSOR)) {
+                return false;
+            }
+
+            final Object value = properties.get(READ_WITH_CURSOR).getValue();
+            return value instanceof Boolean ? (Boolean) value : Boolean.parseBoolean(String.valueOf(value));
+        }
+
         private String smartSubstituteBSON(String rawQuery,
                                            List<Param> params,
                                            List<Map.Entry<String, String>> parameters) throws AppsmithPluginException {
@@ -884,46 +1115,6 @@ public class MongoPlugin extends BasePlugin {
         }
     }
 
-    private static Object cleanUp(Object object) {
-        if (object instanceof JSONObject) {
-            JSONObject jsonObject = (JSONObject) object;
-            final boolean isSingleKey = jsonObject.keySet().size() == 1;
-
-            if (isSingleKey && "$numberLong".equals(jsonObject.keys().next())) {
-                return jsonObject.getBigInteger("$numberLong");
-
-            } else if (isSingleKey && "$oid".equals(jsonObject.keys().next())) {
-                return jsonObject.getString("$oid");
-
-            } else if (isSingleKey && "$date".equals(jsonObject.keys().next())) {
-                return DateTimeFormatter.ISO_INSTANT.format(
-                        Instant.ofEpochMilli(jsonObject.getLong("$date"))
-                );
-
-            } else if (isSingleKey && "$numberDecimal".equals(jsonObject.keys().next())) {
-                return new BigDecimal(jsonObject.getString("$numberDecimal"));
-
-            } else {
-                for (String key : new HashSet<>(jsonObject.keySet())) {
-                    jsonObject.put(key, cleanUp(jsonObject.get(key)));
-                }
-
-            }
-
-        } else if (object instanceof JSONArray) {
-            Collection<Object> cleaned = new ArrayList<>();
-
-            for (Object child : (JSONArray) object) {
-                cleaned.add(cleanUp(child));
-            }
-
-            return new JSONArray(cleaned);
-
-        }
-
-        return object;
-    }
-
     private static boolean isAuthenticated(DBAuth authentication, String mongoUri) {
         if (authentication != null && authentication.getUsername() != null
                 && authentication.getPassword() != null && mongoUri.contains("****")) {
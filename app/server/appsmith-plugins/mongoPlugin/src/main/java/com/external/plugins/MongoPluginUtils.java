@@ -62,6 +62,14 @@ public class MongoPluginUtils {
         }
     }
 
+    /**
+     * @return The value of a numeric option of a command, like `limit` or `batchSize`, or zero if it's not set.
+     */
+    public static int getIntegerOption(Document document, String key) {
+        final Object value = document == null ? null : document.get(key);
+        return value instanceof Number ? ((Number) value).intValue() : 0;
+    }
+
     public static List<Property> generateMongoFormConfigTemplates(Map<Integer, Object> configuration) {
         List<Property> templates = new ArrayList<>();
         for (int i = 0; i < MAX_SIZE; i++) {
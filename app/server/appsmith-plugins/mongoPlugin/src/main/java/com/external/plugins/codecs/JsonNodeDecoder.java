@@ -0,0 +1,178 @@
+package com.external.plugins.codecs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonBinary;
+import org.bson.BsonBinaryReader;
+import org.bson.BsonDbPointer;
+import org.bson.BsonReader;
+import org.bson.BsonRegularExpression;
+import org.bson.BsonTimestamp;
+import org.bson.BsonType;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.Decoder;
+import org.bson.codecs.DecoderContext;
+import org.bson.io.ByteBufferBsonInput;
+import org.bson.types.Decimal128;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.format.DateTimeFormatter;
+import java.util.Base64;
+
+/**
+ * Decodes the BSON documents that Mongo replies with straight into Jackson nodes, in a single pass over their bytes.
+ *
+ * Values are converted as they used to be when the replies went through their extended JSON, so that the results of
+ * queries don't change for the users:
+ * - ObjectIds are strings of their hex
+ * - Dates are ISO-8601 instants, in UTC
+ * - 64 bit integers and decimals are plain numbers
+ * - The other types that have no JSON equivalent, like binary data or timestamps, are kept as in strict extended JSON,
+ * e.g. `{"$binary": "AQI=", "$type": "00"}`
+ */
+public class JsonNodeDecoder implements Decoder<ObjectNode> {
+
+    private static final JsonNodeFactory nodeFactory = JsonNodeFactory.instance;
+
+    private static final DecoderContext DECODER_CONTEXT = DecoderContext.builder().build();
+
+    public ObjectNode decode(RawBsonDocument document) {
+        try (BsonBinaryReader reader = new BsonBinaryReader(new ByteBufferBsonInput(document.getByteBuffer()))) {
+            return decode(reader, DECODER_CONTEXT);
+        }
+    }
+
+    @Override
+    public ObjectNode decode(BsonReader reader, DecoderContext decoderContext) {
+        return readDocument(reader);
+    }
+
+    private ObjectNode readDocument(BsonReader reader) {
+        final ObjectNode node = nodeFactory.objectNode();
+
+        reader.readStartDocument();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            final String name = reader.readName();
+            node.set(name, readValue(reader));
+        }
+        reader.readEndDocument();
+
+        return node;
+    }
+
+    private ArrayNode readArray(BsonReader reader) {
+        final ArrayNode node = nodeFactory.arrayNode();
+
+        reader.readStartArray();
+        while (reader.readBsonType() != BsonType.END_OF_DOCUMENT) {
+            node.add(readValue(reader));
+        }
+        reader.readEndArray();
+
+        return node;
+    }
+
+    private JsonNode readValue(BsonReader reader) {
+        switch (reader.getCurrentBsonType()) {
+            case DOCUMENT:
+                return readDocument(reader);
+
+            case ARRAY:
+                return readArray(reader);
+
+            case STRING:
+                return nodeFactory.textNode(reader.readString());
+
+            case INT32:
+                return nodeFactory.numberNode(reader.readInt32());
+
+            case INT64:
+                return nodeFactory.numberNode(reader.readInt64());
+
+            case DOUBLE:
+                final double doubleValue = reader.readDouble();
+                // JSON has no numbers for NaN and the infinities.
+                return Double.isFinite(doubleValue)
+                        ? nodeFactory.numberNode(doubleValue)
+                        : nodeFactory.textNode(String.valueOf(doubleValue));
+
+            case DECIMAL128:
+                final Decimal128 decimal = reader.readDecimal128();
+                return decimal.isFinite()
+                        ? nodeFactory.numberNode(new BigDecimal(decimal.toString()))
+                        : nodeFactory.textNode(decimal.toString());
+
+            case BOOLEAN:
+                return nodeFactory.booleanNode(reader.readBoolean());
+
+            case NULL:
+                reader.readNull();
+                return nodeFactory.nullNode();
+
+            case OBJECT_ID:
+                return nodeFactory.textNode(reader.readObjectId().toHexString());
+
+            case DATE_TIME:
+                return nodeFactory.textNode(DateTimeFormatter.ISO_INSTANT.format(
+                        Instant.ofEpochMilli(reader.readDateTime())
+                ));
+
+            case BINARY:
+                final BsonBinary binary = reader.readBinaryData();
+                return nodeFactory.objectNode()
+                        .put("$binary", Base64.getEncoder().encodeToString(binary.getData()))
+                        .put("$type", String.format("%02x", binary.getType()));
+
+            case TIMESTAMP:
+                final BsonTimestamp timestamp = reader.readTimestamp();
+                final ObjectNode timestampNode = nodeFactory.objectNode();
+                timestampNode.putObject("$timestamp")
+                        .put("t", timestamp.getTime())
+                        .put("i", timestamp.getInc());
+                return timestampNode;
+
+            case REGULAR_EXPRESSION:
+                final BsonRegularExpression regularExpression = reader.readRegularExpression();
+                return nodeFactory.objectNode()
+                        .put("$regex", regularExpression.getPattern())
+                        .put("$options", regularExpression.getOptions());
+
+            case JAVASCRIPT:
+                return nodeFactory.objectNode().put("$code", reader.readJavaScript());
+
+            case JAVASCRIPT_WITH_SCOPE:
+                final ObjectNode codeNode = nodeFactory.objectNode().put("$code", reader.readJavaScriptWithScope());
+                codeNode.set("$scope", readDocument(reader));
+                return codeNode;
+
+            case SYMBOL:
+                return nodeFactory.objectNode().put("$symbol", reader.readSymbol());
+
+            case DB_POINTER:
+                final BsonDbPointer dbPointer = reader.readDBPointer();
+                return nodeFactory.objectNode()
+                        .put("$ref", dbPointer.getNamespace())
+                        .put("$id", dbPointer.getId().toHexString());
+
+            case UNDEFINED:
+                reader.readUndefined();
+                return nodeFactory.objectNode().put("$undefined", true);
+
+            case MIN_KEY:
+                reader.readMinKey();
+                return nodeFactory.objectNode().put("$minKey", 1);
+
+            case MAX_KEY:
+                reader.readMaxKey();
+                return nodeFactory.objectNode().put("$maxKey", 1);
+
+            default:
+                reader.skipValue();
+                return nodeFactory.nullNode();
+        }
+    }
+
+}
@@ -6,15 +6,21 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException
 import com.appsmith.external.helpers.DataTypeStringUtils;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.Property;
+import com.mongodb.reactivestreams.client.AggregatePublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.Setter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
 import org.pf4j.util.StringUtils;
+import org.reactivestreams.Publisher;
 
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
+import static com.external.plugins.MongoPluginUtils.getIntegerOption;
 import static com.external.plugins.MongoPluginUtils.parseSafely;
 import static com.external.plugins.MongoPluginUtils.validConfigurationPresent;
 import static com.external.plugins.constants.ConfigurationIndex.AGGREGATE_PIPELINE;
@@ -79,4 +85,62 @@ public class Aggregate extends MongoCommand {
 
         return commandDocument;
     }
+
+    /**
+     * Opens a cursor over the documents that an aggregate command outputs, so that they're read in batches, with
+     * `getMore`, as they're requested. Running the command itself only returns the first batch.
+     *
+     * The page is read by adding `$skip` and `$limit` stages to the end of the pipeline. Paging by key isn't supported,
+     * since the order of the output is up to the pipeline.
+     *
+     * @param database : Database to run the command on
+     * @param command  : The aggregate command, as it would be run with `runCommand`
+     * @param page     : Part of the output of the pipeline to read
+     * @return The documents of the page
+     */
+    public static Publisher<RawBsonDocument> openCursor(MongoDatabase database, Document command, CursorPage page) {
+        final List<Document> pipeline = new ArrayList<>();
+        if (command.get("pipeline") instanceof List) {
+            for (Object stage : command.get("pipeline", List.class)) {
+                pipeline.add((Document) stage);
+            }
+        }
+
+        if (page.getOffset() > 0) {
+            pipeline.add(new Document("$skip", page.getOffset()));
+        }
+
+        if (page.getLimit() > 0) {
+            pipeline.add(new Document("$limit", page.getLimit()));
+        }
+
+        // Aggregations on the database, rather than a collection, are run with `aggregate: 1`.
+        final Object collectionName = command.get("aggregate");
+        final AggregatePublisher<RawBsonDocument> publisher;
+        if (collectionName instanceof String) {
+            publisher = database.getCollection((String) collectionName).aggregate(pipeline, RawBsonDocument.class);
+        } else {
+            publisher = database.aggregate(pipeline, RawBsonDocument.class);
+        }
+
+        if (command.get("allowDiskUse") instanceof Boolean) {
+            publisher.allowDiskUse(command.getBoolean("allowDiskUse"));
+        }
+
+        final int batchSize = getIntegerOption(command.get("cursor", Document.class), "batchSize");
+        if (batchSize > 0) {
+            publisher.batchSize(batchSize);
+        }
+
+        final int maxTimeMS = getIntegerOption(command, "maxTimeMS");
+        if (maxTimeMS > 0) {
+            publisher.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        }
+
+        if (command.get("hint") instanceof Document) {
+            publisher.hint(command.get("hint", Document.class));
+        }
+
+        return publisher;
+    }
 }
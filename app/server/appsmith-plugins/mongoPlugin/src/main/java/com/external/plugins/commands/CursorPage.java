@@ -0,0 +1,27 @@
+package com.external.plugins.commands;
+
+import com.appsmith.external.models.PaginationField;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * The part of the result of a find or aggregate command that is read from its cursor.
+ */
+@Getter
+@AllArgsConstructor
+public class CursorPage {
+
+    // Number of documents to skip from the start of the result of the command.
+    int offset;
+
+    // Maximum number of documents to read. No limit if zero.
+    int limit;
+
+    // Direction to page in from the key, for keyset pagination. Null to not page by key.
+    PaginationField direction;
+
+    // Value of the sort key in the last document of the current page when paging to the next one, or in the first
+    // document when paging to the previous one.
+    String key;
+
+}
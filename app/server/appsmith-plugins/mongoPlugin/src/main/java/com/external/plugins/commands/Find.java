@@ -2,19 +2,30 @@ package com.external.plugins.commands;
 
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
+import com.appsmith.external.models.PaginationField;
 import com.appsmith.external.models.Property;
+import com.mongodb.reactivestreams.client.FindPublisher;
+import com.mongodb.reactivestreams.client.MongoDatabase;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.json.JsonParseException;
+import org.bson.types.ObjectId;
 import org.pf4j.util.StringUtils;
+import org.reactivestreams.Publisher;
+import reactor.core.publisher.Flux;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.TimeUnit;
 
 import static com.external.plugins.MongoPluginUtils.generateMongoFormConfigTemplates;
+import static com.external.plugins.MongoPluginUtils.getIntegerOption;
 import static com.external.plugins.MongoPluginUtils.parseSafely;
 import static com.external.plugins.MongoPluginUtils.validConfigurationPresent;
 import static com.external.plugins.constants.ConfigurationIndex.SMART_BSON_SUBSTITUTION;
@@ -31,6 +42,8 @@ import static com.external.plugins.constants.ConfigurationIndex.INPUT_TYPE;
 @Setter
 @NoArgsConstructor
 public class Find extends MongoCommand {
+    private static final String DEFAULT_SORT_KEY = "_id";
+
     String query;
     String sort;
     String projection;
@@ -107,6 +120,146 @@ public class Find extends MongoCommand {
         return document;
     }
 
+    /**
+     * Opens a cursor over the documents that a find command selects, so that they're read in batches, with `getMore`,
+     * as they're requested. Running the command itself only returns the first batch.
+     *
+     * The page is read from the result of the command, within its own skip and limit. When paging by key, the documents
+     * are those that come after, or before, the key in the order of the first field of the sort, and the skip of the
+     * command is ignored.
+     *
+     * @param database : Database to run the command on
+     * @param command  : The find command, as it would be run with `runCommand`
+     * @param page     : Part of the result of the command to read
+     * @return The documents of the page, in the order of the sort
+     */
+    public static Publisher<RawBsonDocument> openCursor(MongoDatabase database, Document command, CursorPage page) {
+        Document filter = command.get("filter", Document.class);
+        Document sort = command.get("sort", Document.class);
+        int skip = getIntegerOption(command, "skip");
+        // A negative limit only asks for the result to be returned in a single batch.
+        final int limit = Math.abs(getIntegerOption(command, "limit"));
+        boolean isReversed = false;
+
+        if (page.getDirection() != null && !StringUtils.isNullOrEmpty(page.getKey())) {
+            if (sort == null || sort.isEmpty()) {
+                sort = new Document(DEFAULT_SORT_KEY, 1);
+            }
+
+            final Map.Entry<String, Object> sortKey = sort.entrySet().iterator().next();
+            final boolean isAscending = !(sortKey.getValue() instanceof Number)
+                    || ((Number) sortKey.getValue()).intValue() >= 0;
+            final boolean isNext = PaginationField.NEXT.equals(page.getDirection());
+
+            final Document keyFilter = new Document(sortKey.getKey(),
+                    new Document(isAscending == isNext ? "$gt" : "$lt", parseKey(page.getKey())));
+            filter = filter == null || filter.isEmpty()
+                    ? keyFilter
+                    : new Document("$and", List.of(filter, keyFilter));
+
+            if (!isNext) {
+                // The previous page is read backwards from the key, and put back in order once read.
+                sort = reverse(sort);
+                isReversed = true;
+            }
+
+            skip = 0;
+        }
+
+        final int pageLimit = getPageLimit(limit, page);
+        if (pageLimit < 0) {
+            return Flux.empty();
+        }
+
+        final FindPublisher<RawBsonDocument> publisher = database
+                .getCollection(command.getString("find"), RawBsonDocument.class)
+                .find()
+                .skip(skip + page.getOffset())
+                .limit(pageLimit);
+
+        if (filter != null) {
+            publisher.filter(filter);
+        }
+
+        if (sort != null) {
+            publisher.sort(sort);
+        }
+
+        final Document projection = command.get("projection", Document.class);
+        if (projection != null) {
+            publisher.projection(projection);
+        }
+
+        final int batchSize = getIntegerOption(command, "batchSize");
+        if (batchSize > 0) {
+            publisher.batchSize(batchSize);
+        }
+
+        final int maxTimeMS = getIntegerOption(command, "maxTimeMS");
+        if (maxTimeMS > 0) {
+            publisher.maxTime(maxTimeMS, TimeUnit.MILLISECONDS);
+        }
+
+        if (command.get("hint") instanceof Document) {
+            publisher.hint(command.get("hint", Document.class));
+        }
+
+        if (!isReversed) {
+            return publisher;
+        }
+
+        return Flux.from(publisher)
+                .collectList()
+                .flatMapIterable(documents -> {
+                    Collections.reverse(documents);
+                    return documents;
+                });
+    }
+
+    /**
+     * @return The number of documents to read for the page from the result of the command, zero for all of them, or
+     * -1 if the page starts after the end of the result.
+     */
+    private static int getPageLimit(int limit, CursorPage page) {
+        if (limit == 0) {
+            return page.getLimit();
+        }
+
+        final int remaining = limit - page.getOffset();
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        return page.getLimit() > 0 ? Math.min(page.getLimit(), remaining) : remaining;
+    }
+
+    private static Document reverse(Document sort) {
+        final Document reversed = new Document();
+        sort.forEach((key, value) -> reversed.put(key,
+                value instanceof Number ? -((Number) value).intValue() : value));
+        return reversed;
+    }
+
+    /**
+     * Reads the key of a page as a JSON value, so that it can be a number, or a value in extended JSON like
+     * `{"$date": "2021-01-01T00:00:00Z"}`. Anything else is taken as a string. Since ObjectIds are returned as strings of
+     * their hex, such strings are read as ObjectIds.
+     */
+    private static Object parseKey(String key) {
+        Object value;
+        try {
+            value = Document.parse("{\"key\": " + key + "}").get("key");
+        } catch (JsonParseException e) {
+            value = key.trim();
+        }
+
+        if (value instanceof String && ObjectId.isValid((String) value)) {
+            return new ObjectId((String) value);
+        }
+
+        return value;
+    }
+
     @Override
     public List<DatasourceStructure.Template> generateTemplate(Map<String, Object> templateConfiguration) {
         String collectionName = (String) templateConfiguration.get("collectionName");
@@ -12,6 +12,8 @@ import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.PaginationField;
+import com.appsmith.external.models.PaginationType;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.ParsedDataType;
 import com.appsmith.external.models.Property;
@@ -62,6 +64,7 @@ import static com.external.plugins.constants.ConfigurationIndex.FIND_QUERY;
 import static com.external.plugins.constants.ConfigurationIndex.FIND_SORT;
 import static com.external.plugins.constants.ConfigurationIndex.INPUT_TYPE;
 import static com.external.plugins.constants.ConfigurationIndex.INSERT_DOCUMENT;
+import static com.external.plugins.constants.ConfigurationIndex.READ_WITH_CURSOR;
 import static com.external.plugins.constants.ConfigurationIndex.SMART_BSON_SUBSTITUTION;
 import static com.external.plugins.constants.ConfigurationIndex.UPDATE_LIMIT;
 import static com.external.plugins.constants.ConfigurationIndex.UPDATE_QUERY;
@@ -1402,4 +1405,130 @@ public class MongoPluginTest {
                 .verifyComplete();
     }
 
+    private ActionConfiguration createCursorActionConfiguration(String body) {
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody(body);
+
+        Map<Integer, Object> configMap = new HashMap<>();
+        configMap.put(SMART_BSON_SUBSTITUTION, Boolean.FALSE);
+        configMap.put(COMMAND, "RAW");
+        configMap.put(READ_WITH_CURSOR, Boolean.TRUE);
+        actionConfiguration.setPluginSpecifiedTemplates(generateMongoFormConfigTemplates(configMap));
+
+        return actionConfiguration;
+    }
+
+    @Test
+    public void testFindWithCursorReadsAllBatches() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createCursorActionConfiguration("{\n" +
+                "      find: \"users\",\n" +
+                "      sort: { age: 1 },\n" +
+                "      batchSize: 1,\n" +
+                "    }");
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertNotNull(result);
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(3, documents.size());
+                    assertEquals(20, documents.get(0).get("age").asInt());
+                    assertEquals(40, documents.get(2).get("age").asInt());
+                    assertEquals(
+                            List.of(new ParsedDataType(JSON), new ParsedDataType(RAW)).toString(),
+                            result.getDataTypes().toString()
+                    );
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindWithCursorReadsRequestedPage() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createCursorActionConfiguration("{\n" +
+                "      find: \"users\",\n" +
+                "      sort: { age: 1 },\n" +
+                "    }");
+        actionConfiguration.setPaginationType(PaginationType.PAGE_NO);
+        actionConfiguration.setPageSize(1);
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setPageNumber(2);
+
+        Mono<Object> executeMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, executeActionDTO, dsConfig, actionConfiguration));
+        StepVerifier.create(executeMono)
+                .assertNext(obj -> {
+                    ActionExecutionResult result = (ActionExecutionResult) obj;
+                    assertTrue(result.getIsExecutionSuccess());
+                    ArrayNode documents = (ArrayNode) result.getBody();
+                    assertEquals(1, documents.size());
+                    assertEquals(30, documents.get(0).get("age").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testFindWithCursorReadsAfterKey() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createCursorActionConfiguration("{\n" +
+                "      find: \"users\",\n" +
+                "      sort: { age: 1 },\n" +
+                "    }");
+        actionConfiguration.setNext("20");
+        actionConfiguration.setPrev("40");
+
+        ExecuteActionDTO nextPage = new ExecuteActionDTO();
+        nextPage.setPaginationField(PaginationField.NEXT);
+
+        Mono<Object> nextMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, nextPage, dsConfig, actionConfiguration));
+        StepVerifier.create(nextMono)
+                .assertNext(obj -> {
+                    ArrayNode documents = (ArrayNode) ((ActionExecutionResult) obj).getBody();
+                    assertEquals(2, documents.size());
+                    assertEquals(30, documents.get(0).get("age").asInt());
+                    assertEquals(40, documents.get(1).get("age").asInt());
+                })
+                .verifyComplete();
+
+        ExecuteActionDTO previousPage = new ExecuteActionDTO();
+        previousPage.setPaginationField(PaginationField.PREV);
+
+        Mono<Object> prevMono = dsConnectionMono.flatMap(conn -> pluginExecutor.executeParameterized(conn, previousPage, dsConfig, actionConfiguration));
+        StepVerifier.create(prevMono)
+                .assertNext(obj -> {
+                    ArrayNode documents = (ArrayNode) ((ActionExecutionResult) obj).getBody();
+                    assertEquals(2, documents.size());
+                    assertEquals(20, documents.get(0).get("age").asInt());
+                    assertEquals(30, documents.get(1).get("age").asInt());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testAggregateStreamsDocumentsFromCursor() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        Mono<MongoClient> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+
+        ActionConfiguration actionConfiguration = createCursorActionConfiguration("{\n" +
+                "      aggregate: \"users\",\n" +
+                "      pipeline: [ { $sort: { age: -1 } } ],\n" +
+                "      cursor: { batchSize: 1 },\n" +
+                "    }");
+
+        Flux<JsonNode> documents = dsConnectionMono.flatMapMany(conn -> pluginExecutor.executeParameterizedStream(conn, new ExecuteActionDTO(), dsConfig, actionConfiguration));
+        StepVerifier.create(documents)
+                .assertNext(document -> assertEquals(40, document.get("age").asInt()))
+                .expectNextCount(2)
+                .verifyComplete();
+    }
+
 }
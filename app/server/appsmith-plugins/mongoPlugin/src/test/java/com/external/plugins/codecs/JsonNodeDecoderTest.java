@@ -0,0 +1,83 @@
+package com.external.plugins.codecs;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import org.bson.BsonTimestamp;
+import org.bson.Document;
+import org.bson.RawBsonDocument;
+import org.bson.codecs.DocumentCodec;
+import org.bson.types.Binary;
+import org.bson.types.Decimal128;
+import org.bson.types.ObjectId;
+import org.junit.Test;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Date;
+import java.util.List;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class JsonNodeDecoderTest {
+
+    private final JsonNodeDecoder decoder = new JsonNodeDecoder();
+
+    private ObjectNode decode(Document document) {
+        return decoder.decode(new RawBsonDocument(document, new DocumentCodec()));
+    }
+
+    @Test
+    public void testValuesAreConvertedAsInExtendedJson() {
+        final ObjectId objectId = new ObjectId();
+        final Document document = new Document("_id", objectId)
+                .append("name", "Cierra Vega")
+                .append("age", 20)
+                .append("views", 9007199254740993L)
+                .append("score", 2.5)
+                .append("dob", Date.from(Instant.parse("2018-12-31T00:00:00Z")))
+                .append("netWorth", Decimal128.parse("123456.789012"))
+                .append("isActive", true)
+                .append("luckyNumber", null)
+                .append("address", new Document("city", "Lisbon").append("createdAt", new Date(0)))
+                .append("tags", List.of(new ObjectId(objectId.toHexString()), "new"));
+
+        final ObjectNode node = decode(document);
+
+        assertEquals(objectId.toHexString(), node.get("_id").textValue());
+        assertEquals("Cierra Vega", node.get("name").textValue());
+        assertEquals(20, node.get("age").intValue());
+        assertEquals(9007199254740993L, node.get("views").longValue());
+        assertEquals(2.5, node.get("score").doubleValue(), 0);
+        assertEquals("2018-12-31T00:00:00Z", node.get("dob").textValue());
+        assertEquals(new BigDecimal("123456.789012"), node.get("netWorth").decimalValue());
+        assertTrue(node.get("isActive").booleanValue());
+        assertTrue(node.get("luckyNumber").isNull());
+        assertEquals("Lisbon", node.get("address").get("city").textValue());
+        assertEquals("1970-01-01T00:00:00Z", node.get("address").get("createdAt").textValue());
+        assertEquals(objectId.toHexString(), node.get("tags").get(0).textValue());
+        assertEquals("new", node.get("tags").get(1).textValue());
+    }
+
+    @Test
+    public void testTypesWithoutJsonEquivalentAreKeptAsInStrictExtendedJson() {
+        final Document document = new Document("binary", new Binary(new byte[]{1, 2}))
+                .append("timestamp", new BsonTimestamp(5, 1))
+                .append("notANumber", Double.NaN)
+                .append("infinity", Decimal128.POSITIVE_INFINITY);
+
+        final ObjectNode node = decode(document);
+
+        final JsonNode binary = node.get("binary");
+        assertEquals("AQI=", binary.get("$binary").textValue());
+        assertEquals("00", binary.get("$type").textValue());
+
+        final JsonNode timestamp = node.get("timestamp").get("$timestamp");
+        assertEquals(5, timestamp.get("t").intValue());
+        assertEquals(1, timestamp.get("i").intValue());
+
+        assertEquals("NaN", node.get("notANumber").textValue());
+        assertEquals("Infinity", node.get("infinity").textValue());
+    }
+
+}
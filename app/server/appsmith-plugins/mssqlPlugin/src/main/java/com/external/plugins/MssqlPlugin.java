@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.HikariConnectionPoolMetrics;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -21,6 +22,9 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
@@ -31,12 +35,10 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.sql.Connection;
 import java.sql.Date;
-import java.sql.DriverManager;
 import java.sql.PreparedStatement;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
@@ -56,13 +58,22 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.IntStream;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.MustacheHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.setRowLimits;
+import static com.appsmith.external.helpers.PluginUtils.skipRows;
 import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -75,6 +86,14 @@ public class MssqlPlugin extends BasePlugin {
 
     private static final String DATE_COLUMN_TYPE_NAME = "date";
 
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+
+    private static final String PLUGIN_NAME = "mssql-plugin";
+
+    private static final String POOL_NAME_PREFIX = "MssqlPool-";
+
+    private static final AtomicInteger poolSequence = new AtomicInteger();
+
     public MssqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -85,9 +104,9 @@ public class MssqlPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class MssqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
+    public static class MssqlPluginExecutor implements PluginExecutor<HikariDataSource>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
@@ -106,7 +125,7 @@ public class MssqlPlugin extends BasePlugin {
          * @return
          */
         @Override
-        public Mono<ActionExecutionResult> executeParameterized(Connection connection,
+        public Mono<ActionExecutionResult> executeParameterized(HikariDataSource connection,
                                                                 ExecuteActionDTO executeActionDTO,
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
@@ -140,7 +159,7 @@ public class MssqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null);
+                return executeCommon(connection, actionConfiguration, FALSE, null, executeActionDTO);
             }
 
             //Prepared Statement
@@ -152,7 +171,7 @@ public class MssqlPlugin extends BasePlugin {
             return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
-        public Mono<ActionExecutionResult> executeCommon(Connection connection,
+        public Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
                                                          List<String> mustacheValuesInOrder,
@@ -168,22 +187,22 @@ public class MssqlPlugin extends BasePlugin {
                     transformedQuery, null, null, psParams));
 
             return Mono.fromCallable(() -> {
-                try {
-                    if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
-                        log.info("Encountered stale connection in MsSQL plugin. Reporting back.");
-                        return Mono.error(new StaleConnectionException());
-                    }
-                } catch (SQLException error) {
-                    // This exception is thrown only when the timeout to `isValid` is negative. Since, that's not the case,
-                    // here, this should never happen.
-                    log.error("Error checking validity of MsSQL connection.", error);
-                }
-
                 if (query == null) {
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
                             "parameter: Query."));
                 }
 
+                Connection connectionFromPool;
+
+                try {
+                    connectionFromPool = getConnectionFromConnectionPool(connection);
+                } catch (SQLException | StaleConnectionException e) {
+                    // Hikari throws SQLException if no connection could be borrowed from the pool in time, which is
+                    // treated as a stale pool so that the pool gets recreated.
+                    log.info("Encountered stale connection pool in MsSQL plugin. Reporting back.");
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
+                }
+
                 List<Map<String, Object>> rowsList = new ArrayList<>(50);
                 final List<String> columnsList = new ArrayList<>();
 
@@ -194,11 +213,13 @@ public class MssqlPlugin extends BasePlugin {
 
                 try {
                     if (FALSE.equals(preparedStatement)) {
-                        statement = connection.createStatement();
+                        statement = connectionFromPool.createStatement();
+                        setRowLimits(statement, actionConfiguration, executeActionDTO);
                         isResultSet = statement.execute(query);
                         resultSet = statement.getResultSet();
                     } else {
-                        preparedQuery = connection.prepareStatement(query);
+                        preparedQuery = connectionFromPool.prepareStatement(query);
+                        setRowLimits(preparedQuery, actionConfiguration, executeActionDTO);
 
                         List<Map.Entry<String, String>> parameters = new ArrayList<>();
                         preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
@@ -229,6 +250,7 @@ public class MssqlPlugin extends BasePlugin {
                         int colCount = metaData.getColumnCount();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                        skipRows(resultSet, actionConfiguration, executeActionDTO);
                         while (resultSet.next()) {
                             // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                             Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -303,6 +325,12 @@ public class MssqlPlugin extends BasePlugin {
                         }
                     }
 
+                    // Return the connection back to the pool.
+                    try {
+                        connectionFromPool.close();
+                    } catch (SQLException e) {
+                        log.warn("Error returning MsSQL connection to pool", e);
+                    }
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
@@ -351,87 +379,29 @@ public class MssqlPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-
-            return (Mono<Connection>) Mono.fromCallable(() -> {
-                try {
-                    Class.forName(JDBC_DRIVER);
-                } catch (ClassNotFoundException e) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_ERROR,
-                            "Error loading MsSQL JDBC Driver class."
-                    ));
-                }
-
-                DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-
-                com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-
-                final boolean isSslEnabled = configurationConnection != null
-                        && configurationConnection.getSsl() != null
-                        && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
-
-                StringBuilder urlBuilder = new StringBuilder("jdbc:sqlserver://");
-                for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
-                    urlBuilder
-                            .append(endpoint.getHost())
-                            .append(":")
-                            .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5432L))
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
-                    urlBuilder
-                            .append("database=")
-                            .append(authentication.getDatabaseName())
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getUsername())) {
-                    urlBuilder
-                            .append("user=")
-                            .append(authentication.getUsername())
-                            .append(";");
-                }
-
-                if (!StringUtils.isEmpty(authentication.getPassword())) {
-                    urlBuilder
-                            .append("password=")
-                            .append(authentication.getPassword())
-                            .append(";");
-                }
-
-                urlBuilder
-                        .append("encrypt=")
-                        .append(isSslEnabled)
-                        .append(";");
-
-                try {
-                    Connection connection = DriverManager.getConnection(urlBuilder.toString());
-                    connection.setReadOnly(
-                            configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
-                    System.out.println(Thread.currentThread().getName() + ": Connected to MS-SQL Database");
-                    return Mono.just(connection);
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            try {
+                Class.forName(JDBC_DRIVER);
+            } catch (ClassNotFoundException e) {
+                return Mono.error(new AppsmithPluginException(
+                        AppsmithPluginError.PLUGIN_ERROR,
+                        "Error loading MsSQL JDBC Driver class."
+                ));
+            }
 
-                } catch (SQLException e) {
-                    return Mono.error(new AppsmithPluginException(
-                            AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                            "Error connecting to MsSQL: " + e.getMessage()
-                    ));
-                }
-            })
-                    .flatMap(obj -> obj)
+            return Mono
+                    .fromCallable(() -> {
+                        HikariDataSource connectionPool = createConnectionPool(datasourceConfiguration);
+                        System.out.println(Thread.currentThread().getName() + ": Connected to MS-SQL Database");
+                        return connectionPool;
+                    })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                log.error("Error closing MsSQL Connection.", e);
+        public void datasourceDestroy(HikariDataSource connection) {
+            if (connection != null) {
+                connection.close();
             }
         }
 
@@ -470,21 +440,14 @@ public class MssqlPlugin extends BasePlugin {
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
                     .map(connection -> {
-                        try {
-                            if (connection != null) {
-                                connection.close();
-                            }
-                        } catch (SQLException e) {
-                            log.warn("Error closing MsSQL connection that was made for testing.", e);
-                        }
-
+                        datasourceDestroy(connection);
                         return new DatasourceTestResult();
                     })
                     .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())));
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection,
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
             // Unused function
@@ -573,4 +536,102 @@ public class MssqlPlugin extends BasePlugin {
 
     }
 
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+
+        // The server has already brought these settings within the limits set by the admin.
+        config.setMaximumPoolSize(getMaximumPoolSize(datasourceConfiguration));
+        config.setMinimumIdle(getMinimumPoolSize(datasourceConfiguration));
+        config.setConnectionTimeout(getConnectionTimeout(datasourceConfiguration));
+        config.setIdleTimeout(getIdleTimeout(datasourceConfiguration));
+        config.setMaxLifetime(getMaxLifetime(datasourceConfiguration));
+
+        // Set authentication properties
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        if (!StringUtils.isEmpty(authentication.getUsername())) {
+            config.setUsername(authentication.getUsername());
+        }
+        if (!StringUtils.isEmpty(authentication.getPassword())) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
+
+        final boolean isSslEnabled = configurationConnection != null
+                && configurationConnection.getSsl() != null
+                && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
+
+        // Set up the connection URL
+        StringBuilder urlBuilder = new StringBuilder("jdbc:sqlserver://");
+        for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
+            urlBuilder
+                    .append(endpoint.getHost())
+                    .append(":")
+                    .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5432L))
+                    .append(";");
+        }
+
+        if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
+            urlBuilder
+                    .append("database=")
+                    .append(authentication.getDatabaseName())
+                    .append(";");
+        }
+
+        urlBuilder
+                .append("encrypt=")
+                .append(isSslEnabled)
+                .append(";");
+
+        config.setJdbcUrl(urlBuilder.toString());
+
+        // Every connection in the pool is opened in the connection mode of the datasource.
+        config.setReadOnly(configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
+
+        // Connections that have been idle for a while are checked with `Connection.isValid` before they are handed
+        // out, so that a connection dropped by the database is replaced instead of failing the query.
+        config.setValidationTimeout(TimeUnit.SECONDS.toMillis(VALIDITY_CHECK_TIMEOUT));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        // Pool stats are published as `appsmith.datasource.pool.*` meters, tagged with the datasource and the pool.
+        config.setPoolName(POOL_NAME_PREFIX + poolSequence.incrementAndGet());
+        config.setMetricsTrackerFactory(HikariConnectionPoolMetrics.trackerFactory(PLUGIN_NAME, datasourceConfiguration));
+
+        // Now create the connection pool from the configuration
+        try {
+            return new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    "Error connecting to MsSQL: " + (e.getCause() != null ? e.getCause().getMessage() : e.getMessage())
+            );
+        }
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, SQL Exception is thrown
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
 }
@@ -22,6 +22,9 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import io.r2dbc.spi.ColumnMetadata;
 import io.r2dbc.spi.Connection;
 import io.r2dbc.spi.ConnectionFactories;
@@ -41,7 +44,6 @@ import org.springframework.util.StringUtils;
 import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -64,6 +66,9 @@ import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATI
 import static com.appsmith.external.helpers.MustacheHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.getRowLimit;
+import static com.appsmith.external.helpers.PluginUtils.getRowOffset;
+import static com.appsmith.external.helpers.PluginUtils.putColumnValue;
 import static io.r2dbc.spi.ConnectionFactoryOptions.SSL;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
@@ -126,6 +131,8 @@ public class MySqlPlugin extends BasePlugin {
             "  and i.constraint_type in ('FOREIGN KEY', 'PRIMARY KEY')\n" +
             "order by i.table_name, i.constraint_name, k.position_in_unique_constraint;";
 
+    private static final String PLUGIN_NAME = "mysql-plugin";
+
     public MySqlPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
@@ -134,7 +141,7 @@ public class MySqlPlugin extends BasePlugin {
     @Extension
     public static class MySqlPluginExecutor implements PluginExecutor<Connection>, SmartSubstitutionInterface {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         private static final int PREPARED_STATEMENT_INDEX = 0;
 
@@ -160,24 +167,7 @@ public class MySqlPlugin extends BasePlugin {
 
             final Map<String, Object> requestData = new HashMap<>();
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                 // In case the prepared statement configuration is missing, default to true
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null){
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof  Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             requestData.put("preparedStatement", TRUE.equals(isPreparedStatement) ? true : false);
 
@@ -201,7 +191,7 @@ public class MySqlPlugin extends BasePlugin {
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, actionConfiguration, FALSE, null, null, requestData);
+                return executeCommon(connection, actionConfiguration, FALSE, null, executeActionDTO, requestData);
             }
 
             //This has to be executed as Prepared Statement
@@ -214,6 +204,83 @@ public class MySqlPlugin extends BasePlugin {
             return executeCommon(connection, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO, requestData);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                // In case the prepared statement configuration is missing, default to true
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof  Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
+        /**
+         * Executes the query like {@link #executeParameterized} does, but emits the rows as the driver decodes them,
+         * instead of collecting the whole result first.
+         */
+        @Override
+        public Flux<JsonNode> executeParameterizedStream(Connection connection,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        "Missing required parameter: Query."));
+            }
+
+            query = query.trim();
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            final List<String> mustacheKeysInOrder;
+            if (FALSE.equals(preparedStatement)) {
+                actionConfiguration.setBody(query);
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+            } else {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                actionConfiguration.setBody(MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder));
+            }
+
+            final String finalQuery = actionConfiguration.getBody();
+            final boolean isSelectOrShowQuery = getIsSelectOrShowQuery(finalQuery);
+
+            Flux<Result> resultFlux = Mono.from(connection.validate(ValidationDepth.REMOTE))
+                    .flatMapMany(isValid -> {
+                        if (isValid) {
+                            return createAndExecuteQueryFromConnection(finalQuery,
+                                    connection,
+                                    preparedStatement,
+                                    mustacheKeysInOrder,
+                                    executeActionDTO,
+                                    new HashMap<>(),
+                                    new LinkedHashMap<>());
+                        }
+                        return Flux.error(new StaleConnectionException());
+                    });
+
+            if (isSelectOrShowQuery) {
+                Flux<ObjectNode> rowFlux = resultFlux.concatMap(result -> result.map(this::getRow));
+                return limitRows(rowFlux, actionConfiguration, executeActionDTO)
+                        .cast(JsonNode.class)
+                        .subscribeOn(scheduler);
+            }
+
+            return resultFlux
+                    .concatMap(result -> result.getRowsUpdated())
+                    .last(0)
+                    .map(rowsUpdated -> (JsonNode) objectMapper.createObjectNode().put("affectedRows", (Integer) rowsUpdated))
+                    .flux()
+                    .subscribeOn(scheduler);
+        }
+
         public Mono<ActionExecutionResult> executeCommon(Connection connection,
                                                          ActionConfiguration actionConfiguration,
                                                          Boolean preparedStatement,
@@ -225,7 +292,7 @@ public class MySqlPlugin extends BasePlugin {
 
             boolean isSelectOrShowQuery = getIsSelectOrShowQuery(query);
 
-            final List<Map<String, Object>> rowsList = new ArrayList<>(50);
+            final ArrayNode rowsArray = objectMapper.createArrayNode();
             final List<String> columnsList = new ArrayList<>();
             Map<String, Object> psParams = preparedStatement ? new LinkedHashMap<>() : null;
             String transformedQuery = preparedStatement ? replaceQuestionMarkWithDollarIndex(query) : query;
@@ -246,44 +313,39 @@ public class MySqlPlugin extends BasePlugin {
                         return Flux.error(new StaleConnectionException());
                     });
 
-            Mono<List<Map<String, Object>>> resultMono;
+            Mono<ArrayNode> resultMono;
 
             if (isSelectOrShowQuery) {
-                resultMono = resultFlux
+                Flux<ObjectNode> rowFlux = resultFlux
                         .flatMap(result ->
                                 result.map((row, meta) -> {
-                                            rowsList.add(getRow(row, meta));
-
                                             if (columnsList.isEmpty()) {
                                                 columnsList.addAll(meta.getColumnNames());
                                             }
 
-                                            return result;
+                                            return getRow(row, meta);
                                         }
                                 )
-                        )
-                        .collectList()
-                        .thenReturn(rowsList);
+                        );
+
+                resultMono = limitRows(rowFlux, actionConfiguration, executeActionDTO)
+                        .doOnNext(rowsArray::add)
+                        .then(Mono.just(rowsArray));
             } else {
                 resultMono = resultFlux
                         .flatMap(result -> result.getRowsUpdated())
                         .collectList()
                         .flatMap(list -> Mono.just(list.get(list.size() - 1)))
                         .map(rowsUpdated -> {
-                            rowsList.add(
-                                    Map.of(
-                                            "affectedRows",
-                                            ObjectUtils.defaultIfNull(rowsUpdated, 0)
-                                    )
-                            );
-                            return rowsList;
+                            rowsArray.addObject().put("affectedRows", (Integer) ObjectUtils.defaultIfNull(rowsUpdated, 0));
+                            return rowsArray;
                         });
             }
 
             return resultMono
                     .map(res -> {
                         ActionExecutionResult result = new ActionExecutionResult();
-                        result.setBody(objectMapper.valueToTree(rowsList));
+                        result.setBody(rowsArray);
                         result.setMessages(populateHintMessages(columnsList));
                         result.setIsExecutionSuccess(true);
                         System.out.println(Thread.currentThread().getName() + " In the MySqlPlugin, got action " +
@@ -313,6 +375,25 @@ public class MySqlPlugin extends BasePlugin {
 
         }
 
+        /**
+         * Skips the rows before the requested page and stops reading the result after the row limit. The driver reads
+         * the rows only as they are requested, and cancelling the result stops reading it.
+         */
+        private Flux<ObjectNode> limitRows(Flux<ObjectNode> rowFlux,
+                                           ActionConfiguration actionConfiguration,
+                                           ExecuteActionDTO executeActionDTO) {
+            final int rowOffset;
+            try {
+                rowOffset = getRowOffset(actionConfiguration, executeActionDTO);
+            } catch (AppsmithPluginException e) {
+                return Flux.error(e);
+            }
+            final int rowLimit = getRowLimit(actionConfiguration);
+
+            Flux<ObjectNode> limitedRowFlux = rowOffset > 0 ? rowFlux.skip(rowOffset) : rowFlux;
+            return rowLimit > 0 ? limitedRowFlux.take(rowLimit) : limitedRowFlux;
+        }
+
         private Flux<Result> createAndExecuteQueryFromConnection(String query,
                                                                  Connection connection,
                                                                  Boolean preparedStatement,
@@ -395,11 +476,11 @@ public class MySqlPlugin extends BasePlugin {
 
         /**
          * 1. Parse the actual row objects returned by r2dbc driver for mysql statements.
-         * 2. Return the row as a map {column_name -> column_value}.
+         * 2. Return the row as a JSON object {column_name -> column_value}, with the columns in order.
          */
-        private Map<String, Object> getRow(Row row, RowMetadata meta) {
+        private ObjectNode getRow(Row row, RowMetadata meta) {
             Iterator<ColumnMetadata> iterator = (Iterator<ColumnMetadata>) meta.getColumnMetadatas().iterator();
-            Map<String, Object> processedRow = new LinkedHashMap<>();
+            ObjectNode processedRow = objectMapper.createObjectNode();
 
             while (iterator.hasNext()) {
                 ColumnMetadata metaData = iterator.next();
@@ -425,7 +506,7 @@ public class MySqlPlugin extends BasePlugin {
                     columnValue = row.get(columnName);
                 }
 
-                processedRow.put(columnName, columnValue);
+                putColumnValue(processedRow, columnName, columnValue, objectMapper);
             }
 
             return processedRow;
@@ -6,6 +6,7 @@ import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.HikariConnectionPoolMetrics;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
@@ -22,20 +23,23 @@ import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.plugins.SmartSubstitutionInterface;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
 import com.zaxxer.hikari.HikariConfig;
 import com.zaxxer.hikari.HikariDataSource;
-import com.zaxxer.hikari.HikariPoolMXBean;
 import com.zaxxer.hikari.pool.HikariProxyConnection;
 import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
+import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.io.IOUtils;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.io.IOException;
 import java.sql.Array;
@@ -61,6 +65,8 @@ import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.Stream;
@@ -68,8 +74,16 @@ import java.util.stream.Stream;
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.MustacheHelper.replaceQuestionMarkWithDollarIndex;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
 import static com.appsmith.external.helpers.PluginUtils.getPSParamLabel;
+import static com.appsmith.external.helpers.PluginUtils.putColumnValue;
+import static com.appsmith.external.helpers.PluginUtils.setRowLimits;
+import static com.appsmith.external.helpers.PluginUtils.skipRows;
 import static java.lang.Boolean.FALSE;
 import static java.lang.Boolean.TRUE;
 
@@ -93,20 +107,31 @@ public class PostgresPlugin extends BasePlugin {
 
     private static final String JSONB_TYPE_NAME = "jsonb";
 
-    private static final int MINIMUM_POOL_SIZE = 1;
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
 
-    private static final int MAXIMUM_POOL_SIZE = 5;
+    private static final String PLUGIN_NAME = "postgres-plugin";
 
-    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final String POOL_NAME_PREFIX = "PostgresPool-";
+
+    private static final AtomicInteger poolSequence = new AtomicInteger();
+
+    // Number of rows fetched from the database at a time when streaming the result of a query.
+    private static final int STREAMING_FETCH_SIZE = 500;
+
+    // Queries that only read rows, and so can be run in a transaction, for the driver to fetch their result with a
+    // cursor. Statements like VACUUM or CREATE DATABASE can't be run in a transaction at all.
+    private static final Pattern READ_QUERY_PATTERN = Pattern.compile("^\\s*(SELECT|WITH|TABLE|VALUES)\\b",
+            Pattern.CASE_INSENSITIVE);
 
     public PostgresPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    @Slf4j
     @Extension
     public static class PostgresPluginExecutor implements SmartSubstitutionInterface, PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
@@ -179,29 +204,12 @@ public class PostgresPlugin extends BasePlugin {
                         "parameter: Query."));
             }
 
-            Boolean isPreparedStatement;
-
-            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
-                //In case the prepared statement configuration is missing, default to true.
-                isPreparedStatement = true;
-            } else if (properties.get(PREPARED_STATEMENT_INDEX) != null){
-                Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
-                if (psValue instanceof  Boolean) {
-                    isPreparedStatement = (Boolean) psValue;
-                } else if (psValue instanceof String) {
-                    isPreparedStatement = Boolean.parseBoolean((String) psValue);
-                } else {
-                    isPreparedStatement = true;
-                }
-            } else {
-                isPreparedStatement = true;
-            }
+            Boolean isPreparedStatement = isPreparedStatement(actionConfiguration);
 
             // In case of non prepared statement, simply do binding replacement and execute
             if (FALSE.equals(isPreparedStatement)) {
                 prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
-                return executeCommon(connection, datasourceConfiguration, actionConfiguration, FALSE, null, null);
+                return executeCommon(connection, datasourceConfiguration, actionConfiguration, FALSE, null, executeActionDTO);
             }
 
             // Prepared Statement
@@ -214,6 +222,161 @@ public class PostgresPlugin extends BasePlugin {
             return executeCommon(connection, datasourceConfiguration, actionConfiguration, TRUE, mustacheKeysInOrder, executeActionDTO);
         }
 
+        private Boolean isPreparedStatement(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (properties == null || properties.get(PREPARED_STATEMENT_INDEX) == null) {
+                //In case the prepared statement configuration is missing, default to true.
+                return true;
+            }
+
+            Object psValue = properties.get(PREPARED_STATEMENT_INDEX).getValue();
+            if (psValue instanceof  Boolean) {
+                return (Boolean) psValue;
+            } else if (psValue instanceof String) {
+                return Boolean.parseBoolean((String) psValue);
+            }
+
+            return true;
+        }
+
+        /**
+         * Executes the query like {@link #executeParameterized} does, but emits the rows as they are read from the
+         * database. The rows are fetched from a server side cursor, STREAMING_FETCH_SIZE rows at a time, so only that
+         * many rows are held in memory no matter how large the result is. Cancelling the returned Flux closes the cursor
+         * and returns the connection to the pool.
+         */
+        @Override
+        public Flux<JsonNode> executeParameterizedStream(HikariDataSource connection,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            String query = actionConfiguration.getBody();
+            if (query == null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, "Missing required " +
+                        "parameter: Query."));
+            }
+
+            final Boolean preparedStatement = isPreparedStatement(actionConfiguration);
+            final List<String> mustacheKeysInOrder;
+            if (FALSE.equals(preparedStatement)) {
+                prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+                mustacheKeysInOrder = null;
+            } else {
+                mustacheKeysInOrder = MustacheHelper.extractMustacheKeysInOrder(query);
+                actionConfiguration.setBody(MustacheHelper.replaceMustacheWithQuestionMark(query, mustacheKeysInOrder));
+            }
+
+            final String finalQuery = actionConfiguration.getBody();
+
+            // The driver only fetches the result in batches, using a cursor, inside of a transaction. Queries that
+            // don't read rows are run with auto commit, like they would be when not streamed.
+            final boolean useCursor = READ_QUERY_PATTERN.matcher(finalQuery).find();
+
+            return Flux.using(
+                    () -> {
+                        Connection connectionFromPool;
+                        try {
+                            connectionFromPool = getConnectionFromConnectionPool(connection, datasourceConfiguration);
+                        } catch (SQLException e) {
+                            throw new StaleConnectionException();
+                        }
+
+                        final StreamingResult streamingResult = new StreamingResult(connectionFromPool, useCursor);
+                        try {
+                            if (useCursor) {
+                                connectionFromPool.setAutoCommit(false);
+                            }
+
+                            final PreparedStatement statement = connectionFromPool.prepareStatement(finalQuery);
+                            streamingResult.statement = statement;
+                            if (TRUE.equals(preparedStatement)) {
+                                smartSubstitutionOfBindings(statement,
+                                        mustacheKeysInOrder,
+                                        executeActionDTO.getParams(),
+                                        new ArrayList<>(),
+                                        connectionFromPool);
+                            }
+
+                            setRowLimits(statement, actionConfiguration, executeActionDTO);
+                            statement.setFetchSize(STREAMING_FETCH_SIZE);
+                            if (statement.execute()) {
+                                streamingResult.resultSet = statement.getResultSet();
+                                streamingResult.metaData = streamingResult.resultSet.getMetaData();
+                                skipRows(streamingResult.resultSet, actionConfiguration, executeActionDTO);
+                            }
+                        } catch (Exception e) {
+                            streamingResult.close();
+                            throw e;
+                        }
+
+                        return streamingResult;
+                    },
+                    streamingResult -> Flux.<JsonNode>generate(sink -> {
+                        try {
+                            if (streamingResult.resultSet == null) {
+                                sink.next(objectMapper.createObjectNode()
+                                        .put("affectedRows", streamingResult.statement.getUpdateCount()));
+                                sink.complete();
+                            } else if (streamingResult.resultSet.next()) {
+                                sink.next(getRow(streamingResult.resultSet, streamingResult.metaData));
+                            } else {
+                                sink.complete();
+                            }
+                        } catch (SQLException | IOException e) {
+                            sink.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
+                        }
+                    }),
+                    StreamingResult::close
+            )
+                    .onErrorMap(SQLException.class,
+                            e -> new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()))
+                    .subscribeOn(scheduler);
+        }
+
+        /**
+         * The resources held open while the rows of a streaming execution are being read.
+         */
+        private static class StreamingResult {
+            final Connection connection;
+            // Whether a transaction was opened to read the rows with a cursor.
+            final boolean useCursor;
+            PreparedStatement statement;
+            ResultSet resultSet;
+            ResultSetMetaData metaData;
+
+            StreamingResult(Connection connection, boolean useCursor) {
+                this.connection = connection;
+                this.useCursor = useCursor;
+            }
+
+            void close() {
+                try {
+                    if (resultSet != null) {
+                        resultSet.close();
+                    }
+                    if (statement != null) {
+                        statement.close();
+                    }
+                    if (useCursor && !connection.getAutoCommit()) {
+                        // The transaction was only started to be able to use a cursor, so it's ended before the
+                        // connection goes back to the pool.
+                        connection.commit();
+                        connection.setAutoCommit(true);
+                    }
+                } catch (SQLException e) {
+                    log.warn("Error closing Postgres streaming result", e);
+                } finally {
+                    try {
+                        // Return the connection back to the pool
+                        connection.close();
+                    } catch (SQLException e) {
+                        log.error("Error returning Postgres connection to pool", e);
+                    }
+                }
+            }
+        }
+
         private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
                                                           DatasourceConfiguration datasourceConfiguration,
                                                           ActionConfiguration actionConfiguration,
@@ -244,7 +407,7 @@ public class PostgresPlugin extends BasePlugin {
                     return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
-                List<Map<String, Object>> rowsList = new ArrayList<>(50);
+                final ArrayNode rowsArray = objectMapper.createArrayNode();
                 final List<String> columnsList = new ArrayList<>();
 
                 Statement statement = null;
@@ -252,25 +415,23 @@ public class PostgresPlugin extends BasePlugin {
                 PreparedStatement preparedQuery = null;
                 boolean isResultSet;
 
-                HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                int idleConnections = poolProxy.getIdleConnections();
-                int activeConnections = poolProxy.getActiveConnections();
-                int totalConnections = poolProxy.getTotalConnections();
-                int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                System.out.println(Thread.currentThread().getName() + ": Before executing postgres query [" +
-                        query +
-                        "] Hikari Pool stats : active - " + activeConnections +
-                        ", idle - " + idleConnections +
-                        ", awaiting - " + threadsAwaitingConnection +
-                        ", total - " + totalConnections);
+                // The driver only reads the result in batches of the fetch size, using a cursor, inside of a
+                // transaction. With auto commit on, it reads all the rows into memory at once.
+                final boolean useCursor = READ_QUERY_PATTERN.matcher(query).find();
+
                 try {
+                    if (useCursor) {
+                        connectionFromPool.setAutoCommit(false);
+                    }
+
                     if (FALSE.equals(preparedStatement)) {
                         statement = connectionFromPool.createStatement();
+                        setRowLimits(statement, actionConfiguration, executeActionDTO);
                         isResultSet = statement.execute(query);
                         resultSet = statement.getResultSet();
                     } else {
                         preparedQuery = connectionFromPool.prepareStatement(query);
+                        setRowLimits(preparedQuery, actionConfiguration, executeActionDTO);
 
                         List<Map.Entry<String, String>> parameters = new ArrayList<>();
                         preparedQuery = (PreparedStatement) smartSubstitutionOfBindings(preparedQuery,
@@ -296,65 +457,23 @@ public class PostgresPlugin extends BasePlugin {
                                 ObjectUtils.defaultIfNull(statement.getUpdateCount(), 0) :
                                 ObjectUtils.defaultIfNull(preparedQuery.getUpdateCount(), 0);
 
-                        rowsList.add(Map.of("affectedRows", updateCount));
+                        rowsArray.addObject().put("affectedRows", (Integer) updateCount);
 
                     } else {
 
                         ResultSetMetaData metaData = resultSet.getMetaData();
-                        int colCount = metaData.getColumnCount();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                        skipRows(resultSet, actionConfiguration, executeActionDTO);
                         while (resultSet.next()) {
-
-                            // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
-                            Map<String, Object> row = new LinkedHashMap<>(colCount);
-
-                            for (int i = 1; i <= colCount; i++) {
-                                Object value;
-                                final String typeName = metaData.getColumnTypeName(i);
-
-                                if (resultSet.getObject(i) == null) {
-                                    value = null;
-
-                                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
-
-                                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                            LocalDateTime.of(
-                                                    resultSet.getDate(i).toLocalDate(),
-                                                    resultSet.getTime(i).toLocalTime()
-                                            )
-                                    ) + "Z";
-
-                                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = DateTimeFormatter.ISO_DATE_TIME.format(
-                                            resultSet.getObject(i, OffsetDateTime.class)
-                                    );
-
-                                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = resultSet.getString(i);
-
-                                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = resultSet.getObject(i).toString();
-
-                                } else if (typeName.startsWith("_")) {
-                                    value = resultSet.getArray(i).getArray();
-
-                                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
-                                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
-                                    value = objectMapper.readTree(resultSet.getString(i));
-                                } else {
-                                    value = resultSet.getObject(i);
-                                }
-
-                                row.put(metaData.getColumnName(i), value);
-                            }
-
-                            rowsList.add(row);
+                            rowsArray.add(getRow(resultSet, metaData));
                         }
                     }
 
+                    if (useCursor) {
+                        connectionFromPool.commit();
+                    }
+
                 } catch (SQLException e) {
                     System.out.println(Thread.currentThread().getName() + ": In the PostgresPlugin, got action execution error");
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR, e.getMessage()));
@@ -364,14 +483,6 @@ public class PostgresPlugin extends BasePlugin {
                     System.out.println(Thread.currentThread().getName() + ": In the PostgresPlugin, got action execution error");
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage()));
                 } finally {
-                    idleConnections = poolProxy.getIdleConnections();
-                    activeConnections = poolProxy.getActiveConnections();
-                    totalConnections = poolProxy.getTotalConnections();
-                    threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                    System.out.println(Thread.currentThread().getName() + ": After executing postgres query, Hikari Pool stats active - " + activeConnections +
-                            ", idle - " + idleConnections +
-                            ", awaiting - " + threadsAwaitingConnection +
-                            ", total - " + totalConnections);
                     if (resultSet != null) {
                         try {
                             resultSet.close();
@@ -400,6 +511,17 @@ public class PostgresPlugin extends BasePlugin {
                     }
 
                     if (connectionFromPool != null) {
+                        try {
+                            if (useCursor && !connectionFromPool.getAutoCommit()) {
+                                // Rolls back the transaction if the query failed, it was committed otherwise.
+                                connectionFromPool.rollback();
+                                connectionFromPool.setAutoCommit(true);
+                            }
+                        } catch (SQLException e) {
+                            System.out.println(Thread.currentThread().getName() +
+                                    ": Execute Error restoring auto commit of Postgres connection" + e.getMessage());
+                        }
+
                         try {
                             // Return the connetion back to the pool
                             connectionFromPool.close();
@@ -412,7 +534,7 @@ public class PostgresPlugin extends BasePlugin {
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
-                result.setBody(objectMapper.valueToTree(rowsList));
+                result.setBody(rowsArray);
                 result.setMessages(populateHintMessages(columnsList));
                 result.setIsExecutionSuccess(true);
                 System.out.println(Thread.currentThread().getName() + ": In the PostgresPlugin, got action execution result");
@@ -443,6 +565,60 @@ public class PostgresPlugin extends BasePlugin {
 
         }
 
+        /**
+         * Reads the row that the result set is currently pointing to.
+         */
+        private ObjectNode getRow(ResultSet resultSet, ResultSetMetaData metaData) throws SQLException, IOException {
+            int colCount = metaData.getColumnCount();
+
+            // Use `ObjectNode` here, which preserves the column ordering in the response.
+            ObjectNode row = objectMapper.createObjectNode();
+
+            for (int i = 1; i <= colCount; i++) {
+                Object value;
+                final String typeName = metaData.getColumnTypeName(i);
+
+                if (resultSet.getObject(i) == null) {
+                    value = null;
+
+                } else if (DATE_COLUMN_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE.format(resultSet.getDate(i).toLocalDate());
+
+                } else if (TIMESTAMP_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            LocalDateTime.of(
+                                    resultSet.getDate(i).toLocalDate(),
+                                    resultSet.getTime(i).toLocalTime()
+                            )
+                    ) + "Z";
+
+                } else if (TIMESTAMPTZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = DateTimeFormatter.ISO_DATE_TIME.format(
+                            resultSet.getObject(i, OffsetDateTime.class)
+                    );
+
+                } else if (TIME_TYPE_NAME.equalsIgnoreCase(typeName) || TIMETZ_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getString(i);
+
+                } else if (INTERVAL_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = resultSet.getObject(i).toString();
+
+                } else if (typeName.startsWith("_")) {
+                    value = resultSet.getArray(i).getArray();
+
+                } else if (JSON_TYPE_NAME.equalsIgnoreCase(typeName)
+                        || JSONB_TYPE_NAME.equalsIgnoreCase(typeName)) {
+                    value = objectMapper.readTree(resultSet.getString(i));
+                } else {
+                    value = resultSet.getObject(i);
+                }
+
+                putColumnValue(row, metaData.getColumnName(i), value, objectMapper);
+            }
+
+            return row;
+        }
+
         private Set<String> populateHintMessages(List<String> columnNames) {
 
             Set<String> messages = new HashSet<>();
@@ -571,17 +747,6 @@ public class PostgresPlugin extends BasePlugin {
                     return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
-                HikariPoolMXBean poolProxy = connection.getHikariPoolMXBean();
-
-                int idleConnections = poolProxy.getIdleConnections();
-                int activeConnections = poolProxy.getActiveConnections();
-                int totalConnections = poolProxy.getTotalConnections();
-                int threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                System.out.println(Thread.currentThread().getName() + ": Before getting postgres db structure" +
-                        " Hikari Pool stats : active - " + activeConnections +
-                        ", idle - " + idleConnections +
-                        ", awaiting - " + threadsAwaitingConnection +
-                        ", total - " + totalConnections);
 
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                 try (Statement statement = connectionFromPool.createStatement()) {
@@ -718,15 +883,6 @@ public class PostgresPlugin extends BasePlugin {
                             throwable.getMessage()
                     ));
                 } finally {
-                    idleConnections = poolProxy.getIdleConnections();
-                    activeConnections = poolProxy.getActiveConnections();
-                    totalConnections = poolProxy.getTotalConnections();
-                    threadsAwaitingConnection = poolProxy.getThreadsAwaitingConnection();
-                    System.out.println(Thread.currentThread().getName() + ": After postgres db structure, Hikari Pool stats active - " + activeConnections +
-                            ", idle - " + idleConnections +
-                            ", awaiting - " + threadsAwaitingConnection +
-                            ", total - " + totalConnections);
-
                     if (connectionFromPool != null) {
                         try {
                             // Return the connection back to the pool
@@ -887,8 +1043,13 @@ public class PostgresPlugin extends BasePlugin {
 
         // Set SSL property
         com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-        config.setMinimumIdle(MINIMUM_POOL_SIZE);
-        config.setMaximumPoolSize(MAXIMUM_POOL_SIZE);
+
+        // The server has already brought these settings within the limits set by the admin.
+        config.setMaximumPoolSize(getMaximumPoolSize(datasourceConfiguration));
+        config.setMinimumIdle(getMinimumPoolSize(datasourceConfiguration));
+        config.setConnectionTimeout(getConnectionTimeout(datasourceConfiguration));
+        config.setIdleTimeout(getIdleTimeout(datasourceConfiguration));
+        config.setMaxLifetime(getMaxLifetime(datasourceConfiguration));
 
         // Set authentication properties
         DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
@@ -963,6 +1124,10 @@ public class PostgresPlugin extends BasePlugin {
         // should get tracked (may be falsely for long running queries) as leaked connection
         config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
 
+        // Pool stats are published as `appsmith.datasource.pool.*` meters, tagged with the datasource and the pool.
+        config.setPoolName(POOL_NAME_PREFIX + poolSequence.incrementAndGet());
+        config.setMetricsTrackerFactory(HikariConnectionPoolMetrics.trackerFactory(PLUGIN_NAME, datasourceConfiguration));
+
         // Now create the connection pool from the configuration
         HikariDataSource datasource = null;
         try {
@@ -5,6 +5,7 @@ import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionExceptio
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceStructure;
@@ -23,6 +24,7 @@ import org.junit.BeforeClass;
 import org.junit.ClassRule;
 import org.junit.Test;
 import org.testcontainers.containers.PostgreSQLContainer;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -1115,4 +1117,67 @@ public class PostgresPluginTest {
                 })
                 .verifyComplete();
     }
+
+    @Test
+    public void testExecuteWithRowLimitRestoresAutoCommit() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        // A single connection, so that every execution below runs on the same one.
+        ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMinimumPoolSize(1);
+        connectionPool.setMaximumPoolSize(1);
+        dsConfig.setConnectionPool(connectionPool);
+
+        ActionConfiguration selectConfiguration = new ActionConfiguration();
+        selectConfiguration.setBody("SELECT * FROM users ORDER BY id");
+        selectConfiguration.setRowLimit(1);
+
+        // VACUUM can't be run inside of a transaction, so it fails if the read query left auto commit off.
+        ActionConfiguration vacuumConfiguration = new ActionConfiguration();
+        vacuumConfiguration.setBody("VACUUM users");
+
+        Mono<HikariDataSource> connectionPoolMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Mono<ActionExecutionResult> selectMono = connectionPoolMono
+                .flatMap(pool -> pluginExecutor.executeParameterized(pool, new ExecuteActionDTO(), dsConfig, selectConfiguration));
+        Mono<ActionExecutionResult> vacuumMono = connectionPoolMono
+                .flatMap(pool -> pluginExecutor.executeParameterized(pool, new ExecuteActionDTO(), dsConfig, vacuumConfiguration));
+
+        StepVerifier.create(selectMono.then(vacuumMono).zipWith(selectMono))
+                .assertNext(results -> {
+                    assertTrue(results.getT1().getIsExecutionSuccess());
+                    assertTrue(results.getT2().getIsExecutionSuccess());
+                    assertEquals(1, ((ArrayNode) results.getT2().getBody()).size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void testExecuteStreamRunsOnlyReadQueriesInTransaction() {
+        DatasourceConfiguration dsConfig = createDatasourceConfiguration();
+        // A single connection, so that every execution below runs on the same one.
+        ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+        connectionPool.setMinimumPoolSize(1);
+        connectionPool.setMaximumPoolSize(1);
+        dsConfig.setConnectionPool(connectionPool);
+
+        ActionConfiguration selectConfiguration = new ActionConfiguration();
+        selectConfiguration.setBody("SELECT * FROM users ORDER BY id");
+
+        // VACUUM can't be run inside of a transaction, so it fails if it's streamed with auto commit off, or if the
+        // streamed read query left auto commit off.
+        ActionConfiguration vacuumConfiguration = new ActionConfiguration();
+        vacuumConfiguration.setBody("VACUUM users");
+
+        Mono<HikariDataSource> connectionPoolMono = pluginExecutor.datasourceCreate(dsConfig).cache();
+        Flux<JsonNode> selectFlux = connectionPoolMono
+                .flatMapMany(pool -> pluginExecutor.executeParameterizedStream(pool, new ExecuteActionDTO(), dsConfig, selectConfiguration));
+        Flux<JsonNode> vacuumFlux = connectionPoolMono
+                .flatMapMany(pool -> pluginExecutor.executeParameterizedStream(pool, new ExecuteActionDTO(), dsConfig, vacuumConfiguration));
+
+        StepVerifier.create(vacuumFlux.thenMany(selectFlux).then(vacuumFlux.collectList()))
+                .assertNext(rows -> {
+                    assertEquals(1, rows.size());
+                    assertTrue(rows.get(0).has("affectedRows"));
+                })
+                .verifyComplete();
+    }
 }
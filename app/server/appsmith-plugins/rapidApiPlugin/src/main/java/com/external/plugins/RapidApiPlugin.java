@@ -2,6 +2,7 @@ package com.external.plugins;
 
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
+import com.appsmith.external.helpers.HttpConnectionPool;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DatasourceConfiguration;
@@ -41,6 +42,8 @@ import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 public class RapidApiPlugin extends BasePlugin {
+    private static final String PLUGIN_NAME = "rapidapi-plugin";
+
     private static final int MAX_REDIRECTS = 5;
 
     private static final String JSON_TYPE = "apipayload";
@@ -56,6 +59,11 @@ public class RapidApiPlugin extends BasePlugin {
         private static final String RAPID_API_KEY_NAME = "X-RapidAPI-Key";
         private static final String RAPID_API_KEY_VALUE = System.getenv("APPSMITH_RAPID_API_KEY_VALUE");
 
+        // All the datasources call the same API, so they share a long-lived client on the plugin's connection pool.
+        private final WebClient webClient = WebClient.builder()
+                .clientConnector(HttpConnectionPool.getShared(PLUGIN_NAME).getConnector())
+                .build();
+
         @Override
         public Mono<ActionExecutionResult> execute(Void ignored,
                                                    DatasourceConfiguration datasourceConfiguration,
@@ -76,18 +84,18 @@ public class RapidApiPlugin extends BasePlugin {
                         "set."));
             }
 
-            WebClient.Builder webClientBuilder = WebClient.builder();
+            HttpHeaders requestHeaders = new HttpHeaders();
 
             if (datasourceConfiguration.getHeaders() != null) {
-                addHeadersToRequest(webClientBuilder, datasourceConfiguration.getHeaders());
+                addHeadersToRequest(requestHeaders, datasourceConfiguration.getHeaders());
             }
 
             if (actionConfiguration.getHeaders() != null) {
-                addHeadersToRequest(webClientBuilder, actionConfiguration.getHeaders());
+                addHeadersToRequest(requestHeaders, actionConfiguration.getHeaders());
             }
 
             // Add the rapid api headers
-            webClientBuilder.defaultHeader(RAPID_API_KEY_NAME, RAPID_API_KEY_VALUE);
+            requestHeaders.set(RAPID_API_KEY_NAME, RAPID_API_KEY_VALUE);
 
             //If route parameters exist, update the URL by replacing the key surrounded by '{' and '}'
             if (actionConfiguration.getRouteParameters() != null && !actionConfiguration.getRouteParameters().isEmpty()) {
@@ -115,7 +123,7 @@ public class RapidApiPlugin extends BasePlugin {
             // Build the body of the request in case of bodyFormData is not null
             if (actionConfiguration.getBodyFormData() != null) {
                 // First set the header to specify the content type
-                webClientBuilder.defaultHeader(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON.toString());
+                requestHeaders.set(HttpHeaders.CONTENT_TYPE, MediaType.APPLICATION_JSON.toString());
 
                 Map<String, String> keyValueMap = new HashMap<>();
 
@@ -148,8 +156,7 @@ public class RapidApiPlugin extends BasePlugin {
 
             }
 
-            WebClient client = webClientBuilder.build();
-            return httpCall(client, httpMethod, uri, requestBody, 0)
+            return httpCall(webClient, httpMethod, uri, requestHeaders, requestBody, 0)
                     .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
                     .map(stringResponseEntity -> {
                         HttpHeaders headers = stringResponseEntity.getHeaders();
@@ -223,7 +230,8 @@ public class RapidApiPlugin extends BasePlugin {
                     });
         }
 
-        private Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri, String requestBody, int iteration) {
+        private Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri, HttpHeaders requestHeaders,
+                                              String requestBody, int iteration) {
             if (iteration == MAX_REDIRECTS) {
                 System.out.println("Exceeded the http redirect limits. Returning error");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Exceeded the HTTO redirect limits of " + MAX_REDIRECTS));
@@ -231,6 +239,7 @@ public class RapidApiPlugin extends BasePlugin {
             return webClient
                     .method(httpMethod)
                     .uri(uri)
+                    .headers(headers -> headers.addAll(requestHeaders))
                     .body(BodyInserters.fromObject(requestBody))
                     .exchange()
                     .doOnError(e -> Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e)))
@@ -251,7 +260,7 @@ public class RapidApiPlugin extends BasePlugin {
                             } catch (URISyntaxException e) {
                                 e.printStackTrace();
                             }
-                            return httpCall(webClient, httpMethod, redirectUri, requestBody, iteration + 1);
+                            return httpCall(webClient, httpMethod, redirectUri, requestHeaders, requestBody, iteration + 1);
                         }
                         return Mono.just(response);
                     });
@@ -282,10 +291,10 @@ public class RapidApiPlugin extends BasePlugin {
                     : Mono.just(new DatasourceTestResult());
         }
 
-        private void addHeadersToRequest(WebClient.Builder webClientBuilder, List<Property> headers) {
+        private void addHeadersToRequest(HttpHeaders requestHeaders, List<Property> headers) {
             for (Property header : headers) {
                 if (header.getKey() != null && !header.getKey().isEmpty()) {
-                    webClientBuilder.defaultHeader(header.getKey(), (String) header.getValue());
+                    requestHeaders.set(header.getKey(), (String) header.getValue());
                 }
             }
         }
@@ -7,11 +7,15 @@ import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
 import org.pf4j.Extension;
@@ -20,37 +24,70 @@ import org.pf4j.util.StringUtils;
 import org.springframework.util.CollectionUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 import redis.clients.jedis.Jedis;
 import redis.clients.jedis.JedisPool;
 import redis.clients.jedis.JedisPoolConfig;
+import redis.clients.jedis.Pipeline;
 import redis.clients.jedis.Protocol;
+import redis.clients.jedis.ScanParams;
+import redis.clients.jedis.ScanResult;
+import redis.clients.jedis.Transaction;
+import redis.clients.jedis.exceptions.JedisDataException;
 import redis.clients.jedis.exceptions.JedisException;
 import redis.clients.jedis.util.SafeEncoder;
 
 import java.time.Duration;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
 
 public class RedisPlugin extends BasePlugin {
     private static final Long DEFAULT_PORT = 6379L;
     private static final int CONNECTION_TIMEOUT = 60;
+    private static final String PLUGIN_NAME = "redis-plugin";
+    private static final int EXECUTION_MODE_INDEX = 0;
+    // Number of keys asked for in every SCAN call, and the most keys looked at to find the key patterns.
+    private static final int SCAN_COUNT = 1000;
+    private static final int MAX_SCANNED_KEYS = 10000;
+    private static final String KEY_SEPARATOR = ":";
 
     public RedisPlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
+    /**
+     * How the body of an action is run. In the single command mode, the whole body is one command. In the others, every
+     * line is a command, and all of them are sent in one round trip, as is, or wrapped in MULTI/EXEC.
+     */
+    private enum ExecutionMode {
+        SINGLE,
+        PIPELINE,
+        TRANSACTION
+    }
+
+    @Getter
+    @AllArgsConstructor
+    private static class ParsedCommand {
+        Protocol.Command command;
+        String[] args;
+    }
+
     @Slf4j
     @Extension
     public static class RedisPluginExecutor implements PluginExecutor<JedisPool> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         @Override
         public Mono<ActionExecutionResult> execute(JedisPool jedisPool,
@@ -61,34 +98,40 @@ public class RedisPlugin extends BasePlugin {
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null
                     , null, null));
 
-            Jedis jedis = jedisPool.getResource();
             return Mono.fromCallable(() -> {
                 if (StringUtils.isNullOrEmpty(query)) {
                     return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
                             String.format("Body is null or empty [%s]", query)));
                 }
 
-                // First value will be the redis command and others are arguments for that command
-                String[] bodySplitted = query.trim().split("\\s+");
+                final ExecutionMode executionMode = getExecutionMode(actionConfiguration);
 
-                Protocol.Command command;
-                try {
-                    // Commands are in upper case
-                    command = Protocol.Command.valueOf(bodySplitted[0].toUpperCase());
-                } catch (IllegalArgumentException exc) {
-                    return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
-                            String.format("Not a valid Redis command:%s", bodySplitted[0])));
+                // In the multi command modes, every line of the body is a command of its own.
+                final List<String> commandLines = executionMode == ExecutionMode.SINGLE
+                        ? List.of(query)
+                        : Arrays.stream(query.split("\\R"))
+                                .filter(line -> !line.isBlank())
+                                .collect(Collectors.toList());
+
+                final List<ParsedCommand> commands = new ArrayList<>(commandLines.size());
+                for (String commandLine : commandLines) {
+                    commands.add(parseCommand(commandLine));
                 }
 
-                Object commandOutput;
-                if (bodySplitted.length > 1) {
-                    commandOutput = jedis.sendCommand(command, Arrays.copyOfRange(bodySplitted, 1, bodySplitted.length));
-                } else {
-                    commandOutput = jedis.sendCommand(command);
+                Object body;
+                // Taking the connection here, instead of before scheduling, so that waiting for one doesn't block the
+                // calling thread.
+                try (Jedis jedis = jedisPool.getResource()) {
+                    if (executionMode == ExecutionMode.SINGLE) {
+                        ParsedCommand command = commands.get(0);
+                        body = processCommandOutput(jedis.sendCommand(command.getCommand(), command.getArgs()));
+                    } else {
+                        body = executeCommands(jedis, commands, executionMode == ExecutionMode.TRANSACTION);
+                    }
                 }
 
                 ActionExecutionResult actionExecutionResult = new ActionExecutionResult();
-                actionExecutionResult.setBody(objectMapper.valueToTree(processCommandOutput(commandOutput)));
+                actionExecutionResult.setBody(objectMapper.valueToTree(body));
                 actionExecutionResult.setIsExecutionSuccess(true);
 
                 System.out.println(Thread.currentThread().getName() + ": In the RedisPlugin, got action execution result");
@@ -112,23 +155,79 @@ public class RedisPlugin extends BasePlugin {
                         result.setRequest(request);
                         return result;
                     })
-                    .doFinally(signalType -> {
-                        /**
-                         * - Return resource back to the pool.
-                         * - https://stackoverflow.com/questions/54902337/is-it-necessary-to-use-jedis-close
-                         * - https://www.baeldung.com/jedis-java-redis-client-library:
-                         */
-                        if (jedis != null) {
-                            jedis.close();
-                        }
-                    })
                     .subscribeOn(scheduler);
         }
 
+        private ExecutionMode getExecutionMode(ActionConfiguration actionConfiguration) {
+            final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
+            if (CollectionUtils.isEmpty(properties)
+                    || properties.get(EXECUTION_MODE_INDEX) == null
+                    || StringUtils.isNullOrEmpty((String) properties.get(EXECUTION_MODE_INDEX).getValue())) {
+                return ExecutionMode.SINGLE;
+            }
+
+            final String executionMode = (String) properties.get(EXECUTION_MODE_INDEX).getValue();
+            try {
+                return ExecutionMode.valueOf(executionMode.toUpperCase());
+            } catch (IllegalArgumentException e) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format("Not a valid execution mode: %s", executionMode));
+            }
+        }
+
+        private ParsedCommand parseCommand(String commandLine) {
+            // First value will be the redis command and others are arguments for that command
+            String[] bodySplitted = commandLine.trim().split("\\s+");
+
+            Protocol.Command command;
+            try {
+                // Commands are in upper case
+                command = Protocol.Command.valueOf(bodySplitted[0].toUpperCase());
+            } catch (IllegalArgumentException exc) {
+                throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_EXECUTE_ARGUMENT_ERROR,
+                        String.format("Not a valid Redis command:%s", bodySplitted[0]));
+            }
+
+            return new ParsedCommand(command, Arrays.copyOfRange(bodySplitted, 1, bodySplitted.length));
+        }
+
+        /**
+         * Sends all the commands in one go, and reads all their replies after, instead of waiting for the reply to
+         * every command before sending the next one. A failed command doesn't stop the ones after it, unless the
+         * commands are run in a transaction, and Redis refuses to run it.
+         *
+         * @return The output of every command, in the order of the commands
+         */
+        private List<List<Map<String, String>>> executeCommands(Jedis jedis,
+                                                                List<ParsedCommand> commands,
+                                                                boolean isTransaction) {
+            final List<Object> commandOutputs;
+            if (isTransaction) {
+                final Transaction transaction = jedis.multi();
+                commands.forEach(command -> transaction.sendCommand(command.getCommand(), command.getArgs()));
+                commandOutputs = transaction.exec();
+                if (commandOutputs == null) {
+                    throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                            "The transaction was aborted, since a watched key was changed.");
+                }
+            } else {
+                final Pipeline pipeline = jedis.pipelined();
+                commands.forEach(command -> pipeline.sendCommand(command.getCommand(), command.getArgs()));
+                commandOutputs = pipeline.syncAndReturnAll();
+            }
+
+            return commandOutputs.stream()
+                    .map(this::processCommandOutput)
+                    .collect(Collectors.toList());
+        }
+
         // This will be updated as we encounter different outputs.
         private List<Map<String, String>> processCommandOutput(Object commandOutput) {
             if (commandOutput == null) {
                 return List.of(Map.of("result", "null"));
+            } else if (commandOutput instanceof JedisDataException) {
+                // Commands that fail in a pipeline, or a transaction, get their error in place of their output.
+                return List.of(Map.of("error", String.valueOf(((JedisDataException) commandOutput).getMessage())));
             } else if (commandOutput instanceof byte[]) {
                 return List.of(Map.of("result", SafeEncoder.encode((byte[]) commandOutput)));
             } else if (commandOutput instanceof List) {
@@ -147,18 +246,20 @@ public class RedisPlugin extends BasePlugin {
          * - To understand what these config mean:
          * https://www.infoworld.com/article/2071834/pool-resources-using-apache-s-commons-pool-framework.html
          */
-        private JedisPoolConfig buildPoolConfig() {
+        private JedisPoolConfig buildPoolConfig(DatasourceConfiguration datasourceConfiguration) {
             final JedisPoolConfig poolConfig = new JedisPoolConfig();
-            poolConfig.setMaxTotal(5);
-            poolConfig.setMaxIdle(5);
-            poolConfig.setMinIdle(0);
+            poolConfig.setMaxTotal(getMaximumPoolSize(datasourceConfiguration));
+            poolConfig.setMaxIdle(getMaximumPoolSize(datasourceConfiguration));
+            poolConfig.setMinIdle(getMinimumPoolSize(datasourceConfiguration));
             poolConfig.setTestOnBorrow(true);
             poolConfig.setTestOnReturn(true);
             poolConfig.setTestWhileIdle(true);
-            poolConfig.setMinEvictableIdleTimeMillis(Duration.ofSeconds(60).toMillis());
+            poolConfig.setMinEvictableIdleTimeMillis(getIdleTimeout(datasourceConfiguration));
             poolConfig.setTimeBetweenEvictionRunsMillis(Duration.ofSeconds(30).toMillis());
             poolConfig.setNumTestsPerEvictionRun(3);
             poolConfig.setBlockWhenExhausted(true);
+            // Waiting for a connection is bounded, so that a busy pool fails the action instead of holding its thread.
+            poolConfig.setMaxWaitMillis(getConnectionTimeout(datasourceConfiguration));
             return poolConfig;
         }
 
@@ -173,7 +274,7 @@ public class RedisPlugin extends BasePlugin {
 
                 Endpoint endpoint = datasourceConfiguration.getEndpoints().get(0);
                 Integer port = (int) (long) ObjectUtils.defaultIfNull(endpoint.getPort(), DEFAULT_PORT);
-                final JedisPoolConfig poolConfig = buildPoolConfig();
+                final JedisPoolConfig poolConfig = buildPoolConfig(datasourceConfiguration);
                 DBAuth auth = (DBAuth) datasourceConfiguration.getAuthentication();
                 int timeout = (int)Duration.ofSeconds(CONNECTION_TIMEOUT).toMillis();
                 JedisPool jedisPool;
@@ -215,6 +316,67 @@ public class RedisPlugin extends BasePlugin {
                     .subscribe();
         }
 
+        /**
+         * Redis has no schema, so the structure is made of the patterns of the keys, found by scanning a sample of the
+         * keys with SCAN. Keys are grouped by what comes before their last `:`, so `user:1` and `user:2` make up
+         * `user:*`.
+         */
+        @Override
+        public Mono<DatasourceStructure> getStructure(JedisPool jedisPool,
+                                                      DatasourceConfiguration datasourceConfiguration) {
+            return Mono.fromSupplier(() -> {
+                // A sample key of every pattern, to use in the templates.
+                final Map<String, String> sampleKeys = new TreeMap<>();
+
+                try (Jedis jedis = jedisPool.getResource()) {
+                    final ScanParams scanParams = new ScanParams().count(SCAN_COUNT);
+                    String cursor = ScanParams.SCAN_POINTER_START;
+                    int scannedKeys = 0;
+                    do {
+                        final ScanResult<String> scanResult = jedis.scan(cursor, scanParams);
+                        for (String key : scanResult.getResult()) {
+                            sampleKeys.putIfAbsent(getKeyPattern(key), key);
+                        }
+                        scannedKeys += scanResult.getResult().size();
+                        cursor = scanResult.getCursor();
+                    } while (!ScanParams.SCAN_POINTER_START.equals(cursor) && scannedKeys < MAX_SCANNED_KEYS);
+                }
+
+                final List<DatasourceStructure.Table> tables = sampleKeys.entrySet().stream()
+                        .map(entry -> new DatasourceStructure.Table(
+                                DatasourceStructure.TableType.COLLECTION,
+                                null,
+                                entry.getKey(),
+                                new ArrayList<>(),
+                                new ArrayList<>(),
+                                List.of(
+                                        new DatasourceStructure.Template(
+                                                "Scan",
+                                                "SCAN 0 MATCH " + entry.getKey() + " COUNT 100",
+                                                null
+                                        ),
+                                        new DatasourceStructure.Template(
+                                                "Get",
+                                                "GET " + entry.getValue(),
+                                                null
+                                        )
+                                )
+                        ))
+                        .collect(Collectors.toList());
+
+                return new DatasourceStructure(tables);
+            })
+                    .onErrorMap(error -> error instanceof AppsmithPluginException
+                            ? error
+                            : new AppsmithPluginException(AppsmithPluginError.PLUGIN_GET_STRUCTURE_ERROR, error.getMessage()))
+                    .subscribeOn(scheduler);
+        }
+
+        private static String getKeyPattern(String key) {
+            final int separatorIndex = key.lastIndexOf(KEY_SEPARATOR);
+            return separatorIndex < 0 ? "*" : key.substring(0, separatorIndex + 1) + "*";
+        }
+
         @Override
         public Set<String> validateDatasource(DatasourceConfiguration datasourceConfiguration) {
             Set<String> invalids = new HashSet<>();
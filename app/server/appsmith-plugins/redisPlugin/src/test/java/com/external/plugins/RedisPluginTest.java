@@ -5,8 +5,10 @@ import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionResult;
 import com.appsmith.external.models.DBAuth;
 import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.models.DatasourceStructure;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.Endpoint;
+import com.appsmith.external.models.Property;
 import com.appsmith.external.models.RequestParamDTO;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.node.ArrayNode;
@@ -25,6 +27,7 @@ import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
+import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static org.junit.Assert.assertEquals;
@@ -265,4 +268,74 @@ public class RedisPluginTest {
                     Assert.assertEquals("value", node.get("result").asText());
                 }).verifyComplete();
     }
+
+    @Test
+    public void itShouldExecutePipelinedCommands() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "PIPELINE")));
+        actionConfiguration.setBody("SET pipelined value\nINCR pipelined\n\nGET pipelined");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    Assert.assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode outputs = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(3, outputs.size());
+                    assertEquals("OK", outputs.get(0).get(0).get("result").asText());
+                    // A failed command gets its error, and doesn't stop the rest.
+                    Assert.assertNotNull(outputs.get(1).get(0).get("error"));
+                    assertEquals("value", outputs.get(2).get(0).get("result").asText());
+                }).verifyComplete();
+    }
+
+    @Test
+    public void itShouldExecuteCommandsInATransaction() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "TRANSACTION")));
+        actionConfiguration.setBody("SET counter 1\nINCR counter");
+
+        Mono<ActionExecutionResult> actionExecutionResultMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration));
+
+        StepVerifier.create(actionExecutionResultMono)
+                .assertNext(actionExecutionResult -> {
+                    Assert.assertTrue(actionExecutionResult.getIsExecutionSuccess());
+                    final ArrayNode outputs = (ArrayNode) actionExecutionResult.getBody();
+                    assertEquals(2, outputs.size());
+                    assertEquals("OK", outputs.get(0).get(0).get("result").asText());
+                    assertEquals("2", outputs.get(1).get(0).get("result").asText());
+                }).verifyComplete();
+    }
+
+    @Test
+    public void itShouldGetStructureFromKeyPatterns() {
+        DatasourceConfiguration datasourceConfiguration = createDatasourceConfiguration();
+        Mono<JedisPool> jedisPoolMono = pluginExecutor.datasourceCreate(datasourceConfiguration);
+
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setPluginSpecifiedTemplates(List.of(new Property("executionMode", "PIPELINE")));
+        actionConfiguration.setBody("SET user:1 one\nSET user:2 two\nSET order:1 one");
+
+        Mono<DatasourceStructure> structureMono = jedisPoolMono
+                .flatMap(jedisPool -> pluginExecutor.execute(jedisPool, datasourceConfiguration, actionConfiguration)
+                        .then(pluginExecutor.getStructure(jedisPool, datasourceConfiguration)));
+
+        StepVerifier.create(structureMono)
+                .assertNext(structure -> {
+                    final List<String> patterns = structure.getTables().stream()
+                            .map(DatasourceStructure.Table::getName)
+                            .collect(Collectors.toList());
+                    Assert.assertTrue(patterns.containsAll(List.of("order:*", "user:*")));
+                    final DatasourceStructure.Table users = structure.getTables().get(patterns.indexOf("user:*"));
+                    assertEquals("SCAN 0 MATCH user:* COUNT 100", users.getTemplates().get(0).getBody());
+                }).verifyComplete();
+    }
 }
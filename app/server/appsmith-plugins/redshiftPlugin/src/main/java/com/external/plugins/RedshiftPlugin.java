@@ -1,8 +1,10 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.HikariConnectionPoolMetrics;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -15,6 +17,9 @@ import com.appsmith.external.models.RequestParamDTO;
 import com.appsmith.external.models.SSLDetails;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.NonNull;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ObjectUtils;
@@ -24,10 +29,8 @@ import org.springframework.util.CollectionUtils;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -42,24 +45,34 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.constants.ActionConstants.ACTION_CONFIGURATION_BODY;
 import static com.appsmith.external.helpers.PluginUtils.getColumnsListForJdbcPlugin;
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
 import static com.appsmith.external.helpers.PluginUtils.getIdenticalColumns;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.setRowLimits;
+import static com.appsmith.external.helpers.PluginUtils.skipRows;
 import static com.appsmith.external.models.Connection.Mode.READ_ONLY;
 
 
 public class RedshiftPlugin extends BasePlugin {
     static final String JDBC_DRIVER = "com.amazon.redshift.jdbc.Driver";
     private static final String JDBC_PROTOCOL = "jdbc:redshift://";
-    private static final String USER = "user";
-    private static final String PASSWORD = "password";
     private static final String SSL = "ssl";
     private static final int VALIDITY_CHECK_TIMEOUT = 5; /* must be positive, otherwise may receive exception */
     private static final String DATE_COLUMN_TYPE_NAME = "date";
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+    private static final String PLUGIN_NAME = "redshift-plugin";
+    private static final String POOL_NAME_PREFIX = "RedshiftPool-";
+    private static final AtomicInteger poolSequence = new AtomicInteger();
 
     public RedshiftPlugin(PluginWrapper wrapper) {
         super(wrapper);
@@ -67,9 +80,9 @@ public class RedshiftPlugin extends BasePlugin {
 
     @Slf4j
     @Extension
-    public static class RedshiftPluginExecutor implements PluginExecutor<Connection> {
+    public static class RedshiftPluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
 
         private static final String TABLES_QUERY =
                 "select a.attname                                                      as name,\n" +
@@ -204,21 +217,25 @@ public class RedshiftPlugin extends BasePlugin {
             return row;
         }
 
-        /*
-         * 1. This method can throw SQLException via connection.isClosed() or connection.isValid(...)
-         * 2. StaleConnectionException thrown by this method needs to be propagated to upper layers so that a retry
-         *    can be triggered.
-         */
-        private void checkConnectionValidity(Connection connection) throws SQLException {
-            if (connection == null || connection.isClosed() || !connection.isValid(VALIDITY_CHECK_TIMEOUT)) {
-                throw new StaleConnectionException();
-            }
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(HikariDataSource connection,
+                                                                ExecuteActionDTO executeActionDTO,
+                                                                DatasourceConfiguration datasourceConfiguration,
+                                                                ActionConfiguration actionConfiguration) {
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            return executeCommon(connection, actionConfiguration, executeActionDTO);
         }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection,
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection,
                                                    DatasourceConfiguration datasourceConfiguration,
                                                    ActionConfiguration actionConfiguration) {
+            return executeCommon(connection, actionConfiguration, null);
+        }
+
+        private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
+                                                          ActionConfiguration actionConfiguration,
+                                                          ExecuteActionDTO executeActionDTO) {
 
             String query = actionConfiguration.getBody();
             List<RequestParamDTO> requestParams = List.of(new RequestParamDTO(ACTION_CONFIGURATION_BODY,  query, null
@@ -234,13 +251,15 @@ public class RedshiftPlugin extends BasePlugin {
             }
 
             return Mono.fromCallable(() -> {
-                /*
-                 * 1. If there is any issue with checking connection validity then assume that the connection is stale.
-                 */
+
+                Connection connectionFromPool;
+
                 try {
-                    checkConnectionValidity(connection);
-                } catch (SQLException e) {
-                    return Mono.error(new StaleConnectionException());
+                    connectionFromPool = getConnectionFromConnectionPool(connection);
+                } catch (SQLException | StaleConnectionException e) {
+                    // Hikari throws SQLException if no connection could be borrowed from the pool in time, which is
+                    // treated as a stale pool so that the pool gets recreated.
+                    return Mono.error(e instanceof StaleConnectionException ? e : new StaleConnectionException());
                 }
 
                 List<Map<String, Object>> rowsList = new ArrayList<>(50);
@@ -249,7 +268,8 @@ public class RedshiftPlugin extends BasePlugin {
                 ResultSet resultSet = null;
 
                 try {
-                    statement = connection.createStatement();
+                    statement = connectionFromPool.createStatement();
+                    setRowLimits(statement, actionConfiguration, executeActionDTO);
                     boolean isResultSet = statement.execute(query);
 
                     if (isResultSet) {
@@ -257,6 +277,7 @@ public class RedshiftPlugin extends BasePlugin {
                         ResultSetMetaData metaData = resultSet.getMetaData();
                         columnsList.addAll(getColumnsListForJdbcPlugin(metaData));
 
+                        skipRows(resultSet, actionConfiguration, executeActionDTO);
                         while (resultSet.next()) {
                             Map<String, Object> row = getRow(resultSet);
                             rowsList.add(row);
@@ -286,6 +307,13 @@ public class RedshiftPlugin extends BasePlugin {
                             log.warn("Error closing Redshift Statement", e);
                         }
                     }
+
+                    // Return the connection back to the pool.
+                    try {
+                        connectionFromPool.close();
+                    } catch (SQLException e) {
+                        log.warn("Error returning Redshift connection to pool", e);
+                    }
                 }
 
                 ActionExecutionResult result = new ActionExecutionResult();
@@ -343,80 +371,25 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
                 Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException e) {
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Error loading Redshift JDBC Driver class."));
             }
 
-            String url;
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-
-            com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
-
-            final boolean isSslEnabled = configurationConnection != null
-                    && configurationConnection.getSsl() != null
-                    && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
-
-            Properties properties = new Properties();
-            properties.put(SSL, isSslEnabled);
-            if (authentication.getUsername() != null) {
-                properties.put(USER, authentication.getUsername());
-            }
-            if (authentication.getPassword() != null) {
-                properties.put(PASSWORD, authentication.getPassword());
-            }
-
-            if (CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
-                url = datasourceConfiguration.getUrl();
-
-            } else {
-                StringBuilder urlBuilder = new StringBuilder(JDBC_PROTOCOL);
-                for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
-                    urlBuilder
-                            .append(endpoint.getHost())
-                            .append(':')
-                            .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5439L))
-                            .append('/');
-
-                    if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
-                        urlBuilder.append(authentication.getDatabaseName());
-                    }
-                }
-                url = urlBuilder.toString();
-            }
-
-            return Mono.fromCallable(() -> {
-                try {
-                    System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
-                    Connection connection = DriverManager.getConnection(url, properties);
-                    connection.setReadOnly(
-                            configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
-                    return Mono.just(connection);
-                } catch (SQLException e) {
-                    return Mono.error(
-                            new AppsmithPluginException(
-                                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
-                                    e.getMessage()
-                            )
-                    );
-                }
-            })
-                    .flatMap(obj -> obj)
-                    .map(conn -> (Connection) conn)
+            return Mono
+                    .fromCallable(() -> {
+                        System.out.println(Thread.currentThread().getName() + ": Connecting to Redshift db");
+                        return createConnectionPool(datasourceConfiguration);
+                    })
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
-            try {
-                if (connection != null) {
-                    connection.close();
-                }
-            } catch (SQLException e) {
-                System.out.println(Thread.currentThread().getName() + ": Error closing Redshift Connection. " + e);
-                log.error("Error closing Redshift Connection.", e);
+        public void datasourceDestroy(HikariDataSource connection) {
+            if (connection != null) {
+                connection.close();
             }
         }
 
@@ -466,14 +439,7 @@ public class RedshiftPlugin extends BasePlugin {
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
                     .map(connection -> {
-                        try {
-                            if (connection != null) {
-                                connection.close();
-                            }
-                        } catch (SQLException e) {
-                            log.warn("Error closing Redshift connection that was made for testing.", e);
-                        }
-
+                        datasourceDestroy(connection);
                         return new DatasourceTestResult();
                     })
                     .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())));
@@ -617,16 +583,7 @@ public class RedshiftPlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
-            /*
-             * 1. If there is any issue with checking connection validity then assume that the connection is stale.
-             */
-            try {
-                checkConnectionValidity(connection);
-            } catch (SQLException e) {
-                return Mono.error(new StaleConnectionException());
-            }
-
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
@@ -634,7 +591,16 @@ public class RedshiftPlugin extends BasePlugin {
             return Mono.fromSupplier(() -> {
                 // Ref: <https://docs.oracle.com/en/java/javase/11/docs/api/java.sql/java/sql/DatabaseMetaData.html>.
                 System.out.println(Thread.currentThread().getName() + ": Getting Redshift Db structure");
-                try (Statement statement = connection.createStatement()) {
+                final Connection connectionFromPool;
+                try {
+                    connectionFromPool = getConnectionFromConnectionPool(connection);
+                } catch (SQLException e) {
+                    // No connection could be borrowed from the pool in time, so the pool is treated as stale.
+                    throw new StaleConnectionException();
+                }
+
+                // The connection is returned back to the pool when it's closed along with the statement.
+                try (connectionFromPool; Statement statement = connectionFromPool.createStatement()) {
 
                     // Get tables' schema and fill up their columns.
                     ResultSet columnsResultSet = statement.executeQuery(TABLES_QUERY);
@@ -671,7 +637,7 @@ public class RedshiftPlugin extends BasePlugin {
             })
                     .map(resultStructure -> (DatasourceStructure) resultStructure)
                     .onErrorMap(e -> {
-                        if (!(e instanceof AppsmithPluginException)) {
+                        if (!(e instanceof AppsmithPluginException) && !(e instanceof StaleConnectionException)) {
                             return new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e.getMessage());
                         }
 
@@ -680,4 +646,104 @@ public class RedshiftPlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
     }
+
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+
+        // The server has already brought these settings within the limits set by the admin.
+        config.setMaximumPoolSize(getMaximumPoolSize(datasourceConfiguration));
+        config.setMinimumIdle(getMinimumPoolSize(datasourceConfiguration));
+        config.setConnectionTimeout(getConnectionTimeout(datasourceConfiguration));
+        config.setIdleTimeout(getIdleTimeout(datasourceConfiguration));
+        config.setMaxLifetime(getMaxLifetime(datasourceConfiguration));
+
+        // Set authentication properties
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        if (authentication.getUsername() != null) {
+            config.setUsername(authentication.getUsername());
+        }
+        if (authentication.getPassword() != null) {
+            config.setPassword(authentication.getPassword());
+        }
+
+        // Set SSL property
+        com.appsmith.external.models.Connection configurationConnection = datasourceConfiguration.getConnection();
+        final boolean isSslEnabled = configurationConnection != null
+                && configurationConnection.getSsl() != null
+                && !SSLDetails.AuthType.NO_SSL.equals(configurationConnection.getSsl().getAuthType());
+        config.addDataSourceProperty(SSL, String.valueOf(isSslEnabled));
+
+        // Every connection in the pool is opened in the connection mode of the datasource.
+        config.setReadOnly(configurationConnection != null && READ_ONLY.equals(configurationConnection.getMode()));
+
+        // Set up the connection URL
+        if (CollectionUtils.isEmpty(datasourceConfiguration.getEndpoints())) {
+            config.setJdbcUrl(datasourceConfiguration.getUrl());
+        } else {
+            StringBuilder urlBuilder = new StringBuilder(JDBC_PROTOCOL);
+            for (Endpoint endpoint : datasourceConfiguration.getEndpoints()) {
+                urlBuilder
+                        .append(endpoint.getHost())
+                        .append(':')
+                        .append(ObjectUtils.defaultIfNull(endpoint.getPort(), 5439L))
+                        .append('/');
+
+                if (!StringUtils.isEmpty(authentication.getDatabaseName())) {
+                    urlBuilder.append(authentication.getDatabaseName());
+                }
+            }
+            config.setJdbcUrl(urlBuilder.toString());
+        }
+
+        // Connections that have been idle for a while are checked with `Connection.isValid` before they are handed
+        // out, so that a connection dropped by the database is replaced instead of failing the query.
+        config.setValidationTimeout(TimeUnit.SECONDS.toMillis(VALIDITY_CHECK_TIMEOUT));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        // Pool stats are published as `appsmith.datasource.pool.*` meters, tagged with the datasource and the pool.
+        config.setPoolName(POOL_NAME_PREFIX + poolSequence.incrementAndGet());
+        config.setMetricsTrackerFactory(HikariConnectionPoolMetrics.trackerFactory(PLUGIN_NAME, datasourceConfiguration));
+
+        // Now create the connection pool from the configuration
+        HikariDataSource datasource = null;
+        try {
+            datasource = new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+            );
+        }
+
+        return datasource;
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, SQL Exception is thrown
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            System.out.println(Thread.currentThread().getName() +
+                    ": Encountered stale connection pool in Redshift plugin. Reporting back.");
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
 }
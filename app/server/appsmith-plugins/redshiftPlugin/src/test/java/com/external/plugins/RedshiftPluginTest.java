@@ -14,6 +14,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.zaxxer.hikari.HikariDataSource;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
 import org.junit.BeforeClass;
@@ -47,6 +48,7 @@ import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.doNothing;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 /**
@@ -88,10 +90,21 @@ public class RedshiftPluginTest {
         return dsConfig;
     }
 
+    /* Mock com.zaxxer.hikari.HikariDataSource:
+     *      a. isRunning()
+     *      b. getConnection(): return the given connection
+     */
+    private HikariDataSource mockConnectionPool(Connection connection) throws SQLException {
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isRunning()).thenReturn(true);
+        when(mockConnectionPool.getConnection()).thenReturn(connection);
+        return mockConnectionPool;
+    }
+
     @Test
     public void testDatasourceCreateConnectionFailure() {
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
+        Mono<HikariDataSource> dsConnectionMono = pluginExecutor.datasourceCreate(dsConfig);
 
         StepVerifier.create(dsConnectionMono)
                 .expectErrorMatches(throwable ->
@@ -113,15 +126,13 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("show databases");
 
-        /* Mock java.sql.Connection:
+        /* Mock com.zaxxer.hikari.HikariDataSource:
          *      a. isClosed(): return true
-         *      b. isValid() : return false
          */
-        Connection mockConnection = mock(Connection.class);
-        when(mockConnection.isClosed()).thenReturn(true);
-        when(mockConnection.isValid(Mockito.anyInt())).thenReturn(false);
+        HikariDataSource mockConnectionPool = mock(HikariDataSource.class);
+        when(mockConnectionPool.isClosed()).thenReturn(true);
 
-        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnection, dsConfig, actionConfiguration);
+        Mono<ActionExecutionResult> resultMono = pluginExecutor.execute(mockConnectionPool, dsConfig, actionConfiguration);
 
         StepVerifier.create(resultMono)
                 .expectErrorMatches(throwable -> throwable instanceof StaleConnectionException)
@@ -238,7 +249,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT * FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
@@ -285,6 +296,9 @@ public class RedshiftPluginTest {
                     assertEquals(result.getRequest().getRequestParams().toString(), expectedRequestParams.toString());
                 })
                 .verifyComplete();
+
+        // The connection must have been returned back to the pool.
+        verify(mockConnection).close();
     }
 
     /* 1. CREATE TABLE users (
@@ -368,7 +382,7 @@ public class RedshiftPluginTest {
         doNothing().when(mockResultSet).close();
 
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
         Mono<DatasourceStructure> structureMono = dsConnectionMono
                 .flatMap(connection -> pluginExecutor.getStructure(connection, dsConfig));
 
@@ -512,7 +526,7 @@ public class RedshiftPluginTest {
         ActionConfiguration actionConfiguration = new ActionConfiguration();
         actionConfiguration.setBody("SELECT id, id, username, username FROM users WHERE id = 1");
         DatasourceConfiguration dsConfig = createDatasourceConfiguration();
-        Mono<Connection> dsConnectionMono = Mono.just(mockConnection);
+        Mono<HikariDataSource> dsConnectionMono = Mono.just(mockConnectionPool(mockConnection));
 
         Mono<ActionExecutionResult> executeMono = dsConnectionMono
                 .flatMap(conn -> pluginExecutor.execute(conn, dsConfig, actionConfiguration));
@@ -1,7 +1,28 @@
 package com.external.connections;
 
+import com.appsmith.external.helpers.HttpConnectionPool;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.web.reactive.function.client.ClientRequest;
+import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeFilterFunction;
+import org.springframework.web.reactive.function.client.ExchangeFunction;
+import org.springframework.web.reactive.function.client.WebClient;
+import reactor.core.publisher.Mono;
 
-// Parent type for all API connections that need to be created during datasource create method.
-public abstract class APIConnection implements ExchangeFilterFunction {
-}
\ No newline at end of file
+// Parent type for all API connections that need to be created during datasource create method. Datasources without
+// authentication get a plain connection, which only holds the client that their requests are sent with.
+@Getter
+@Setter
+public class APIConnection implements ExchangeFilterFunction {
+
+    private HttpConnectionPool connectionPool;
+
+    // Long-lived client on the connection pool, with this connection as its filter.
+    private WebClient webClient;
+
+    @Override
+    public Mono<ClientResponse> filter(ClientRequest request, ExchangeFunction next) {
+        return next.exchange(request);
+    }
+}
@@ -4,10 +4,12 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.helpers.DataTypeStringUtils;
+import com.appsmith.external.helpers.HttpConnectionPool;
 import com.appsmith.external.helpers.MustacheHelper;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.models.PaginationField;
@@ -23,11 +25,11 @@ import com.external.helpers.BufferingFilter;
 import com.external.helpers.DataUtils;
 import com.external.helpers.DatasourceValidator;
 import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.StringUtils;
-import org.bson.internal.Base64;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.http.HttpHeaders;
@@ -35,40 +37,52 @@ import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.InvalidMediaTypeException;
 import org.springframework.http.MediaType;
+import org.springframework.core.io.buffer.DataBuffer;
+import org.springframework.core.io.buffer.DataBufferUtils;
+import org.springframework.core.codec.DecodingException;
 import org.springframework.http.client.reactive.ClientHttpRequest;
 import org.springframework.util.CollectionUtils;
 import org.springframework.util.LinkedCaseInsensitiveMap;
 import org.springframework.util.MultiValueMap;
+import org.springframework.web.reactive.function.BodyExtractors;
 import org.springframework.web.reactive.function.BodyInserter;
 import org.springframework.web.reactive.function.client.ClientResponse;
 import org.springframework.web.reactive.function.client.ExchangeStrategies;
 import org.springframework.web.reactive.function.client.WebClient;
 import org.springframework.web.util.UriComponentsBuilder;
 import reactor.core.Exceptions;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.crypto.SecretKey;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
+import java.nio.charset.Charset;
 import java.nio.charset.StandardCharsets;
 import java.time.Instant;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Base64;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 
 import static java.lang.Boolean.TRUE;
 
 public class RestApiPlugin extends BasePlugin {
+    private static final String PLUGIN_NAME = "restapi-plugin";
+
     private static final int MAX_REDIRECTS = 5;
 
     private static final int SMART_JSON_SUBSTITUTION_INDEX = 0;
@@ -92,6 +106,9 @@ public class RestApiPlugin extends BasePlugin {
         // `WebClient` instance was loaded as an auto-wired bean.
         public ExchangeStrategies EXCHANGE_STRATEGIES;
 
+        // Client for the actions that don't have a connection of their own, on the shared connection pool.
+        private final WebClient sharedWebClient;
+
         public RestApiPluginExecutor(SharedConfig sharedConfig) {
             this.sharedConfig = sharedConfig;
             this.dataUtils = DataUtils.getInstance();
@@ -99,6 +116,24 @@ public class RestApiPlugin extends BasePlugin {
                     .builder()
                     .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(sharedConfig.getCodecSize()))
                     .build();
+            this.sharedWebClient = buildWebClient(HttpConnectionPool.getShared(PLUGIN_NAME), null);
+        }
+
+        /**
+         * Builds the client that all the requests to a datasource are sent with, so that they reuse the connections of
+         * its pool. Only what's the same for every request goes in here, and the rest is set on each request.
+         */
+        private WebClient buildWebClient(HttpConnectionPool connectionPool, APIConnection apiConnection) {
+            WebClient.Builder webClientBuilder = WebClient.builder()
+                    .clientConnector(connectionPool.getConnector())
+                    .exchangeStrategies(EXCHANGE_STRATEGIES);
+
+            // Populate the client with whatever mutation the APIConnection object demands
+            if (apiConnection != null) {
+                webClientBuilder.filter(apiConnection);
+            }
+
+            return webClientBuilder.build();
         }
 
         /**
@@ -119,9 +154,94 @@ public class RestApiPlugin extends BasePlugin {
                                                                 DatasourceConfiguration datasourceConfiguration,
                                                                 ActionConfiguration actionConfiguration) {
 
+            List<Map.Entry<String, String>> parameters = new ArrayList<>();
+            try {
+                prepareConfigurationsForRequest(executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
+            } catch (AppsmithPluginException e) {
+                ActionExecutionResult errorResult = new ActionExecutionResult();
+                errorResult.setIsExecutionSuccess(false);
+                errorResult.setErrorInfo(e);
+                errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
+                return Mono.just(errorResult);
+            }
+
+            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
+        }
+
+        /**
+         * Streams the elements of a JSON array in the response as they are received, so that neither the body nor the
+         * whole parsed array are held in memory. A response with any other body is read whole, and streamed like it
+         * is by {@link PluginExecutor#executeParameterizedStream}.
+         */
+        @Override
+        public Flux<JsonNode> executeParameterizedStream(APIConnection connection,
+                                                         ExecuteActionDTO executeActionDTO,
+                                                         DatasourceConfiguration datasourceConfiguration,
+                                                         ActionConfiguration actionConfiguration) {
+
+            List<Map.Entry<String, String>> parameters = new ArrayList<>();
+            final ActionHttpRequest request;
+            try {
+                prepareConfigurationsForRequest(executeActionDTO, datasourceConfiguration, actionConfiguration, parameters);
+                request = buildRequest(connection, datasourceConfiguration, actionConfiguration, parameters);
+            } catch (AppsmithPluginException e) {
+                return Flux.error(e);
+            }
+
+            if (request.errorResult != null) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                        request.errorResult.getBody()));
+            }
+
+            return httpCall(request.client, request.httpMethod, request.uri, request.headers, request.body, 0,
+                    request.contentType)
+                    .flatMapMany(clientResponse -> {
+                        final MediaType contentType = clientResponse.headers().contentType().orElse(null);
+                        if (clientResponse.statusCode().is2xxSuccessful()
+                                && (MediaType.APPLICATION_JSON.equals(contentType)
+                                || MediaType.APPLICATION_JSON_UTF8.equals(contentType))) {
+                            // The decoder emits the elements of a top level array one at a time, as soon as each of
+                            // them has been parsed, and a body that isn't an array as a single element.
+                            return clientResponse.bodyToFlux(JsonNode.class)
+                                    .onErrorMap(DecodingException.class, error -> new AppsmithPluginException(
+                                            AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
+                                            "response body",
+                                            error.getMessage()));
+                        }
+
+                        return readActionExecutionResult(clientResponse, request.actionExecutionRequest)
+                                .flatMapMany(this::getResultElements);
+                    });
+        }
+
+        private Flux<JsonNode> getResultElements(ActionExecutionResult result) {
+            if (!TRUE.equals(result.getIsExecutionSuccess())) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, result.getBody()));
+            }
+
+            if (!(result.getBody() instanceof JsonNode)) {
+                return Flux.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR,
+                        "The result of this action can't be streamed."));
+            }
+
+            final JsonNode body = (JsonNode) result.getBody();
+            return body.isArray() ? Flux.fromIterable(body) : Flux.just(body);
+        }
+
+        /**
+         * Substitutes the bindings in the action's body, and updates the configurations for pagination, before the
+         * request is built from them.
+         *
+         * @param parameters : The values substituted in the body are added to this list
+         * @throws AppsmithPluginException if the bindings in the body could not be substituted
+         */
+        private void prepareConfigurationsForRequest(ExecuteActionDTO executeActionDTO,
+                                                     DatasourceConfiguration datasourceConfiguration,
+                                                     ActionConfiguration actionConfiguration,
+                                                     List<Map.Entry<String, String>> parameters) {
+
             Boolean smartJsonSubstitution;
             final List<Property> properties = actionConfiguration.getPluginSpecifiedTemplates();
-            List<Map.Entry<String, String>> parameters = new ArrayList<>();
 
             if (CollectionUtils.isEmpty(properties)) {
                 // In case the smart json substitution configuration is missing, default to true
@@ -151,18 +271,10 @@ public class RestApiPlugin extends BasePlugin {
                     // Replace all the bindings with a ? as expected in a prepared statement.
                     String updatedBody = MustacheHelper.replaceMustacheWithQuestionMark(actionConfiguration.getBody(), mustacheKeysInOrder);
 
-                    try {
-                        updatedBody = (String) smartSubstitutionOfBindings(updatedBody,
-                                mustacheKeysInOrder,
-                                executeActionDTO.getParams(),
-                                parameters);
-                    } catch (AppsmithPluginException e) {
-                        ActionExecutionResult errorResult = new ActionExecutionResult();
-                        errorResult.setIsExecutionSuccess(false);
-                        errorResult.setErrorInfo(e);
-                        errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
-                        return Mono.just(errorResult);
-                    }
+                    updatedBody = (String) smartSubstitutionOfBindings(updatedBody,
+                            mustacheKeysInOrder,
+                            executeActionDTO.getParams(),
+                            parameters);
 
                     actionConfiguration.setBody(updatedBody);
                 }
@@ -184,8 +296,6 @@ public class RestApiPlugin extends BasePlugin {
                         .collect(Collectors.toList());
                 actionConfiguration.setHeaders(headerList);
             }
-
-            return this.executeCommon(connection, datasourceConfiguration, actionConfiguration, parameters);
         }
 
         public Mono<ActionExecutionResult> executeCommon(APIConnection apiConnection,
@@ -193,11 +303,67 @@ public class RestApiPlugin extends BasePlugin {
                                                          ActionConfiguration actionConfiguration,
                                                          List<Map.Entry<String, String>> insertedParams) {
 
-            // Initializing object for error condition
+            final ActionHttpRequest request;
+            try {
+                request = buildRequest(apiConnection, datasourceConfiguration, actionConfiguration, insertedParams);
+            } catch (AppsmithPluginException e) {
+                return Mono.error(e);
+            }
+
+            if (request.errorResult != null) {
+                return Mono.just(request.errorResult);
+            }
+
+            // Triggering the actual REST API call
+            return httpCall(request.client, request.httpMethod, request.uri, request.headers, request.body, 0,
+                    request.contentType)
+                    .flatMap(clientResponse -> readActionExecutionResult(clientResponse, request.actionExecutionRequest))
+                    .onErrorResume(error -> {
+                        ActionExecutionResult errorResult = newErrorResult();
+                        errorResult.setErrorInfo(error);
+                        return Mono.just(errorResult);
+                    });
+        }
+
+        /**
+         * The HTTP request of an action, ready to be sent.
+         */
+        private static class ActionHttpRequest {
+            WebClient client;
+            HttpMethod httpMethod;
+            URI uri;
+            HttpHeaders headers;
+            // Body inserter of the request
+            Object body;
+            String contentType;
+            ActionExecutionRequest actionExecutionRequest;
+            // Set instead of the above when the configuration of the action doesn't make for a valid request.
+            ActionExecutionResult errorResult;
+        }
+
+        private static ActionExecutionResult newErrorResult() {
             ActionExecutionResult errorResult = new ActionExecutionResult();
             errorResult.setStatusCode(AppsmithPluginError.PLUGIN_ERROR.getAppErrorCode().toString());
             errorResult.setIsExecutionSuccess(false);
             errorResult.setTitle(AppsmithPluginError.PLUGIN_ERROR.getTitle());
+            return errorResult;
+        }
+
+        /**
+         * Builds the HTTP request of an action from the configurations.
+         *
+         * @return The request, or a request holding only the error result when the configuration isn't valid
+         * @throws AppsmithPluginException if the signature key of the datasource isn't valid
+         */
+        private ActionHttpRequest buildRequest(APIConnection apiConnection,
+                                               DatasourceConfiguration datasourceConfiguration,
+                                               ActionConfiguration actionConfiguration,
+                                               List<Map.Entry<String, String>> insertedParams) {
+
+            final ActionHttpRequest request = new ActionHttpRequest();
+
+            // Initializing object for error condition
+            ActionExecutionResult errorResult = newErrorResult();
 
             // Initializing request URL
             String path = (actionConfiguration.getPath() == null) ? "" : actionConfiguration.getPath();
@@ -226,7 +392,8 @@ public class RestApiPlugin extends BasePlugin {
                 actionExecutionRequest.setUrl(url);
                 errorResult.setBody(AppsmithPluginError.PLUGIN_ERROR.getMessage(e));
                 errorResult.setRequest(actionExecutionRequest);
-                return Mono.just(errorResult);
+                request.errorResult = errorResult;
+                return request;
             }
 
             ActionExecutionRequest actionExecutionRequest = populateRequestFields(actionConfiguration, uri, insertedParams);
@@ -234,21 +401,22 @@ public class RestApiPlugin extends BasePlugin {
             if (httpMethod == null) {
                 errorResult.setBody(AppsmithPluginError.PLUGIN_ERROR.getMessage("HTTPMethod must be set."));
                 errorResult.setRequest(actionExecutionRequest);
-                return Mono.just(errorResult);
+                request.errorResult = errorResult;
+                return request;
             }
 
-            // Initializing webClient to be used for http call
-            WebClient.Builder webClientBuilder = WebClient.builder();
+            // Headers are set on the request, since the client is shared by all the actions of the datasource
+            HttpHeaders requestHeaders = new HttpHeaders();
 
             // Adding headers from datasource
             if (datasourceConfiguration.getHeaders() != null) {
                 reqContentType = addHeadersToRequestAndGetContentType(
-                        webClientBuilder, datasourceConfiguration.getHeaders());
+                        requestHeaders, datasourceConfiguration.getHeaders());
             }
 
             if (actionConfiguration.getHeaders() != null) {
                 reqContentType = addHeadersToRequestAndGetContentType(
-                        webClientBuilder, actionConfiguration.getHeaders());
+                        requestHeaders, actionConfiguration.getHeaders());
             }
 
             // Check for content type
@@ -256,7 +424,8 @@ public class RestApiPlugin extends BasePlugin {
             if (contentTypeError != null) {
                 errorResult.setBody(AppsmithPluginError.PLUGIN_ERROR.getMessage("Invalid value for Content-Type."));
                 errorResult.setRequest(actionExecutionRequest);
-                return Mono.just(errorResult);
+                request.errorResult = errorResult;
+                return request;
             }
 
             // We initialize this object to an empty string because body can never be empty
@@ -275,12 +444,7 @@ public class RestApiPlugin extends BasePlugin {
             }
 
             // If users have chosen to share the Appsmith signature in the header, calculate and add that
-            String secretKey;
-            try {
-                secretKey = getSignatureKey(datasourceConfiguration);
-            } catch (AppsmithPluginException e) {
-                return Mono.error(e);
-            }
+            String secretKey = getSignatureKey(datasourceConfiguration);
 
             if (secretKey != null) {
                 final SecretKey key = Keys.hmacShaKeyFor(secretKey.getBytes(StandardCharsets.UTF_8));
@@ -292,95 +456,147 @@ public class RestApiPlugin extends BasePlugin {
                         .signWith(key)
                         .compact();
 
-                webClientBuilder.defaultHeader(SIGNATURE_HEADER_NAME, token);
-            }
-
-            // Right before building the webclient object, we populate it with whatever mutation the APIConnection object demands
-            if (apiConnection != null) {
-                webClientBuilder.filter(apiConnection);
+                requestHeaders.set(SIGNATURE_HEADER_NAME, token);
             }
 
             requestBodyObj = dataUtils.buildBodyInserter(requestBodyObj, reqContentType, encodeParamsToggle);
 
+            WebClient client = getWebClient(apiConnection);
+
             if (MediaType.MULTIPART_FORM_DATA_VALUE.equals(reqContentType)) {
-                webClientBuilder.filter(new BufferingFilter());
-            }
+                // Mutating only copies the client's settings, the connection pool is still the same.
+                client = client.mutate().filter(new BufferingFilter()).build();
+            }
+
+            request.client = client;
+            request.httpMethod = httpMethod;
+            request.uri = uri;
+            request.headers = requestHeaders;
+            request.body = requestBodyObj;
+            request.contentType = reqContentType;
+            request.actionExecutionRequest = actionExecutionRequest;
+            return request;
+        }
 
-            WebClient client = webClientBuilder.exchangeStrategies(EXCHANGE_STRATEGIES).build();
+        private Mono<ActionExecutionResult> readActionExecutionResult(ClientResponse clientResponse,
+                                                                      ActionExecutionRequest actionExecutionRequest) {
+            return DataBufferUtils
+                    // Joining the buffers of the body doesn't copy them, the body is read from where it was received.
+                    .join(clientResponse.body(BodyExtractors.toDataBuffers()), sharedConfig.getCodecSize())
+                    .map(Optional::of)
+                    .defaultIfEmpty(Optional.empty())
+                    .map(body -> {
+                        try {
+                            return getActionExecutionResult(clientResponse, body.orElse(null), actionExecutionRequest);
+                        } finally {
+                            body.ifPresent(DataBufferUtils::release);
+                        }
+                    });
+        }
 
-            // Triggering the actual REST API call
-            return httpCall(client, httpMethod, uri, requestBodyObj, 0, reqContentType)
-                    .flatMap(clientResponse -> clientResponse.toEntity(byte[].class))
-                    .map(stringResponseEntity -> {
-                        HttpHeaders headers = stringResponseEntity.getHeaders();
-                        // Find the media type of the response to parse the body as required.
-                        MediaType contentType = headers.getContentType();
-                        byte[] body = stringResponseEntity.getBody();
-                        HttpStatus statusCode = stringResponseEntity.getStatusCode();
+        /**
+         * Builds the result of an action from its response. The body is parsed, or encoded, straight from the buffers
+         * it was received in, instead of from a copy of it in a byte array, and then another in a string.
+         *
+         * @param clientResponse         : Response of the API, with its body already read
+         * @param body                   : Body of the response, or null if it didn't have one
+         * @param actionExecutionRequest : Request that the response is for
+         */
+        private ActionExecutionResult getActionExecutionResult(ClientResponse clientResponse,
+                                                               DataBuffer body,
+                                                               ActionExecutionRequest actionExecutionRequest) {
+            HttpHeaders headers = clientResponse.headers().asHttpHeaders();
+            // Find the media type of the response to parse the body as required.
+            MediaType contentType = headers.getContentType();
+            HttpStatus statusCode = clientResponse.statusCode();
 
-                        ActionExecutionResult result = new ActionExecutionResult();
+            ActionExecutionResult result = new ActionExecutionResult();
 
-                        // Set the request fields
-                        result.setRequest(actionExecutionRequest);
+            // Set the request fields
+            result.setRequest(actionExecutionRequest);
 
-                        result.setStatusCode(statusCode.toString());
-                        result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
+            result.setStatusCode(statusCode.toString());
+            result.setIsExecutionSuccess(statusCode.is2xxSuccessful());
 
-                        // Convert the headers into json tree to store in the results
-                        String headerInJsonString;
-                        try {
-                            headerInJsonString = objectMapper.writeValueAsString(headers);
-                        } catch (JsonProcessingException e) {
-                            throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
-                        }
+            // Convert the headers into json tree to store in the results
+            String headerInJsonString;
+            try {
+                headerInJsonString = objectMapper.writeValueAsString(headers);
+            } catch (JsonProcessingException e) {
+                throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+            }
 
-                        // Set headers in the result now
-                        try {
-                            result.setHeaders(objectMapper.readTree(headerInJsonString));
-                        } catch (IOException e) {
-                            throw Exceptions.propagate(
-                                    new AppsmithPluginException(
-                                            AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
-                                            headerInJsonString,
-                                            e.getMessage()
-                                    )
-                            );
-                        }
+            // Set headers in the result now
+            try {
+                result.setHeaders(objectMapper.readTree(headerInJsonString));
+            } catch (IOException e) {
+                throw Exceptions.propagate(
+                        new AppsmithPluginException(
+                                AppsmithPluginError.PLUGIN_JSON_PARSE_ERROR,
+                                headerInJsonString,
+                                e.getMessage()
+                        )
+                );
+            }
+
+            if (body != null) {
+                result.setResponseBodySize((long) body.readableByteCount());
+                final Charset charset = contentType == null || contentType.getCharset() == null
+                        ? StandardCharsets.UTF_8
+                        : contentType.getCharset();
+
+                /**TODO
+                 * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
+                 * are kept as is and returned as a string.
+                 */
+                if (MediaType.APPLICATION_JSON.equals(contentType) ||
+                        MediaType.APPLICATION_JSON_UTF8.equals(contentType)) {
+                    // The parser reads the body a chunk at a time, so it's never copied whole.
+                    final int bodyStart = body.readPosition();
+                    try {
+                        result.setBody(objectMapper.readTree(body.asInputStream()));
+                    } catch (IOException e) {
+                        log.debug("Unable to parse response JSON. Setting response body as string.", e);
+                        body.readPosition(bodyStart);
+                        result.setBody(body.toString(charset).trim());
+                    }
+                } else if (MediaType.IMAGE_GIF.equals(contentType) ||
+                        MediaType.IMAGE_JPEG.equals(contentType) ||
+                        MediaType.IMAGE_PNG.equals(contentType)) {
+                    result.setBody(encodeToBase64(body));
+                } else {
+                    // If the body is not of JSON type, just set it as is.
+                    result.setBody(body.toString(charset).trim());
+                }
+            }
 
-                        if (body != null) {
-                            /**TODO
-                             * Handle XML response. Currently we only handle JSON & Image responses. The other kind of responses
-                             * are kept as is and returned as a string.
-                             */
-                            if (MediaType.APPLICATION_JSON.equals(contentType) ||
-                                    MediaType.APPLICATION_JSON_UTF8.equals(contentType)) {
-                                try {
-                                    String jsonBody = new String(body);
-                                    result.setBody(objectMapper.readTree(jsonBody));
-                                } catch (IOException e) {
-                                    System.out.println("Unable to parse response JSON. Setting response body as string.");
-                                    String bodyString = new String(body);
-                                    result.setBody(bodyString.trim());
-                                }
-                            } else if (MediaType.IMAGE_GIF.equals(contentType) ||
-                                    MediaType.IMAGE_JPEG.equals(contentType) ||
-                                    MediaType.IMAGE_PNG.equals(contentType)) {
-                                String encode = Base64.encode(body);
-                                result.setBody(encode);
-                            } else {
-                                // If the body is not of JSON type, just set it as is.
-                                String bodyString = new String(body);
-                                result.setBody(bodyString.trim());
-                            }
-                        }
+            return result;
+        }
 
-                        return result;
-                    })
-                    .onErrorResume(error -> {
-                        errorResult.setIsExecutionSuccess(false);
-                        errorResult.setErrorInfo(error);
-                        return Mono.just(errorResult);
-                    });
+        /**
+         * Encodes the body a chunk at a time, so that only the encoded body is held in memory in full.
+         */
+        private static String encodeToBase64(DataBuffer body) {
+            final ByteArrayOutputStream encoded = new ByteArrayOutputStream(4 * (body.readableByteCount() / 3 + 1));
+            try (OutputStream encoder = Base64.getEncoder().wrap(encoded)) {
+                body.asInputStream().transferTo(encoder);
+            } catch (IOException e) {
+                throw Exceptions.propagate(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
+            }
+            return encoded.toString(StandardCharsets.US_ASCII);
+        }
+
+        private WebClient getWebClient(APIConnection apiConnection) {
+            if (apiConnection == null) {
+                return sharedWebClient;
+            }
+
+            if (apiConnection.getWebClient() == null) {
+                // Connections that weren't created by this plugin still get to filter their requests.
+                return sharedWebClient.mutate().filter(apiConnection).build();
+            }
+
+            return apiConnection.getWebClient();
         }
 
         private String getSignatureKey(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
@@ -437,7 +653,8 @@ public class RestApiPlugin extends BasePlugin {
             return null;
         }
 
-        private Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri, Object requestBody,
+        private Mono<ClientResponse> httpCall(WebClient webClient, HttpMethod httpMethod, URI uri,
+                                              HttpHeaders requestHeaders, Object requestBody,
                                               int iteration, String contentType) {
             if (iteration == MAX_REDIRECTS) {
                 return Mono.error(new AppsmithPluginException(
@@ -452,6 +669,7 @@ public class RestApiPlugin extends BasePlugin {
             return webClient
                     .method(httpMethod)
                     .uri(uri)
+                    .headers(headers -> headers.addAll(requestHeaders))
                     .body((BodyInserter<?, ? super ClientHttpRequest>) finalRequestBody)
                     .exchange()
                     .doOnError(e -> Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e)))
@@ -471,21 +689,39 @@ public class RestApiPlugin extends BasePlugin {
                             } catch (URISyntaxException e) {
                                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, e));
                             }
-                            return httpCall(webClient, httpMethod, redirectUri, finalRequestBody, iteration + 1,
-                                    contentType);
+                            return httpCall(webClient, httpMethod, redirectUri, requestHeaders, finalRequestBody,
+                                    iteration + 1, contentType);
                         }
                         return Mono.just(response);
                     });
         }
 
+        @Override
+        public ConnectionPoolConfiguration getDefaultConnectionPoolConfiguration() {
+            return HttpConnectionPool.getDefaultConfiguration();
+        }
+
         @Override
         public Mono<APIConnection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
-            return APIConnectionFactory.createConnection(datasourceConfiguration.getAuthentication());
+            return APIConnectionFactory.createConnection(datasourceConfiguration.getAuthentication())
+                    .defaultIfEmpty(new APIConnection())
+                    .map(connection -> {
+                        final HttpConnectionPool connectionPool =
+                                HttpConnectionPool.forDatasource(PLUGIN_NAME, datasourceConfiguration);
+                        connection.setConnectionPool(connectionPool);
+                        connection.setWebClient(buildWebClient(connectionPool, connection));
+                        return connection;
+                    });
         }
 
         @Override
         public void datasourceDestroy(APIConnection connection) {
-            // REST API plugin doesn't have a datasource.
+            // The shared pool outlives the datasource, it's only closed when the plugin is stopped.
+            if (connection != null
+                    && connection.getConnectionPool() != null
+                    && !connection.getConnectionPool().isShared()) {
+                connection.getConnectionPool().dispose();
+            }
         }
 
         @Override
@@ -544,7 +780,7 @@ public class RestApiPlugin extends BasePlugin {
             return Mono.just(new DatasourceTestResult());
         }
 
-        private String addHeadersToRequestAndGetContentType(WebClient.Builder webClientBuilder,
+        private String addHeadersToRequestAndGetContentType(HttpHeaders requestHeaders,
                                                             List<Property> headers) {
             String contentType = "";
 
@@ -552,7 +788,7 @@ public class RestApiPlugin extends BasePlugin {
                 String key = header.getKey();
                 if (StringUtils.isNotEmpty(key)) {
                     String value = (String) header.getValue();
-                    webClientBuilder.defaultHeader(key, value);
+                    requestHeaders.set(key, value);
 
                     if (HttpHeaders.CONTENT_TYPE.equalsIgnoreCase(key)) {
                         contentType = value;
@@ -4,10 +4,12 @@ import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.external.models.ConnectionPoolConfiguration;
 import com.appsmith.external.models.DatasourceConfiguration;
 import com.appsmith.external.models.OAuth2;
 import com.appsmith.external.models.Param;
 import com.appsmith.external.models.Property;
+import com.external.connections.APIConnection;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
@@ -23,17 +25,26 @@ import net.minidev.json.parser.ParseException;
 import org.junit.Before;
 import org.junit.Test;
 import org.springframework.http.HttpMethod;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.netty.DisposableServer;
+import reactor.netty.http.server.HttpServer;
 import reactor.test.StepVerifier;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 import java.util.Set;
 
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertNotNull;
 import static org.junit.Assert.assertThrows;
 import static org.junit.Assert.assertTrue;
@@ -428,4 +439,164 @@ public class RestApiPluginTest {
                 .verifyComplete();
     }
 
+    @Test
+    public void testDatasourceConnectionIsReusedAcrossActions() {
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/headers", (request, response) -> response.sendString(Mono.just(
+                        request.requestHeaders().get("X-Datasource") + "," + request.requestHeaders().get("X-Action")))))
+                .bindNow();
+
+        try {
+            ConnectionPoolConfiguration connectionPool = new ConnectionPoolConfiguration();
+            connectionPool.setName("test-datasource");
+            DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+            dsConfig.setUrl("http://localhost:" + server.port());
+            dsConfig.setHeaders(List.of(new Property("X-Datasource", "datasource")));
+            dsConfig.setConnectionPool(connectionPool);
+
+            APIConnection connection = pluginExecutor.datasourceCreate(dsConfig).block();
+            assertNotNull(connection);
+            assertNotNull(connection.getWebClient());
+            assertFalse(connection.getConnectionPool().isShared());
+
+            // Headers of one action must not leak into the next one, since they share the client.
+            for (String actionHeader : List.of("first", "second")) {
+                ActionConfiguration actionConfig = new ActionConfiguration();
+                actionConfig.setHttpMethod(HttpMethod.GET);
+                actionConfig.setPath("/headers");
+                actionConfig.setHeaders(List.of(new Property("X-Action", actionHeader)));
+
+                StepVerifier.create(pluginExecutor.executeParameterized(connection, new ExecuteActionDTO(), dsConfig, actionConfig))
+                        .assertNext(result -> {
+                            assertTrue(result.getIsExecutionSuccess());
+                            assertEquals("datasource," + actionHeader, result.getBody());
+                        })
+                        .verifyComplete();
+            }
+
+            pluginExecutor.datasourceDestroy(connection);
+            assertTrue(connection.getConnectionPool().isDisposed());
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    public void testActionHeaderReplacesDatasourceHeader() {
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes.get("/headers", (request, response) -> response.sendString(Mono.just(
+                        String.join("|", request.requestHeaders().getAll("X-Custom")) + ","
+                                + String.join("|", request.requestHeaders().getAll("Authorization"))))))
+                .bindNow();
+
+        try {
+            DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+            dsConfig.setUrl("http://localhost:" + server.port());
+            dsConfig.setHeaders(List.of(
+                    new Property("X-Custom", "datasource"),
+                    new Property("Authorization", "Bearer datasource")));
+
+            ActionConfiguration actionConfig = new ActionConfiguration();
+            actionConfig.setHttpMethod(HttpMethod.GET);
+            actionConfig.setPath("/headers");
+            actionConfig.setHeaders(List.of(new Property("Authorization", "Bearer action")));
+
+            // Headers set on both the datasource and the action are only sent once, with the value of the action.
+            StepVerifier.create(pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                    .assertNext(result -> {
+                        assertTrue(result.getIsExecutionSuccess());
+                        assertEquals("datasource,Bearer action", result.getBody());
+                    })
+                    .verifyComplete();
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    public void testExecuteStreamEmitsArrayElementsAsReceived() {
+        // The rest of the array is never sent, so elements can only be emitted as they are received.
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/array", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendString(Flux.concat(Flux.just("[{\"id\":1},", "{\"id\":2},"), Flux.never())))
+                        .get("/object", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendString(Mono.just("{\"id\":1}"))))
+                .bindNow();
+
+        try {
+            DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+            dsConfig.setUrl("http://localhost:" + server.port());
+
+            ActionConfiguration actionConfig = new ActionConfiguration();
+            actionConfig.setHttpMethod(HttpMethod.GET);
+
+            actionConfig.setPath("/array");
+            StepVerifier.create(pluginExecutor.executeParameterizedStream(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                    .assertNext(element -> assertEquals(1, element.get("id").asInt()))
+                    .assertNext(element -> assertEquals(2, element.get("id").asInt()))
+                    .thenCancel()
+                    .verify(Duration.ofSeconds(10));
+
+            actionConfig.setPath("/object");
+            StepVerifier.create(pluginExecutor.executeParameterizedStream(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                    .assertNext(element -> assertEquals(1, element.get("id").asInt()))
+                    .verifyComplete();
+        } finally {
+            server.disposeNow();
+        }
+    }
+
+    @Test
+    public void testResponseBodyIsReadFromReceivedBuffers() {
+        byte[] image = new byte[100 * 1024];
+        new Random(0).nextBytes(image);
+        String json = "{\"rows\":[" + String.join(",", Collections.nCopies(10000, "{\"key\":\"value\"}")) + "]}";
+
+        // The bodies are sent in several chunks, as large responses are.
+        DisposableServer server = HttpServer.create()
+                .port(0)
+                .route(routes -> routes
+                        .get("/json", (request, response) -> response
+                                .header("Content-Type", "application/json")
+                                .sendString(Flux.fromArray(json.split("(?<=},)"))))
+                        .get("/image", (request, response) -> response
+                                .header("Content-Type", "image/png")
+                                .sendByteArray(Flux.range(0, 4).map(i ->
+                                        Arrays.copyOfRange(image, i * image.length / 4, (i + 1) * image.length / 4)))))
+                .bindNow();
+
+        try {
+            DatasourceConfiguration dsConfig = new DatasourceConfiguration();
+            dsConfig.setUrl("http://localhost:" + server.port());
+
+            ActionConfiguration actionConfig = new ActionConfiguration();
+            actionConfig.setHttpMethod(HttpMethod.GET);
+
+            actionConfig.setPath("/json");
+            StepVerifier.create(pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                    .assertNext(result -> {
+                        assertTrue(result.getIsExecutionSuccess());
+                        assertEquals(10000, ((ObjectNode) result.getBody()).get("rows").size());
+                        assertEquals(Long.valueOf(json.length()), result.getResponseBodySize());
+                    })
+                    .verifyComplete();
+
+            actionConfig.setPath("/image");
+            StepVerifier.create(pluginExecutor.executeParameterized(null, new ExecuteActionDTO(), dsConfig, actionConfig))
+                    .assertNext(result -> {
+                        assertTrue(result.getIsExecutionSuccess());
+                        assertEquals(Base64.getEncoder().encodeToString(image), result.getBody());
+                        assertEquals(Long.valueOf(image.length), result.getResponseBodySize());
+                    })
+                    .verifyComplete();
+        } finally {
+            server.disposeNow();
+        }
+    }
 }
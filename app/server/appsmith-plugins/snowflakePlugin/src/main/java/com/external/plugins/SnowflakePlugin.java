@@ -1,8 +1,10 @@
 package com.external.plugins;
 
+import com.appsmith.external.dtos.ExecuteActionDTO;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginError;
 import com.appsmith.external.exceptions.pluginExceptions.AppsmithPluginException;
 import com.appsmith.external.exceptions.pluginExceptions.StaleConnectionException;
+import com.appsmith.external.helpers.HikariConnectionPoolMetrics;
 import com.appsmith.external.models.ActionConfiguration;
 import com.appsmith.external.models.ActionExecutionRequest;
 import com.appsmith.external.models.ActionExecutionResult;
@@ -13,16 +15,17 @@ import com.appsmith.external.models.DatasourceTestResult;
 import com.appsmith.external.plugins.BasePlugin;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.external.utils.SqlUtils;
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.pool.HikariPool.PoolInitializationException;
 import lombok.extern.slf4j.Slf4j;
 import org.pf4j.Extension;
 import org.pf4j.PluginWrapper;
 import org.springframework.util.StringUtils;
 import reactor.core.publisher.Mono;
 import reactor.core.scheduler.Scheduler;
-import reactor.core.scheduler.Schedulers;
 
 import java.sql.Connection;
-import java.sql.DriverManager;
 import java.sql.ResultSet;
 import java.sql.ResultSetMetaData;
 import java.sql.SQLException;
@@ -34,23 +37,59 @@ import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Properties;
 import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.appsmith.external.helpers.PluginUtils.getConnectionTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getIdleTimeout;
+import static com.appsmith.external.helpers.PluginUtils.getMaxLifetime;
+import static com.appsmith.external.helpers.PluginUtils.getMaximumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.getMinimumPoolSize;
+import static com.appsmith.external.helpers.PluginUtils.setRowLimits;
+import static com.appsmith.external.helpers.PluginUtils.skipRows;
 
 public class SnowflakePlugin extends BasePlugin {
 
+    private static final String JDBC_DRIVER = "net.snowflake.client.jdbc.SnowflakeDriver";
+
+    private static final int VALIDITY_CHECK_TIMEOUT = 30;
+
+    private static final long LEAK_DETECTION_TIME_MS = 60 * 1000;
+
+    private static final String PLUGIN_NAME = "snowflake-plugin";
+
+    private static final String POOL_NAME_PREFIX = "SnowflakePool-";
+
+    private static final AtomicInteger poolSequence = new AtomicInteger();
+
     public SnowflakePlugin(PluginWrapper wrapper) {
         super(wrapper);
     }
 
     @Slf4j
     @Extension
-    public static class SnowflakePluginExecutor implements PluginExecutor<Connection> {
+    public static class SnowflakePluginExecutor implements PluginExecutor<HikariDataSource> {
 
-        private final Scheduler scheduler = Schedulers.elastic();
+        private final Scheduler scheduler = getScheduler(PLUGIN_NAME);
+
+        @Override
+        public Mono<ActionExecutionResult> executeParameterized(HikariDataSource connection,
+                                                                ExecuteActionDTO executeActionDTO,
+                                                                DatasourceConfiguration datasourceConfiguration,
+                                                                ActionConfiguration actionConfiguration) {
+            prepareConfigurationsForExecution(executeActionDTO, actionConfiguration, datasourceConfiguration);
+            return executeCommon(connection, actionConfiguration, executeActionDTO);
+        }
 
         @Override
-        public Mono<ActionExecutionResult> execute(Connection connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+        public Mono<ActionExecutionResult> execute(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration, ActionConfiguration actionConfiguration) {
+            return executeCommon(connection, actionConfiguration, null);
+        }
+
+        private Mono<ActionExecutionResult> executeCommon(HikariDataSource connection,
+                                                          ActionConfiguration actionConfiguration,
+                                                          ExecuteActionDTO executeActionDTO) {
 
             String query = actionConfiguration.getBody();
 
@@ -62,21 +101,27 @@ public class SnowflakePlugin extends BasePlugin {
 
             return Mono
                     .fromCallable(() -> {
+                        Connection connectionFromPool;
+                        try {
+                            connectionFromPool = getConnectionFromConnectionPool(connection);
+                        } catch (SQLException e) {
+                            // No connection could be borrowed from the pool in time, so the pool is treated as stale
+                            // and gets recreated.
+                            throw new StaleConnectionException();
+                        }
+
+                        Statement statement = null;
                         ResultSet resultSet = null;
                         List<Map<String, Object>> rowsList = new ArrayList<>(50);
                         try {
-                            // We do not use keep alive threads for our connections since these might become expensive
-                            // Instead for every execution, we check for connection validity,
-                            // and reset the connection if required
-                            if (!connection.isValid(30)) {
-                                throw new StaleConnectionException();
-                            }
-
-                            Statement statement = connection.createStatement();
+                            statement = connectionFromPool.createStatement();
+                            setRowLimits(statement, actionConfiguration, executeActionDTO);
                             resultSet = statement.executeQuery(query);
                             ResultSetMetaData metaData = resultSet.getMetaData();
                             int colCount = metaData.getColumnCount();
 
+                            skipRows(resultSet, actionConfiguration, executeActionDTO);
+
                             while (resultSet.next()) {
                                 // Use `LinkedHashMap` here so that the column ordering is preserved in the response.
                                 Map<String, Object> row = new LinkedHashMap<>(colCount);
@@ -98,6 +143,21 @@ public class SnowflakePlugin extends BasePlugin {
                                     e.printStackTrace();
                                 }
                             }
+
+                            if (statement != null) {
+                                try {
+                                    statement.close();
+                                } catch (SQLException e) {
+                                    e.printStackTrace();
+                                }
+                            }
+
+                            // Return the connection back to the pool.
+                            try {
+                                connectionFromPool.close();
+                            } catch (SQLException e) {
+                                e.printStackTrace();
+                            }
                         }
                         return rowsList;
                     })
@@ -114,45 +174,23 @@ public class SnowflakePlugin extends BasePlugin {
         }
 
         @Override
-        public Mono<Connection> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+        public Mono<HikariDataSource> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
             try {
-                Class.forName("net.snowflake.client.jdbc.SnowflakeDriver");
+                Class.forName(JDBC_DRIVER);
             } catch (ClassNotFoundException ex) {
                 System.err.println("Driver not found");
                 return Mono.error(new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, ex.getMessage()));
             }
-            DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
-            Properties properties = new Properties();
-            properties.setProperty("user", authentication.getUsername());
-            properties.setProperty("password", authentication.getPassword());
-            properties.setProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
-            properties.setProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
 
             return Mono
-                    .fromCallable(() -> {
-                        Connection conn;
-                        try {
-                            conn = DriverManager.getConnection("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com", properties);
-                        } catch (SQLException e) {
-                            e.printStackTrace();
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR, e.getMessage());
-                        }
-                        if (conn == null) {
-                            throw new AppsmithPluginException(AppsmithPluginError.PLUGIN_ERROR, "Unable to create connection to Snowflake URL");
-                        }
-                        return conn;
-                    })
+                    .fromCallable(() -> createConnectionPool(datasourceConfiguration))
                     .subscribeOn(scheduler);
         }
 
         @Override
-        public void datasourceDestroy(Connection connection) {
+        public void datasourceDestroy(HikariDataSource connection) {
             if (connection != null) {
-                try {
-                    connection.close();
-                } catch (SQLException throwable) {
-                    throwable.printStackTrace();
-                }
+                connection.close();
             }
         }
 
@@ -199,58 +237,53 @@ public class SnowflakePlugin extends BasePlugin {
         @Override
         public Mono<DatasourceTestResult> testDatasource(DatasourceConfiguration datasourceConfiguration) {
             return datasourceCreate(datasourceConfiguration)
-                    .flatMap(connection -> {
-                        if (connection != null) {
-                            try {
-                                connection.close();
-                            } catch (SQLException throwable) {
-                                throwable.printStackTrace();
-                                return Mono.error(throwable);
-                            }
-                        }
-
-                        return Mono.just(new DatasourceTestResult());
+                    .map(connection -> {
+                        datasourceDestroy(connection);
+                        return new DatasourceTestResult();
                     })
                     .onErrorResume(error -> Mono.just(new DatasourceTestResult(error.getMessage())));
         }
 
         @Override
-        public Mono<DatasourceStructure> getStructure(Connection connection, DatasourceConfiguration datasourceConfiguration) {
+        public Mono<DatasourceStructure> getStructure(HikariDataSource connection, DatasourceConfiguration datasourceConfiguration) {
             final DatasourceStructure structure = new DatasourceStructure();
             final Map<String, DatasourceStructure.Table> tablesByName = new LinkedHashMap<>();
             final Map<String, DatasourceStructure.Key> keyRegistry = new HashMap<>();
 
             return Mono
                     .fromSupplier(() -> {
+                        Connection connectionFromPool;
                         try {
-                            if (connection.isValid(30)) {
-                                Statement statement = connection.createStatement();
-                                final String columnsQuery = SqlUtils.COLUMNS_QUERY + "'"
-                                        + datasourceConfiguration.getProperties().get(2).getValue() + "'";
-                                ResultSet resultSet = statement.executeQuery(columnsQuery);
-
-                                while (resultSet.next()) {
-                                    SqlUtils.getTableInfo(resultSet, tablesByName);
-                                }
+                            connectionFromPool = getConnectionFromConnectionPool(connection);
+                        } catch (SQLException e) {
+                            throw new StaleConnectionException();
+                        }
 
-                                resultSet = statement.executeQuery(SqlUtils.PRIMARY_KEYS_QUERY);
-                                while (resultSet.next()) {
-                                    SqlUtils.getPrimaryKeyInfo(resultSet, tablesByName, keyRegistry);
-                                }
+                        // The connection is returned back to the pool when it's closed along with the statement.
+                        try (connectionFromPool; Statement statement = connectionFromPool.createStatement()) {
+                            final String columnsQuery = SqlUtils.COLUMNS_QUERY + "'"
+                                    + datasourceConfiguration.getProperties().get(2).getValue() + "'";
+                            ResultSet resultSet = statement.executeQuery(columnsQuery);
 
-                                resultSet = statement.executeQuery(SqlUtils.FOREIGN_KEYS_QUERY);
-                                while (resultSet.next()) {
-                                    SqlUtils.getForeignKeyInfo(resultSet, tablesByName, keyRegistry);
-                                }
+                            while (resultSet.next()) {
+                                SqlUtils.getTableInfo(resultSet, tablesByName);
+                            }
 
-                                /* Get templates for each table and put those in. */
-                                SqlUtils.getTemplates(tablesByName);
-                                structure.setTables(new ArrayList<>(tablesByName.values()));
-                                for (DatasourceStructure.Table table : structure.getTables()) {
-                                    table.getKeys().sort(Comparator.naturalOrder());
-                                }
-                            } else {
-                                throw new StaleConnectionException();
+                            resultSet = statement.executeQuery(SqlUtils.PRIMARY_KEYS_QUERY);
+                            while (resultSet.next()) {
+                                SqlUtils.getPrimaryKeyInfo(resultSet, tablesByName, keyRegistry);
+                            }
+
+                            resultSet = statement.executeQuery(SqlUtils.FOREIGN_KEYS_QUERY);
+                            while (resultSet.next()) {
+                                SqlUtils.getForeignKeyInfo(resultSet, tablesByName, keyRegistry);
+                            }
+
+                            /* Get templates for each table and put those in. */
+                            SqlUtils.getTemplates(tablesByName);
+                            structure.setTables(new ArrayList<>(tablesByName.values()));
+                            for (DatasourceStructure.Table table : structure.getTables()) {
+                                table.getKeys().sort(Comparator.naturalOrder());
                             }
                         } catch (SQLException throwable) {
                             throwable.printStackTrace();
@@ -261,4 +294,67 @@ public class SnowflakePlugin extends BasePlugin {
                     .subscribeOn(scheduler);
         }
     }
+
+    /**
+     * This function is blocking in nature which connects to the database and creates a connection pool
+     *
+     * @param datasourceConfiguration
+     * @return connection pool
+     */
+    private static HikariDataSource createConnectionPool(DatasourceConfiguration datasourceConfiguration) throws AppsmithPluginException {
+        HikariConfig config = new HikariConfig();
+
+        config.setDriverClassName(JDBC_DRIVER);
+
+        // The server has already brought these settings within the limits set by the admin.
+        config.setMaximumPoolSize(getMaximumPoolSize(datasourceConfiguration));
+        config.setMinimumIdle(getMinimumPoolSize(datasourceConfiguration));
+        config.setConnectionTimeout(getConnectionTimeout(datasourceConfiguration));
+        config.setIdleTimeout(getIdleTimeout(datasourceConfiguration));
+        config.setMaxLifetime(getMaxLifetime(datasourceConfiguration));
+
+        DBAuth authentication = (DBAuth) datasourceConfiguration.getAuthentication();
+        config.setUsername(authentication.getUsername());
+        config.setPassword(authentication.getPassword());
+        config.addDataSourceProperty("warehouse", String.valueOf(datasourceConfiguration.getProperties().get(0).getValue()));
+        config.addDataSourceProperty("db", String.valueOf(datasourceConfiguration.getProperties().get(1).getValue()));
+
+        config.setJdbcUrl("jdbc:snowflake://" + datasourceConfiguration.getUrl() + ".snowflakecomputing.com");
+
+        // We do not use keep alive threads for our connections since these might become expensive. Instead, connections
+        // that have been idle for a while are checked with `Connection.isValid` before they are handed out.
+        config.setValidationTimeout(TimeUnit.SECONDS.toMillis(VALIDITY_CHECK_TIMEOUT));
+
+        // Configuring leak detection threshold for 60 seconds. Any connection which hasn't been released in 60 seconds
+        // should get tracked (may be falsely for long running queries) as leaked connection
+        config.setLeakDetectionThreshold(LEAK_DETECTION_TIME_MS);
+
+        // Pool stats are published as `appsmith.datasource.pool.*` meters, tagged with the datasource and the pool.
+        config.setPoolName(POOL_NAME_PREFIX + poolSequence.incrementAndGet());
+        config.setMetricsTrackerFactory(HikariConnectionPoolMetrics.trackerFactory(PLUGIN_NAME, datasourceConfiguration));
+
+        try {
+            return new HikariDataSource(config);
+        } catch (PoolInitializationException e) {
+            throw new AppsmithPluginException(
+                    AppsmithPluginError.PLUGIN_DATASOURCE_ARGUMENT_ERROR,
+                    e.getCause() != null ? e.getCause().getMessage() : e.getMessage()
+            );
+        }
+    }
+
+    /**
+     * First checks if the connection pool is still valid. If yes, we fetch a connection from the pool and return
+     * In case a connection is not available in the pool, SQL Exception is thrown
+     *
+     * @param connectionPool
+     * @return SQL Connection
+     */
+    private static Connection getConnectionFromConnectionPool(HikariDataSource connectionPool) throws SQLException {
+        if (connectionPool == null || connectionPool.isClosed() || !connectionPool.isRunning()) {
+            throw new StaleConnectionException();
+        }
+
+        return connectionPool.getConnection();
+    }
 }
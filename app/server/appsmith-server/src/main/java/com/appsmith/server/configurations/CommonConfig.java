@@ -43,6 +43,18 @@ public class CommonConfig {
 
     private List<String> allowedDomains;
 
+    // Number of actions from a single batch execution request that are executed at the same time.
+    @Value("${appsmith.action.batch-execution.concurrency:5}")
+    private int batchActionExecutionConcurrency;
+
+    // Maximum number of rows returned by a single execution of a SQL query. Zero means no limit.
+    @Value("${appsmith.action.max-rows:0}")
+    private int actionExecutionMaxRows;
+
+    // Maximum number of rows returned by a single streaming action execution.
+    @Value("${appsmith.action.stream.max-rows:100000}")
+    private long streamingActionExecutionMaxRows;
+
     @Bean
     public Scheduler scheduler() {
         return Schedulers.newElastic(ELASTIC_THREAD_POOL_NAME);
@@ -0,0 +1,57 @@
+package com.appsmith.server.configurations;
+
+import com.appsmith.external.models.ConnectionPoolConfiguration;
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Limits for the in-memory cache of datasource contexts (live connections to the users' datasources) maintained by
+ * {@link com.appsmith.server.services.DatasourceContextServiceImpl}, and for the connection pools that plugins keep for
+ * these datasources.
+ */
+@Configuration
+@Getter
+public class DatasourceContextConfig {
+
+    // Maximum number of datasource contexts (and hence, connections / connection pools) held by this server.
+    @Value("${appsmith.datasource.context.max-size:1000}")
+    private long maximumSize;
+
+    // A context that hasn't been used for this long is evicted and its connection is destroyed.
+    @Value("${appsmith.datasource.context.idle-timeout-minutes:30}")
+    private long idleTimeoutMinutes;
+
+    // A context older than this is evicted, so that its connection is recreated. Executions that are using the
+    // connection at that time are allowed to complete before it's destroyed.
+    @Value("${appsmith.datasource.context.max-age-minutes:240}")
+    private long maxAgeMinutes;
+
+    // Ceilings on the connection pool settings of a datasource, so that no datasource can hold more connections, or
+    // hold on to them for longer, than the server can afford. A value of 0 leaves the setting uncapped.
+    @Value("${appsmith.datasource.connection-pool.max-size:50}")
+    private int connectionPoolMaximumSize;
+
+    @Value("${appsmith.datasource.connection-pool.max-connection-timeout-ms:60000}")
+    private int connectionPoolMaximumConnectionTimeoutMs;
+
+    @Value("${appsmith.datasource.connection-pool.max-idle-timeout-ms:1800000}")
+    private int connectionPoolMaximumIdleTimeoutMs;
+
+    @Value("${appsmith.datasource.connection-pool.max-lifetime-ms:3600000}")
+    private int connectionPoolMaximumLifetimeMs;
+
+    /**
+     * @return The ceilings on the connection pool settings of a datasource, as a pool configuration with the highest
+     * allowed value of every setting
+     */
+    public ConnectionPoolConfiguration getConnectionPoolLimits() {
+        ConnectionPoolConfiguration ceilings = new ConnectionPoolConfiguration();
+        ceilings.setMaximumPoolSize(connectionPoolMaximumSize);
+        ceilings.setConnectionTimeoutInMillisecond(connectionPoolMaximumConnectionTimeoutMs);
+        ceilings.setIdleTimeoutInMillisecond(connectionPoolMaximumIdleTimeoutMs);
+        ceilings.setMaxLifetimeInMillisecond(connectionPoolMaximumLifetimeMs);
+        return ceilings;
+    }
+
+}
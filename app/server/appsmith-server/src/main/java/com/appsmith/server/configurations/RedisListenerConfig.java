@@ -1,6 +1,7 @@
 package com.appsmith.server.configurations;
 
 import com.appsmith.server.dtos.InstallPluginRedisDTO;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.services.PluginService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
@@ -10,8 +11,12 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.ReactiveRedisConnectionFactory;
 import org.springframework.data.redis.listener.ChannelTopic;
 import org.springframework.data.redis.listener.ReactiveRedisMessageListenerContainer;
+import org.springframework.data.redis.serializer.Jackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext.SerializationPair;
+import org.springframework.data.redis.serializer.RedisSerializer;
 import reactor.core.publisher.Mono;
 
+import java.util.List;
 import java.util.concurrent.CancellationException;
 
 @Configuration
@@ -21,12 +26,17 @@ public class RedisListenerConfig {
     private final ObjectMapper objectMapper;
     private final PluginService pluginService;
     private final ChannelTopic topic;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     @Autowired
-    public RedisListenerConfig(ObjectMapper objectMapper, PluginService pluginService, ChannelTopic topic) {
+    public RedisListenerConfig(ObjectMapper objectMapper,
+                               PluginService pluginService,
+                               ChannelTopic topic,
+                               ActionExecutionPlanCache actionExecutionPlanCache) {
         this.objectMapper = objectMapper;
         this.pluginService = pluginService;
         this.topic = topic;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
     }
 
     /**
@@ -68,6 +78,21 @@ public class RedisListenerConfig {
                 })
                 // Required to subscribe else this chain is never invoked
                 .subscribe();
+
+        // Invalidations of the cached action execution plans, made on the other servers. They're published with the
+        // value serializer of the ReactiveRedisOperations bean, and read back with the same one.
+        container
+                .receive(List.of(ActionExecutionPlanCache.INVALIDATION_TOPIC),
+                        SerializationPair.fromSerializer(RedisSerializer.string()),
+                        SerializationPair.fromSerializer(new Jackson2JsonRedisSerializer<>(String.class)))
+                .map(message -> message.getMessage())
+                .doOnNext(actionExecutionPlanCache::onInvalidationMessage)
+                .doOnError(throwable -> {
+                    if (!(throwable instanceof CancellationException)) {
+                        log.error("Error occurred while listening to action execution plan invalidations: ", throwable);
+                    }
+                })
+                .subscribe();
         return container;
     }
 
@@ -6,15 +6,18 @@ import com.appsmith.server.constants.Url;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.LayoutDTO;
 import com.appsmith.server.dtos.RefactorActionNameDTO;
 import com.appsmith.server.dtos.ResponseDTO;
 import com.appsmith.server.services.ActionCollectionService;
 import com.appsmith.server.services.LayoutActionService;
 import com.appsmith.server.services.NewActionService;
+import com.fasterxml.jackson.databind.JsonNode;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.util.MultiValueMap;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -28,6 +31,7 @@ import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.ResponseStatus;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import javax.validation.Valid;
@@ -74,6 +78,25 @@ public class ActionController {
                 .map(updatedResource -> new ResponseDTO<>(HttpStatus.OK.value(), updatedResource, null));
     }
 
+    /**
+     * Executes the action and streams the rows of its result as newline delimited JSON, for results that are too large
+     * to be returned in a single response, like exports.
+     */
+    @PostMapping(value = "/execute/stream", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<JsonNode> executeActionStream(@RequestBody ExecuteActionDTO executeActionDTO) {
+        return newActionService.executeActionStream(executeActionDTO);
+    }
+
+    /**
+     * Executes a set of actions in a single request, e.g. all the on page load actions that can run in parallel. The
+     * result of each action is streamed back as soon as that action finishes executing.
+     */
+    @PostMapping(value = "/execute/batch", produces = MediaType.APPLICATION_STREAM_JSON_VALUE)
+    public Flux<ResponseDTO<BatchActionExecutionResultDTO>> executeActions(@RequestBody List<ExecuteActionDTO> executeActionDTOs) {
+        return newActionService.executeActions(executeActionDTOs)
+                .map(batchResult -> new ResponseDTO<>(HttpStatus.OK.value(), batchResult, null));
+    }
+
     @PutMapping("/move")
     public Mono<ResponseDTO<ActionDTO>> moveAction(@RequestBody @Valid ActionMoveDTO actionMoveDTO) {
         log.debug("Going to move action {} from page {} to page {}", actionMoveDTO.getAction().getName(), actionMoveDTO.getAction().getPageId(), actionMoveDTO.getDestinationPageId());
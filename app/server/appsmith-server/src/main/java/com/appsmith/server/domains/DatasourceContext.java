@@ -1,20 +1,94 @@
 package com.appsmith.server.domains;
 
+import com.appsmith.external.plugins.PluginExecutor;
+import lombok.AccessLevel;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
+import lombok.extern.slf4j.Slf4j;
 
 import java.time.Instant;
 
 @Getter
 @Setter
 @ToString
+@Slf4j
 public class DatasourceContext {
     Object connection;
 
     Instant creationTime;
 
+    // The executor that created the connection. Used to destroy the connection when this context is evicted.
+    @ToString.Exclude
+    PluginExecutor<Object> pluginExecutor;
+
+    // Number of executions currently using the connection. A retired context (one that has been removed from the cache)
+    // only has its connection destroyed once all of them have released it.
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    int leaseCount;
+
+    @Getter(AccessLevel.NONE)
+    @Setter(AccessLevel.NONE)
+    boolean retired;
+
     public DatasourceContext() {
         creationTime = Instant.now();
     }
+
+    /**
+     * Marks the connection as in use, so that it isn't destroyed until {@link #release()} is called.
+     *
+     * @return False if the context has already been retired, in which case the connection mustn't be used.
+     */
+    public synchronized boolean acquire() {
+        if (retired) {
+            return false;
+        }
+
+        leaseCount++;
+        return true;
+    }
+
+    public void release() {
+        final boolean isUnused;
+        synchronized (this) {
+            leaseCount--;
+            isUnused = retired && leaseCount == 0;
+        }
+
+        if (isUnused) {
+            destroyConnection();
+        }
+    }
+
+    /**
+     * Destroys the connection as soon as no execution is using it. Called once the context is no longer in the cache.
+     */
+    public void retire() {
+        final boolean isUnused;
+        synchronized (this) {
+            if (retired) {
+                return;
+            }
+            retired = true;
+            isUnused = leaseCount == 0;
+        }
+
+        if (isUnused) {
+            destroyConnection();
+        }
+    }
+
+    private void destroyConnection() {
+        if (connection == null || pluginExecutor == null) {
+            return;
+        }
+
+        try {
+            pluginExecutor.datasourceDestroy(connection);
+        } catch (Exception e) {
+            log.info("Error destroying datasource connection", e);
+        }
+    }
 }
@@ -0,0 +1,37 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.plugins.PluginExecutor;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.domains.Plugin;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Map;
+
+/**
+ * Everything that's resolved from the database before an action can be executed. Plans are cached by
+ * {@link com.appsmith.server.helpers.ActionExecutionPlanCache}, so the action and datasource held here must never be
+ * handed to a plugin as is, since plugins render the bindings into them in place.
+ */
+@Getter
+@AllArgsConstructor
+@ToString
+public class ActionExecutionPlan {
+    // The action as it's stored in the database, with its policies.
+    NewAction action;
+
+    // The published or unpublished view of the action, depending on the view mode this plan was resolved for.
+    ActionDTO actionDTO;
+
+    // The validated datasource, with its policies if it's not an embedded datasource.
+    Datasource datasource;
+
+    Plugin plugin;
+
+    @ToString.Exclude
+    PluginExecutor pluginExecutor;
+
+    Map editorConfigLabelMap;
+}
@@ -0,0 +1,22 @@
+package com.appsmith.server.dtos;
+
+import com.appsmith.external.models.ActionExecutionResult;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
+
+/**
+ * Result of one of the actions in a batch execution request. Results are streamed back in the order in which the
+ * actions finish executing, so every result carries the id of the action it belongs to.
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@ToString
+public class BatchActionExecutionResultDTO {
+    String actionId;
+    ActionExecutionResult result;
+}
@@ -0,0 +1,183 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.stereotype.Component;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static java.lang.Boolean.TRUE;
+
+/**
+ * Holds the resolved execution plans of actions (the action, its datasource, plugin and plugin executor), keyed by
+ * the action id and view mode, so that repeat executions of an action don't need any database round trips before
+ * running the user's query.
+ * <p>
+ * Every invalidation bumps a version number. A plan is only cached if no invalidation happened since the caller started
+ * resolving it, so a plan that was read from the database before a concurrent update can never be cached after it.
+ * <p>
+ * Invalidations are also published on {@link #INVALIDATION_TOPIC}, so that the other servers drop their copies of the
+ * plan as well. Redis pub/sub doesn't redeliver messages that a server missed, like while it was disconnected, so the
+ * TTL still bounds how long such a server can run a stale plan.
+ */
+@Slf4j
+@Component
+public class ActionExecutionPlanCache {
+
+    public static final ChannelTopic INVALIDATION_TOPIC = new ChannelTopic("appsmith:action-execution-plans");
+
+    private static final String ACTION_EXECUTION_PLAN_CACHE_NAME = "actionExecutionPlans";
+
+    private static final String ACTION = "action";
+
+    private static final String DATASOURCE = "datasource";
+
+    private static final String ALL = "all";
+
+    private final Cache<String, ActionExecutionPlan> planCache;
+
+    private final AtomicLong version = new AtomicLong();
+
+    private final ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    // Identifies the invalidations published by this server, which it has already applied.
+    private final String serverId = UUID.randomUUID().toString();
+
+    @Autowired
+    public ActionExecutionPlanCache(@Value("${appsmith.action.execution-plan.max-size:10000}") long maximumSize,
+                                    @Value("${appsmith.action.execution-plan.ttl-seconds:300}") long ttlSeconds,
+                                    MeterRegistry meterRegistry,
+                                    ReactiveRedisOperations<String, String> reactiveRedisOperations) {
+        this.reactiveRedisOperations = reactiveRedisOperations;
+        this.planCache = CacheBuilder.newBuilder()
+                .maximumSize(maximumSize)
+                // Updates made to actions and datasources outside of the invalidating code paths, or whose invalidation
+                // this server missed, are picked up after this long.
+                .expireAfterWrite(ttlSeconds, TimeUnit.SECONDS)
+                .recordStats()
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, planCache, ACTION_EXECUTION_PLAN_CACHE_NAME);
+    }
+
+    private static String getKey(String actionId, Boolean viewMode) {
+        return actionId + (TRUE.equals(viewMode) ? ":view" : ":edit");
+    }
+
+    /**
+     * @return The current version of the cache, to be passed to {@link #put} once the plan has been resolved.
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    public ActionExecutionPlan get(String actionId, Boolean viewMode) {
+        return planCache.getIfPresent(getKey(actionId, viewMode));
+    }
+
+    /**
+     * Caches the plan, unless something has been invalidated since the given version was read.
+     *
+     * @param actionId Id of the action that this plan is for
+     * @param viewMode View mode that this plan was resolved for
+     * @param plan     The plan to cache
+     * @param version  Value of {@link #getVersion()} from before the plan started being resolved
+     */
+    public void put(String actionId, Boolean viewMode, ActionExecutionPlan plan, long version) {
+        final String key = getKey(actionId, viewMode);
+        planCache.put(key, plan);
+
+        // An invalidation that ran concurrently with the put may not have seen this plan. Remove it again if so.
+        if (this.version.get() != version) {
+            planCache.asMap().remove(key, plan);
+        }
+    }
+
+    public void invalidateAction(String actionId) {
+        if (actionId == null) {
+            return;
+        }
+        invalidateActionLocally(actionId);
+        publishInvalidation(ACTION, actionId);
+    }
+
+    public void invalidateDatasource(String datasourceId) {
+        if (datasourceId == null) {
+            return;
+        }
+        invalidateDatasourceLocally(datasourceId);
+        publishInvalidation(DATASOURCE, datasourceId);
+    }
+
+    public void invalidateAll() {
+        invalidateAllLocally();
+        publishInvalidation(ALL, "");
+    }
+
+    /**
+     * Applies an invalidation published on {@link #INVALIDATION_TOPIC}. Invalidations published by this server itself
+     * are ignored, since they were applied when they were made.
+     *
+     * @param message The message, as published by {@link #publishInvalidation}
+     */
+    public void onInvalidationMessage(String message) {
+        final String[] parts = message.split(" ", 3);
+        if (parts.length != 3) {
+            log.warn("Ignoring malformed action execution plan invalidation {}", message);
+            return;
+        }
+
+        if (serverId.equals(parts[0])) {
+            return;
+        }
+
+        switch (parts[1]) {
+            case ACTION:
+                invalidateActionLocally(parts[2]);
+                break;
+            case DATASOURCE:
+                invalidateDatasourceLocally(parts[2]);
+                break;
+            case ALL:
+                invalidateAllLocally();
+                break;
+            default:
+                log.warn("Ignoring unknown action execution plan invalidation {}", message);
+        }
+    }
+
+    private void publishInvalidation(String type, String id) {
+        reactiveRedisOperations
+                .convertAndSend(INVALIDATION_TOPIC.getTopic(), serverId + " " + type + " " + id)
+                // The other servers drop the plan once its TTL is over, even if they never hear of the invalidation.
+                .subscribe(null, error -> log.warn("Unable to publish the invalidation of {} {}", type, id, error));
+    }
+
+    private void invalidateActionLocally(String actionId) {
+        version.incrementAndGet();
+        planCache.invalidate(getKey(actionId, true));
+        planCache.invalidate(getKey(actionId, false));
+    }
+
+    private void invalidateDatasourceLocally(String datasourceId) {
+        version.incrementAndGet();
+        planCache.asMap()
+                .values()
+                .removeIf(plan -> plan.getDatasource() != null && datasourceId.equals(plan.getDatasource().getId()));
+    }
+
+    private void invalidateAllLocally() {
+        version.incrementAndGet();
+        planCache.invalidateAll();
+    }
+}
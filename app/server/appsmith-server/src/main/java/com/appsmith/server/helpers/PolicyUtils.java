@@ -4,6 +4,7 @@ import com.appsmith.external.models.BaseDomain;
 import com.appsmith.external.models.Policy;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Application;
 import com.appsmith.server.domains.CommentThread;
 import com.appsmith.server.domains.Datasource;
@@ -46,6 +47,7 @@ public class PolicyUtils {
     private final NewActionRepository newActionRepository;
     private final UserChangedHandler userChangedHandler;
     private final CommentThreadRepository commentThreadRepository;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
 
     public <T extends BaseDomain> T addPoliciesToExistingObject(Map<String, Policy> policyMap, T obj) {
         // Making a deep copy here so we don't modify the `policyMap` object.
@@ -156,7 +158,9 @@ public class PolicyUtils {
                     }
                 })
                 .collectList()
-                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources));
+                .flatMapMany(updatedDatasources -> datasourceRepository.saveAll(updatedDatasources))
+                // Cached execution plans carry the policies of their datasources.
+                .doOnComplete(actionExecutionPlanCache::invalidateAll);
     }
 
     public Flux<Datasource> updateWithNewPoliciesToDatasourcesByDatasourceIds(Set<String> ids, Map<String, Policy> datasourcePolicyMap, boolean addPolicyToObject) {
@@ -176,7 +180,9 @@ public class PolicyUtils {
                     return Mono.just(updatedDatasource);
                 })
                 .collectList()
-                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources));
+                .flatMapMany(datasources -> datasourceRepository.saveAll(datasources))
+                // Cached execution plans carry the policies of their datasources.
+                .doOnComplete(actionExecutionPlanCache::invalidateAll);
     }
 
     public Flux<Application> updateWithNewPoliciesToApplicationsByOrgId(String orgId, Map<String, Policy> newAppPoliciesMap, boolean addPolicyToObject) {
@@ -261,7 +267,9 @@ public class PolicyUtils {
                     }
                 })
                 .collectList()
-                .flatMapMany(updatedActions -> newActionRepository.saveAll(updatedActions));
+                .flatMapMany(updatedActions -> newActionRepository.saveAll(updatedActions))
+                // Cached execution plans carry the policies of their actions.
+                .doOnComplete(actionExecutionPlanCache::invalidateAll);
     }
 
     public Map<String, Policy> generateInheritedPoliciesFromSourcePolicies(Map<String, Policy> sourcePolicyMap,
@@ -297,6 +305,39 @@ public class PolicyUtils {
         return false;
     }
 
+    /**
+     * Checks the permission against the given policies in memory, the same way
+     * {@link com.appsmith.server.repositories.BaseAppsmithRepositoryImpl#userAcl(User, AclPermission)} does in the
+     * database queries.
+     */
+    public boolean isPermissionPresentForUser(Set<Policy> policies, AclPermission permission, User user) {
+        if (CollectionUtils.isEmpty(policies) || permission == null || user == null) {
+            return false;
+        }
+
+        final String permissionString = permission.getValue();
+        final Set<String> userGroupIds = user.getGroupIds();
+
+        for (Policy policy : policies) {
+            if (!permissionString.equals(policy.getPermission())) {
+                continue;
+            }
+
+            final Set<String> policyUsers = policy.getUsers();
+            if (policyUsers != null
+                    && (policyUsers.contains(user.getUsername()) || policyUsers.contains(FieldName.ANONYMOUS_USER))) {
+                return true;
+            }
+
+            final Set<String> policyGroups = policy.getGroups();
+            if (policyGroups != null && CollectionUtils.isNotEmpty(userGroupIds) && policyGroups.containsAll(userGroupIds)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
     public Set<String> findUsernamesWithPermission(Set<Policy> policies, AclPermission permission) {
         if (CollectionUtils.isNotEmpty(policies) && permission != null) {
             final String permissionString = permission.getValue();
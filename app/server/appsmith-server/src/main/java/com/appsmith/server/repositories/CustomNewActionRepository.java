@@ -37,4 +37,6 @@ public interface CustomNewActionRepository extends AppsmithRepository<NewAction>
     Flux<NewAction> findByApplicationIdAndViewMode(String applicationId, Boolean viewMode, AclPermission aclPermission);
 
     Mono<Long> countByDatasourceId(String datasourceId);
+
+    Flux<NewAction> findAllByIds(Set<String> ids, AclPermission aclPermission);
 }
@@ -286,4 +286,10 @@ public class CustomNewActionRepositoryImpl extends BaseAppsmithRepositoryImpl<Ne
 
         return mongoOperations.count(query, "newAction");
     }
+
+    @Override
+    public Flux<NewAction> findAllByIds(Set<String> ids, AclPermission aclPermission) {
+        Criteria idCriteria = where(fieldName(QNewAction.newAction.id)).in(ids);
+        return queryAll(List.of(idCriteria), aclPermission);
+    }
 }
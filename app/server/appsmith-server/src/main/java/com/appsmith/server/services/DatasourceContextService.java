@@ -2,6 +2,7 @@ package com.appsmith.server.services;
 
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.DatasourceContext;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.function.Function;
@@ -18,6 +19,22 @@ public interface DatasourceContextService {
      */
     Mono<DatasourceContext> getDatasourceContext(Datasource datasource);
 
+    /**
+     * Runs the task with the context of the datasource. The context's connection isn't destroyed while the task is
+     * running, even if the context is evicted or replaced meanwhile.
+     *
+     * @param datasource
+     * @param task
+     * @return The result of the task
+     */
+    <T> Mono<T> withDatasourceContext(Datasource datasource, Function<DatasourceContext, Mono<T>> task);
+
+    /**
+     * Same as {@link #withDatasourceContext(Datasource, Function)}, for a task that emits many elements. The connection
+     * is held on to until the task completes, errors out or is cancelled.
+     */
+    <T> Flux<T> withDatasourceContextMany(Datasource datasource, Function<DatasourceContext, Flux<T>> task);
+
     <T> Mono<T> retryOnce(Datasource datasource, Function<DatasourceContext, Mono<T>> task);
 
     Mono<DatasourceContext> deleteDatasourceContext(String datasourceId);
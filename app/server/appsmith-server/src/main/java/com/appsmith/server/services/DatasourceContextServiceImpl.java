@@ -5,67 +5,205 @@ import com.appsmith.external.models.AuthenticationDTO;
 import com.appsmith.external.models.UpdatableConnection;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.DatasourceContext;
 import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.RemovalListeners;
+import com.google.common.cache.RemovalNotification;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.GuavaCacheMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Scheduler;
 
 import java.time.Instant;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Function;
 
+import static com.appsmith.external.helpers.PluginUtils.getDatasourceConfigurationWithinPoolLimits;
 import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
 
 @Service
 @Slf4j
 public class DatasourceContextServiceImpl implements DatasourceContextService {
 
-    //This is DatasourceId mapped to the DatasourceContext
-    private final Map<String, DatasourceContext> datasourceContextMap;
+    private static final String DATASOURCE_CONTEXT_CACHE_NAME = "datasourceContexts";
+    private static final String LIVE_CONNECTIONS_METRIC_NAME = "appsmith.datasource.connections.live";
+    private static final int MAX_LEASE_ATTEMPTS = 3;
+
+    //This is DatasourceId mapped to the DatasourceContext. Bounded in size, and contexts that are idle or too old are
+    // evicted, destroying their connections once the executions using them are done.
+    private final Cache<String, DatasourceContext> datasourceContextCache;
+    //This is DatasourceId mapped to the creation of its DatasourceContext that's currently in progress.
+    private final Map<String, Mono<DatasourceContext>> datasourceContextMonoMap;
     private final DatasourceService datasourceService;
     private final PluginService pluginService;
     private final PluginExecutorHelper pluginExecutorHelper;
     private final EncryptionService encryptionService;
+    private final DatasourceContextConfig datasourceContextConfig;
 
     @Autowired
     public DatasourceContextServiceImpl(DatasourceService datasourceService,
                                         PluginService pluginService,
                                         PluginExecutorHelper pluginExecutorHelper,
-                                        EncryptionService encryptionService) {
+                                        EncryptionService encryptionService,
+                                        DatasourceContextConfig datasourceContextConfig,
+                                        MeterRegistry meterRegistry,
+                                        Scheduler scheduler) {
         this.datasourceService = datasourceService;
         this.pluginService = pluginService;
         this.pluginExecutorHelper = pluginExecutorHelper;
         this.encryptionService = encryptionService;
-        this.datasourceContextMap = new ConcurrentHashMap<>();
+        this.datasourceContextConfig = datasourceContextConfig;
+        this.datasourceContextMonoMap = new ConcurrentHashMap<>();
+        this.datasourceContextCache = CacheBuilder.newBuilder()
+                .maximumSize(datasourceContextConfig.getMaximumSize())
+                .expireAfterAccess(datasourceContextConfig.getIdleTimeoutMinutes(), TimeUnit.MINUTES)
+                .expireAfterWrite(datasourceContextConfig.getMaxAgeMinutes(), TimeUnit.MINUTES)
+                .recordStats()
+                // Destroying a connection can block, so we don't do it on the thread that triggered the eviction.
+                .removalListener(RemovalListeners.asynchronous(this::onDatasourceContextRemoval, scheduler::schedule))
+                .build();
+
+        GuavaCacheMetrics.monitor(meterRegistry, datasourceContextCache, DATASOURCE_CONTEXT_CACHE_NAME);
+        Gauge.builder(LIVE_CONNECTIONS_METRIC_NAME, datasourceContextCache, this::countLiveConnections)
+                .description("Number of live connections to datasources held by this server")
+                .register(meterRegistry);
+    }
+
+    private double countLiveConnections(Cache<String, DatasourceContext> cache) {
+        return cache.asMap()
+                .values()
+                .stream()
+                .filter(datasourceContext -> datasourceContext.getConnection() != null)
+                .count();
+    }
+
+    /**
+     * Retires a datasource context that has been evicted from the cache because of size, idle time or age limits, so
+     * that its connection is destroyed once no execution is using it. Contexts that are explicitly removed or replaced
+     * are retired by the code doing so.
+     */
+    private void onDatasourceContextRemoval(RemovalNotification<String, DatasourceContext> notification) {
+        final DatasourceContext datasourceContext = notification.getValue();
+        if (!notification.wasEvicted() || datasourceContext == null) {
+            return;
+        }
+
+        log.info("Evicting datasource context for datasource ID {}, cause: {}.", notification.getKey(), notification.getCause());
+        datasourceContext.retire();
+    }
+
+    /**
+     * The cache only evicts expired entries when it's accessed. This makes sure idle connections are reaped even when
+     * there's no traffic on this server.
+     */
+    @Scheduled(initialDelay = 60 * 1000 /* one minute */, fixedDelay = 60 * 1000 /* one minute */)
+    public void cleanUpDatasourceContexts() {
+        datasourceContextCache.cleanUp();
     }
 
     @Override
     public Mono<DatasourceContext> getDatasourceContext(Datasource datasource) {
         String datasourceId = datasource.getId();
 
-        // Lengthy redundant expression because we need this variable to be final, so it can be used in a reactive callback.
-        final boolean isStale = datasourceId != null
-                && datasourceContextMap.get(datasourceId) != null
-                && datasource.getUpdatedAt() != null
-                && datasource.getUpdatedAt().isAfter(datasourceContextMap.get(datasourceId).getCreationTime());
-
         if (datasourceId == null) {
             log.debug("This is a dry run or an embedded datasource. The datasource context would not exist in this scenario");
+            return createDatasourceContext(datasource);
+        }
+
+        final DatasourceContext existingContext = getUsableDatasourceContext(datasource);
+        if (existingContext != null) {
+            log.debug("Resource context exists. Returning the same.");
+            return Mono.just(existingContext);
+        }
+
+        // Concurrent callers for the same datasource share one in-flight creation, so that only a single connection is
+        // created (or replaced, when stale) instead of one per caller, with all but one of them leaking.
+        return datasourceContextMonoMap.computeIfAbsent(datasourceId, id -> Mono
+                .defer(() -> {
+                    // A creation that was in flight when the cache was checked above may have completed since, in
+                    // which case its context is used instead of connecting again.
+                    final DatasourceContext createdContext = getUsableDatasourceContext(datasource);
+                    return createdContext != null
+                            ? Mono.just(createdContext)
+                            : createDatasourceContext(datasource);
+                })
+                .doFinally(signalType -> datasourceContextMonoMap.remove(id))
+                .cache()
+        );
+    }
+
+    /**
+     * @return The cached context of the datasource, if it has a connection and has been created after the datasource
+     * was last updated. Null otherwise.
+     */
+    private DatasourceContext getUsableDatasourceContext(Datasource datasource) {
+        final DatasourceContext datasourceContext = datasourceContextCache.getIfPresent(datasource.getId());
 
-        } else if (datasourceContextMap.get(datasourceId) != null
+        if (datasourceContext == null
                 // The following condition happens when there's a timout in the middle of destroying a connection and
                 // the reactive flow interrupts, resulting in the destroy operation not completing.
-                && datasourceContextMap.get(datasourceId).getConnection() != null
-                && !isStale) {
-            log.debug("Resource context exists. Returning the same.");
-            return Mono.just(datasourceContextMap.get(datasourceId));
+                || datasourceContext.getConnection() == null) {
+            return null;
         }
 
+        final boolean isStale = datasource.getUpdatedAt() != null
+                && datasource.getUpdatedAt().isAfter(datasourceContext.getCreationTime());
+
+        return isStale ? null : datasourceContext;
+    }
+
+    /**
+     * Gets the context of the datasource and marks it as in use, so that its connection isn't destroyed until it's
+     * released, even if the context is evicted meanwhile.
+     */
+    private Mono<DatasourceContext> leaseDatasourceContext(Datasource datasource, int attempt) {
+        return getDatasourceContext(datasource)
+                .flatMap(datasourceContext -> {
+                    if (datasourceContext.acquire()) {
+                        return Mono.just(datasourceContext);
+                    }
+
+                    // The context was retired between being handed out and being acquired. Get the one that replaces it.
+                    if (attempt >= MAX_LEASE_ATTEMPTS) {
+                        return Mono.error(new StaleConnectionException(
+                                "Datasource context was evicted before it could be used."));
+                    }
+                    return leaseDatasourceContext(datasource, attempt + 1);
+                });
+    }
+
+    @Override
+    public <T> Mono<T> withDatasourceContext(Datasource datasource, Function<DatasourceContext, Mono<T>> task) {
+        return leaseDatasourceContext(datasource, 1)
+                .flatMap(datasourceContext -> Mono
+                        .defer(() -> task.apply(datasourceContext))
+                        .doFinally(signalType -> datasourceContext.release()));
+    }
+
+    @Override
+    public <T> Flux<T> withDatasourceContextMany(Datasource datasource, Function<DatasourceContext, Flux<T>> task) {
+        return leaseDatasourceContext(datasource, 1)
+                .flatMapMany(datasourceContext -> Flux
+                        .defer(() -> task.apply(datasourceContext))
+                        .doFinally(signalType -> datasourceContext.release()));
+    }
+
+    private Mono<DatasourceContext> createDatasourceContext(Datasource datasource) {
+        final String datasourceId = datasource.getId();
+
         log.debug("Datasource context doesn't exist. Creating connection.");
 
         Mono<Datasource> datasourceMono;
@@ -89,26 +227,16 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
 
                     PluginExecutor<Object> pluginExecutor = objects.getT2();
 
-                    if (isStale) {
-                        final Object connection = datasourceContextMap.get(datasourceId).getConnection();
-                        if (connection != null) {
-                            try {
-                                pluginExecutor.datasourceDestroy(connection);
-                            } catch (Exception e) {
-                                log.info("Error destroying stale datasource connection", e);
-                            }
-                        }
-                    }
-
                     DatasourceContext datasourceContext = new DatasourceContext();
+                    datasourceContext.setPluginExecutor(pluginExecutor);
 
-                    if (datasource1.getId() != null) {
-                        // For this datasource, either the context doesn't exist, or the context is stale. Replace (or add)
-                        // with the new connection in the context map.
-                        datasourceContextMap.put(datasourceId, datasourceContext);
-                    }
-
-                    Mono<Object> connectionMono = pluginExecutor.datasourceCreate(datasource1.getDatasourceConfiguration());
+                    // The connection pool of the datasource is created within the limits set by the admin, and its
+                    // metrics are tagged with the datasource.
+                    Mono<Object> connectionMono = pluginExecutor.datasourceCreate(getDatasourceConfigurationWithinPoolLimits(
+                            datasource1.getDatasourceConfiguration(),
+                            datasourceContextConfig.getConnectionPoolLimits(),
+                            pluginExecutor.getDefaultConnectionPoolConfiguration(),
+                            datasource1.getId()));
                     return connectionMono
                             .flatMap(connection -> {
                                 Mono<Datasource> datasourceMono1 = Mono.just(datasource1);
@@ -133,16 +261,29 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
                                     // When a connection object doesn't make sense for the plugin, we get an empty mono
                                     // and we just return the context object as is.
                                     datasourceContext
-                            );
+                            )
+                            .doOnNext(context -> {
+                                if (datasource1.getId() != null) {
+                                    // For this datasource, either the context doesn't exist, or the context is stale.
+                                    // Replace (or add) with the new connection in the context cache. This is only done
+                                    // once the connection is set, so that the context can't be evicted without it being
+                                    // destroyed.
+                                    final DatasourceContext replacedContext = datasourceContextCache
+                                            .asMap()
+                                            .put(datasourceId, context);
+                                    if (replacedContext != null && replacedContext != context) {
+                                        replacedContext.retire();
+                                    }
+                                }
+                            });
                 });
     }
 
     @Override
     public <T> Mono<T> retryOnce(Datasource datasource, Function<DatasourceContext, Mono<T>> task) {
         final Mono<T> taskRunnerMono = Mono.justOrEmpty(datasource)
-                .flatMap(this::getDatasourceContext)
                 // Now that we have the context (connection details), call the task.
-                .flatMap(task);
+                .flatMap(datasource1 -> withDatasourceContext(datasource1, task));
 
         return taskRunnerMono
                 .onErrorResume(StaleConnectionException.class, error -> {
@@ -158,23 +299,19 @@ public class DatasourceContextServiceImpl implements DatasourceContextService {
             return Mono.empty();
         }
 
-        DatasourceContext datasourceContext = datasourceContextMap.get(datasourceId);
+        DatasourceContext datasourceContext = datasourceContextCache.getIfPresent(datasourceId);
         if (datasourceContext == null) {
             // No resource context exists for this resource. Return void.
             return Mono.empty();
         }
 
-        return datasourceService
-                .findById(datasourceId, EXECUTE_DATASOURCES)
-                .zipWhen(datasource1 ->
-                        pluginExecutorHelper.getPluginExecutor(pluginService.findById(datasource1.getPluginId()))
-                )
-                .map(tuple -> {
-                    final Datasource datasource = tuple.getT1();
-                    final PluginExecutor<Object> pluginExecutor = tuple.getT2();
-                    log.info("Clearing datasource context for datasource ID {}.", datasource.getId());
-                    pluginExecutor.datasourceDestroy(datasourceContext.getConnection());
-                    return datasourceContextMap.remove(datasourceId);
-                });
+        return Mono.fromSupplier(() -> {
+            // Only this context is removed, in case another caller has already replaced it with a fresh one.
+            if (datasourceContextCache.asMap().remove(datasourceId, datasourceContext)) {
+                log.info("Clearing datasource context for datasource ID {}.", datasourceId);
+                datasourceContext.retire();
+            }
+            return datasourceContext;
+        });
     }
 }
@@ -29,5 +29,7 @@ public interface DatasourceService extends CrudService<Datasource, String> {
 
     Flux<Datasource> saveAll(List<Datasource> datasourceList);
 
+    Flux<Datasource> findAllByIds(Set<String> ids, AclPermission permission);
+
     Mono<Datasource> populateHintMessages(Datasource datasource);
 }
@@ -10,6 +10,7 @@ import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.external.services.EncryptionService;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.configurations.DatasourceContextConfig;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Datasource;
 import com.appsmith.server.domains.Organization;
@@ -17,6 +18,7 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.repositories.DatasourceRepository;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -40,6 +42,7 @@ import java.util.Set;
 import java.util.stream.Collectors;
 
 import static com.appsmith.external.helpers.BeanCopyUtils.copyNestedNonNullProperties;
+import static com.appsmith.external.helpers.PluginUtils.getDatasourceConfigurationWithinPoolLimits;
 import static com.appsmith.server.acl.AclPermission.MANAGE_DATASOURCES;
 import static com.appsmith.server.acl.AclPermission.ORGANIZATION_MANAGE_APPLICATIONS;
 import static com.appsmith.server.acl.AclPermission.ORGANIZATION_READ_APPLICATIONS;
@@ -59,6 +62,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
     private final SequenceService sequenceService;
     private final NewActionRepository newActionRepository;
     private final EncryptionService encryptionService;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
+    private final DatasourceContextConfig datasourceContextConfig;
 
     @Autowired
     public DatasourceServiceImpl(Scheduler scheduler,
@@ -74,7 +79,9 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                                  PolicyGenerator policyGenerator,
                                  SequenceService sequenceService,
                                  NewActionRepository newActionRepository,
-                                 EncryptionService encryptionService) {
+                                 EncryptionService encryptionService,
+                                 ActionExecutionPlanCache actionExecutionPlanCache,
+                                 DatasourceContextConfig datasourceContextConfig) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.organizationService = organizationService;
         this.sessionUserService = sessionUserService;
@@ -84,6 +91,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
         this.sequenceService = sequenceService;
         this.newActionRepository = newActionRepository;
         this.encryptionService = encryptionService;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
+        this.datasourceContextConfig = datasourceContextConfig;
     }
 
     @Override
@@ -263,7 +272,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
 
     @Override
     public Mono<Datasource> save(Datasource datasource) {
-        return repository.save(datasource);
+        return repository.save(datasource)
+                .doOnNext(savedDatasource -> actionExecutionPlanCache.invalidateDatasource(savedDatasource.getId()));
     }
 
     private Datasource sanitizeDatasource(Datasource datasource) {
@@ -292,7 +302,8 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     User user = tuple.getT2();
                     Datasource userPermissionsInDatasource = repository.setUserPermissionsInObject(savedDatasource, user);
                     return repository.save(userPermissionsInDatasource);
-                });
+                })
+                .doOnNext(savedDatasource -> actionExecutionPlanCache.invalidateDatasource(savedDatasource.getId()));
     }
 
     /**
@@ -339,7 +350,11 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN, datasource.getPluginId())));
 
         return pluginExecutorMono
-                .flatMap(pluginExecutor -> pluginExecutor.testDatasource(datasource.getDatasourceConfiguration()));
+                .flatMap(pluginExecutor -> pluginExecutor.testDatasource(getDatasourceConfigurationWithinPoolLimits(
+                        datasource.getDatasourceConfiguration(),
+                        datasourceContextConfig.getConnectionPoolLimits(),
+                        pluginExecutor.getDefaultConnectionPoolConfiguration(),
+                        null)));
     }
 
     @Override
@@ -386,7 +401,13 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
 
     @Override
     public Flux<Datasource> saveAll(List<Datasource> datasourceList) {
-        return repository.saveAll(datasourceList);
+        return repository.saveAll(datasourceList)
+                .doOnNext(savedDatasource -> actionExecutionPlanCache.invalidateDatasource(savedDatasource.getId()));
+    }
+
+    @Override
+    public Flux<Datasource> findAllByIds(Set<String> ids, AclPermission permission) {
+        return repository.findAllByIds(ids, permission);
     }
 
     @Override
@@ -403,6 +424,7 @@ public class DatasourceServiceImpl extends BaseService<DatasourceRepository, Dat
                     return Mono.just(objects.getT1());
                 })
                 .flatMap(toDelete -> repository.archive(toDelete).thenReturn(toDelete))
+                .doOnNext(deletedDatasource -> actionExecutionPlanCache.invalidateDatasource(deletedDatasource.getId()))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 }
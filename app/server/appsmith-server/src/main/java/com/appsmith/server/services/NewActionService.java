@@ -7,7 +7,9 @@ import com.appsmith.server.domains.NewAction;
 import com.appsmith.server.domains.NewPage;
 import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
+import com.fasterxml.jackson.databind.JsonNode;
 import org.springframework.data.domain.Sort;
 import org.springframework.util.MultiValueMap;
 import reactor.core.publisher.Flux;
@@ -33,6 +35,10 @@ public interface NewActionService extends CrudService<NewAction, String> {
 
     Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO);
 
+    Flux<JsonNode> executeActionStream(ExecuteActionDTO executeActionDTO);
+
+    Flux<BatchActionExecutionResultDTO> executeActions(List<ExecuteActionDTO> executeActionDTOs);
+
     <T> T variableSubstitution(T configuration, Map<String, String> replaceParamsMap);
 
     Mono<ActionDTO> findByUnpublishedNameAndPageId(String name, String pageId, AclPermission permission);
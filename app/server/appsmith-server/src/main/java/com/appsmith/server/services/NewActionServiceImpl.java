@@ -16,6 +16,7 @@ import com.appsmith.external.models.WidgetType;
 import com.appsmith.external.plugins.PluginExecutor;
 import com.appsmith.server.acl.AclPermission;
 import com.appsmith.server.acl.PolicyGenerator;
+import com.appsmith.server.configurations.CommonConfig;
 import com.appsmith.server.constants.AnalyticsEvents;
 import com.appsmith.server.constants.FieldName;
 import com.appsmith.server.domains.Action;
@@ -29,10 +30,13 @@ import com.appsmith.server.domains.Plugin;
 import com.appsmith.server.domains.PluginType;
 import com.appsmith.server.domains.User;
 import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ActionExecutionPlan;
 import com.appsmith.server.dtos.ActionViewDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.LayoutActionUpdateDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
 import com.appsmith.server.helpers.PluginExecutorHelper;
 import com.appsmith.server.helpers.PolicyUtils;
 import com.appsmith.server.repositories.NewActionRepository;
@@ -44,6 +48,7 @@ import com.fasterxml.jackson.databind.node.ObjectNode;
 import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.lang.ArrayUtils;
 import org.apache.commons.lang3.ObjectUtils;
+import org.bson.Document;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.mongodb.core.ReactiveMongoTemplate;
 import org.springframework.data.mongodb.core.convert.MongoConverter;
@@ -69,6 +74,7 @@ import java.util.Locale;
 import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -100,6 +106,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     private final PolicyUtils policyUtils;
     private final ObjectMapper objectMapper;
     private final AuthenticationValidator authenticationValidator;
+    private final ActionExecutionPlanCache actionExecutionPlanCache;
+    private final CommonConfig commonConfig;
 
     public NewActionServiceImpl(Scheduler scheduler,
                                 Validator validator,
@@ -117,7 +125,9 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                                 ApplicationService applicationService,
                                 SessionUserService sessionUserService,
                                 PolicyUtils policyUtils,
-                                AuthenticationValidator authenticationValidator) {
+                                AuthenticationValidator authenticationValidator,
+                                ActionExecutionPlanCache actionExecutionPlanCache,
+                                CommonConfig commonConfig) {
         super(scheduler, validator, mongoConverter, reactiveMongoTemplate, repository, analyticsService);
         this.repository = repository;
         this.datasourceService = datasourceService;
@@ -131,6 +141,8 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
         this.sessionUserService = sessionUserService;
         this.policyUtils = policyUtils;
         this.authenticationValidator = authenticationValidator;
+        this.actionExecutionPlanCache = actionExecutionPlanCache;
+        this.commonConfig = commonConfig;
         this.objectMapper = new ObjectMapper();
     }
 
@@ -304,6 +316,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     return updatedAction;
                 })
                 .flatMap(repository::save)
+                .doOnNext(savedAction -> actionExecutionPlanCache.invalidateAction(savedAction.getId()))
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.REPOSITORY_SAVE_FAILED)))
                 .flatMap(this::setTransientFieldsInUnpublishedAction);
     }
@@ -421,99 +434,26 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
     @Override
     public Mono<ActionExecutionResult> executeAction(ExecuteActionDTO executeActionDTO) {
         // 1. Validate input parameters which are required for mustache replacements
-        List<Param> params = executeActionDTO.getParams();
-        if (!CollectionUtils.isEmpty(params)) {
-            for (Param param : params) {
-                // In case the parameter values turn out to be null, set it to empty string instead to allow the
-                // the execution to go through no matter what.
-                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
-                    param.setValue("");
-                }
-            }
-        }
+        validateExecutionParams(executeActionDTO.getParams());
 
         String actionId = executeActionDTO.getActionId();
         AtomicReference<String> actionName = new AtomicReference<>();
         // Initialize the name to be empty value
         actionName.set("");
-        // 2. Fetch the action from the DB and check if it can be executed
-        Mono<NewAction> actionMono = repository.findById(actionId, EXECUTE_ACTIONS)
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+        // 2. Fetch the action, its datasource and plugin, from the cache or the DB, and check if it can be executed
+        Mono<ActionExecutionPlan> executionPlanMono = getActionExecutionPlan(actionId, executeActionDTO.getViewMode())
                 .cache();
 
-        Mono<ActionDTO> actionDTOMono = actionMono
-                .flatMap(dbAction -> {
-                    ActionDTO action;
-                    if (TRUE.equals(executeActionDTO.getViewMode())) {
-                        action = dbAction.getPublishedAction();
-                        // If the action has not been published, return error
-                        if (action == null) {
-                            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId));
-                        }
-                    } else {
-                        action = dbAction.getUnpublishedAction();
-                    }
-
-                    // Now check for erroneous situations which would deter the execution of the action :
-
-                    // Error out with in case of an invalid action
-                    if (FALSE.equals(action.getIsValid())) {
-                        return Mono.error(new AppsmithException(
-                                AppsmithError.INVALID_ACTION,
-                                action.getName(),
-                                ArrayUtils.toString(action.getInvalids().toArray())
-                        ));
-                    }
+        Mono<NewAction> actionMono = executionPlanMono.map(ActionExecutionPlan::getAction);
 
-                    // Error out in case of JS Plugin (this is currently client side execution only)
-                    if (dbAction.getPluginType() == PluginType.JS) {
-                        return Mono.error(new AppsmithException(AppsmithError.UNSUPPORTED_OPERATION));
-                    }
-                    return Mono.just(action);
-                })
-                .cache();
+        Mono<ActionDTO> actionDTOMono = executionPlanMono.map(ActionExecutionPlan::getActionDTO);
 
         // 3. Instantiate the implementation class based on the query type
 
-        Mono<Datasource> datasourceMono = actionDTOMono
-                .flatMap(action -> {
-                    // Global datasource requires us to fetch the datasource from DB.
-                    if (action.getDatasource() != null && action.getDatasource().getId() != null) {
-                        return datasourceService.findById(action.getDatasource().getId(), EXECUTE_DATASOURCES)
-                                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
-                                        FieldName.DATASOURCE,
-                                        action.getDatasource().getId())));
-                    }
-
-                    // This is a nested datasource. Return as is.
-                    return Mono.just(action.getDatasource());
-                })
-                .cache();
+        Mono<Datasource> datasourceMono = executionPlanMono.map(ActionExecutionPlan::getDatasource);
 
-        Mono<Plugin> pluginMono = datasourceMono
-                .flatMap(datasource -> {
-                    // For embedded datasources, validate the datasource for each execution
-                    if (datasource.getId() == null) {
-                        return datasourceService.validateDatasource(datasource);
-                    }
-
-                    // The external datasources have already been validated. No need to validate again.
-                    return Mono.just(datasource);
-                })
-                .flatMap(datasource -> {
-                    Set<String> invalids = datasource.getInvalids();
-                    if (!CollectionUtils.isEmpty(invalids)) {
-                        log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
-                                actionId, ArrayUtils.toString(invalids));
-                        return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
-                                datasource.getName(),
-                                ArrayUtils.toString(invalids)));
-                    }
-                    return pluginService.findById(datasource.getPluginId());
-                })
-                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)));
-
-        Mono<PluginExecutor> pluginExecutorMono = pluginExecutorHelper.getPluginExecutor(pluginMono);
+        Mono<PluginExecutor> pluginExecutorMono = executionPlanMono
+                .flatMap(plan -> getPluginExecutor(plan, actionId));
 
         // 4. Execute the query
         Mono<ActionExecutionResult> actionExecutionResultMono = Mono
@@ -531,6 +471,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     actionName.set(action.getName());
 
                     ActionConfiguration actionConfiguration = action.getActionConfiguration();
+                    applyMaxRows(actionConfiguration);
 
                     Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
 
@@ -541,18 +482,17 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     Mono<Datasource> validatedDatasourceMono = authenticationValidator.validateAuthentication(datasource).cache();
 
                     Mono<ActionExecutionResult> executionMono = validatedDatasourceMono
-                            .flatMap(datasourceContextService::getDatasourceContext)
-                            // Now that we have the context (connection details), execute the action.
-                            .flatMap(resourceContext -> validatedDatasourceMono
-                                    .flatMap(datasource1 -> {
-                                        return (Mono<ActionExecutionResult>) pluginExecutor.executeParameterized(
-                                                resourceContext.getConnection(),
-                                                executeActionDTO,
-                                                datasource1.getDatasourceConfiguration(),
-                                                actionConfiguration
-                                        );
-                                    })
-                            );
+                            // Now that we have the context (connection details), execute the action. The connection
+                            // is held on to until the execution is done.
+                            .flatMap(datasource1 -> datasourceContextService.withDatasourceContext(
+                                    datasource1,
+                                    resourceContext -> (Mono<ActionExecutionResult>) pluginExecutor.executeParameterized(
+                                            resourceContext.getConnection(),
+                                            executeActionDTO,
+                                            datasource1.getDatasourceConfiguration(),
+                                            actionConfiguration
+                                    )
+                            ));
 
                     return executionMono
                             .onErrorResume(StaleConnectionException.class, error -> {
@@ -629,14 +569,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                     return Mono.just(result);
                 });
 
-        Mono<Map> editorConfigLabelMapMono = datasourceMono
-                .flatMap(datasource -> {
-                    if (datasource.getId() != null) {
-                        return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
-                    }
-
-                    return Mono.just(new HashMap());
-                });
+        Mono<Map> editorConfigLabelMapMono = executionPlanMono.map(ActionExecutionPlan::getEditorConfigLabelMap);
 
         return Mono.zip(actionExecutionResultMono, editorConfigLabelMapMono)
                 .flatMap(tuple -> {
@@ -659,6 +592,420 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .map(result -> addDataTypesAndSetSuggestedWidget(result));
     }
 
+    /**
+     * Executes the action and emits the rows of its result as the plugin reads them from the datasource, so that large
+     * results are never held in memory as a whole. At most the configured number of rows are emitted, after which the
+     * plugin's cursor is closed. The timeout of the action applies to the wait for each row.
+     */
+    @Override
+    public Flux<JsonNode> executeActionStream(ExecuteActionDTO executeActionDTO) {
+        validateExecutionParams(executeActionDTO.getParams());
+
+        final String actionId = executeActionDTO.getActionId();
+
+        return getActionExecutionPlan(actionId, executeActionDTO.getViewMode())
+                .flatMapMany(plan -> getPluginExecutor(plan, actionId)
+                        .flatMapMany(pluginExecutor -> {
+                            final ActionDTO action = plan.getActionDTO();
+                            final ActionConfiguration actionConfiguration = action.getActionConfiguration();
+                            final Integer timeoutDuration = actionConfiguration.getTimeoutInMillisecond();
+
+                            log.debug("[{}]Execute Action Stream called in Page {}, for action id : {}  action name : {}",
+                                    Thread.currentThread().getName(),
+                                    action.getPageId(), actionId, action.getName());
+
+                            Mono<Datasource> validatedDatasourceMono = authenticationValidator
+                                    .validateAuthentication(plan.getDatasource())
+                                    .cache();
+
+                            Flux<JsonNode> rowsFlux = validatedDatasourceMono
+                                    .flatMapMany(datasource -> datasourceContextService.withDatasourceContextMany(
+                                            datasource,
+                                            resourceContext -> (Flux<JsonNode>) pluginExecutor.executeParameterizedStream(
+                                                    resourceContext.getConnection(),
+                                                    executeActionDTO,
+                                                    datasource.getDatasourceConfiguration(),
+                                                    actionConfiguration
+                                            )
+                                    ));
+
+                            // The query is only run again on a stale connection if none of its rows have been
+                            // emitted yet, since the rows of a second run would repeat the ones already sent.
+                            return Flux.defer(() -> {
+                                final AtomicBoolean rowsEmitted = new AtomicBoolean(false);
+                                return rowsFlux
+                                        .doOnNext(row -> rowsEmitted.set(true))
+                                        .onErrorResume(
+                                                error -> error instanceof StaleConnectionException && !rowsEmitted.get(),
+                                                error -> {
+                                                    log.info("Looks like the connection is stale. Retrying with a fresh context.");
+                                                    return datasourceContextService
+                                                            .deleteDatasourceContext(plan.getDatasource().getId())
+                                                            .thenMany(rowsFlux);
+                                                });
+                            })
+                                    .timeout(Duration.ofMillis(timeoutDuration))
+                                    .onErrorMap(TimeoutException.class,
+                                            error -> new AppsmithPluginException(
+                                                    AppsmithPluginError.PLUGIN_QUERY_TIMEOUT_ERROR,
+                                                    action.getName(), timeoutDuration
+                                            )
+                                    )
+                                    .take(commonConfig.getStreamingActionExecutionMaxRows());
+                        })
+                );
+    }
+
+    /**
+     * Caps the row limit of the action to the maximum set by the admin, if any. The SQL plugins stop reading the result
+     * of a query after these many rows.
+     */
+    private void applyMaxRows(ActionConfiguration actionConfiguration) {
+        final int maxRows = commonConfig.getActionExecutionMaxRows();
+        if (maxRows <= 0) {
+            return;
+        }
+
+        final Integer rowLimit = actionConfiguration.getRowLimit();
+        if (rowLimit == null || rowLimit <= 0 || rowLimit > maxRows) {
+            actionConfiguration.setRowLimit(maxRows);
+        }
+    }
+
+    private void validateExecutionParams(List<Param> params) {
+        if (!CollectionUtils.isEmpty(params)) {
+            for (Param param : params) {
+                // In case the parameter values turn out to be null, set it to empty string instead to allow the
+                // the execution to go through no matter what.
+                if (!StringUtils.isEmpty(param.getKey()) && param.getValue() == null) {
+                    param.setValue("");
+                }
+            }
+        }
+    }
+
+    private Mono<PluginExecutor> getPluginExecutor(ActionExecutionPlan plan, String actionId) {
+        Datasource datasource = plan.getDatasource();
+        Set<String> invalids = datasource.getInvalids();
+        if (!CollectionUtils.isEmpty(invalids)) {
+            log.error("Unable to execute actionId: {} because it's datasource is not valid. Cause: {}",
+                    actionId, ArrayUtils.toString(invalids));
+            return Mono.error(new AppsmithException(AppsmithError.INVALID_DATASOURCE,
+                    datasource.getName(),
+                    ArrayUtils.toString(invalids)));
+        }
+
+        if (plan.getPluginExecutor() != null) {
+            return Mono.just(plan.getPluginExecutor());
+        }
+
+        // The plugin, or its executor, couldn't be found while resolving the plan.
+        Mono<Plugin> pluginMono = Mono.justOrEmpty(plan.getPlugin())
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.PLUGIN)));
+        return pluginExecutorHelper.getPluginExecutor(pluginMono);
+    }
+
+    /**
+     * Executes all the given actions, and emits the result of each action as soon as it's available. The execution
+     * plans of all the actions that aren't cached yet are resolved together, with a single query each for the actions,
+     * their datasources and their plugins, instead of a set of queries per action.
+     */
+    @Override
+    public Flux<BatchActionExecutionResultDTO> executeActions(List<ExecuteActionDTO> executeActionDTOs) {
+        return resolveActionExecutionPlans(executeActionDTOs)
+                .thenMany(Flux.fromIterable(executeActionDTOs))
+                .flatMap(
+                        executeActionDTO -> executeAction(executeActionDTO)
+                                // An action that can't be executed, like one that doesn't exist or that the user isn't
+                                // allowed to execute, fails on its own, without ending the batch.
+                                .onErrorResume(error -> {
+                                    log.debug("Error executing action {} in a batch",
+                                            executeActionDTO.getActionId(), error);
+                                    return Mono.just(getBatchErrorResult(error));
+                                })
+                                .map(result -> new BatchActionExecutionResultDTO(executeActionDTO.getActionId(), result)),
+                        commonConfig.getBatchActionExecutionConcurrency()
+                );
+    }
+
+    private static ActionExecutionResult getBatchErrorResult(Throwable error) {
+        ActionExecutionResult result = new ActionExecutionResult();
+        result.setIsExecutionSuccess(false);
+        if (error instanceof AppsmithException) {
+            result.setStatusCode(((AppsmithException) error).getAppErrorCode().toString());
+            result.setBody(error.getMessage());
+            result.setTitle(((AppsmithException) error).getTitle());
+        } else if (error instanceof AppsmithPluginException) {
+            result.setStatusCode(((AppsmithPluginException) error).getAppErrorCode().toString());
+            result.setBody(error.getMessage());
+            result.setTitle(((AppsmithPluginException) error).getTitle());
+        } else {
+            result.setStatusCode(AppsmithError.INTERNAL_SERVER_ERROR.getAppErrorCode().toString());
+            result.setBody(AppsmithError.INTERNAL_SERVER_ERROR.getMessage());
+            result.setTitle(AppsmithError.INTERNAL_SERVER_ERROR.getTitle());
+        }
+        return result;
+    }
+
+    /**
+     * Resolves the execution plans of the given actions that aren't in the cache yet, and caches them. Actions that
+     * fail to resolve are skipped here, they are resolved again when they are executed, which reports the error.
+     */
+    private Mono<Void> resolveActionExecutionPlans(List<ExecuteActionDTO> executeActionDTOs) {
+        final long cacheVersion = actionExecutionPlanCache.getVersion();
+
+        final List<ExecuteActionDTO> uncachedActionDTOs = executeActionDTOs.stream()
+                .filter(executeActionDTO -> executeActionDTO.getActionId() != null
+                        && actionExecutionPlanCache.get(executeActionDTO.getActionId(), executeActionDTO.getViewMode()) == null)
+                .collect(Collectors.toList());
+
+        if (uncachedActionDTOs.isEmpty()) {
+            return Mono.empty();
+        }
+
+        final Set<String> actionIds = uncachedActionDTOs.stream()
+                .map(ExecuteActionDTO::getActionId)
+                .collect(Collectors.toSet());
+
+        return repository.findAllByIds(actionIds, EXECUTE_ACTIONS)
+                .collectMap(NewAction::getId)
+                .flatMap(actionsById -> {
+                    final Set<String> datasourceIds = new HashSet<>();
+                    final Set<String> pluginIds = new HashSet<>();
+                    for (ExecuteActionDTO executeActionDTO : uncachedActionDTOs) {
+                        final NewAction action = actionsById.get(executeActionDTO.getActionId());
+                        if (action == null) {
+                            continue;
+                        }
+
+                        final ActionDTO actionDTO = TRUE.equals(executeActionDTO.getViewMode())
+                                ? action.getPublishedAction()
+                                : action.getUnpublishedAction();
+                        if (actionDTO == null || actionDTO.getDatasource() == null) {
+                            continue;
+                        }
+
+                        if (actionDTO.getDatasource().getId() != null) {
+                            datasourceIds.add(actionDTO.getDatasource().getId());
+                        } else if (actionDTO.getDatasource().getPluginId() != null) {
+                            pluginIds.add(actionDTO.getDatasource().getPluginId());
+                        }
+                    }
+
+                    return datasourceService.findAllByIds(datasourceIds, EXECUTE_DATASOURCES)
+                            .collectMap(Datasource::getId)
+                            .flatMapMany(datasourcesById -> {
+                                datasourcesById.values().forEach(datasource -> pluginIds.add(datasource.getPluginId()));
+                                return pluginService.findAllByIds(pluginIds)
+                                        .collectMap(Plugin::getId)
+                                        .flatMapMany(pluginsById -> Flux.fromIterable(uncachedActionDTOs)
+                                                .flatMap(executeActionDTO -> {
+                                                    final String actionId = executeActionDTO.getActionId();
+                                                    final Boolean viewMode = executeActionDTO.getViewMode();
+                                                    return resolveActionExecutionPlan(
+                                                            actionId,
+                                                            viewMode,
+                                                            Mono.justOrEmpty(actionsById.get(actionId)),
+                                                            datasourceId -> Mono.justOrEmpty(datasourcesById.get(datasourceId)),
+                                                            pluginId -> Mono.justOrEmpty(pluginsById.get(pluginId))
+                                                    )
+                                                            .doOnNext(plan -> cacheActionExecutionPlan(actionId, viewMode, plan, cacheVersion))
+                                                            .onErrorResume(error -> Mono.empty());
+                                                })
+                                        );
+                            })
+                            .then();
+                })
+                // The actions are resolved one by one when they're executed instead, which reports the error.
+                .onErrorResume(error -> {
+                    log.debug("Error resolving the execution plans of a batch of actions", error);
+                    return Mono.empty();
+                });
+    }
+
+    /**
+     * Returns the execution plan of the action for the given view mode. Cached plans are only handed out after checking
+     * the current user's permissions against the policies cached with them, the same way the DB queries would have.
+     * <p>
+     * Plugins render the bindings into the action and datasource configurations in place, so every execution gets its
+     * own copy of the action and datasource in the plan.
+     */
+    private Mono<ActionExecutionPlan> getActionExecutionPlan(String actionId, Boolean viewMode) {
+        final ActionExecutionPlan cachedPlan = actionExecutionPlanCache.get(actionId, viewMode);
+
+        Mono<ActionExecutionPlan> planMono;
+        if (cachedPlan != null) {
+            planMono = sessionUserService.getCurrentUser()
+                    .filter(user -> policyUtils.isPermissionPresentForUser(cachedPlan.getAction().getPolicies(), EXECUTE_ACTIONS, user))
+                    .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+                    .flatMap(user -> {
+                        final Datasource datasource = cachedPlan.getDatasource();
+                        // Embedded datasources are a part of the action and don't have policies of their own.
+                        if (datasource.getId() != null
+                                && !policyUtils.isPermissionPresentForUser(datasource.getPolicies(), EXECUTE_DATASOURCES, user)) {
+                            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.DATASOURCE, datasource.getId()));
+                        }
+                        return Mono.just(cachedPlan);
+                    });
+        } else {
+            final long cacheVersion = actionExecutionPlanCache.getVersion();
+            planMono = resolveActionExecutionPlan(
+                    actionId,
+                    viewMode,
+                    repository.findById(actionId, EXECUTE_ACTIONS),
+                    datasourceId -> datasourceService.findById(datasourceId, EXECUTE_DATASOURCES),
+                    pluginService::findById
+            )
+                    .doOnNext(plan -> cacheActionExecutionPlan(actionId, viewMode, plan, cacheVersion));
+        }
+
+        return planMono.map(plan -> copyActionExecutionPlan(plan, viewMode));
+    }
+
+    private void cacheActionExecutionPlan(String actionId, Boolean viewMode, ActionExecutionPlan plan, long cacheVersion) {
+        // Plans that can't be executed aren't cached, so that they are resolved afresh the next time.
+        if (plan.getPluginExecutor() != null) {
+            actionExecutionPlanCache.put(actionId, viewMode, plan, cacheVersion);
+        }
+    }
+
+    /**
+     * Resolves the execution plan of the action, using the given functions to look up its datasource and plugin.
+     *
+     * @param dbActionMono     The action, as fetched with the permission to execute it
+     * @param datasourceFinder Finds an external datasource by its id, with the permission to execute it
+     * @param pluginFinder     Finds a plugin by its id
+     */
+    private Mono<ActionExecutionPlan> resolveActionExecutionPlan(String actionId,
+                                                                 Boolean viewMode,
+                                                                 Mono<NewAction> dbActionMono,
+                                                                 Function<String, Mono<Datasource>> datasourceFinder,
+                                                                 Function<String, Mono<Plugin>> pluginFinder) {
+        Mono<NewAction> actionMono = dbActionMono
+                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId)))
+                .cache();
+
+        Mono<ActionDTO> actionDTOMono = actionMono
+                .flatMap(dbAction -> {
+                    ActionDTO action;
+                    if (TRUE.equals(viewMode)) {
+                        action = dbAction.getPublishedAction();
+                        // If the action has not been published, return error
+                        if (action == null) {
+                            return Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, actionId));
+                        }
+                    } else {
+                        action = dbAction.getUnpublishedAction();
+                    }
+
+                    // Now check for erroneous situations which would deter the execution of the action :
+
+                    // Error out with in case of an invalid action
+                    if (FALSE.equals(action.getIsValid())) {
+                        return Mono.error(new AppsmithException(
+                                AppsmithError.INVALID_ACTION,
+                                action.getName(),
+                                ArrayUtils.toString(action.getInvalids().toArray())
+                        ));
+                    }
+
+                    // Error out in case of JS Plugin (this is currently client side execution only)
+                    if (dbAction.getPluginType() == PluginType.JS) {
+                        return Mono.error(new AppsmithException(AppsmithError.UNSUPPORTED_OPERATION));
+                    }
+                    return Mono.just(action);
+                })
+                .cache();
+
+        Mono<Datasource> datasourceMono = actionDTOMono
+                .flatMap(action -> {
+                    // Global datasource requires us to fetch the datasource from DB.
+                    if (action.getDatasource() != null && action.getDatasource().getId() != null) {
+                        return datasourceFinder.apply(action.getDatasource().getId())
+                                .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND,
+                                        FieldName.DATASOURCE,
+                                        action.getDatasource().getId())));
+                    }
+
+                    // This is a nested datasource. Return as is.
+                    return Mono.just(action.getDatasource());
+                })
+                .cache();
+
+        Mono<Map> editorConfigLabelMapMono = datasourceMono
+                .flatMap(datasource -> {
+                    if (datasource.getId() != null) {
+                        return pluginService.getEditorConfigLabelMap(datasource.getPluginId());
+                    }
+
+                    return Mono.just(new HashMap());
+                });
+
+        return Mono.zip(actionMono, actionDTOMono, datasourceMono, editorConfigLabelMapMono)
+                .flatMap(tuple -> {
+                    final NewAction action = tuple.getT1();
+                    final ActionDTO actionDTO = tuple.getT2();
+                    final Map editorConfigLabelMap = tuple.getT4();
+
+                    Mono<Datasource> validatedDatasourceMono;
+                    if (tuple.getT3().getId() == null) {
+                        // Embedded datasources are validated when the plan is resolved. The external datasources have
+                        // already been validated. No need to validate again.
+                        validatedDatasourceMono = datasourceService.validateDatasource(tuple.getT3());
+                    } else {
+                        validatedDatasourceMono = Mono.just(tuple.getT3());
+                    }
+
+                    return validatedDatasourceMono
+                            .flatMap(datasource -> {
+                                // There's no need to look up the plugin of an invalid datasource, it can't be executed.
+                                if (!CollectionUtils.isEmpty(datasource.getInvalids())) {
+                                    return Mono.just(new ActionExecutionPlan(action, actionDTO, datasource,
+                                            null, null, editorConfigLabelMap));
+                                }
+
+                                return pluginFinder.apply(datasource.getPluginId())
+                                        .flatMap(plugin -> pluginExecutorHelper.getPluginExecutor(Mono.just(plugin))
+                                                .map(pluginExecutor -> new ActionExecutionPlan(action, actionDTO,
+                                                        datasource, plugin, pluginExecutor, editorConfigLabelMap))
+                                                // The error for a missing executor is raised when executing the plan.
+                                                .onErrorResume(AppsmithException.class, error -> Mono.just(
+                                                        new ActionExecutionPlan(action, actionDTO, datasource, plugin,
+                                                                null, editorConfigLabelMap)))
+                                        )
+                                        .defaultIfEmpty(new ActionExecutionPlan(action, actionDTO, datasource,
+                                                null, null, editorConfigLabelMap));
+                            });
+                });
+    }
+
+    private ActionExecutionPlan copyActionExecutionPlan(ActionExecutionPlan plan, Boolean viewMode) {
+        final NewAction action = copyDomainObject(plan.getAction(), NewAction.class);
+        final ActionDTO actionDTO = TRUE.equals(viewMode) ? action.getPublishedAction() : action.getUnpublishedAction();
+
+        final Datasource datasource;
+        if (plan.getDatasource().getId() == null) {
+            // Embedded datasources are a part of the action, and hence have been copied with it.
+            datasource = actionDTO.getDatasource();
+            datasource.setInvalids(plan.getDatasource().getInvalids());
+        } else {
+            datasource = copyDomainObject(plan.getDatasource(), Datasource.class);
+        }
+
+        return new ActionExecutionPlan(action, actionDTO, datasource, plan.getPlugin(), plan.getPluginExecutor(),
+                plan.getEditorConfigLabelMap());
+    }
+
+    /**
+     * Deep copies the object by converting it to a Mongo document and back. Sensitive fields are only encrypted when the
+     * object is actually persisted, so they stay decrypted in the copy.
+     */
+    private <T> T copyDomainObject(T object, Class<T> type) {
+        final Document document = new Document();
+        mongoConverter.write(object, document);
+        return mongoConverter.read(type, document);
+    }
+
     /*
      * - Get label for request params.
      * - Transform request params list: [""] to a map: {"label": {"value": ...}}
@@ -982,6 +1329,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
 
                     return newActionMono;
                 })
+                .doOnNext(deletedAction -> actionExecutionPlanCache.invalidateAction(deletedAction.getId()))
                 .flatMap(analyticsService::sendDeleteEvent)
                 .flatMap(updatedAction -> generateActionByViewMode(updatedAction, false));
     }
@@ -1029,12 +1377,14 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
 
     @Override
     public Mono<NewAction> save(NewAction action) {
-        return repository.save(action);
+        return repository.save(action)
+                .doOnNext(savedAction -> actionExecutionPlanCache.invalidateAction(savedAction.getId()));
     }
 
     @Override
     public Flux<NewAction> saveAll(List<NewAction> actions) {
-        return repository.saveAll(actions);
+        return repository.saveAll(actions)
+                .doOnNext(savedAction -> actionExecutionPlanCache.invalidateAction(savedAction.getId()));
     }
 
     @Override
@@ -1192,6 +1542,7 @@ public class NewActionServiceImpl extends BaseService<NewActionRepository, NewAc
                 .switchIfEmpty(Mono.error(new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, FieldName.ACTION, id)));
         return actionMono
                 .flatMap(toDelete -> repository.delete(toDelete).thenReturn(toDelete))
+                .doOnNext(deletedAction -> actionExecutionPlanCache.invalidateAction(deletedAction.getId()))
                 .flatMap(analyticsService::sendDeleteEvent);
     }
 
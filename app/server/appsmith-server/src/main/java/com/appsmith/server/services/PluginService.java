@@ -9,6 +9,7 @@ import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 
 import java.util.Map;
+import java.util.Set;
 
 public interface PluginService extends CrudService<Plugin, String> {
 
@@ -24,6 +25,8 @@ public interface PluginService extends CrudService<Plugin, String> {
 
     Mono<Plugin> findById(String id);
 
+    Flux<Plugin> findAllByIds(Set<String> ids);
+
     Mono<String> getPluginName(Mono<Datasource> datasourceMono);
 
     Plugin redisInstallPlugin(InstallPluginRedisDTO installPluginRedisDTO);
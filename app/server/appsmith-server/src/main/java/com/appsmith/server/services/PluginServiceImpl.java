@@ -50,6 +50,7 @@ import java.util.HashMap;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -260,6 +261,11 @@ public class PluginServiceImpl extends BaseService<PluginRepository, Plugin, Str
         return repository.findById(id);
     }
 
+    @Override
+    public Flux<Plugin> findAllByIds(Set<String> ids) {
+        return repository.findAllById(ids);
+    }
+
     @Override
     public Mono<String> getPluginName(Mono<Datasource> datasourceMono) {
         return
@@ -0,0 +1,127 @@
+package com.appsmith.server.helpers;
+
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.NewAction;
+import com.appsmith.server.dtos.ActionDTO;
+import com.appsmith.server.dtos.ActionExecutionPlan;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mockito;
+import org.springframework.data.redis.core.ReactiveRedisOperations;
+import reactor.core.publisher.Mono;
+
+import java.util.HashMap;
+
+public class ActionExecutionPlanCacheTest {
+
+    ActionExecutionPlanCache actionExecutionPlanCache;
+
+    ReactiveRedisOperations<String, String> reactiveRedisOperations;
+
+    @Before
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        reactiveRedisOperations = Mockito.mock(ReactiveRedisOperations.class);
+        Mockito.when(reactiveRedisOperations.convertAndSend(Mockito.anyString(), Mockito.anyString()))
+                .thenReturn(Mono.just(1L));
+        actionExecutionPlanCache = new ActionExecutionPlanCache(100, 300, new SimpleMeterRegistry(),
+                reactiveRedisOperations);
+    }
+
+    private ActionExecutionPlan createPlan(String datasourceId) {
+        Datasource datasource = new Datasource();
+        datasource.setId(datasourceId);
+        return new ActionExecutionPlan(new NewAction(), new ActionDTO(), datasource, null, null, new HashMap());
+    }
+
+    @Test
+    public void put_CachesPlanPerViewMode() {
+        ActionExecutionPlan plan = createPlan("datasource-id");
+        actionExecutionPlanCache.put("action-id", true, plan, actionExecutionPlanCache.getVersion());
+
+        Assert.assertSame(plan, actionExecutionPlanCache.get("action-id", true));
+        Assert.assertNull(actionExecutionPlanCache.get("action-id", false));
+    }
+
+    @Test
+    public void put_WhenInvalidatedWhileResolving_DoesNotCachePlan() {
+        long version = actionExecutionPlanCache.getVersion();
+
+        // The action is updated after the plan started being resolved, but before it got cached.
+        actionExecutionPlanCache.invalidateAction("action-id");
+        actionExecutionPlanCache.put("action-id", true, createPlan("datasource-id"), version);
+
+        Assert.assertNull(actionExecutionPlanCache.get("action-id", true));
+    }
+
+    @Test
+    public void invalidateAction_RemovesBothViewModes() {
+        long version = actionExecutionPlanCache.getVersion();
+        actionExecutionPlanCache.put("action-id", true, createPlan("datasource-id"), version);
+        actionExecutionPlanCache.put("action-id", false, createPlan("datasource-id"), version);
+
+        actionExecutionPlanCache.invalidateAction("action-id");
+
+        Assert.assertNull(actionExecutionPlanCache.get("action-id", true));
+        Assert.assertNull(actionExecutionPlanCache.get("action-id", false));
+    }
+
+    @Test
+    public void invalidateDatasource_RemovesOnlyPlansUsingThatDatasource() {
+        long version = actionExecutionPlanCache.getVersion();
+        actionExecutionPlanCache.put("action-1", true, createPlan("datasource-1"), version);
+        actionExecutionPlanCache.put("action-2", true, createPlan("datasource-2"), version);
+        actionExecutionPlanCache.put("action-3", true, createPlan(null), version);
+
+        actionExecutionPlanCache.invalidateDatasource("datasource-1");
+
+        Assert.assertNull(actionExecutionPlanCache.get("action-1", true));
+        Assert.assertNotNull(actionExecutionPlanCache.get("action-2", true));
+        Assert.assertNotNull(actionExecutionPlanCache.get("action-3", true));
+    }
+
+    @Test
+    public void invalidateAction_PublishedToOtherServers() {
+        long version = actionExecutionPlanCache.getVersion();
+        ActionExecutionPlanCache otherServerCache = new ActionExecutionPlanCache(100, 300, new SimpleMeterRegistry(),
+                reactiveRedisOperations);
+        otherServerCache.put("action-id", true, createPlan("datasource-id"), version);
+        actionExecutionPlanCache.put("action-id", true, createPlan("datasource-id"), version);
+
+        actionExecutionPlanCache.invalidateAction("action-id");
+
+        ArgumentCaptor<String> message = ArgumentCaptor.forClass(String.class);
+        Mockito.verify(reactiveRedisOperations).convertAndSend(
+                Mockito.eq(ActionExecutionPlanCache.INVALIDATION_TOPIC.getTopic()), message.capture());
+
+        // The server that published the invalidation ignores it, the others apply it.
+        actionExecutionPlanCache.put("action-id", false, createPlan("datasource-id"), actionExecutionPlanCache.getVersion());
+        actionExecutionPlanCache.onInvalidationMessage(message.getValue());
+        Assert.assertNotNull(actionExecutionPlanCache.get("action-id", false));
+
+        otherServerCache.onInvalidationMessage(message.getValue());
+        Assert.assertNull(otherServerCache.get("action-id", true));
+    }
+
+    @Test
+    public void onInvalidationMessage_AppliesDatasourceAndAllInvalidations() {
+        long version = actionExecutionPlanCache.getVersion();
+        actionExecutionPlanCache.put("action-1", true, createPlan("datasource-1"), version);
+        actionExecutionPlanCache.put("action-2", true, createPlan("datasource-2"), version);
+
+        actionExecutionPlanCache.onInvalidationMessage("other-server datasource datasource-1");
+        Assert.assertNull(actionExecutionPlanCache.get("action-1", true));
+        Assert.assertNotNull(actionExecutionPlanCache.get("action-2", true));
+
+        // Malformed and unknown invalidations are ignored.
+        actionExecutionPlanCache.onInvalidationMessage("garbage");
+        actionExecutionPlanCache.onInvalidationMessage("other-server page page-id");
+        Assert.assertNotNull(actionExecutionPlanCache.get("action-2", true));
+
+        actionExecutionPlanCache.onInvalidationMessage("other-server all ");
+        Assert.assertNull(actionExecutionPlanCache.get("action-2", true));
+    }
+}
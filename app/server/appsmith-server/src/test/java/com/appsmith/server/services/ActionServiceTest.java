@@ -30,6 +30,7 @@ import com.appsmith.server.dtos.ActionDTO;
 import com.appsmith.server.dtos.ActionMoveDTO;
 import com.appsmith.server.dtos.ActionViewDTO;
 import com.appsmith.server.dtos.ApplicationAccessDTO;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
 import com.appsmith.server.dtos.PageDTO;
 import com.appsmith.server.exceptions.AppsmithError;
 import com.appsmith.server.exceptions.AppsmithException;
@@ -57,6 +58,7 @@ import org.springframework.http.HttpMethod;
 import org.springframework.security.test.context.support.WithUserDetails;
 import org.springframework.test.annotation.DirtiesContext;
 import org.springframework.test.context.junit4.SpringRunner;
+import reactor.core.publisher.Flux;
 import reactor.core.publisher.Mono;
 import reactor.test.StepVerifier;
 
@@ -789,6 +791,120 @@ public class ActionServiceTest {
                 .verifyComplete();
     }
 
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void executeActionStream() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode row1 = objectMapper.createObjectNode().put("id", 1);
+        JsonNode row2 = objectMapper.createObjectNode().put("id", 2);
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.executeParameterizedStream(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.just(row1, row2));
+        Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
+
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users");
+        action.setActionConfiguration(actionConfiguration);
+        action.setPageId(testPage.getId());
+        action.setName("executeActionStream");
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createAction(action).block();
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(createdAction.getId());
+        executeActionDTO.setViewMode(false);
+
+        StepVerifier.create(newActionService.executeActionStream(executeActionDTO))
+                .expectNext(row1, row2)
+                .verifyComplete();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void executeActionStreamStaleConnectionAfterRows() {
+        ObjectMapper objectMapper = new ObjectMapper();
+        JsonNode row1 = objectMapper.createObjectNode().put("id", 1);
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.executeParameterizedStream(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.concat(Flux.just(row1), Flux.error(new StaleConnectionException())));
+        Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
+
+        ActionDTO action = new ActionDTO();
+        ActionConfiguration actionConfiguration = new ActionConfiguration();
+        actionConfiguration.setBody("select * from users");
+        action.setActionConfiguration(actionConfiguration);
+        action.setPageId(testPage.getId());
+        action.setName("executeActionStreamStale");
+        action.setDatasource(datasource);
+        ActionDTO createdAction = layoutActionService.createAction(action).block();
+
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(createdAction.getId());
+        executeActionDTO.setViewMode(false);
+
+        // The query isn't run again once rows have been emitted, as that would emit them twice
+        StepVerifier.create(newActionService.executeActionStream(executeActionDTO))
+                .expectNext(row1)
+                .expectError(StaleConnectionException.class)
+                .verify();
+    }
+
+    @Test
+    @WithUserDetails(value = "api_user")
+    public void executeActionsInBatch() {
+        ActionExecutionResult mockResult = new ActionExecutionResult();
+        mockResult.setIsExecutionSuccess(true);
+        mockResult.setBody("response-body");
+
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+        Mockito.when(pluginExecutor.executeParameterized(Mockito.any(), Mockito.any(), Mockito.any(), Mockito.any()))
+                .thenReturn(Mono.just(mockResult));
+        Mockito.when(pluginExecutor.datasourceCreate(Mockito.any())).thenReturn(Mono.empty());
+
+        List<ExecuteActionDTO> executeActionDTOs = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            ActionDTO action = new ActionDTO();
+            ActionConfiguration actionConfiguration = new ActionConfiguration();
+            actionConfiguration.setBody("select * from users");
+            action.setActionConfiguration(actionConfiguration);
+            action.setPageId(testPage.getId());
+            action.setName("executeActionsInBatch" + i);
+            action.setDatasource(datasource);
+            ActionDTO createdAction = layoutActionService.createAction(action).block();
+
+            ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+            executeActionDTO.setActionId(createdAction.getId());
+            executeActionDTO.setViewMode(false);
+            executeActionDTOs.add(executeActionDTO);
+        }
+
+        ExecuteActionDTO missingActionDTO = new ExecuteActionDTO();
+        missingActionDTO.setActionId("missing-action-id");
+        missingActionDTO.setViewMode(false);
+        executeActionDTOs.add(missingActionDTO);
+
+        Mono<Map<String, ActionExecutionResult>> resultsMono = newActionService.executeActions(executeActionDTOs)
+                .collectMap(BatchActionExecutionResultDTO::getActionId, BatchActionExecutionResultDTO::getResult);
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> {
+                    assertThat(results).hasSize(4);
+                    executeActionDTOs.subList(0, 3).forEach(executeActionDTO -> {
+                        ActionExecutionResult result = results.get(executeActionDTO.getActionId());
+                        assertThat(result.getIsExecutionSuccess()).isTrue();
+                        assertThat(result.getBody()).isEqualTo(mockResult.getBody());
+                    });
+                    // A failing action doesn't affect the rest of the batch.
+                    ActionExecutionResult missingActionResult = results.get(missingActionDTO.getActionId());
+                    assertThat(missingActionResult.getIsExecutionSuccess()).isFalse();
+                    assertThat(missingActionResult.getStatusCode()).isEqualTo(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode().toString());
+                })
+                .verifyComplete();
+    }
+
     private void executeAndAssertAction(ExecuteActionDTO executeActionDTO, ActionConfiguration actionConfiguration,
                                         ActionExecutionResult mockResult, List<ParsedDataType> expectedReturnDataTypes) {
 
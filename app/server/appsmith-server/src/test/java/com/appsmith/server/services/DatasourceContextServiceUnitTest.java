@@ -0,0 +1,246 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.models.DatasourceConfiguration;
+import com.appsmith.external.services.EncryptionService;
+import com.appsmith.server.configurations.DatasourceContextConfig;
+import com.appsmith.server.domains.Datasource;
+import com.appsmith.server.domains.DatasourceContext;
+import com.appsmith.server.domains.Plugin;
+import com.appsmith.server.helpers.MockPluginExecutor;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.Mockito;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.test.context.junit4.SpringJUnit4ClassRunner;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import static com.appsmith.server.acl.AclPermission.EXECUTE_DATASOURCES;
+
+@RunWith(SpringJUnit4ClassRunner.class)
+public class DatasourceContextServiceUnitTest {
+
+    @MockBean DatasourceService datasourceService;
+    @MockBean PluginService pluginService;
+    @MockBean PluginExecutorHelper pluginExecutorHelper;
+    @MockBean EncryptionService encryptionService;
+    @MockBean DatasourceContextConfig datasourceContextConfig;
+
+    MeterRegistry meterRegistry;
+
+    DatasourceContextService datasourceContextService;
+
+    /**
+     * A plugin executor that hands out a new connection object on every call to datasourceCreate, and remembers the
+     * connections that have been destroyed.
+     */
+    static class ConnectionTrackingPluginExecutor extends MockPluginExecutor {
+        final List<Object> createdConnections = Collections.synchronizedList(new ArrayList<>());
+        final List<Object> destroyedConnections = Collections.synchronizedList(new ArrayList<>());
+
+        @Override
+        public Mono<Object> datasourceCreate(DatasourceConfiguration datasourceConfiguration) {
+            // Connecting takes a while, like it would with a real database.
+            return Mono.delay(Duration.ofMillis(100))
+                    .map(ignored -> {
+                        final Object connection = new Object();
+                        createdConnections.add(connection);
+                        return connection;
+                    });
+        }
+
+        @Override
+        public void datasourceDestroy(Object connection) {
+            destroyedConnections.add(connection);
+        }
+    }
+
+    ConnectionTrackingPluginExecutor pluginExecutor;
+
+    @Before
+    public void setUp() {
+        Mockito.when(datasourceContextConfig.getMaximumSize()).thenReturn(1L);
+        Mockito.when(datasourceContextConfig.getIdleTimeoutMinutes()).thenReturn(30L);
+        Mockito.when(datasourceContextConfig.getMaxAgeMinutes()).thenReturn(240L);
+
+        pluginExecutor = new ConnectionTrackingPluginExecutor();
+        Mockito.when(pluginService.findById(Mockito.anyString())).thenReturn(Mono.just(new Plugin()));
+        Mockito.when(pluginExecutorHelper.getPluginExecutor(Mockito.any())).thenReturn(Mono.just(pluginExecutor));
+
+        meterRegistry = new SimpleMeterRegistry();
+        datasourceContextService = new DatasourceContextServiceImpl(datasourceService, pluginService,
+                pluginExecutorHelper, encryptionService, datasourceContextConfig, meterRegistry, Schedulers.immediate());
+    }
+
+    private Datasource mockDatasource(String id) {
+        Datasource datasource = new Datasource();
+        datasource.setId(id);
+        datasource.setPluginId("plugin-id");
+        datasource.setDatasourceConfiguration(new DatasourceConfiguration());
+        Mockito.when(datasourceService.findById(id, EXECUTE_DATASOURCES)).thenReturn(Mono.just(datasource));
+        return datasource;
+    }
+
+    @Test
+    public void getDatasourceContext_WhenContextExists_ReusesConnection() {
+        Datasource datasource = mockDatasource("datasource-1");
+
+        DatasourceContext firstContext = datasourceContextService.getDatasourceContext(datasource).block();
+
+        StepVerifier
+                .create(datasourceContextService.getDatasourceContext(datasource))
+                .assertNext(datasourceContext -> {
+                    Assert.assertSame(firstContext, datasourceContext);
+                    Assert.assertEquals(1, pluginExecutor.createdConnections.size());
+                })
+                .verifyComplete();
+
+        Assert.assertEquals(1.0, meterRegistry.get("cache.gets").tag("result", "hit").functionCounter().count(), 0);
+        Assert.assertEquals(1.0, meterRegistry.get("appsmith.datasource.connections.live").gauge().value(), 0);
+    }
+
+    @Test
+    public void getDatasourceContext_WhenCacheIsFull_DestroysEvictedConnection() {
+        Datasource datasource1 = mockDatasource("datasource-1");
+        Datasource datasource2 = mockDatasource("datasource-2");
+
+        datasourceContextService.getDatasourceContext(datasource1).block();
+
+        StepVerifier
+                .create(datasourceContextService.getDatasourceContext(datasource2))
+                .assertNext(datasourceContext -> {
+                    Assert.assertEquals(2, pluginExecutor.createdConnections.size());
+                    Assert.assertEquals(1, pluginExecutor.destroyedConnections.size());
+                    Assert.assertSame(pluginExecutor.createdConnections.get(0), pluginExecutor.destroyedConnections.get(0));
+                    Assert.assertSame(pluginExecutor.createdConnections.get(1), datasourceContext.getConnection());
+                })
+                .verifyComplete();
+
+        Assert.assertEquals(1.0, meterRegistry.get("cache.evictions").functionCounter().count(), 0);
+    }
+
+    @Test
+    public void withDatasourceContext_WhenEvictedDuringExecution_DestroysConnectionAfterExecution() {
+        Datasource datasource1 = mockDatasource("datasource-1");
+        Datasource datasource2 = mockDatasource("datasource-2");
+
+        // While the execution on the first datasource is running, the second datasource's context takes its place in
+        // the cache, which only has room for one of them.
+        Mono<Boolean> executionMono = datasourceContextService.withDatasourceContext(datasource1, datasourceContext ->
+                datasourceContextService.getDatasourceContext(datasource2)
+                        .map(ignored -> pluginExecutor.destroyedConnections.contains(datasourceContext.getConnection())));
+
+        StepVerifier
+                .create(executionMono)
+                .assertNext(isDestroyedDuringExecution -> {
+                    Assert.assertFalse(isDestroyedDuringExecution);
+                    Assert.assertEquals(1.0, meterRegistry.get("cache.evictions").functionCounter().count(), 0);
+                })
+                .verifyComplete();
+
+        Assert.assertEquals(2, pluginExecutor.createdConnections.size());
+        Assert.assertEquals(List.of(pluginExecutor.createdConnections.get(0)), pluginExecutor.destroyedConnections);
+    }
+
+    @Test
+    public void withDatasourceContext_WhenDeletedDuringExecution_DestroysConnectionAfterExecution() {
+        Datasource datasource = mockDatasource("datasource-1");
+
+        Mono<Boolean> executionMono = datasourceContextService.withDatasourceContext(datasource, datasourceContext ->
+                datasourceContextService.deleteDatasourceContext(datasource.getId())
+                        .map(ignored -> pluginExecutor.destroyedConnections.contains(datasourceContext.getConnection())));
+
+        StepVerifier
+                .create(executionMono)
+                .assertNext(Assert::assertFalse)
+                .verifyComplete();
+
+        Assert.assertEquals(pluginExecutor.createdConnections, pluginExecutor.destroyedConnections);
+
+        // The next execution gets a fresh connection.
+        StepVerifier
+                .create(datasourceContextService.withDatasourceContext(datasource, Mono::just))
+                .assertNext(datasourceContext -> Assert.assertSame(
+                        pluginExecutor.createdConnections.get(1), datasourceContext.getConnection()))
+                .verifyComplete();
+    }
+
+    @Test
+    public void getDatasourceContext_WhenEvictedWhileConnecting_DestroysConnection() {
+        Datasource datasource1 = mockDatasource("datasource-1");
+        Datasource datasource2 = mockDatasource("datasource-2");
+
+        // Both contexts are created at the same time, and the cache only has room for one of them.
+        Mono<List<DatasourceContext>> contextsMono = Flux.just(datasource1, datasource2)
+                .flatMap(datasourceContextService::getDatasourceContext)
+                .collectList();
+
+        StepVerifier
+                .create(contextsMono)
+                .assertNext(datasourceContexts -> {
+                    Assert.assertEquals(2, pluginExecutor.createdConnections.size());
+                    Assert.assertEquals(1, pluginExecutor.destroyedConnections.size());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getDatasourceContext_WhenConcurrentCallsForColdDatasource_CreatesSingleConnection() {
+        Datasource datasource = mockDatasource("datasource-1");
+
+        Mono<List<DatasourceContext>> contextsMono = Flux.range(0, 50)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> datasourceContextService.getDatasourceContext(datasource))
+                .sequential()
+                .collectList();
+
+        StepVerifier
+                .create(contextsMono)
+                .assertNext(datasourceContexts -> {
+                    Assert.assertEquals(50, datasourceContexts.size());
+                    Assert.assertEquals(1, pluginExecutor.createdConnections.size());
+                    Assert.assertTrue(pluginExecutor.destroyedConnections.isEmpty());
+                    datasourceContexts.forEach(datasourceContext ->
+                            Assert.assertSame(pluginExecutor.createdConnections.get(0), datasourceContext.getConnection()));
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void getDatasourceContext_WhenConcurrentCallsForStaleDatasource_ReplacesConnectionOnce() {
+        Datasource datasource = mockDatasource("datasource-1");
+        DatasourceContext staleContext = datasourceContextService.getDatasourceContext(datasource).block();
+
+        // The datasource has been updated after its context was created.
+        datasource.setUpdatedAt(staleContext.getCreationTime().plusMillis(1));
+
+        Mono<List<DatasourceContext>> contextsMono = Flux.range(0, 50)
+                .parallel()
+                .runOn(Schedulers.parallel())
+                .flatMap(i -> datasourceContextService.getDatasourceContext(datasource))
+                .sequential()
+                .collectList();
+
+        StepVerifier
+                .create(contextsMono)
+                .assertNext(datasourceContexts -> {
+                    Assert.assertEquals(2, pluginExecutor.createdConnections.size());
+                    Assert.assertEquals(1, pluginExecutor.destroyedConnections.size());
+                    Assert.assertSame(pluginExecutor.createdConnections.get(0), pluginExecutor.destroyedConnections.get(0));
+                })
+                .verifyComplete();
+    }
+}
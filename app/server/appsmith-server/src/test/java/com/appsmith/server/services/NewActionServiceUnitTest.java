@@ -0,0 +1,131 @@
+package com.appsmith.server.services;
+
+import com.appsmith.external.dtos.ExecuteActionDTO;
+import com.appsmith.external.models.ActionExecutionResult;
+import com.appsmith.server.configurations.CommonConfig;
+import com.appsmith.server.dtos.BatchActionExecutionResultDTO;
+import com.appsmith.server.exceptions.AppsmithError;
+import com.appsmith.server.exceptions.AppsmithException;
+import com.appsmith.server.helpers.ActionExecutionPlanCache;
+import com.appsmith.server.helpers.PluginExecutorHelper;
+import com.appsmith.server.helpers.PolicyUtils;
+import com.appsmith.server.repositories.NewActionRepository;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.ArgumentMatchers;
+import org.mockito.Mockito;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+import reactor.core.scheduler.Schedulers;
+import reactor.test.StepVerifier;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+public class NewActionServiceUnitTest {
+
+    NewActionRepository repository;
+    DatasourceService datasourceService;
+    PluginService pluginService;
+    ActionExecutionPlanCache actionExecutionPlanCache;
+    CommonConfig commonConfig;
+
+    NewActionServiceImpl newActionService;
+
+    @Before
+    public void setUp() {
+        repository = Mockito.mock(NewActionRepository.class);
+        datasourceService = Mockito.mock(DatasourceService.class);
+        pluginService = Mockito.mock(PluginService.class);
+        actionExecutionPlanCache = Mockito.mock(ActionExecutionPlanCache.class);
+        commonConfig = Mockito.mock(CommonConfig.class);
+
+        Mockito.when(repository.findAllByIds(Mockito.any(), Mockito.any())).thenReturn(Flux.empty());
+        Mockito.when(datasourceService.findAllByIds(Mockito.any(), Mockito.any())).thenReturn(Flux.empty());
+        Mockito.when(pluginService.findAllByIds(Mockito.any())).thenReturn(Flux.empty());
+        Mockito.when(commonConfig.getBatchActionExecutionConcurrency()).thenReturn(4);
+
+        newActionService = Mockito.spy(new NewActionServiceImpl(Schedulers.immediate(), null, null, null,
+                repository, null, datasourceService, pluginService, null,
+                Mockito.mock(PluginExecutorHelper.class), null, null, null, null, null,
+                Mockito.mock(PolicyUtils.class), null, actionExecutionPlanCache, commonConfig));
+    }
+
+    private static ExecuteActionDTO executeActionDTO(String actionId) {
+        ExecuteActionDTO executeActionDTO = new ExecuteActionDTO();
+        executeActionDTO.setActionId(actionId);
+        executeActionDTO.setViewMode(false);
+        return executeActionDTO;
+    }
+
+    private void stubExecuteAction(String actionId, Mono<ActionExecutionResult> resultMono) {
+        Mockito.doReturn(resultMono)
+                .when(newActionService)
+                .executeAction(ArgumentMatchers.argThat(dto -> dto != null && actionId.equals(dto.getActionId())));
+    }
+
+    @Test
+    public void executeActions_WhenOneActionFails_CompletesAllOthers() {
+        ActionExecutionResult successResult = new ActionExecutionResult();
+        successResult.setIsExecutionSuccess(true);
+        successResult.setBody("response-body");
+
+        // The failures happen before any of the other actions has finished.
+        stubExecuteAction("action-1", Mono.just(successResult).delayElement(Duration.ofMillis(100)));
+        stubExecuteAction("missing-action-id", Mono.error(
+                new AppsmithException(AppsmithError.NO_RESOURCE_FOUND, "action", "missing-action-id")));
+        stubExecuteAction("action-2", Mono.just(successResult).delayElement(Duration.ofMillis(100)));
+        stubExecuteAction("broken-action-id", Mono.error(new IllegalStateException("Unexpected")));
+        stubExecuteAction("action-3", Mono.just(successResult).delayElement(Duration.ofMillis(100)));
+
+        List<ExecuteActionDTO> executeActionDTOs = List.of(
+                executeActionDTO("action-1"),
+                executeActionDTO("missing-action-id"),
+                executeActionDTO("action-2"),
+                executeActionDTO("broken-action-id"),
+                executeActionDTO("action-3"));
+
+        Mono<Map<String, ActionExecutionResult>> resultsMono = newActionService.executeActions(executeActionDTOs)
+                .collectMap(BatchActionExecutionResultDTO::getActionId, BatchActionExecutionResultDTO::getResult);
+
+        StepVerifier.create(resultsMono)
+                .assertNext(results -> {
+                    assertThat(results).hasSize(5);
+                    for (String actionId : List.of("action-1", "action-2", "action-3")) {
+                        assertThat(results.get(actionId).getIsExecutionSuccess()).isTrue();
+                        assertThat(results.get(actionId).getBody()).isEqualTo("response-body");
+                    }
+
+                    ActionExecutionResult missingActionResult = results.get("missing-action-id");
+                    assertThat(missingActionResult.getIsExecutionSuccess()).isFalse();
+                    assertThat(missingActionResult.getStatusCode())
+                            .isEqualTo(AppsmithError.NO_RESOURCE_FOUND.getAppErrorCode().toString());
+
+                    ActionExecutionResult brokenActionResult = results.get("broken-action-id");
+                    assertThat(brokenActionResult.getIsExecutionSuccess()).isFalse();
+                    assertThat(brokenActionResult.getStatusCode())
+                            .isEqualTo(AppsmithError.INTERNAL_SERVER_ERROR.getAppErrorCode().toString());
+                })
+                .verifyComplete();
+    }
+
+    @Test
+    public void executeActions_WhenResolvingPlansFails_StillExecutesActions() {
+        ActionExecutionResult successResult = new ActionExecutionResult();
+        successResult.setIsExecutionSuccess(true);
+
+        Mockito.when(repository.findAllByIds(Mockito.any(), Mockito.any()))
+                .thenReturn(Flux.error(new IllegalStateException("Database unavailable")));
+        stubExecuteAction("action-1", Mono.just(successResult));
+
+        StepVerifier.create(newActionService.executeActions(List.of(executeActionDTO("action-1"))))
+                .assertNext(result -> {
+                    assertThat(result.getActionId()).isEqualTo("action-1");
+                    assertThat(result.getResult().getIsExecutionSuccess()).isTrue();
+                })
+                .verifyComplete();
+    }
+}